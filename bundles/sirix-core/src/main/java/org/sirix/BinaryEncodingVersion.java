@@ -35,7 +35,16 @@ package org.sirix;
  */
 public enum BinaryEncodingVersion {
 
-  V0((byte) 0);
+  /**
+   * The initial encoding, whereby text values might be compressed individually.
+   */
+  V0((byte) 0),
+
+  /**
+   * Records of key/value leaf pages are encoded with a page-level symbol table instead of compressing text values
+   * individually.
+   */
+  V1((byte) 1);
 
   private final byte versionAsAByte;
 
@@ -19,9 +19,11 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.NoSuchAlgorithmException;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static java.util.Objects.requireNonNull;
 
@@ -56,6 +58,30 @@ public final class Databases {
    */
   static final DatabaseManager MANAGER = DaggerDatabaseManager.create();
 
+  /**
+   * Post-commit hooks, which are executed after each commit of any resource.
+   */
+  static final List<PostCommitHook> POST_COMMIT_HOOKS = new CopyOnWriteArrayList<>();
+
+  /**
+   * Add a post-commit hook, which is executed after each commit of any resource, for instance to invalidate caches
+   * of derived data. It's executed by the committing thread after the hooks of the transaction itself.
+   *
+   * @param hook the hook to add
+   */
+  public static void addPostCommitHook(final PostCommitHook hook) {
+    POST_COMMIT_HOOKS.add(requireNonNull(hook));
+  }
+
+  /**
+   * Remove a post-commit hook, which has been added by {@link #addPostCommitHook(PostCommitHook)}.
+   *
+   * @param hook the hook to remove
+   */
+  public static void removePostCommitHook(final PostCommitHook hook) {
+    POST_COMMIT_HOOKS.remove(requireNonNull(hook));
+  }
+
   /**
    * Get the database type
    *
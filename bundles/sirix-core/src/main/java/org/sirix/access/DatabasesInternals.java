@@ -1,8 +1,10 @@
 package org.sirix.access;
 
 import org.sirix.api.Database;
+import org.sirix.api.PostCommitHook;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -16,4 +18,8 @@ public final class DatabasesInternals {
     return Databases.MANAGER.sessions().asMap();
   }
 
+  public static List<PostCommitHook> getPostCommitHooks() {
+    return Databases.POST_COMMIT_HOOKS;
+  }
+
 }
@@ -166,6 +166,11 @@ public final class LocalDatabase<T extends ResourceSession<? extends NodeReadOnl
   public synchronized boolean createResource(final ResourceConfiguration resourceConfig) {
     assertNotClosed();
 
+    if (resourceConfig.useWriteAheadLog() && !resourceConfig.storageType.supportsWriteAheadLog()) {
+      throw new IllegalArgumentException(
+          "The storage type " + resourceConfig.storageType + " doesn't support a write-ahead log.");
+    }
+
     boolean returnVal = true;
     resourceConfig.setDatabaseConfiguration(dbConfig);
     final Path path = dbConfig.getDatabaseFile()
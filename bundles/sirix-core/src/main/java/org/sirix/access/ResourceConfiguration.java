@@ -37,6 +37,7 @@ import org.sirix.BinaryEncodingVersion;
 import org.sirix.access.trx.node.HashType;
 import org.sirix.exception.SirixIOException;
 import org.sirix.io.StorageType;
+import org.sirix.io.segmented.DataSegments;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.io.bytepipe.ByteHandlerKind;
 import org.sirix.io.bytepipe.ByteHandlerPipeline;
@@ -195,7 +196,7 @@ public final class ResourceConfiguration {
   /**
    * The current binary encoding version.
    */
-  public static final BinaryEncodingVersion BINARY_ENCODING_VERSION = BinaryEncodingVersion.V0;
+  public static final BinaryEncodingVersion BINARY_ENCODING_VERSION = BinaryEncodingVersion.V1;
 
   // END FIXED STANDARD FIELDS
 
@@ -290,6 +291,16 @@ public final class ResourceConfiguration {
    */
   private final boolean storeNodeHistory;
 
+  /**
+   * Determines if commits are made durable through a write-ahead log or not.
+   */
+  private final boolean useWriteAheadLog;
+
+  /**
+   * The segment size exponent of the {@link StorageType#SEGMENTED_FILE_CHANNEL} storage.
+   */
+  private final int segmentSizeExponent;
+
   /**
    * Binary encoding version of storage.
    */
@@ -329,6 +340,8 @@ public final class ResourceConfiguration {
     storeDiffs = builder.storeDiffs;
     customCommitTimestamps = builder.customCommitTimestamps;
     storeNodeHistory = builder.storeNodeHistory;
+    useWriteAheadLog = builder.useWriteAheadLog;
+    segmentSizeExponent = builder.segmentSizeExponent;
     binaryVersion = builder.binaryEncodingVersion;
   }
 
@@ -336,6 +349,25 @@ public final class ResourceConfiguration {
     return binaryVersion;
   }
 
+  /**
+   * Determines if text values are compressed individually, which is only the case for resources stored in the legacy
+   * {@link BinaryEncodingVersion#V0} encoding.
+   *
+   * @return {@code true}, if text values are compressed individually, {@code false} otherwise
+   */
+  public boolean compressValuesIndividually() {
+    return useTextCompression && binaryVersion == BinaryEncodingVersion.V0;
+  }
+
+  /**
+   * Determines if the records of key/value leaf pages are encoded with a page-level symbol table.
+   *
+   * @return {@code true}, if a page-level symbol table is used, {@code false} otherwise
+   */
+  public boolean usePageLevelStringDictionary() {
+    return useTextCompression && binaryVersion != BinaryEncodingVersion.V0;
+  }
+
   public boolean customCommitTimestamps() {
     return customCommitTimestamps;
   }
@@ -442,13 +474,33 @@ public final class ResourceConfiguration {
     return storeNodeHistory;
   }
 
+  /**
+   * Determines if commits are made durable through a write-ahead log, which is forced instead of the data files.
+   *
+   * @return {@code true}, if a write-ahead log is used, {@code false} otherwise
+   */
+  public boolean useWriteAheadLog() {
+    return useWriteAheadLog;
+  }
+
+  /**
+   * Get the segment size exponent of the {@link StorageType#SEGMENTED_FILE_CHANNEL} storage, that is the data file is
+   * split into segments of {@code 2^segmentSizeExponent} bytes.
+   *
+   * @return the segment size exponent
+   */
+  public int getSegmentSizeExponent() {
+    return segmentSizeExponent;
+  }
+
   /**
    * JSON names.
    */
   private static final String[] JSONNAMES =
       { "binaryEncoding", "revisioning", "revisioningClass", "numbersOfRevisiontoRestore", "byteHandlerClasses",
           "storageKind", "hashKind", "hashFunction", "compression", "pathSummary", "resourceID", "deweyIDsStored",
-          "persistenter", "storeDiffs", "customCommitTimestamps", "storeNodeHistory", "storeChildCount" };
+          "persistenter", "storeDiffs", "customCommitTimestamps", "storeNodeHistory", "storeChildCount",
+          "writeAheadLog", "segmentSizeExponent" };
 
   /**
    * Serialize the configuration.
@@ -500,6 +552,10 @@ public final class ResourceConfiguration {
       jsonWriter.name(JSONNAMES[15]).value(config.storeNodeHistory);
       // Child count.
       jsonWriter.name(JSONNAMES[16]).value(config.storeChildCount);
+      // Write-ahead log.
+      jsonWriter.name(JSONNAMES[17]).value(config.useWriteAheadLog);
+      // Segment size exponent.
+      jsonWriter.name(JSONNAMES[18]).value(config.segmentSizeExponent);
       jsonWriter.endObject();
     } catch (final IOException e) {
       throw new SirixIOException(e);
@@ -596,6 +652,20 @@ public final class ResourceConfiguration {
       name = jsonReader.nextName();
       assert name.equals(JSONNAMES[16]);
       final boolean storeChildCount = jsonReader.nextBoolean();
+      // Optional, as resources created by older versions don't store it.
+      boolean useWriteAheadLog = false;
+      if (jsonReader.hasNext()) {
+        name = jsonReader.nextName();
+        assert name.equals(JSONNAMES[17]);
+        useWriteAheadLog = jsonReader.nextBoolean();
+      }
+      // Optional, as resources created by older versions don't store it.
+      int segmentSizeExponent = DataSegments.DEFAULT_SEGMENT_SIZE_EXPONENT;
+      if (jsonReader.hasNext()) {
+        name = jsonReader.nextName();
+        assert name.equals(JSONNAMES[18]);
+        segmentSizeExponent = jsonReader.nextInt();
+      }
 
       jsonReader.endObject();
       jsonReader.close();
@@ -619,7 +689,9 @@ public final class ResourceConfiguration {
              .storeDiffs(storeDiffs)
              .storeChildCount(storeChildCount)
              .customCommitTimestamps(customCommitTimestamps)
-             .storeNodeHistory(storeNodeHistory);
+             .storeNodeHistory(storeNodeHistory)
+             .useWriteAheadLog(useWriteAheadLog)
+             .segmentSizeExponent(segmentSizeExponent);
 
       // Deserialized instance.
       final ResourceConfiguration config = new ResourceConfiguration(builder);
@@ -711,6 +783,16 @@ public final class ResourceConfiguration {
      */
     private boolean storeNodeHistory;
 
+    /**
+     * Determines if commits are made durable through a write-ahead log or not.
+     */
+    private boolean useWriteAheadLog;
+
+    /**
+     * The segment size exponent of the {@link StorageType#SEGMENTED_FILE_CHANNEL} storage.
+     */
+    private int segmentSizeExponent = DataSegments.DEFAULT_SEGMENT_SIZE_EXPONENT;
+
     private BinaryEncodingVersion binaryEncodingVersion = BINARY_ENCODING_VERSION;
 
     /**
@@ -869,6 +951,38 @@ public final class ResourceConfiguration {
       return this;
     }
 
+    /**
+     * Set to {@code true} if commits should be made durable through a write-ahead log. A commit then only forces the
+     * log, whereas the data files are forced asynchronously. The log is replayed when a resource session is opened.
+     * Only supported by the storage types {@link StorageType#FILE_CHANNEL} and {@link StorageType#MEMORY_MAPPED}, the
+     * creation of resources with other storage types fails.
+     *
+     * @param useWriteAheadLog {code true}, if a write-ahead log should be used, {@code false} if not
+     * @return reference to the builder object
+     */
+    public Builder useWriteAheadLog(final boolean useWriteAheadLog) {
+      this.useWriteAheadLog = useWriteAheadLog;
+      return this;
+    }
+
+    /**
+     * Set the segment size exponent of the {@link StorageType#SEGMENTED_FILE_CHANNEL} storage, that is the data file
+     * is split into segments of {@code 2^segmentSizeExponent} bytes. Ignored by all other storage types.
+     *
+     * @param segmentSizeExponent the segment size exponent, between {@link DataSegments#MIN_SEGMENT_SIZE_EXPONENT}
+     *                            and {@link DataSegments#MAX_SEGMENT_SIZE_EXPONENT}
+     * @return reference to the builder object
+     */
+    public Builder segmentSizeExponent(final int segmentSizeExponent) {
+      checkArgument(segmentSizeExponent >= DataSegments.MIN_SEGMENT_SIZE_EXPONENT
+                        && segmentSizeExponent <= DataSegments.MAX_SEGMENT_SIZE_EXPONENT,
+                    "The segment size exponent must be between %s and %s.",
+                    DataSegments.MIN_SEGMENT_SIZE_EXPONENT,
+                    DataSegments.MAX_SEGMENT_SIZE_EXPONENT);
+      this.segmentSizeExponent = segmentSizeExponent;
+      return this;
+    }
+
     /**
      * Set the binary encoding version number.
      *
@@ -894,6 +1008,8 @@ public final class ResourceConfiguration {
                         .add("Store child count", storeChildCount)
                         .add("Store node history", storeNodeHistory)
                         .add("Custom commit timestamps", customCommitTimestamps)
+                        .add("Use write-ahead log", useWriteAheadLog)
+                        .add("Segment size exponent", segmentSizeExponent)
                         .add("Max number of revisions to restore", maxNumberOfRevisionsToRestore)
                         .add("Use deweyIDs", useDeweyIDs)
                         .add("Byte handler pipeline", byteHandler)
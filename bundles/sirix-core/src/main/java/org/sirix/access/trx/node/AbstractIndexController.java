@@ -124,6 +124,7 @@ public abstract class AbstractIndexController<R extends NodeReadOnlyTrx & NodeCu
         case CAS ->
             listeners.add(createCASIndexListener(nodeWriteTrx.getPageWtx(), nodeWriteTrx.getPathSummary(), indexDef));
         case NAME -> listeners.add(createNameIndexListener(nodeWriteTrx.getPageWtx(), indexDef));
+        case COLUMN -> listeners.add(createColumnIndexListener(nodeWriteTrx, indexDef));
         default -> {
         }
       }
@@ -146,6 +147,17 @@ public abstract class AbstractIndexController<R extends NodeReadOnlyTrx & NodeCu
     return nameIndex.createListener(pageWriteTrx, indexDef);
   }
 
+  /**
+   * Create a listener, which keeps a column index up to date.
+   *
+   * @param nodeWriteTrx the node write transaction
+   * @param indexDef     the column index definition
+   * @return the listener
+   */
+  protected ChangeListener createColumnIndexListener(final W nodeWriteTrx, final IndexDef indexDef) {
+    throw new UnsupportedOperationException("This document does not support column indexes.");
+  }
+
   @Override
   public NameFilter createNameFilter(final Set<String> names) {
     final Set<QNm> includes = new HashSet<>(names.size());
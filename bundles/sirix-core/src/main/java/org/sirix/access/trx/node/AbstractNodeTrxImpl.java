@@ -3,6 +3,7 @@ package org.sirix.access.trx.node;
 import com.google.common.base.MoreObjects;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sirix.access.DatabasesInternals;
 import org.sirix.access.User;
 import org.sirix.access.trx.node.InternalResourceSession.Abort;
 import org.sirix.access.trx.node.json.InternalJsonNodeReadOnlyTrx;
@@ -93,6 +94,12 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
    */
   protected final Map<Long, DiffTuple> updateOperationsUnordered;
 
+  /**
+   * Determines if the collected update operations describe all changes since the last revision, which is not the
+   * case after a bulk insertion or a revert.
+   */
+  protected boolean updateOperationsComplete = true;
+
   /**
    * An optional lock for all methods, if an automatic commit is issued.
    */
@@ -214,6 +221,10 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
 
   @Override
   public W setBulkInsertion(final boolean bulkInsertion) {
+    if (bulkInsertion) {
+      // Update operations aren't collected during bulk insertions.
+      updateOperationsComplete = false;
+    }
     nodeHashing.setBulkInsert(bulkInsertion);
     return self();
   }
@@ -312,6 +323,10 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
       hook.postCommit(this);
     }
 
+    for (final PostCommitHook hook : DatabasesInternals.getPostCommitHooks()) {
+      hook.postCommit(this);
+    }
+
     return self();
   }
 
@@ -363,6 +378,7 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
 
     updateOperationsUnordered.clear();
     updateOperationsOrdered.clear();
+    updateOperationsComplete = true;
 
     reInstantiateIndexes();
   }
@@ -416,6 +432,10 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
 
     nodeFactory = reInstantiateNodeFactory(pageTrx);
 
+    updateOperationsUnordered.clear();
+    updateOperationsOrdered.clear();
+    updateOperationsComplete = true;
+
     reInstantiateIndexes();
 
     if (lock != null) {
@@ -459,6 +479,11 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
       // Reset node factory.
       nodeFactory = reInstantiateNodeFactory(pageTrx);
 
+      // The update operations don't describe the changes of the reverted revision.
+      updateOperationsUnordered.clear();
+      updateOperationsOrdered.clear();
+      updateOperationsComplete = false;
+
       // New index instances.
       reInstantiateIndexes();
 
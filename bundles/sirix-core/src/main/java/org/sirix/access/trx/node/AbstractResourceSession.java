@@ -29,9 +29,12 @@ import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.index.redblacktree.RBNode;
 import org.sirix.io.IOStorage;
 import org.sirix.io.Reader;
+import org.sirix.io.RevisionFileData;
 import org.sirix.io.Writer;
 import org.sirix.node.interfaces.Node;
+import org.sirix.page.RevisionRootPage;
 import org.sirix.page.UberPage;
+import org.sirix.settings.Constants;
 import org.sirix.settings.Fixed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -137,6 +140,11 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
    */
   private final PageTrxFactory pageTrxFactory;
 
+  /**
+   * In-memory catalog of the committed revisions (timestamps, offsets and commit credentials).
+   */
+  private final RevisionCatalog revisionCatalog;
+
   /**
    * Creates a new instance of this class.
    *
@@ -173,6 +181,7 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
     lastCommittedUberPage = new AtomicReference<>(uberPage);
     this.user = user;
     pool = new AtomicReference<>();
+    revisionCatalog = new RevisionCatalog();
 
     isClosed = false;
   }
@@ -192,10 +201,6 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
     }
   }
 
-  private static long timeDiff(final long lhs, final long rhs) {
-    return Math.abs(lhs - rhs);
-  }
-
   protected void initializeIndexController(final int revision, IndexController<?, ?> controller) {
     // Deserialize index definitions.
     final Path indexes = getResourceConfig().getResource()
@@ -276,49 +281,74 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
 
     checkArgument(fromRevision > toRevision);
 
-    final var revisionInfos = new ArrayList<CompletableFuture<RevisionInfo>>();
-
-    for (int revision = fromRevision; revision > 0 && revision >= toRevision; revision--) {
-      int finalRevision = revision;
-      revisionInfos.add(CompletableFuture.supplyAsync(() -> {
-        try (final NodeReadOnlyTrx rtx = beginNodeReadOnlyTrx(finalRevision)) {
-          final CommitCredentials commitCredentials = rtx.getCommitCredentials();
-          return new RevisionInfo(commitCredentials.getUser(),
-                                  rtx.getRevisionNumber(),
-                                  rtx.getRevisionTimestamp(),
-                                  commitCredentials.getMessage());
-        }
-      }));
-    }
-
-    return getResult(revisionInfos);
+    return getRevisionInfos(fromRevision, Math.max(toRevision, 1));
   }
 
   private List<RevisionInfo> getHistoryInformations(int revisions) {
     checkArgument(revisions > 0);
 
     final int lastCommittedRevision = getMostRecentRevisionNumber();
-    final var revisionInfos = new ArrayList<CompletableFuture<RevisionInfo>>();
-
-    for (int revision = lastCommittedRevision;
-         revision > 0 && revision > lastCommittedRevision - revisions; revision--) {
-      int finalRevision = revision;
-      revisionInfos.add(CompletableFuture.supplyAsync(() -> {
-        try (final NodeReadOnlyTrx rtx = beginNodeReadOnlyTrx(finalRevision)) {
-          final CommitCredentials commitCredentials = rtx.getCommitCredentials();
-          return new RevisionInfo(commitCredentials.getUser(),
-                                  rtx.getRevisionNumber(),
-                                  rtx.getRevisionTimestamp(),
-                                  commitCredentials.getMessage());
-        }
-      }));
+    final int toRevision = (int) Math.max(1L, (long) lastCommittedRevision - revisions + 1);
+
+    return getRevisionInfos(lastCommittedRevision, toRevision);
+  }
+
+  private List<RevisionInfo> getRevisionInfos(int fromRevision, int toRevision) {
+    final RevisionCatalog catalog = getRevisionCatalog();
+    final var revisionInfos = new ArrayList<RevisionInfo>(Math.max(0, fromRevision - toRevision + 1));
+
+    try (final Reader reader = storage.createReader()) {
+      for (int revision = fromRevision; revision >= toRevision; revision--) {
+        final CommitCredentials commitCredentials =
+            catalog.getCommitCredentials(revision, rev -> readRevisionRootPage(reader, rev).getCommitCredentials());
+        revisionInfos.add(new RevisionInfo(commitCredentials.getUser(),
+                                           revision,
+                                           catalog.getTimestamp(revision),
+                                           commitCredentials.getMessage()));
+      }
     }
 
-    return getResult(revisionInfos);
+    return revisionInfos;
   }
 
-  private List<RevisionInfo> getResult(final List<CompletableFuture<RevisionInfo>> revisionInfos) {
-    return revisionInfos.stream().map(CompletableFuture::join).toList();
+  /**
+   * Get the revision catalog, which is loaded once and extended whenever new revisions have been committed.
+   *
+   * @return the revision catalog
+   */
+  public RevisionCatalog getRevisionCatalog() {
+    assertNotClosed();
+
+    final int mostRecentRevision = getMostRecentRevisionNumber();
+
+    if (revisionCatalog.size() == mostRecentRevision + 1) {
+      return revisionCatalog;
+    }
+
+    try (final Reader reader = storage.createReader()) {
+      return revisionCatalog.ensureLoaded(mostRecentRevision, revision -> readRevisionFileData(reader, revision));
+    }
+  }
+
+  private RevisionFileData readRevisionFileData(final Reader reader, final int revision) {
+    try {
+      return reader.getRevisionFileData(revision);
+    } catch (final UnsupportedOperationException e) {
+      // Storages without a revisions file (for instance the in-memory storage).
+      final var revisionRootPage = readRevisionRootPage(reader, revision);
+      return new RevisionFileData(Constants.NULL_ID_LONG, Instant.ofEpochMilli(revisionRootPage.getRevisionTimestamp()));
+    }
+  }
+
+  private RevisionRootPage readRevisionRootPage(final Reader reader, final int revision) {
+    final Cache<Integer, RevisionRootPage> cache = bufferManager.getRevisionRootPageCache();
+    final RevisionRootPage revisionRootPage = cache.get(revision);
+
+    if (revisionRootPage != null) {
+      return revisionRootPage;
+    }
+
+    return reader.readRevisionRootPage(revision, null);
   }
 
   @Override
@@ -354,6 +384,53 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
     return reader;
   }
 
+  @Override
+  public RevisionSnapshot<R> openSnapshot(@NonNegative final int revision) {
+    assertAccess(revision);
+
+    return new RevisionSnapshot<>(this,
+                                  revision,
+                                  lastCommittedUberPage.get(),
+                                  RevisionSnapshot.DEFAULT_MAX_RECORD_PAGES);
+  }
+
+  /**
+   * Begin a new read-only transaction on the revision of the given snapshot. In contrast to
+   * {@link #beginNodeReadOnlyTrx(int)} this method isn't synchronized, as it's called concurrently by the readers of
+   * a snapshot.
+   *
+   * @param snapshot the snapshot
+   * @return a new read-only transaction, which shares the record pages of the snapshot
+   */
+  R beginNodeReadOnlyTrx(final RevisionSnapshot<R> snapshot) {
+    assertNotClosed();
+
+    final long currentPageTrxID = pageTrxIDCounter.incrementAndGet();
+    final NodePageReadOnlyTrx pageReadTrx = new NodePageReadOnlyTrx(currentPageTrxID,
+                                                                    this,
+                                                                    snapshot.getUberPage(),
+                                                                    snapshot.getRevisionNumber(),
+                                                                    storage.createReader(),
+                                                                    bufferManager,
+                                                                    new RevisionRootPageReader(),
+                                                                    null,
+                                                                    snapshot.getRecordPageCache());
+
+    if (pageTrxMap.put(currentPageTrxID, pageReadTrx) != null) {
+      throw new SirixThreadedException("ID generation is bogus because of duplicate ID.");
+    }
+
+    final Node documentNode = getDocumentNode(pageReadTrx);
+
+    final R reader = createNodeReadOnlyTrx(nodeTrxIDCounter.incrementAndGet(), pageReadTrx, documentNode);
+
+    if (nodeTrxMap.put(reader.getId(), reader) != null) {
+      throw new SirixUsageException("ID generation is bogus because of duplicate ID.");
+    }
+
+    return reader;
+  }
+
   public abstract R createNodeReadOnlyTrx(long nodeTrxId, PageReadOnlyTrx pageReadTrx, Node documentNode);
 
   public abstract W createNodeReadWriteTrx(long nodeTrxId, PageTrx pageTrx, int maxNodeCount, Duration autoCommitDelay,
@@ -771,57 +848,7 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
 
   @Override
   public R beginNodeReadOnlyTrx(final @NonNull Instant pointInTime) {
-    requireNonNull(pointInTime);
-    assertNotClosed();
-
-    final long timestamp = pointInTime.toEpochMilli();
-
-    int revision = binarySearch(timestamp);
-
-    if (revision < 0) {
-      revision = -revision - 1;
-    }
-
-    if (revision == 0)
-      return beginNodeReadOnlyTrx(0);
-    else if (revision == getMostRecentRevisionNumber() + 1)
-      return beginNodeReadOnlyTrx();
-
-    final R rtxRevisionMinus1 = beginNodeReadOnlyTrx(revision - 1);
-    final R rtxRevision = beginNodeReadOnlyTrx(revision);
-
-    if (timeDiff(timestamp, rtxRevisionMinus1.getRevisionTimestamp().toEpochMilli()) < timeDiff(timestamp,
-                                                                                                rtxRevision.getRevisionTimestamp()
-                                                                                                           .toEpochMilli())) {
-      rtxRevision.close();
-      return rtxRevisionMinus1;
-    } else {
-      rtxRevisionMinus1.close();
-      return rtxRevision;
-    }
-  }
-
-  private int binarySearch(final long timestamp) {
-    int low = 0;
-    int high = getMostRecentRevisionNumber();
-
-    try (final Reader reader = storage.createReader()) {
-      while (low <= high) {
-        final int mid = (low + high) >>> 1;
-
-        final Instant midVal = reader.readRevisionRootPageCommitTimestamp(mid);
-        final int cmp = midVal.compareTo(Instant.ofEpochMilli(timestamp));
-
-        if (cmp < 0)
-          low = mid + 1;
-        else if (cmp > 0)
-          high = mid - 1;
-        else
-          return mid; // key found
-      }
-    }
-
-    return -(low + 1); // key not found
+    return beginNodeReadOnlyTrx(getRevisionNumber(pointInTime));
   }
 
   @Override
@@ -829,33 +856,7 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
     requireNonNull(pointInTime);
     assertNotClosed();
 
-    final long timestamp = pointInTime.toEpochMilli();
-
-    int revision = binarySearch(timestamp);
-
-    if (revision < 0) {
-      revision = -revision - 1;
-    }
-
-    if (revision == 0)
-      return 0;
-    else if (revision == getMostRecentRevisionNumber() + 1)
-      return getMostRecentRevisionNumber();
-
-    try (final R rtxRevisionMinus1 = beginNodeReadOnlyTrx(revision - 1);
-         final R rtxRevision = beginNodeReadOnlyTrx(revision)) {
-      final int revisionNumber;
-
-      if (timeDiff(timestamp, rtxRevisionMinus1.getRevisionTimestamp().toEpochMilli()) < timeDiff(timestamp,
-                                                                                                  rtxRevision.getRevisionTimestamp()
-                                                                                                             .toEpochMilli())) {
-        revisionNumber = rtxRevisionMinus1.getRevisionNumber();
-      } else {
-        revisionNumber = rtxRevision.getRevisionNumber();
-      }
-
-      return revisionNumber;
-    }
+    return getRevisionCatalog().getRevisionNumber(pointInTime);
   }
 
   @Override
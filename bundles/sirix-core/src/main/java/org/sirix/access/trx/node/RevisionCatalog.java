@@ -0,0 +1,203 @@
+package org.sirix.access.trx.node;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.sirix.io.RevisionFileData;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * In-memory catalog of all committed revisions of a resource. The commit timestamps and the offsets of the revision
+ * root pages are kept in primitive arrays, such that point-in-time lookups are simple binary searches, which don't
+ * touch the storage at all. The commit credentials (author and commit message) are materialized lazily, as they are
+ * immutable once a revision has been committed.
+ *
+ * <p>The catalog is loaded once per resource session and is incrementally extended after each commit.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class RevisionCatalog {
+
+  /**
+   * The initial capacity of the backing arrays.
+   */
+  private static final int INITIAL_CAPACITY = 16;
+
+  /**
+   * The offsets of the revision root pages in the data file, indexed by revision number.
+   */
+  private long[] offsets;
+
+  /**
+   * The commit timestamps in epoch milliseconds, indexed by revision number.
+   */
+  private long[] timestamps;
+
+  /**
+   * The lazily loaded commit credentials, indexed by revision number.
+   */
+  private CommitCredentials[] commitCredentials;
+
+  /**
+   * The number of revisions stored in the catalog.
+   */
+  private int size;
+
+  /**
+   * Constructor.
+   */
+  public RevisionCatalog() {
+    offsets = new long[INITIAL_CAPACITY];
+    timestamps = new long[INITIAL_CAPACITY];
+    commitCredentials = new CommitCredentials[INITIAL_CAPACITY];
+  }
+
+  /**
+   * Make sure all revisions up to and including the given revision are in the catalog. Only missing revisions are
+   * loaded.
+   *
+   * @param mostRecentRevision the most recently committed revision
+   * @param loader             loads the revision file data of a single revision
+   * @return this catalog instance
+   */
+  public synchronized RevisionCatalog ensureLoaded(final @NonNegative int mostRecentRevision,
+      final IntFunction<RevisionFileData> loader) {
+    checkArgument(mostRecentRevision >= 0, "mostRecentRevision must be >= 0!");
+    requireNonNull(loader);
+
+    if (mostRecentRevision + 1 < size) {
+      // The resource has been truncated, forget the superfluous revisions.
+      Arrays.fill(commitCredentials, mostRecentRevision + 1, size, null);
+      size = mostRecentRevision + 1;
+      return this;
+    }
+
+    ensureCapacity(mostRecentRevision + 1);
+
+    for (int revision = size; revision <= mostRecentRevision; revision++) {
+      final RevisionFileData revisionFileData = loader.apply(revision);
+      offsets[revision] = revisionFileData.offset();
+      timestamps[revision] = revisionFileData.timestamp().toEpochMilli();
+      commitCredentials[revision] = null;
+    }
+
+    size = mostRecentRevision + 1;
+    return this;
+  }
+
+  private void ensureCapacity(final int capacity) {
+    if (capacity <= offsets.length) {
+      return;
+    }
+
+    final int newCapacity = Math.max(capacity, offsets.length + (offsets.length >> 1));
+    offsets = Arrays.copyOf(offsets, newCapacity);
+    timestamps = Arrays.copyOf(timestamps, newCapacity);
+    commitCredentials = Arrays.copyOf(commitCredentials, newCapacity);
+  }
+
+  /**
+   * Get the number of revisions in the catalog.
+   *
+   * @return the number of revisions
+   */
+  public synchronized int size() {
+    return size;
+  }
+
+  /**
+   * Get the offset of the revision root page of the given revision.
+   *
+   * @param revision the revision number
+   * @return the offset of the revision root page
+   */
+  public synchronized long getOffset(final @NonNegative int revision) {
+    checkRevision(revision);
+    return offsets[revision];
+  }
+
+  /**
+   * Get the commit timestamp of the given revision.
+   *
+   * @param revision the revision number
+   * @return the commit timestamp
+   */
+  public synchronized Instant getTimestamp(final @NonNegative int revision) {
+    checkRevision(revision);
+    return Instant.ofEpochMilli(timestamps[revision]);
+  }
+
+  /**
+   * Get the commit credentials of the given revision. The credentials are loaded once and kept afterwards.
+   *
+   * @param revision the revision number
+   * @param loader   loads the commit credentials of a revision if not already present
+   * @return the commit credentials
+   */
+  public synchronized CommitCredentials getCommitCredentials(final @NonNegative int revision,
+      final IntFunction<CommitCredentials> loader) {
+    checkRevision(revision);
+    CommitCredentials credentials = commitCredentials[revision];
+    if (credentials == null) {
+      credentials = requireNonNull(loader.apply(revision));
+      commitCredentials[revision] = credentials;
+    }
+    return credentials;
+  }
+
+  /**
+   * Search for the given timestamp. The semantics are the same as in {@link Arrays#binarySearch(long[], long)}.
+   *
+   * @param timestamp the timestamp in epoch milliseconds
+   * @return the revision number if a revision has been committed at exactly the timestamp, otherwise
+   * {@code -(insertion point) - 1}
+   */
+  public synchronized int binarySearch(final long timestamp) {
+    return Arrays.binarySearch(timestamps, 0, size, timestamp);
+  }
+
+  /**
+   * Get the revision, which has been committed closest to the given point in time.
+   *
+   * @param pointInTime the point in time
+   * @return the revision number of the closest revision
+   */
+  public synchronized int getRevisionNumber(final Instant pointInTime) {
+    requireNonNull(pointInTime);
+    checkArgument(size > 0, "The catalog is empty!");
+
+    final long timestamp = pointInTime.toEpochMilli();
+
+    int revision = binarySearch(timestamp);
+
+    if (revision < 0) {
+      revision = -revision - 1;
+    }
+
+    if (revision == 0) {
+      return 0;
+    } else if (revision == size) {
+      return size - 1;
+    }
+
+    if (timeDiff(timestamp, timestamps[revision - 1]) < timeDiff(timestamp, timestamps[revision])) {
+      return revision - 1;
+    }
+
+    return revision;
+  }
+
+  private static long timeDiff(final long lhs, final long rhs) {
+    return Math.abs(lhs - rhs);
+  }
+
+  private void checkRevision(final int revision) {
+    if (revision < 0 || revision >= size) {
+      throw new IllegalArgumentException("Revision " + revision + " is not in the catalog!");
+    }
+  }
+}
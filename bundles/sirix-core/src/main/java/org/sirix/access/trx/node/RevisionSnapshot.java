@@ -0,0 +1,136 @@
+package org.sirix.access.trx.node;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.sirix.api.NodeCursor;
+import org.sirix.api.NodeReadOnlyTrx;
+import org.sirix.cache.Cache;
+import org.sirix.cache.IndexLogKey;
+import org.sirix.cache.SnapshotRecordPageCache;
+import org.sirix.page.UberPage;
+import org.sirix.page.interfaces.Page;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable, thread-safe snapshot of a single revision of a resource. Read-only transactions (cursors) are cheaply
+ * spawned from a snapshot, for instance one per thread. The cursors themselves are not thread-safe, but all cursors of
+ * a snapshot share the reconstructed record pages and thus the deserialized records, such that many readers of the
+ * same hot revision don't warm up their state separately.
+ *
+ * <p>Closing the snapshot releases the shared record pages. Cursors, which are still open remain usable.</p>
+ *
+ * @param <R> the type of the read-only transactions
+ * @author Johannes Lichtenberger
+ */
+public final class RevisionSnapshot<R extends NodeReadOnlyTrx & NodeCursor> implements AutoCloseable {
+
+  /**
+   * The default maximum number of shared record pages.
+   */
+  public static final int DEFAULT_MAX_RECORD_PAGES = 10_000;
+
+  /**
+   * The resource session the snapshot is bound to.
+   */
+  private final AbstractResourceSession<R, ?> resourceSession;
+
+  /**
+   * The revision number of the snapshot.
+   */
+  private final int revision;
+
+  /**
+   * The uber page, which was the most recent one when the snapshot has been opened.
+   */
+  private final UberPage uberPage;
+
+  /**
+   * The record pages shared by all cursors of this snapshot.
+   */
+  private final Cache<IndexLogKey, Page> recordPageCache;
+
+  /**
+   * Determines if the snapshot is closed.
+   */
+  private volatile boolean isClosed;
+
+  /**
+   * Constructor.
+   *
+   * @param resourceSession the resource session
+   * @param revision        the revision number
+   * @param uberPage        the most recent uber page
+   * @param maxRecordPages  the maximum number of shared record pages
+   */
+  RevisionSnapshot(final AbstractResourceSession<R, ?> resourceSession, final @NonNegative int revision,
+      final UberPage uberPage, final int maxRecordPages) {
+    checkArgument(revision >= 0, "revision must be >= 0!");
+    checkArgument(maxRecordPages > 0, "maxRecordPages must be > 0!");
+    this.resourceSession = requireNonNull(resourceSession);
+    this.revision = revision;
+    this.uberPage = requireNonNull(uberPage);
+    this.recordPageCache = new SnapshotRecordPageCache(maxRecordPages);
+  }
+
+  /**
+   * Begin a new read-only transaction on the revision of this snapshot. This method may be called concurrently by
+   * any number of threads.
+   *
+   * @return a new read-only transaction, which must only be used by a single thread at a time
+   * @throws IllegalStateException if the snapshot is already closed
+   */
+  public R beginNodeReadOnlyTrx() {
+    assertNotClosed();
+    return resourceSession.beginNodeReadOnlyTrx(this);
+  }
+
+  /**
+   * Get the revision number of this snapshot.
+   *
+   * @return the revision number
+   */
+  public int getRevisionNumber() {
+    return revision;
+  }
+
+  /**
+   * Get the resource session, the snapshot is bound to.
+   *
+   * @return the resource session
+   */
+  public AbstractResourceSession<R, ?> getResourceSession() {
+    return resourceSession;
+  }
+
+  UberPage getUberPage() {
+    return uberPage;
+  }
+
+  Cache<IndexLogKey, Page> getRecordPageCache() {
+    return recordPageCache;
+  }
+
+  /**
+   * Determines if the snapshot is closed.
+   *
+   * @return {@code true}, if the snapshot is closed, {@code false} otherwise
+   */
+  public boolean isClosed() {
+    return isClosed;
+  }
+
+  private void assertNotClosed() {
+    if (isClosed) {
+      throw new IllegalStateException("Snapshot is already closed.");
+    }
+  }
+
+  @Override
+  public void close() {
+    if (!isClosed) {
+      isClosed = true;
+      recordPageCache.close();
+    }
+  }
+}
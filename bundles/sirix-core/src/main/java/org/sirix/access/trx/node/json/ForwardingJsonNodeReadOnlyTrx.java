@@ -11,6 +11,7 @@ import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
+import org.sirix.node.json.NumberType;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
 
 import java.time.Instant;
@@ -66,6 +67,21 @@ public interface ForwardingJsonNodeReadOnlyTrx extends JsonNodeReadOnlyTrx {
     return nodeReadOnlyTrxDelegate().getNumberValue();
   }
 
+  @Override
+  default NumberType getNumberType() {
+    return nodeReadOnlyTrxDelegate().getNumberType();
+  }
+
+  @Override
+  default long getLongValue() {
+    return nodeReadOnlyTrxDelegate().getLongValue();
+  }
+
+  @Override
+  default double getDoubleValue() {
+    return nodeReadOnlyTrxDelegate().getDoubleValue();
+  }
+
   @Override
   default CommitCredentials getCommitCredentials() {
     return nodeReadOnlyTrxDelegate().getCommitCredentials();
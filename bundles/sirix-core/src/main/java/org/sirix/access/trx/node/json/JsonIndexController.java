@@ -4,15 +4,20 @@ import org.brackit.xquery.atomic.QNm;
 import org.brackit.xquery.util.path.Path;
 import org.brackit.xquery.util.path.PathException;
 import org.brackit.xquery.util.path.PathParser;
+import org.sirix.access.DatabaseType;
 import org.sirix.access.trx.node.AbstractIndexController;
 import org.sirix.api.PageTrx;
 import org.sirix.api.json.JsonNodeReadOnlyTrx;
 import org.sirix.api.json.JsonNodeTrx;
 import org.sirix.api.visitor.JsonNodeVisitor;
+import org.sirix.index.ChangeListener;
 import org.sirix.index.IndexBuilder;
 import org.sirix.index.IndexDef;
 import org.sirix.index.Indexes;
 import org.sirix.index.cas.json.JsonCASIndexImpl;
+import org.sirix.index.column.ColumnIndexWriter;
+import org.sirix.index.column.json.JsonColumnIndexBuilder;
+import org.sirix.index.column.json.JsonColumnIndexListener;
 import org.sirix.index.name.json.JsonNameIndexImpl;
 import org.sirix.index.path.PathFilter;
 import org.sirix.index.path.json.JsonPCRCollector;
@@ -76,6 +81,12 @@ public final class JsonIndexController extends AbstractIndexController<JsonNodeR
         case NAME:
           indexBuilders.add(createNameIndexBuilder(nodeWriteTrx.getPageWtx(), indexDef));
           break;
+        case COLUMN:
+          indexBuilders.add(new JsonColumnIndexBuilder(createColumnIndexWriter(nodeWriteTrx.getPageWtx(), indexDef),
+                                                       nodeWriteTrx,
+                                                       nodeWriteTrx.getPathSummary(),
+                                                       indexDef.getPaths()));
+          break;
         default:
           break;
       }
@@ -93,6 +104,17 @@ public final class JsonIndexController extends AbstractIndexController<JsonNodeR
     return new PathFilter(paths, new JsonPCRCollector(rtx));
   }
 
+  @Override
+  protected ChangeListener createColumnIndexListener(final JsonNodeTrx nodeWriteTrx, final IndexDef indexDef) {
+    return new JsonColumnIndexListener(nodeWriteTrx.getPathSummary(),
+                                       createColumnIndexWriter(nodeWriteTrx.getPageWtx(), indexDef),
+                                       indexDef.getPaths());
+  }
+
+  private static ColumnIndexWriter createColumnIndexWriter(final PageTrx pageWriteTrx, final IndexDef indexDef) {
+    return new ColumnIndexWriter(DatabaseType.JSON, pageWriteTrx, indexDef.getID());
+  }
+
   private JsonNodeVisitor createPathIndexBuilder(final PageTrx pageWriteTrx, final PathSummaryReader pathSummaryReader,
       final IndexDef indexDef) {
     return (JsonNodeVisitor) pathIndex.createBuilder(pageWriteTrx, pathSummaryReader, indexDef);
@@ -173,7 +173,7 @@ final class JsonNodeFactoryImpl implements JsonNodeFactory {
                          id);
     final boolean compression = doCompress && value.length > 10;
     final byte[] compressedValue = compression ? Compression.compress(value, Deflater.HUFFMAN_ONLY) : value;
-    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression);
+    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression, doCompress);
     final StructNodeDelegate structDel = new StructNodeDelegate(nodeDel,
                                                                 Fixed.NULL_NODE_KEY.getStandardProperty(),
                                                                 Fixed.NULL_NODE_KEY.getStandardProperty(),
@@ -251,7 +251,7 @@ final class JsonNodeFactoryImpl implements JsonNodeFactory {
                          id);
     final boolean compression = doCompress && value.length > 40;
     final byte[] compressedValue = compression ? Compression.compress(value, Deflater.BEST_COMPRESSION) : value;
-    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression);
+    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression, doCompress);
     final StructNodeDelegate structDel = new StructNodeDelegate(nodeDel,
                                                                 Fixed.NULL_NODE_KEY.getStandardProperty(),
                                                                 Fixed.NULL_NODE_KEY.getStandardProperty(),
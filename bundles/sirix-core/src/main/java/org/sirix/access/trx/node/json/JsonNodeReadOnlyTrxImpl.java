@@ -231,6 +231,30 @@ public final class JsonNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<JsonN
     throw new IllegalStateException("Current node is no number node.");
   }
 
+  @Override
+  public NumberType getNumberType() {
+    return getCurrentNumberNode().getNumberType();
+  }
+
+  @Override
+  public long getLongValue() {
+    return getCurrentNumberNode().getLongValue();
+  }
+
+  @Override
+  public double getDoubleValue() {
+    return getCurrentNumberNode().getDoubleValue();
+  }
+
+  private AbstractNumberNode getCurrentNumberNode() {
+    assertNotClosed();
+    final var currentNode = getCurrentNode();
+    if (currentNode instanceof AbstractNumberNode numberNode) {
+      return numberNode;
+    }
+    throw new IllegalStateException("Current node is no number node.");
+  }
+
   @Override
   public JsonResourceSession getResourceSession() {
     assertNotClosed();
@@ -43,6 +43,7 @@ import org.sirix.diff.DiffDepth;
 import org.sirix.diff.DiffFactory;
 import org.sirix.diff.DiffTuple;
 import org.sirix.diff.JsonDiffSerializer;
+import org.sirix.diff.JsonUpdateOperations;
 import org.sirix.exception.SirixException;
 import org.sirix.exception.SirixIOException;
 import org.sirix.exception.SirixUsageException;
@@ -189,7 +190,7 @@ final class JsonNodeTrxImpl extends
     // Only auto commit by node modifications if it is more than 0.
     this.isAutoCommitting = isAutoCommitting;
 
-    useTextCompression = resourceManager.getResourceConfig().useTextCompression;
+    useTextCompression = resourceManager.getResourceConfig().compressValuesIndividually();
 
     deweyIDManager = new JsonDeweyIDManager(this);
     storeNodeHistory = resourceManager.getResourceConfig().storeNodeHistory();
@@ -2181,7 +2182,7 @@ final class JsonNodeTrxImpl extends
       }
 
       moveTo(nodeKey);
-      indexController.notifyChange(ChangeType.DELETE, node, pathNodeKey);
+      indexController.notifyChange(ChangeType.DELETE, currentNode, pathNodeKey);
     }
   }
 
@@ -2550,8 +2551,18 @@ final class JsonNodeTrxImpl extends
                                        .resolve(ResourceConfiguration.ResourcePaths.UPDATE_OPERATIONS.getPath())
                                        .resolve(
                                            "diffFromRev" + (revisionNumber - 1) + "toRev" + revisionNumber + ".json");
+      // Auto-commits during a bulk insertion span the revisions since the bulk insertion started.
+      final boolean isComplete = updateOperationsComplete && !(beforeBulkInsertionRevisionNumber != 0
+          && isAutoCommitting);
+      final Path completeMarker = JsonUpdateOperations.getCompleteMarker(resourceSession.getResourceConfig(),
+                                                                          revisionNumber);
       try {
         Files.writeString(diff, jsonDiff, CREATE);
+        if (isComplete) {
+          Files.writeString(completeMarker, "", CREATE);
+        } else {
+          Files.deleteIfExists(completeMarker);
+        }
       } catch (final IOException e) {
         throw new UncheckedIOException(e);
       }
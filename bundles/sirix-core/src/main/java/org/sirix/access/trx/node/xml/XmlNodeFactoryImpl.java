@@ -126,7 +126,7 @@ final class XmlNodeFactoryImpl implements XmlNodeFactory {
                          id);
     final boolean compression = isCompressed && value.length > 10;
     final byte[] compressedValue = compression ? Compression.compress(value, Deflater.HUFFMAN_ONLY) : value;
-    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression);
+    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression, isCompressed);
     final StructNodeDelegate structDel =
         new StructNodeDelegate(nodeDel, Fixed.NULL_NODE_KEY.getStandardProperty(), rightSibKey, leftSibKey, 0, 0);
     return pageTrx.createRecord(new TextNode(valDel, structDel), IndexType.DOCUMENT, -1);
@@ -213,7 +213,7 @@ final class XmlNodeFactoryImpl implements XmlNodeFactory {
                          id);
     final boolean compression = isCompressed && value.length > 10;
     final byte[] compressedValue = compression ? Compression.compress(value, Deflater.HUFFMAN_ONLY) : value;
-    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression);
+    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression, isCompressed);
     final StructNodeDelegate structDel =
         new StructNodeDelegate(nodeDel, Fixed.NULL_NODE_KEY.getStandardProperty(), rightSibKey, leftSibKey, 0, 0);
     return pageTrx.createRecord(new CommentNode(valDel, structDel), IndexType.DOCUMENT, -1);
@@ -142,7 +142,7 @@ final class XmlNodeTrxImpl extends
     indexController = resourceManager.getWtxIndexController(nodeReadOnlyTrx.getPageTrx().getRevisionNumber());
     storeChildCount = this.resourceSession.getResourceConfig().storeChildCount();
 
-    useTextCompression = resourceManager.getResourceConfig().useTextCompression;
+    useTextCompression = resourceManager.getResourceConfig().compressValuesIndividually();
     deweyIDManager = new XmlDeweyIDManager(this);
 
   }
@@ -16,6 +16,8 @@ import org.sirix.node.interfaces.DataRecord;
 import org.sirix.page.*;
 import org.sirix.page.interfaces.Page;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Forwards all methods to the delegate.
  *
@@ -71,6 +73,11 @@ public abstract class AbstractForwardingPageReadOnlyTrx extends ForwardingObject
     return delegate().getRecord(key, indexType, index);
   }
 
+  @Override
+  public CompletableFuture<Void> loadRecordPageAsync(long key, @NonNull IndexType indexType, int index) {
+    return delegate().loadRecordPageAsync(key, indexType, index);
+  }
+
   @Override
   public CommitCredentials getCommitCredentials() {
     return delegate().getCommitCredentials();
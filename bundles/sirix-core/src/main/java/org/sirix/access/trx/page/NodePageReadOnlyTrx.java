@@ -39,6 +39,7 @@ import org.sirix.exception.SirixIOException;
 import org.sirix.index.IndexType;
 import org.sirix.io.BytesUtils;
 import org.sirix.io.Reader;
+import org.sirix.metrics.Metrics;
 import org.sirix.node.DeletedNode;
 import org.sirix.node.NodeKind;
 import org.sirix.node.interfaces.DataRecord;
@@ -63,7 +64,8 @@ import static java.util.Objects.requireNonNull;
 /**
  * Page read-only transaction. The only thing shared amongst transactions is the resource manager.
  * Everything else is exclusive to this transaction. It is required that only a single thread has
- * access to this transaction.
+ * access to this transaction. Transactions spawned from the same revision snapshot additionally share a cache of
+ * reconstructed record pages, which is thread-safe.
  */
 public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
 
@@ -139,6 +141,18 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
 
   private final Bytes<ByteBuffer> byteBufferForRecords = Bytes.elasticByteBuffer(40);
 
+  /**
+   * Record pages shared with all other transactions of the same revision snapshot (can be {@code null}).
+   */
+  @Nullable
+  private final Cache<IndexLogKey, Page> sharedRecordPageCache;
+
+  /**
+   * Prefetches record pages during sequential scans (only for read-only transactions, otherwise {@code null}).
+   */
+  @Nullable
+  private final RecordPagePrefetcher recordPagePrefetcher;
+
   /**
    * Standard constructor.
    *
@@ -156,6 +170,30 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       final UberPage uberPage, final @NonNegative int revision, final Reader reader,
       final BufferManager resourceBufferManager, final @NonNull RevisionRootPageReader revisionRootPageReader,
       final @Nullable TransactionIntentLog trxIntentLog) {
+    this(trxId, resourceSession, uberPage, revision, reader, resourceBufferManager, revisionRootPageReader,
+         trxIntentLog, null);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param trxId                 the transaction-ID.
+   * @param resourceSession       the resource manager
+   * @param uberPage              {@link UberPage} to start reading from
+   * @param revision              key of revision to read from uber page
+   * @param reader                to read stored pages for this transaction
+   * @param resourceBufferManager caches in-memory reconstructed pages
+   * @param trxIntentLog          the transaction intent log (can be {@code null})
+   * @param sharedRecordPageCache record pages shared with other transactions reading the same revision (can be
+   *                              {@code null})
+   * @throws SirixIOException if reading of the persistent storage fails
+   */
+  public NodePageReadOnlyTrx(final long trxId,
+      final InternalResourceSession<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceSession,
+      final UberPage uberPage, final @NonNegative int revision, final Reader reader,
+      final BufferManager resourceBufferManager, final @NonNull RevisionRootPageReader revisionRootPageReader,
+      final @Nullable TransactionIntentLog trxIntentLog,
+      final @Nullable Cache<IndexLogKey, Page> sharedRecordPageCache) {
     checkArgument(trxId > 0, "Transaction-ID must be >= 0.");
     this.trxId = trxId;
     this.resourceBufferManager = resourceBufferManager;
@@ -165,6 +203,9 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     this.pageReader = requireNonNull(reader);
     this.uberPage = requireNonNull(uberPage);
     this.trxIntentLog = trxIntentLog;
+    assert trxIntentLog == null || sharedRecordPageCache == null;
+    this.sharedRecordPageCache = sharedRecordPageCache;
+    this.recordPagePrefetcher = trxIntentLog == null ? new RecordPagePrefetcher(this::prefetchRecordPage) : null;
 
     revisionNumber = revision;
     rootPage = revisionRootPageReader.loadRevisionRootPage(this, revision);
@@ -188,9 +229,11 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       assert reference.getLogKey() == Constants.NULL_ID_INT;
       page = resourceBufferManager.getPageCache().get(reference);
       if (page != null) {
+        Metrics.PAGE_CACHE_HITS.increment();
         reference.setPage(page);
         return page;
       }
+      Metrics.PAGE_CACHE_MISSES.increment();
     }
 
     if (reference.getKey() != Constants.NULL_ID_LONG || reference.getLogKey() != Constants.NULL_ID_INT) {
@@ -275,6 +318,32 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     return (V) checkItemIfDeleted(dataRecord);
   }
 
+  @Override
+  public CompletableFuture<Void> loadRecordPageAsync(final long recordKey, @NonNull final IndexType indexType,
+      @NonNegative final int index) {
+    requireNonNull(indexType);
+    assertNotClosed();
+
+    if (recordPagePrefetcher == null || recordKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    final var indexLogKey = new IndexLogKey(indexType, pageKey(recordKey, indexType), index, revisionNumber);
+
+    if (isMostRecentlyReadPage(indexLogKey) || isSecondMostRecentlyReadPage(indexLogKey)) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    // The page is handed over to getRecordPage(IndexLogKey) by the prefetcher.
+    final CompletableFuture<Page> page = recordPagePrefetcher.load(indexLogKey);
+
+    if (page == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    return page.handle((unused, throwable) -> null);
+  }
+
   @Override
   public DataRecord getValue(final KeyValueLeafPage page, final long nodeKey) {
     final var offset = PageReadOnlyTrx.recordPageOffset(nodeKey);
@@ -351,8 +420,11 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       final Cache<Integer, RevisionRootPage> cache = resourceBufferManager.getRevisionRootPageCache();
       RevisionRootPage revisionRootPage = cache.get(revisionKey);
       if (revisionRootPage == null) {
+        Metrics.REVISION_ROOT_PAGE_CACHE_MISSES.increment();
         revisionRootPage = pageReader.readRevisionRootPage(revisionKey, this);
         cache.put(revisionKey, revisionRootPage);
+      } else {
+        Metrics.REVISION_ROOT_PAGE_CACHE_HITS.increment();
       }
       return revisionRootPage;
     } else {
@@ -434,7 +506,20 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       return secondMostRecentlyReadRecordPage.page();
     }
 
-    // Second: Traverse trie.
+    // Second: Check the record pages shared by all transactions of a snapshot.
+    if (sharedRecordPageCache != null) {
+      final Page sharedRecordPage = sharedRecordPageCache.get(indexLogKey);
+      if (sharedRecordPage != null) {
+        setMostRecentlyReadRecordPage(indexLogKey, sharedRecordPage);
+        return sharedRecordPage;
+      }
+    }
+
+    if (recordPagePrefetcher != null) {
+      recordPagePrefetcher.recordAccess(indexLogKey);
+    }
+
+    // Third: Traverse trie.
     final var pageReferenceToRecordPage = getLeafPageReference(indexLogKey.getRecordPageKey(),
                                                                indexLogKey.getIndexNumber(),
                                                                requireNonNull(indexLogKey.getIndexType()));
@@ -443,16 +528,26 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       return null;
     }
 
-    // Third: Try to get in-memory instance.
+    // Fourth: Try to get in-memory instance.
     var page = getInMemoryPageInstance(indexLogKey, pageReferenceToRecordPage);
     if (page != null) {
-      return page;
+      return putIntoSharedRecordPageCache(indexLogKey, page);
+    }
+
+    // Fifth: Try to get a prefetched page, which might still be in flight.
+    if (recordPagePrefetcher != null) {
+      page = recordPagePrefetcher.getPrefetchedPage(indexLogKey);
+      if (page != null) {
+        pageReferenceToRecordPage.setPage(page);
+        setMostRecentlyReadRecordPage(indexLogKey, page);
+        return putIntoSharedRecordPageCache(indexLogKey, page);
+      }
     }
 
-    // Fourth: Try to get from resource buffer manager.
+    // Sixth: Try to get from resource buffer manager.
     Page recordPageFromBuffer = getFromBufferManager(indexLogKey, pageReferenceToRecordPage);
     if (recordPageFromBuffer != null) {
-      return recordPageFromBuffer;
+      return putIntoSharedRecordPageCache(indexLogKey, recordPageFromBuffer);
     }
 
     if (pageReferenceToRecordPage.getKey() == Constants.NULL_ID_LONG) {
@@ -460,7 +555,15 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       return null;
     }
 
-    return loadDataPageFromDurableStorageAndCombinePageFragments(indexLogKey, pageReferenceToRecordPage);
+    page = loadDataPageFromDurableStorageAndCombinePageFragments(indexLogKey, pageReferenceToRecordPage);
+    return page == null ? null : putIntoSharedRecordPageCache(indexLogKey, page);
+  }
+
+  private Page putIntoSharedRecordPageCache(final IndexLogKey indexLogKey, final Page page) {
+    if (sharedRecordPageCache != null) {
+      sharedRecordPageCache.put(indexLogKey, page);
+    }
+    return page;
   }
 
   private boolean isMostRecentlyReadPathSummaryPage(IndexLogKey indexLogKey) {
@@ -491,11 +594,13 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       final Page recordPageFromBuffer = resourceBufferManager.getRecordPageCache().get(pageReferenceToRecordPage);
 
       if (recordPageFromBuffer != null) {
+        Metrics.RECORD_PAGE_CACHE_HITS.increment();
         setMostRecentlyReadRecordPage(indexLogKey, recordPageFromBuffer);
         pageReferenceToRecordPage.setPage(recordPageFromBuffer);
         return recordPageFromBuffer;
       }
     //}
+    Metrics.RECORD_PAGE_CACHE_MISSES.increment();
     return null;
   }
 
@@ -526,6 +631,8 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       return null;
     }
 
+    Metrics.PAGE_FRAGMENTS.record(pages.size());
+
     final int maxRevisionsToRestore = resourceConfig.maxNumberOfRevisionsToRestore;
     final VersioningType versioningApproach = resourceConfig.versioningType;
     final Page completePage = versioningApproach.combineRecordPages(pages, maxRevisionsToRestore, this);
@@ -539,6 +646,48 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     return completePage;
   }
 
+  /**
+   * Asynchronously load and combine a record page, which is likely going to be read next. The indirect pages are
+   * dereferenced by the calling thread, whereas the page fragments are read and combined by other threads. The
+   * combined page is put into the record page cache of the buffer manager.
+   *
+   * @param indexLogKey the key of the record page
+   * @return the future of the combined record page or {@code null}, if the page doesn't have to be loaded
+   */
+  @Nullable
+  private CompletableFuture<Page> prefetchRecordPage(final IndexLogKey indexLogKey) {
+    assert trxIntentLog == null;
+    if (isClosed || (sharedRecordPageCache != null && sharedRecordPageCache.get(indexLogKey) != null)) {
+      return null;
+    }
+
+    final PageReference pageReferenceToRecordPage;
+    try {
+      pageReferenceToRecordPage = getLeafPageReference(indexLogKey.getRecordPageKey(),
+                                                       indexLogKey.getIndexNumber(),
+                                                       indexLogKey.getIndexType());
+    } catch (final SirixIOException e) {
+      // The record page key might simply not exist.
+      return null;
+    }
+
+    if (pageReferenceToRecordPage == null || pageReferenceToRecordPage.getKey() == Constants.NULL_ID_LONG
+        || pageReferenceToRecordPage.getPage() != null
+        || resourceBufferManager.getRecordPageCache().get(pageReferenceToRecordPage) != null) {
+      return null;
+    }
+
+    return getPageFragmentsAsync(pageReferenceToRecordPage).thenApply(pages -> {
+      if (pages.isEmpty()) {
+        return null;
+      }
+      final int maxRevisionsToRestore = resourceConfig.maxNumberOfRevisionsToRestore;
+      final Page completePage = resourceConfig.versioningType.combineRecordPages(pages, maxRevisionsToRestore, this);
+      resourceBufferManager.getRecordPageCache().put(pageReferenceToRecordPage, completePage);
+      return completePage;
+    });
+  }
+
   @Nullable
   private Page getInMemoryPageInstance(@NotNull IndexLogKey indexLogKey,
       @NotNull PageReference pageReferenceToRecordPage) {
@@ -588,10 +737,13 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       page = (KeyValuePage<DataRecord>) resourceBufferManager.getPageCache().get(pageReferenceWithKey);
       //assert page == null || page.getRevision() == getRevisionNumber();
       if (page == null) {
+        Metrics.PAGE_CACHE_MISSES.increment();
         page = (KeyValuePage<DataRecord>) pageReader.read(pageReferenceWithKey, this);
 
         assert pageReferenceWithKey.getLogKey() == Constants.NULL_ID_INT;
         resourceBufferManager.getPageCache().put(pageReferenceWithKey, page);
+      } else {
+        Metrics.PAGE_CACHE_HITS.increment();
       }
     } else {
       page = (KeyValuePage<DataRecord>) pageReader.read(pageReferenceWithKey, this);
@@ -609,6 +761,48 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     return pages;
   }
 
+  /**
+   * Asynchronously dereference all page fragments of a record page.
+   *
+   * @param pageReference the reference pointing to the most recent page fragment
+   * @return the future of the page fragments, ordered from the most recent to the oldest fragment
+   */
+  @SuppressWarnings("unchecked")
+  private CompletableFuture<List<KeyValuePage<DataRecord>>> getPageFragmentsAsync(final PageReference pageReference) {
+    final var pageFragments = new ArrayList<>(pageReference.getPageFragments());
+    final var pageReferenceWithKey = new PageReference().setKey(pageReference.getKey());
+
+    final var cachedPage = (KeyValuePage<DataRecord>) resourceBufferManager.getPageCache().get(pageReferenceWithKey);
+    final CompletableFuture<KeyValuePage<DataRecord>> mostRecentPage;
+
+    if (cachedPage == null) {
+      mostRecentPage = pageReader.readAsync(pageReferenceWithKey, this).thenApply(page -> {
+        resourceBufferManager.getPageCache().put(pageReferenceWithKey, page);
+        return (KeyValuePage<DataRecord>) page;
+      });
+    } else {
+      mostRecentPage = CompletableFuture.completedFuture(cachedPage);
+    }
+
+    return mostRecentPage.thenCompose(page -> {
+      final List<KeyValuePage<DataRecord>> pages = new ArrayList<>(pageFragments.size() + 1);
+      pages.add(page);
+
+      if (pageFragments.isEmpty() || page.size() == Constants.NDP_NODE_COUNT) {
+        return CompletableFuture.completedFuture(pages);
+      }
+
+      return sequence(pageFragments.stream().map(this::readPage).collect(Collectors.toList())).thenApply(
+          previousPages -> {
+            previousPages.stream()
+                         .sorted(Comparator.<KeyValuePage<DataRecord>, Integer>comparing(KeyValuePage::getRevision)
+                                           .reversed())
+                         .forEach(pages::add);
+            return pages;
+          });
+    });
+  }
+
   private List<KeyValuePage<DataRecord>> getPreviousPageFragments(final List<PageFragmentKey> pageFragments) {
     final var pages = pageFragments.stream().map(this::readPage).collect(Collectors.toList());
     return sequence(pages).join()
@@ -787,6 +981,10 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
   @Override
   public synchronized void close() {
     if (!isClosed) {
+      if (recordPagePrefetcher != null) {
+        recordPagePrefetcher.close();
+      }
+
       if (trxIntentLog == null) {
         pageReader.close();
       }
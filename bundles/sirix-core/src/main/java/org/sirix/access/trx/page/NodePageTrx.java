@@ -39,6 +39,7 @@ import org.sirix.cache.TransactionIntentLog;
 import org.sirix.exception.SirixIOException;
 import org.sirix.index.IndexType;
 import org.sirix.io.Writer;
+import org.sirix.metrics.Metrics;
 import org.sirix.node.DeletedNode;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
@@ -355,6 +356,7 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
     // Recursively commit indirectly referenced pages and then write self.
     page.commit(this);
     storagePageReaderWriter.write(this, reference, bufferBytes);
+    Metrics.PAGE_WRITES.increment();
 
     container.getComplete().clearPage();
     page.clearPage();
@@ -367,6 +369,8 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
   public UberPage commit(@Nullable final String commitMessage, @Nullable final Instant commitTimestamp) {
     pageRtx.assertNotClosed();
 
+    final long startNanos = System.nanoTime();
+
     pageRtx.resourceSession.getCommitLock().lock();
 
     try {
@@ -408,6 +412,8 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
       pageRtx.resourceSession.getCommitLock().unlock();
     }
 
+    Metrics.COMMIT.recordSince(startNanos);
+
     return readUberPage();
   }
 
@@ -0,0 +1,177 @@
+package org.sirix.access.trx.page;
+
+import org.sirix.cache.IndexLogKey;
+import org.sirix.index.IndexType;
+import org.sirix.page.interfaces.Page;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Detects sequential or strided accesses of document record pages and asynchronously loads the following record
+ * pages, such that full document scans (axis traversals, serializations) overlap the I/O of several pages instead of
+ * loading one page at a time.
+ *
+ * <p>The prefetch window is adaptive: It starts small, doubles with each access, which confirms the detected stride,
+ * up to a maximum and is reset whenever the access pattern changes. Instances are not thread-safe and are owned by a
+ * single page read-only transaction, whereas the prefetched pages are loaded by other threads.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+final class RecordPagePrefetcher {
+
+  /**
+   * The initial number of record pages to prefetch once a stride has been detected.
+   */
+  static final int INITIAL_WINDOW = 2;
+
+  /**
+   * The maximum number of record pages to prefetch.
+   */
+  static final int MAX_WINDOW = 16;
+
+  /**
+   * The maximum stride between two record page keys, which is still considered to be a sequential scan.
+   */
+  private static final long MAX_STRIDE = 4;
+
+  /**
+   * Starts loading a record page asynchronously or returns {@code null}, if the page doesn't need to be loaded.
+   */
+  private final Function<IndexLogKey, CompletableFuture<Page>> pageLoader;
+
+  /**
+   * The record pages currently being loaded.
+   */
+  private final Map<IndexLogKey, CompletableFuture<Page>> inFlight;
+
+  /**
+   * The most recently accessed record page key.
+   */
+  private long lastRecordPageKey = -1;
+
+  /**
+   * The stride between the two most recently accessed record page keys.
+   */
+  private long stride;
+
+  /**
+   * The current number of record pages to prefetch (0 if no stride has been detected).
+   */
+  private int window;
+
+  /**
+   * The record page key, up to which pages have been prefetched already.
+   */
+  private long prefetchedUpTo = -1;
+
+  /**
+   * Constructor.
+   *
+   * @param pageLoader starts loading a record page asynchronously or returns {@code null}, if the page doesn't need to
+   *                   be loaded (for instance because it's already cached)
+   */
+  RecordPagePrefetcher(final Function<IndexLogKey, CompletableFuture<Page>> pageLoader) {
+    this.pageLoader = pageLoader;
+    this.inFlight = new HashMap<>();
+  }
+
+  /**
+   * Record the access of a record page and prefetch the following record pages, if a sequential or strided access
+   * pattern has been detected.
+   *
+   * @param indexLogKey the key of the accessed record page
+   */
+  void recordAccess(final IndexLogKey indexLogKey) {
+    if (indexLogKey.getIndexType() != IndexType.DOCUMENT) {
+      return;
+    }
+
+    final long recordPageKey = indexLogKey.getRecordPageKey();
+    final long currentStride = recordPageKey - lastRecordPageKey;
+
+    if (lastRecordPageKey == -1 || currentStride <= 0 || currentStride > MAX_STRIDE) {
+      window = 0;
+      stride = 0;
+      prefetchedUpTo = -1;
+    } else if (currentStride == stride) {
+      window = window == 0 ? INITIAL_WINDOW : Math.min(window << 1, MAX_WINDOW);
+    } else {
+      window = 0;
+      stride = currentStride;
+      prefetchedUpTo = -1;
+    }
+
+    lastRecordPageKey = recordPageKey;
+
+    if (window == 0) {
+      return;
+    }
+
+    if (inFlight.size() > MAX_WINDOW << 1) {
+      // The scan has been aborted or has jumped, forget about pages, which are never going to be requested.
+      inFlight.entrySet().removeIf(entry -> entry.getKey().getRecordPageKey() < recordPageKey);
+    }
+
+    final long prefetchUpTo = recordPageKey + stride * window;
+    for (long key = Math.max(recordPageKey, prefetchedUpTo) + stride; key <= prefetchUpTo; key += stride) {
+      final var keyToPrefetch = new IndexLogKey(indexLogKey.getIndexType(),
+                                                key,
+                                                indexLogKey.getIndexNumber(),
+                                                indexLogKey.getRevisionNumber());
+      if (!inFlight.containsKey(keyToPrefetch)) {
+        final CompletableFuture<Page> page = pageLoader.apply(keyToPrefetch);
+        if (page != null) {
+          inFlight.put(keyToPrefetch, page);
+        }
+      }
+    }
+    prefetchedUpTo = Math.max(prefetchedUpTo, prefetchUpTo);
+  }
+
+  /**
+   * Get the record page, if it has been prefetched. Waits for the page to be loaded, if the load is still in flight.
+   *
+   * @param indexLogKey the key of the record page
+   * @return the record page or {@code null}, if it hasn't been prefetched or couldn't be loaded
+   */
+  Page getPrefetchedPage(final IndexLogKey indexLogKey) {
+    final CompletableFuture<Page> page = inFlight.remove(indexLogKey);
+    if (page == null) {
+      return null;
+    }
+    return page.exceptionally(throwable -> null).join();
+  }
+
+  /**
+   * Start loading a record page regardless of the access pattern, unless it is being loaded already.
+   *
+   * @param indexLogKey the key of the record page
+   * @return the future of the record page or {@code null}, if the page doesn't need to be loaded
+   */
+  CompletableFuture<Page> load(final IndexLogKey indexLogKey) {
+    final CompletableFuture<Page> pageInFlight = inFlight.get(indexLogKey);
+    if (pageInFlight != null) {
+      return pageInFlight;
+    }
+    final CompletableFuture<Page> page = pageLoader.apply(indexLogKey);
+    if (page != null) {
+      inFlight.put(indexLogKey, page);
+    }
+    return page;
+  }
+
+  /**
+   * Wait for all pages in flight, such that the resources of the transaction can be released.
+   */
+  void close() {
+    final var pages = new ArrayList<>(inFlight.values());
+    inFlight.clear();
+    for (final CompletableFuture<Page> page : pages) {
+      page.exceptionally(throwable -> null).join();
+    }
+  }
+}
@@ -15,6 +15,7 @@ import org.sirix.page.interfaces.Page;
 import org.sirix.settings.Constants;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface for reading pages.
@@ -71,6 +72,20 @@ public interface PageReadOnlyTrx extends AutoCloseable {
    */
   <V extends DataRecord> V getRecord(@NonNull long key, @NonNull IndexType indexType, int index);
 
+  /**
+   * Load the record page, which stores the record with the given key, asynchronously, such that a subsequent call of
+   * {@link #getRecord(long, IndexType, int)} doesn't block on I/O. Failures are not propagated, but are reported by
+   * the subsequent call of {@link #getRecord(long, IndexType, int)}.
+   *
+   * @param key       the unique record-ID
+   * @param indexType the index type
+   * @param index     the index number
+   * @return a future, which is completed once the record page is in memory
+   */
+  default CompletableFuture<Void> loadRecordPageAsync(long key, @NonNull IndexType indexType, int index) {
+    return CompletableFuture.completedFuture(null);
+  }
+
   /**
    * Current reference to actual revision-root page.
    *
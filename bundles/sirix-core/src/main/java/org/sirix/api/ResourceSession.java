@@ -25,6 +25,7 @@ import org.sirix.access.ResourceConfiguration;
 import org.sirix.access.User;
 import org.sirix.access.trx.node.AfterCommitState;
 import org.sirix.access.trx.node.IndexController;
+import org.sirix.access.trx.node.RevisionSnapshot;
 import org.sirix.access.trx.node.xml.XmlIndexController;
 import org.sirix.api.xml.XmlNodeReadOnlyTrx;
 import org.sirix.api.xml.XmlNodeTrx;
@@ -155,6 +156,26 @@ public interface ResourceSession<R extends NodeReadOnlyTrx & NodeCursor, W exten
    */
   R beginNodeReadOnlyTrx(@NonNegative int revision);
 
+  /**
+   * Open a thread-safe snapshot of the most recent revision.
+   *
+   * @return the snapshot, from which read-only transactions can be spawned concurrently
+   */
+  default RevisionSnapshot<R> openSnapshot() {
+    return openSnapshot(getMostRecentRevisionNumber());
+  }
+
+  /**
+   * Open a thread-safe snapshot of the given revision. Read-only transactions spawned from the snapshot share the
+   * reconstructed record pages, such that many concurrent readers of the same revision don't warm up their state
+   * separately.
+   *
+   * @param revision the revision number
+   * @return the snapshot, from which read-only transactions can be spawned concurrently
+   * @throws IllegalArgumentException if {@code revision < 0} or the revision doesn't exist
+   */
+  RevisionSnapshot<R> openSnapshot(@NonNegative int revision);
+
   /**
    * Begin a read-only transaction with the revision, which is closest to the given point in time.
    *
@@ -8,6 +8,7 @@ import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
 import org.sirix.api.visitor.VisitResultType;
 import org.sirix.node.SirixDeweyID;
+import org.sirix.node.json.NumberType;
 
 import java.util.List;
 
@@ -79,6 +80,30 @@ public interface JsonNodeReadOnlyTrx extends NodeCursor, NodeReadOnlyTrx {
 
   Number getNumberValue();
 
+  /**
+   * Get the type of the current number node.
+   *
+   * @return the number type
+   * @throws IllegalStateException if the current node is no number node
+   */
+  NumberType getNumberType();
+
+  /**
+   * Get the value of the current number node as a {@code long} without boxing. Floating point numbers are truncated.
+   *
+   * @return the value as a {@code long}
+   * @throws IllegalStateException if the current node is no number node
+   */
+  long getLongValue();
+
+  /**
+   * Get the value of the current number node as a {@code double} without boxing.
+   *
+   * @return the value as a {@code double}
+   * @throws IllegalStateException if the current node is no number node
+   */
+  double getDoubleValue();
+
   int getNameKey();
 
   List<JsonObject> getUpdateOperations();
@@ -1,6 +1,20 @@
 package org.sirix.api.json;
 
+import org.checkerframework.checker.index.qual.NonNegative;
 import org.sirix.api.ResourceSession;
+import org.sirix.service.json.JsonChange;
+import org.sirix.service.json.JsonChangeFeed;
+
+import java.util.stream.Stream;
 
 public interface JsonResourceSession extends ResourceSession<JsonNodeReadOnlyTrx, JsonNodeTrx> {
+  /**
+   * Get the changes of all revisions, which have been committed after the given revision, in commit order.
+   *
+   * @param revision the revision after which to emit changes
+   * @return the changes
+   */
+  default Stream<JsonChange> changesSince(final @NonNegative int revision) {
+    return new JsonChangeFeed(this).changesSince(revision);
+  }
 }
@@ -30,6 +30,7 @@ import org.sirix.settings.Fixed;
 import org.sirix.utils.LogWrapper;
 import org.slf4j.LoggerFactory;
 
+import java.lang.ref.Cleaner;
 import java.util.concurrent.*;
 
 import static java.util.Objects.requireNonNull;
@@ -38,10 +39,11 @@ import static java.util.Objects.requireNonNull;
  * <p>
  * Realizes in combination with the <code>ConurrentAxisHelper</code> the concurrent evaluation of
  * pipeline steps. The given axis is uncoupled from the main thread by embedding it in a Runnable
- * that uses its one transaction and stores all the results to a queue. The ConcurrentAxis gets the
- * computed results from that queue one by one on every hasNext() call and sets the main-transaction
- * to it. As soon as the end of the computed result sequence is reached (marked by the
- * NULL_NODE_KEY), the ConcurrentAxis returns <code>false</code>.
+ * that uses its one transaction and hands over all the results in batches of primitive node keys
+ * through a lock-free single-producer/single-consumer ring. The ConcurrentAxis takes the computed
+ * results batch by batch and sets the main-transaction to the next result on every hasNext() call.
+ * As soon as the end of the computed result sequence is reached, the ConcurrentAxis returns
+ * <code>false</code>.
  * </p>
  * <p>
  * This framework is working according to the producer-consumer-principle, where the
@@ -49,36 +51,56 @@ import static java.util.Objects.requireNonNull;
  * callees is the consumer. This can be used by any class that implements the IAxis interface. Note:
  * Make sure that the used class is thread-safe.
  * </p>
+ * <p>
+ * All producers run on a shared executor of virtual threads, thus creating an axis doesn't create a
+ * platform thread. The hand-off only pays off if the producer axis has to do considerable work per
+ * result, as for instance filtering large parts of a document.
+ * </p>
+ * <p>
+ * A consumer, which doesn't need all results, should {@link #close()} the axis to stop the producer.
+ * The producer of an axis, which is neither drained nor closed, is stopped once the axis is
+ * unreachable.
+ * </p>
  */
-public final class ConcurrentAxis<R extends NodeCursor & NodeReadOnlyTrx> extends AbstractAxis {
+public final class ConcurrentAxis<R extends NodeCursor & NodeReadOnlyTrx> extends AbstractAxis
+    implements AutoCloseable {
 
   /** Logger. */
   private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(ConcurrentAxis.class));
 
+  /** Executor Service shared by all producers. */
+  private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+  /** Cancels the producers of unreachable axes. */
+  private static final Cleaner CLEANER = Cleaner.create();
+
+  /** Capacity of the results ring in number of batches. */
+  private static final int CAPACITY = 16;
+
   /** Axis that is running in an own thread and produces results for this axis. */
   private final Axis producer;
 
-  /**
-   * Queue that stores result keys already computed by the producer. End of the result sequence is
-   * marked by the NULL_NODE_KEY.
-   */
-  private final BlockingQueue<Long> results;
+  /** Ring that stores batches of result keys already computed by the producer. */
+  private LongBatchRing results;
 
-  /** Capacity of the mResults queue. */
-  private final int M_CAPACITY = 200;
+  /** The current batch of result keys. */
+  private long[] batch;
+
+  /** The index of the next result key in the current batch. */
+  private int index;
 
   /** Has axis already been called? */
   private boolean first;
 
-  /** Runnable in which the producer is running. */
-  private Runnable task;
+  /** The running producer. */
+  private Future<?> task;
+
+  /** Cancels the running producer, once this axis is unreachable. */
+  private Cleaner.Cleanable cleanable;
 
   /** Is axis already finished and has no results left? */
   private boolean finished;
 
-  /** Executor Service holding the execution plan for future tasks. */
-  public ExecutorService executorService;
-
   /**
    * Constructor. Initializes the internal state.
    *
@@ -91,32 +113,24 @@ public final class ConcurrentAxis<R extends NodeCursor & NodeReadOnlyTrx> extend
       throw new IllegalArgumentException(
           "The filter must be bound to another transaction but on the same revision/node!");
     }
-    results = new ArrayBlockingQueue<>(M_CAPACITY);
-    first = true;
     producer = requireNonNull(childAxis);
-    task = new ConcurrentAxisHelper(producer, results);
-    executorService = Executors.newSingleThreadExecutor();
+    first = true;
     finished = false;
   }
 
   @Override
   public synchronized void reset(final @NonNegative long nodeKey) {
     super.reset(nodeKey);
+    // Stop a running producer before it is reset.
+    stopProducer();
     first = true;
     finished = false;
+    batch = null;
+    index = 0;
 
-    if (executorService != null) {
-      executorService = Executors.newSingleThreadExecutor();
-    }
     if (producer != null) {
       producer.reset(nodeKey);
     }
-    if (results != null) {
-      results.clear();
-    }
-    if (task != null) {
-      task = new ConcurrentAxisHelper(producer, results);
-    }
   }
 
   @Override
@@ -124,29 +138,30 @@ public final class ConcurrentAxis<R extends NodeCursor & NodeReadOnlyTrx> extend
     // Start producer on first call.
     if (first) {
       first = false;
-      executorService.submit(task);
+      results = new LongBatchRing(CAPACITY);
+      task = EXECUTOR.submit(new ConcurrentAxisHelper(producer, results));
+      // The cleaning action must not reference this axis.
+      cleanable = CLEANER.register(this, results::cancel);
     }
 
     if (finished) {
       return done();
     }
 
-    long result = Fixed.NULL_NODE_KEY.getStandardProperty();
-
-    try {
-      // Get result from producer as soon as it is available.
-      result = results.take();
-    } catch (final InterruptedException e) {
-      LOGGER.warn(e.getMessage(), e);
-    }
-
-    // NULL_NODE_KEY marks end of the sequence computed by the producer.
-    if (result != Fixed.NULL_NODE_KEY.getStandardProperty()) {
-      return result;
+    if (batch == null || index == batch.length) {
+      // Get the next batch from the producer as soon as it is available.
+      batch = results.take();
+      index = 0;
+
+      // The end of the sequence computed by the producer.
+      if (batch == null) {
+        finished = true;
+        cleanable.clean();
+        return done();
+      }
     }
 
-    finished = true;
-    return done();
+    return batch[index++];
   }
 
   /**
@@ -158,12 +173,62 @@ public final class ConcurrentAxis<R extends NodeCursor & NodeReadOnlyTrx> extend
    */
   @Override
   protected long done() {
-    executorService.shutdown();
+    return Fixed.NULL_NODE_KEY.getStandardProperty();
+  }
+
+  /**
+   * Stops the producer, if it's still running, and waits for it, such that its transaction can be
+   * closed afterwards. Afterwards the axis has no results left until it is reset.
+   */
+  @Override
+  public synchronized void close() {
+    stopProducer();
+    finished = true;
+    first = false;
+    batch = null;
+  }
+
+  /**
+   * Stops the producer, if it's still running, without waiting for it, for instance if the consumer
+   * doesn't need any more results. Afterwards the axis has no results left until it is reset. The
+   * producer is still waited for on {@link #close()} or {@link #reset(long)}.
+   */
+  synchronized void cancel() {
+    if (task != null) {
+      cleanable.clean();
+    }
+    finished = true;
+    first = false;
+    batch = null;
+  }
+
+  private void stopProducer() {
+    if (task == null) {
+      return;
+    }
+    cleanable.clean();
+
+    // The producer axis must neither be reset nor its transaction be closed while the producer is
+    // running, thus it's waited for even if the current thread is interrupted.
+    boolean interrupted = false;
     try {
-        executorService.awaitTermination(5, TimeUnit.SECONDS);
-    } catch (InterruptedException e) {
+      while (true) {
+        try {
+          task.get();
+          break;
+        } catch (final InterruptedException e) {
+          interrupted = true;
+        } catch (final ExecutionException e) {
+          LOGGER.warn(e.getMessage(), e);
+          break;
+        }
+      }
+    } finally {
+      task = null;
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
     }
-    return Fixed.NULL_NODE_KEY.getStandardProperty();
   }
 
   /**
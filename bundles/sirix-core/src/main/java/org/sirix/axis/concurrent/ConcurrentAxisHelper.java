@@ -20,20 +20,21 @@
  */
 package org.sirix.axis.concurrent;
 
-import java.util.concurrent.BlockingQueue;
-import org.checkerframework.checker.nullness.qual.NonNull;
 import org.sirix.api.Axis;
-import org.sirix.settings.Fixed;
-import org.sirix.utils.LogWrapper;
-import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
 
 import static java.util.Objects.requireNonNull;
 
 /**
  * <p>
  * Is the helper for the ConcurrentAxis and realizes the concurrent evaluation of pipeline steps by
- * decoupling the given axis from the main thread and storing its results in a blocking queue so
- * establish a producer-consumer-relationship between the ConcurrentAxis and this one.
+ * decoupling the given axis from the main thread and handing its results over in batches of node
+ * keys to establish a producer-consumer-relationship between the ConcurrentAxis and this one.
+ * </p>
+ * <p>
+ * The first batches are small to deliver the first results fast, subsequent batches grow up to
+ * {@link #MAX_BATCH_SIZE} node keys to amortize the hand-off.
  * </p>
  * <p>
  * This axis should only be used and instantiated by the ConcurrentAxis. Find more information on
@@ -42,50 +43,60 @@ import static java.util.Objects.requireNonNull;
  */
 public class ConcurrentAxisHelper implements Runnable {
 
-  /** Logger. */
-  public static final LogWrapper LOGWRAPPER =
-      new LogWrapper(LoggerFactory.getLogger(ConcurrentAxisHelper.class));
+  /** The size of the first batch. */
+  static final int MIN_BATCH_SIZE = 16;
+
+  /** The maximum size of a batch. */
+  static final int MAX_BATCH_SIZE = 1024;
 
   /** {@link Axis} that computes the results. */
   private final Axis axis;
 
   /**
-   * Queue that stores result keys already computed by this axis. End of the result sequence is
-   * marked by the NULL_NODE_KEY. This is used for communication with the consumer.
+   * Ring that stores batches of result keys already computed by this axis. This is used for
+   * communication with the consumer.
    */
-  private BlockingQueue<Long> results;
+  private final LongBatchRing results;
 
   /**
    * Bind axis step to transaction. Make sure to create a new ReadTransaction instead of using the
    * parameter rtx. Because of concurrency every axis has to have it's own transaction.
-   * 
+   *
    * @param axis Axis to bind with
-   * @param results queue which has results related to the axis
+   * @param results ring which gets the results related to the axis
    */
-  public ConcurrentAxisHelper(final Axis axis, @NonNull final BlockingQueue<Long> results) {
+  ConcurrentAxisHelper(final Axis axis, final LongBatchRing results) {
     this.axis = requireNonNull(axis);
     this.results = requireNonNull(results);
   }
 
   @Override
   public void run() {
-    // Compute all results of the given axis and store the results in the queue.
-    while (axis.hasNext()) {
-      final long nodeKey = axis.next();
-      try {
-        // Store result in queue as soon as there is space left.
-        results.put(nodeKey);
-        // Wait until next thread arrives and exchange blocking queue.
-      } catch (final InterruptedException e) {
-        LOGWRAPPER.error(e.getMessage(), e);
-      }
-    }
-
+    Throwable failure = null;
     try {
-      // Mark end of result sequence by the NULL_NODE_KEY.
-      results.put(Fixed.NULL_NODE_KEY.getStandardProperty());
-    } catch (final InterruptedException e) {
-      LOGWRAPPER.error(e.getMessage(), e);
+      // Compute all results of the given axis and hand them over in batches.
+      int batchSize = MIN_BATCH_SIZE;
+      long[] batch = new long[batchSize];
+      int size = 0;
+      while (!results.isCancelled() && axis.hasNext()) {
+        batch[size++] = axis.nextLong();
+        if (size == batchSize) {
+          if (!results.put(batch)) {
+            return;
+          }
+          batchSize = Math.min(batchSize << 1, MAX_BATCH_SIZE);
+          batch = new long[batchSize];
+          size = 0;
+        }
+      }
+      if (size > 0) {
+        results.put(Arrays.copyOf(batch, size));
+      }
+    } catch (final Throwable e) {
+      failure = e;
+    } finally {
+      // Mark the end of the result sequence.
+      results.finish(failure);
     }
   }
 }
@@ -34,7 +34,8 @@ import org.sirix.settings.Fixed;
  * nodes that occur in the first, but not in the second operand. Document order is preserved.
  * </p>
  */
-public final class ConcurrentExceptAxis<R extends NodeCursor & NodeReadOnlyTrx> extends AbstractAxis {
+public final class ConcurrentExceptAxis<R extends NodeCursor & NodeReadOnlyTrx> extends AbstractAxis
+    implements AutoCloseable {
 
   /** First operand sequence. */
   private final ConcurrentAxis<R> op1;
@@ -142,4 +143,21 @@ public final class ConcurrentExceptAxis<R extends NodeCursor & NodeReadOnlyTrx>
 
     return done();
   }
+
+  @Override
+  protected long done() {
+    // Stop the operands, which might still be running, as no more results are needed.
+    op1.cancel();
+    op2.cancel();
+    return super.done();
+  }
+
+  /**
+   * Stops the operands, if they're still running, and waits for them.
+   */
+  @Override
+  public void close() {
+    op1.close();
+    op2.close();
+  }
 }
@@ -34,7 +34,8 @@ import org.sirix.settings.Fixed;
  * operands. The result is in doc order and duplicate free.
  * </p>
  */
-public final class ConcurrentIntersectAxis<R extends NodeCursor & NodeReadOnlyTrx> extends AbstractAxis {
+public final class ConcurrentIntersectAxis<R extends NodeCursor & NodeReadOnlyTrx> extends AbstractAxis
+    implements AutoCloseable {
 
   /** First operand sequence. */
   private final ConcurrentAxis<R> op1;
@@ -135,4 +136,21 @@ public final class ConcurrentIntersectAxis<R extends NodeCursor & NodeReadOnlyTr
 
     return done();
   }
+
+  @Override
+  protected long done() {
+    // Stop the operands, which might still be running, as no more results are needed.
+    op1.cancel();
+    op2.cancel();
+    return super.done();
+  }
+
+  /**
+   * Stops the operands, if they're still running, and waits for them.
+   */
+  @Override
+  public void close() {
+    op1.close();
+    op2.close();
+  }
 }
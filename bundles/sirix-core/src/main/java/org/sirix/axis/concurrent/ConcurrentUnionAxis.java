@@ -34,7 +34,8 @@ import org.sirix.service.xml.xpath.EXPathError;
  * union of two sequences may lead to a sequence containing duplicates. These duplicates are removed.
  * </p>
  */
-public final class ConcurrentUnionAxis<R extends NodeCursor & NodeReadOnlyTrx> extends AbstractAxis {
+public final class ConcurrentUnionAxis<R extends NodeCursor & NodeReadOnlyTrx> extends AbstractAxis
+    implements AutoCloseable {
 
   /** First operand sequence. */
   private final ConcurrentAxis<R> op1;
@@ -136,4 +137,21 @@ public final class ConcurrentUnionAxis<R extends NodeCursor & NodeReadOnlyTrx> e
 
     return done();
   }
+
+  @Override
+  protected long done() {
+    // Stop the operands, which might still be running, as no more results are needed.
+    op1.cancel();
+    op2.cancel();
+    return super.done();
+  }
+
+  /**
+   * Stops the operands, if they're still running, and waits for them.
+   */
+  @Override
+  public void close() {
+    op1.close();
+    op2.close();
+  }
 }
@@ -0,0 +1,206 @@
+package org.sirix.axis.concurrent;
+
+import org.sirix.exception.SirixException;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A bounded, lock-free single-producer/single-consumer ring of {@code long[]} batches, which is used to hand over
+ * node keys from a {@link ConcurrentAxisHelper} to its {@link ConcurrentAxis} without boxing and without locking per
+ * node key.
+ *
+ * <p>The producer publishes a batch by a store of the tail index, the consumer frees a slot by a store of the head
+ * index. Waiting threads first spin, then yield and finally park until the other side unparks them. A thread, which
+ * parks, publishes itself before it re-checks the ring, and each side checks for a parked thread after it changed the
+ * ring, such that no wake-up is lost.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+final class LongBatchRing {
+
+  /**
+   * The number of spins before a waiting thread yields.
+   */
+  private static final int SPINS = 64;
+
+  /**
+   * The number of yields before a waiting thread parks.
+   */
+  private static final int YIELDS = 16;
+
+  /**
+   * The slots of the ring.
+   */
+  private final long[][] slots;
+
+  /**
+   * The mask to compute a slot index from a sequence number.
+   */
+  private final int mask;
+
+  /**
+   * The sequence number of the next batch to take, only written by the consumer.
+   */
+  private final AtomicLong head = new AtomicLong();
+
+  /**
+   * The sequence number of the next batch to put, only written by the producer.
+   */
+  private final AtomicLong tail = new AtomicLong();
+
+  /**
+   * Set by the producer once all batches have been put.
+   */
+  private volatile boolean finished;
+
+  /**
+   * Set by the consumer if no more batches are needed.
+   */
+  private volatile boolean cancelled;
+
+  /**
+   * The failure of the producer, if any.
+   */
+  private volatile Throwable failure;
+
+  /**
+   * The producer, if it is parked because the ring is full.
+   */
+  private volatile Thread parkedProducer;
+
+  /**
+   * The consumer, if it is parked because the ring is empty.
+   */
+  private volatile Thread parkedConsumer;
+
+  /**
+   * Constructor.
+   *
+   * @param capacity the maximum number of batches in the ring, must be a power of two
+   */
+  LongBatchRing(final int capacity) {
+    checkArgument(capacity > 0 && Integer.bitCount(capacity) == 1, "capacity must be a power of two!");
+    slots = new long[capacity][];
+    mask = capacity - 1;
+  }
+
+  /**
+   * Put a batch into the ring and wait if the ring is full. Called by the producer only.
+   *
+   * @param batch the batch of node keys
+   * @return {@code true}, if the batch has been put, {@code false} if the consumer has cancelled the ring or the
+   *     producer has been interrupted
+   */
+  boolean put(final long[] batch) {
+    requireNonNull(batch);
+    final long sequence = tail.get();
+    int waits = 0;
+    while (sequence - head.get() == slots.length) {
+      if (cancelled || Thread.currentThread().isInterrupted()) {
+        return false;
+      }
+      if (waits < SPINS + YIELDS) {
+        waits = backOff(waits);
+      } else {
+        parkedProducer = Thread.currentThread();
+        if (sequence - head.get() == slots.length && !cancelled) {
+          LockSupport.park(this);
+        }
+        parkedProducer = null;
+      }
+    }
+    slots[(int) sequence & mask] = batch;
+    tail.set(sequence + 1);
+    unpark(parkedConsumer);
+    return !cancelled;
+  }
+
+  /**
+   * Take the next batch from the ring and wait if the ring is empty. Called by the consumer only.
+   *
+   * @return the next batch or {@code null}, if the producer has finished and all batches have been taken
+   * @throws SirixException if the producer failed or the consumer has been interrupted
+   */
+  long[] take() {
+    final long sequence = head.get();
+    int waits = 0;
+    while (sequence == tail.get()) {
+      if (finished) {
+        // Re-check, as the producer might have put a batch before finishing.
+        if (sequence == tail.get()) {
+          final Throwable throwable = failure;
+          if (throwable != null) {
+            throw new SirixException(throwable);
+          }
+          return null;
+        }
+        break;
+      }
+      if (Thread.currentThread().isInterrupted()) {
+        throw new SirixException("Interrupted while waiting for the results of the producer.");
+      }
+      if (waits < SPINS + YIELDS) {
+        waits = backOff(waits);
+      } else {
+        parkedConsumer = Thread.currentThread();
+        if (sequence == tail.get() && !finished) {
+          LockSupport.park(this);
+        }
+        parkedConsumer = null;
+      }
+    }
+    final int index = (int) sequence & mask;
+    final long[] batch = slots[index];
+    slots[index] = null;
+    head.set(sequence + 1);
+    unpark(parkedProducer);
+    return batch;
+  }
+
+  /**
+   * Signals that no more batches will be put. Called by the producer only.
+   *
+   * @param throwable the failure of the producer or {@code null}
+   */
+  void finish(final Throwable throwable) {
+    failure = throwable;
+    finished = true;
+    unpark(parkedConsumer);
+  }
+
+  /**
+   * Signals that no more batches are needed and releases a waiting producer. Might be called by any thread.
+   */
+  void cancel() {
+    cancelled = true;
+    unpark(parkedProducer);
+  }
+
+  /**
+   * Determines if the consumer has cancelled the ring.
+   *
+   * @return {@code true}, if the ring has been cancelled, {@code false} otherwise
+   */
+  boolean isCancelled() {
+    return cancelled;
+  }
+
+  private static int backOff(final int waits) {
+    if (waits < SPINS) {
+      Thread.onSpinWait();
+    } else {
+      Thread.yield();
+    }
+    return waits + 1;
+  }
+
+  private static void unpark(final Thread thread) {
+    if (thread != null) {
+      LockSupport.unpark(thread);
+    }
+  }
+}
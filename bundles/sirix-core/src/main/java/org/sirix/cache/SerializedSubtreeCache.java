@@ -0,0 +1,68 @@
+package org.sirix.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Map;
+
+/**
+ * Caches serialized subtrees, such that subtrees, which haven't changed between revisions (and thus have the same
+ * subtree hash) don't have to be serialized again. The cache is bounded by the number of characters of the
+ * serialized subtrees.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class SerializedSubtreeCache implements Cache<SerializedSubtreeCacheKey, String> {
+
+  private final com.github.benmanes.caffeine.cache.Cache<SerializedSubtreeCacheKey, String> cache;
+
+  /**
+   * Constructor.
+   *
+   * @param maxNumberOfCharacters the maximum number of characters of all cached subtrees
+   */
+  public SerializedSubtreeCache(final long maxNumberOfCharacters) {
+    cache = Caffeine.newBuilder()
+                    .maximumWeight(maxNumberOfCharacters)
+                    .weigher((SerializedSubtreeCacheKey key, String value) -> value.length())
+                    .build();
+  }
+
+  @Override
+  public void clear() {
+    cache.invalidateAll();
+  }
+
+  @Override
+  public String get(SerializedSubtreeCacheKey key) {
+    return cache.getIfPresent(key);
+  }
+
+  @Override
+  public void put(SerializedSubtreeCacheKey key, String value) {
+    cache.put(key, value);
+  }
+
+  @Override
+  public void putAll(Map<? extends SerializedSubtreeCacheKey, ? extends String> map) {
+    cache.putAll(map);
+  }
+
+  @Override
+  public void toSecondCache() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Map<SerializedSubtreeCacheKey, String> getAll(Iterable<? extends SerializedSubtreeCacheKey> keys) {
+    return cache.getAllPresent(keys);
+  }
+
+  @Override
+  public void remove(SerializedSubtreeCacheKey key) {
+    cache.invalidate(key);
+  }
+
+  @Override
+  public void close() {
+  }
+}
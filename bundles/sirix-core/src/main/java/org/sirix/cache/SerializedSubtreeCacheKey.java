@@ -0,0 +1,21 @@
+package org.sirix.cache;
+
+import java.nio.file.Path;
+
+/**
+ * Key of a serialized subtree. Besides the node key and the subtree hash it captures everything, which changes the
+ * serialized form of an unchanged subtree: the resource, the serializer options, the indentation and whether
+ * separators are needed before or after the subtree.
+ *
+ * @param resource        the path of the resource
+ * @param nodeKey         the node key of the root of the subtree
+ * @param hash            the hash of the subtree
+ * @param options         the serializer options
+ * @param indent          the indentation of the subtree
+ * @param hasLeftSibling  {@code true}, if the root of the subtree has a left sibling
+ * @param hasRightSibling {@code true}, if the root of the subtree has a right sibling
+ * @author Johannes Lichtenberger
+ */
+public record SerializedSubtreeCacheKey(Path resource, long nodeKey, long hash, int options, int indent,
+                                        boolean hasLeftSibling, boolean hasRightSibling) {
+}
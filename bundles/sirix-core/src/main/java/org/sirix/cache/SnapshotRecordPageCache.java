@@ -0,0 +1,68 @@
+package org.sirix.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.sirix.page.interfaces.Page;
+
+import java.util.Map;
+
+/**
+ * Thread-safe cache for fully reconstructed record pages of a single revision snapshot. In contrast to the
+ * {@link RecordPageCache} the keys are the logical page coordinates, such that cursors spawned from the same snapshot
+ * don't even have to traverse the trie of indirect pages once another cursor has read a record page.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class SnapshotRecordPageCache implements Cache<IndexLogKey, Page> {
+
+  private final com.github.benmanes.caffeine.cache.Cache<IndexLogKey, Page> pageCache;
+
+  /**
+   * Constructor.
+   *
+   * @param maxSize the maximum number of record pages to cache
+   */
+  public SnapshotRecordPageCache(final int maxSize) {
+    pageCache = Caffeine.newBuilder().maximumSize(maxSize).build();
+  }
+
+  @Override
+  public void clear() {
+    pageCache.invalidateAll();
+  }
+
+  @Override
+  public Page get(IndexLogKey key) {
+    return pageCache.getIfPresent(key);
+  }
+
+  @Override
+  public void put(IndexLogKey key, @NonNull Page value) {
+    pageCache.put(key, value);
+  }
+
+  @Override
+  public void putAll(Map<? extends IndexLogKey, ? extends Page> map) {
+    pageCache.putAll(map);
+  }
+
+  @Override
+  public void toSecondCache() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Map<IndexLogKey, Page> getAll(Iterable<? extends IndexLogKey> keys) {
+    return pageCache.getAllPresent(keys);
+  }
+
+  @Override
+  public void remove(IndexLogKey key) {
+    pageCache.invalidate(key);
+  }
+
+  @Override
+  public void close() {
+    pageCache.invalidateAll();
+  }
+}
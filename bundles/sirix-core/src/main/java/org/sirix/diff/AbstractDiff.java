@@ -21,8 +21,10 @@
 
 package org.sirix.diff;
 
+import it.unimi.dsi.fastutil.longs.LongSet;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sirix.access.trx.node.HashType;
 import org.sirix.api.Axis;
 import org.sirix.api.NodeCursor;
@@ -153,6 +155,12 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
    */
   private final boolean skipSubtrees;
 
+  /**
+   * The node keys of the changed nodes and their ancestors in both revisions, or {@code null} if unknown. If set, the
+   * subtree of a node, which is not contained, is unchanged and skipped like a subtree with an unchanged hash.
+   */
+  private final @Nullable LongSet changedNodeKeys;
+
   /**
    * Constructor.
    *
@@ -160,6 +168,18 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
    * @throws SirixException if setting up transactions failes
    */
   AbstractDiff(final Builder<R, W> builder) throws SirixException {
+    this(builder, null);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param builder         {@link Builder} reference
+   * @param changedNodeKeys the node keys of the changed nodes and their ancestors in both revisions, or {@code null}
+   * @throws SirixException if setting up transactions failes
+   */
+  AbstractDiff(final Builder<R, W> builder, final @Nullable LongSet changedNodeKeys) throws SirixException {
+    this.changedNodeKeys = changedNodeKeys;
     skipSubtrees = builder.skipSubtrees;
     diffKind = requireNonNull(builder).kind;
     oldMaxDepth = builder.oldMaxDepth;
@@ -220,7 +240,7 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
     }
 
     // Check first node.
-    if (hashKind == HashType.NONE || diffKind == DiffOptimized.NO) {
+    if (!isOptimized()) {
       diff = diff(newRtx, oldRtx, depth);
     } else {
       diff = optimizedDiff(newRtx, oldRtx, depth);
@@ -238,7 +258,7 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
         }
 
         if (newRtx.getKind() != documentNode() || oldRtx.getKind() != documentNode()) {
-          if (hashKind == HashType.NONE || diffKind == DiffOptimized.NO) {
+          if (!isOptimized()) {
             diff = diff(newRtx, oldRtx, depth);
           } else {
             diff = optimizedDiff(newRtx, oldRtx, depth);
@@ -254,7 +274,7 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
           emitDeleteDiff();
         }
         boolean moved = true;
-        if (diffKind == DiffOptimized.HASHED && diff == DiffType.SAMEHASH) {
+        if (isOptimized() && diff == DiffType.SAMEHASH) {
           moved = moveToFollowingNode(oldRtx, Revision.OLD);
           if (moved) {
             emitDeleteDiff();
@@ -277,6 +297,32 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
     diffDone();
   }
 
+  /**
+   * Determines if unchanged subtrees are skipped, either based on the hashes or on the changed node keys.
+   *
+   * @return {@code true}, if unchanged subtrees are skipped, {@code false} otherwise
+   */
+  private boolean isOptimized() {
+    return diffKind == DiffOptimized.HASHED && (hashKind != HashType.NONE || changedNodeKeys != null);
+  }
+
+  /**
+   * Determines if the subtrees rooted at the current nodes are unchanged.
+   *
+   * @param newRtx read-only transaction on new revision
+   * @param oldRtx read-only transaction on old revision
+   * @return {@code true}, if the subtrees are unchanged, {@code false} otherwise
+   */
+  private boolean isSameSubtree(final R newRtx, final R oldRtx) {
+    if (newRtx.getNodeKey() != oldRtx.getNodeKey()) {
+      return false;
+    }
+    if (changedNodeKeys != null) {
+      return !changedNodeKeys.contains(newRtx.getNodeKey());
+    }
+    return newRtx.getHash() == oldRtx.getHash();
+  }
+
   private void emitDeleteDiff() {
     diff = DiffType.DELETED;
     final DiffDepth diffDepth = new DiffDepth(this.depth.getNewDepth(), this.depth.getOldDepth());
@@ -370,7 +416,7 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
   private boolean moveToNext(final R rtx, final Revision revision) {
     boolean moved = false;
     if (rtx.hasFirstChild()) {
-      if (rtx.getKind() != documentNode() && ((diffKind == DiffOptimized.HASHED && diff == DiffType.SAMEHASH) || (
+      if (rtx.getKind() != documentNode() && ((isOptimized() && diff == DiffType.SAMEHASH) || (
           oldMaxDepth > 0 && rtx.getKind() != NodeKind.OBJECT_KEY && depth.getOldDepth() + 1 >= oldMaxDepth))) {
         moved = rtx.moveToRightSibling();
 
@@ -476,7 +522,7 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
     DiffType diff = DiffType.SAMEHASH;
 
     // Check for modifications.
-    if (newRtx.getNodeKey() != oldRtx.getNodeKey() || newRtx.getHash() != oldRtx.getHash()) {
+    if (!isSameSubtree(newRtx, oldRtx)) {
       // Check if nodes are the same (even if subtrees may vary).
       if (checkNodes(newRtx, oldRtx)) {
         diff = DiffType.SAME;
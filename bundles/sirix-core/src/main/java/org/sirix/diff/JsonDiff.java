@@ -23,8 +23,10 @@ package org.sirix.diff;
 
 import java.util.Objects;
 
+import it.unimi.dsi.fastutil.longs.LongSet;
 import org.sirix.api.json.JsonNodeReadOnlyTrx;
 import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.api.json.JsonResourceSession;
 import org.sirix.diff.DiffFactory.Builder;
 import org.sirix.diff.DiffFactory.DiffType;
 import org.sirix.node.NodeKind;
@@ -43,7 +45,17 @@ final class JsonDiff extends AbstractDiff<JsonNodeReadOnlyTrx, JsonNodeTrx> {
    * @param builder {@link Builder} reference
    */
   public JsonDiff(final Builder<JsonNodeReadOnlyTrx, JsonNodeTrx> builder) {
-    super(builder);
+    super(builder, changedNodeKeys(builder));
+  }
+
+  private static LongSet changedNodeKeys(final Builder<JsonNodeReadOnlyTrx, JsonNodeTrx> builder) {
+    // Unchanged subtrees are only skipped by an optimized diff, and the stored update operations only describe the
+    // changes between adjacent revisions.
+    if (builder.kind != DiffFactory.DiffOptimized.HASHED || builder.newRev != builder.oldRev + 1
+        || !(builder.resMgr instanceof JsonResourceSession resourceSession)) {
+      return null;
+    }
+    return JsonUpdateOperations.readChangedNodeKeys(resourceSession, builder.newRev);
   }
 
   @Override
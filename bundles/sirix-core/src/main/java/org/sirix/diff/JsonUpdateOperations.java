@@ -0,0 +1,194 @@
+package org.sirix.diff;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonResourceSession;
+import org.sirix.diff.DiffFactory.DiffType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the update operations, which have been stored during the commit of a revision. As they only contain the
+ * changed nodes, the diff between two adjacent revisions can skip all subtrees, which don't contain any of these
+ * nodes, thus it is proportional to the size of the changes instead of the size of the document.
+ *
+ * <p>The stored update operations are only complete, if a marker has been written along with them. They are for
+ * instance incomplete after a bulk insertion or a revert.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class JsonUpdateOperations {
+
+  /**
+   * Private constructor.
+   */
+  private JsonUpdateOperations() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Get the node keys of the nodes changed between the given revision and its predecessor, as well as the node keys
+   * of their ancestors in both revisions.
+   *
+   * @param resourceSession the resource session
+   * @param revision        the revision
+   * @return the node keys or {@code null}, if no complete update operations are stored for the revision
+   */
+  public static @Nullable LongSet readChangedNodeKeys(final JsonResourceSession resourceSession,
+      final @NonNegative int revision) {
+    if (!isComplete(resourceSession.getResourceConfig(), revision)) {
+      return null;
+    }
+
+    final List<DiffTuple> diffTuples = readDiffTuples(resourceSession, revision);
+
+    if (diffTuples == null) {
+      return null;
+    }
+
+    final LongSet changedNodeKeys = new LongOpenHashSet();
+
+    try (final JsonNodeReadOnlyTrx newRtx = resourceSession.beginNodeReadOnlyTrx(revision);
+         final JsonNodeReadOnlyTrx oldRtx = resourceSession.beginNodeReadOnlyTrx(revision - 1)) {
+      for (final DiffTuple diffTuple : diffTuples) {
+        switch (diffTuple.getDiff()) {
+          case INSERTED -> addNodeAndAncestors(newRtx, diffTuple.getNewNodeKey(), changedNodeKeys);
+          case DELETED -> addNodeAndAncestors(oldRtx, diffTuple.getOldNodeKey(), changedNodeKeys);
+          default -> {
+            addNodeAndAncestors(newRtx, diffTuple.getNewNodeKey(), changedNodeKeys);
+            addNodeAndAncestors(oldRtx, diffTuple.getOldNodeKey(), changedNodeKeys);
+          }
+        }
+      }
+    }
+
+    return changedNodeKeys;
+  }
+
+  private static void addNodeAndAncestors(final JsonNodeReadOnlyTrx rtx, final long nodeKey,
+      final LongSet changedNodeKeys) {
+    if (!rtx.moveTo(nodeKey)) {
+      return;
+    }
+    // Stop as soon as an ancestor has already been added, as its ancestors have been added, too.
+    while (changedNodeKeys.add(rtx.getNodeKey()) && rtx.hasParent()) {
+      rtx.moveToParent();
+    }
+  }
+
+  /**
+   * Read the diff tuples of the changes between the given revision and its predecessor. The diff tuples are only in
+   * document order if DeweyIDs are stored.
+   *
+   * @param resourceSession the resource session
+   * @param revision        the revision
+   * @return the diff tuples or {@code null}, if no update operations are stored for the revision
+   */
+  public static @Nullable List<DiffTuple> readDiffTuples(final JsonResourceSession resourceSession,
+      final @NonNegative int revision) {
+    final ResourceConfiguration resourceConfig = resourceSession.getResourceConfig();
+
+    if (!resourceConfig.storeDiffs() || revision == 0) {
+      return null;
+    }
+
+    final Path updateOperationsFile = resourceConfig.getResource()
+                                                    .resolve(ResourceConfiguration.ResourcePaths.UPDATE_OPERATIONS.getPath())
+                                                    .resolve("diffFromRev" + (revision - 1) + "toRev" + revision
+                                                                 + ".json");
+
+    if (!Files.exists(updateOperationsFile)) {
+      return null;
+    }
+
+    final JsonObject updateOperations;
+    try {
+      updateOperations = JsonParser.parseString(Files.readString(updateOperationsFile)).getAsJsonObject();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    final List<DiffTuple> diffTuples = new ArrayList<>();
+
+    for (final JsonElement element : updateOperations.getAsJsonArray("diffs")) {
+      final JsonObject updateOperation = element.getAsJsonObject();
+
+      if (updateOperation.has("insert")) {
+        final JsonObject insert = updateOperation.getAsJsonObject("insert");
+        final int depth = getDepth(insert);
+        diffTuples.add(new DiffTuple(DiffType.INSERTED,
+                                     insert.get("nodeKey").getAsLong(),
+                                     0,
+                                     new DiffDepth(depth, 0)));
+      } else if (updateOperation.has("delete")) {
+        final JsonElement delete = updateOperation.get("delete");
+        if (delete.isJsonObject()) {
+          final JsonObject deleteObject = delete.getAsJsonObject();
+          diffTuples.add(new DiffTuple(DiffType.DELETED,
+                                       0,
+                                       deleteObject.get("nodeKey").getAsLong(),
+                                       new DiffDepth(0, getDepth(deleteObject))));
+        } else {
+          diffTuples.add(new DiffTuple(DiffType.DELETED, 0, delete.getAsLong(), null));
+        }
+      } else if (updateOperation.has("replace")) {
+        final JsonObject replace = updateOperation.getAsJsonObject("replace");
+        final int depth = getDepth(replace);
+        diffTuples.add(new DiffTuple(DiffType.REPLACEDNEW,
+                                     replace.get("newNodeKey").getAsLong(),
+                                     replace.get("oldNodeKey").getAsLong(),
+                                     new DiffDepth(depth, depth)));
+      } else if (updateOperation.has("update")) {
+        final JsonObject update = updateOperation.getAsJsonObject("update");
+        final long nodeKey = update.get("nodeKey").getAsLong();
+        final int depth = getDepth(update);
+        diffTuples.add(new DiffTuple(DiffType.UPDATED, nodeKey, nodeKey, new DiffDepth(depth, depth)));
+      }
+    }
+
+    return diffTuples;
+  }
+
+  /**
+   * Determines if the update operations stored for the given revision describe all changes between the revision and
+   * its predecessor.
+   *
+   * @param resourceConfig the resource configuration
+   * @param revision       the revision
+   * @return {@code true}, if complete update operations are stored, {@code false} otherwise
+   */
+  public static boolean isComplete(final ResourceConfiguration resourceConfig, final @NonNegative int revision) {
+    return resourceConfig.storeDiffs() && revision > 0 && Files.exists(getCompleteMarker(resourceConfig, revision));
+  }
+
+  /**
+   * Get the marker, which denotes that the stored update operations of the given revision describe all changes
+   * between the revision and its predecessor.
+   *
+   * @param resourceConfig the resource configuration
+   * @param revision       the revision
+   * @return the path of the marker
+   */
+  public static Path getCompleteMarker(final ResourceConfiguration resourceConfig, final @NonNegative int revision) {
+    return resourceConfig.getResource()
+                         .resolve(ResourceConfiguration.ResourcePaths.UPDATE_OPERATIONS.getPath())
+                         .resolve("diffFromRev" + (revision - 1) + "toRev" + revision + ".complete");
+  }
+
+  private static int getDepth(final JsonObject updateOperation) {
+    final JsonElement depth = updateOperation.get("depth");
+    return depth == null ? 0 : depth.getAsInt();
+  }
+}
@@ -17,6 +17,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.util.*;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 public final class IndexDef implements Materializable {
@@ -107,6 +108,17 @@ public final class IndexDef implements Materializable {
     this.dbType = dbType;
   }
 
+  /**
+   * Path or column index.
+   */
+  IndexDef(final IndexType type, final Set<Path<QNm>> paths, final int indexDefNo, final DbType dbType) {
+    checkArgument(type == IndexType.PATH || type == IndexType.COLUMN, "Path or column index type expected.");
+    this.type = type;
+    this.paths.addAll(paths);
+    id = indexDefNo;
+    this.dbType = dbType;
+  }
+
   @Override
   public Node<?> materialize() throws DocumentException {
     final FragmentHelper tmp = new FragmentHelper();
@@ -257,6 +269,10 @@ public final class IndexDef implements Materializable {
     return type == IndexType.PATH;
   }
 
+  public boolean isColumnIndex() {
+    return type == IndexType.COLUMN;
+  }
+
   public boolean isUnique() {
     return unique;
   }
@@ -47,6 +47,19 @@ public final class IndexDefs {
     return new IndexDef(paths, indexDefNo, dbType);
   }
 
+  /**
+   * Create a column {@link IndexDef}.
+   *
+   * @param paths      the paths to index (all value paths, if empty)
+   * @param indexDefNo the number of the column index
+   * @param dbType     the database type
+   * @return a new column {@link IndexDef} instance
+   */
+  public static IndexDef createColumnIdxDef(final Set<Path<QNm>> paths, final int indexDefNo,
+      final IndexDef.DbType dbType) {
+    return new IndexDef(IndexType.COLUMN, paths, PageConstants.COLUMN_INDEX_OFFSET + indexDefNo, dbType);
+  }
+
   public static IndexDef createNameIdxDef(final int indexDefNo, final IndexDef.DbType dbType) {
     return switch (dbType) {
       case JSON -> new IndexDef(ImmutableSet.of(),
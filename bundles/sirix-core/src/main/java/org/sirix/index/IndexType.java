@@ -55,7 +55,13 @@ public enum IndexType {
   /**
    * DeweyIDs to record-IDs.
    */
-  DEWEYID_TO_RECORDID((byte) 8);
+  DEWEYID_TO_RECORDID((byte) 8),
+
+  /**
+   * Column index, which stores the values of path class references in chunks. The chunks are stored in the pages of
+   * the CAS index.
+   */
+  COLUMN((byte) 9);
 
   /**
    * Unique ID.
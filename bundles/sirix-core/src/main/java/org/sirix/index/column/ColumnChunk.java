@@ -0,0 +1,354 @@
+package org.sirix.index.column;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.sirix.node.NodeKind;
+import org.sirix.node.SirixDeweyID;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.node.interfaces.RecordSerializer;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A chunk of a column, that is a bounded number of values of a single path class reference (PCR) together with the
+ * keys of the nodes they belong to. Numbers and booleans are stored as primitives.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ColumnChunk implements DataRecord {
+
+  /**
+   * The maximum number of values in a chunk.
+   */
+  public static final int MAX_SIZE = 512;
+
+  /**
+   * The type of a value stored in a chunk.
+   */
+  public enum ValueType {
+    /**
+     * An integral number.
+     */
+    LONG,
+
+    /**
+     * A floating point number.
+     */
+    DOUBLE,
+
+    /**
+     * A boolean value.
+     */
+    BOOLEAN,
+
+    /**
+     * A string value.
+     */
+    STRING,
+
+    /**
+     * A number, which doesn't fit into a primitive (stored as its string representation).
+     */
+    DECIMAL;
+
+    private static final ValueType[] VALUES = values();
+
+    /**
+     * Get the value type for the given ordinal.
+     *
+     * @param ordinal the ordinal
+     * @return the value type
+     */
+    public static ValueType fromOrdinal(final int ordinal) {
+      return VALUES[ordinal];
+    }
+  }
+
+  /**
+   * The record key.
+   */
+  private final long nodeKey;
+
+  /**
+   * The path class reference of all values.
+   */
+  private final long pathNodeKey;
+
+  /**
+   * The keys of the nodes the values belong to.
+   */
+  private long[] valueNodeKeys;
+
+  /**
+   * The types of the values.
+   */
+  private byte[] types;
+
+  /**
+   * Integral numbers, booleans and the raw bits of floating point numbers.
+   */
+  private long[] values;
+
+  /**
+   * Strings and decimals, {@code null} for all other types.
+   */
+  private String[] strings;
+
+  /**
+   * The number of values.
+   */
+  private int size;
+
+  /**
+   * Constructor.
+   *
+   * @param nodeKey     the record key
+   * @param pathNodeKey the path class reference of all values
+   */
+  public ColumnChunk(final long nodeKey, final long pathNodeKey) {
+    this(nodeKey, pathNodeKey, new long[8], new byte[8], new long[8], new String[8], 0);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param nodeKey       the record key
+   * @param pathNodeKey   the path class reference of all values
+   * @param valueNodeKeys the keys of the nodes the values belong to
+   * @param types         the ordinals of the value types
+   * @param values        integral numbers, booleans and the raw bits of floating point numbers
+   * @param strings       strings and decimals
+   * @param size          the number of values
+   */
+  public ColumnChunk(final long nodeKey, final long pathNodeKey, final long[] valueNodeKeys, final byte[] types,
+      final long[] values, final String[] strings, final @NonNegative int size) {
+    checkArgument(size <= valueNodeKeys.length && size <= types.length && size <= values.length
+                      && size <= strings.length, "Arrays must hold at least size elements!");
+    this.nodeKey = nodeKey;
+    this.pathNodeKey = pathNodeKey;
+    this.valueNodeKeys = requireNonNull(valueNodeKeys);
+    this.types = requireNonNull(types);
+    this.values = requireNonNull(values);
+    this.strings = requireNonNull(strings);
+    this.size = size;
+  }
+
+  /**
+   * Get the path class reference of all values.
+   *
+   * @return the path class reference
+   */
+  public long getPathNodeKey() {
+    return pathNodeKey;
+  }
+
+  /**
+   * Get the number of values.
+   *
+   * @return the number of values
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Determines if no more values can be added.
+   *
+   * @return {@code true}, if the chunk is full, {@code false} otherwise
+   */
+  public boolean isFull() {
+    return size >= MAX_SIZE;
+  }
+
+  /**
+   * Add a value.
+   *
+   * @param valueNodeKey the key of the node the value belongs to
+   * @param type         the type of the value
+   * @param value        the integral number, boolean ({@code 0} or {@code 1}) or raw bits of a floating point number
+   * @param string       the string or decimal, {@code null} for all other types
+   * @return this chunk
+   */
+  public ColumnChunk add(final long valueNodeKey, final ValueType type, final long value, final String string) {
+    if (size == valueNodeKeys.length) {
+      final int newCapacity = Math.min(MAX_SIZE, Math.max(size + 1, size << 1));
+      valueNodeKeys = Arrays.copyOf(valueNodeKeys, newCapacity);
+      types = Arrays.copyOf(types, newCapacity);
+      values = Arrays.copyOf(values, newCapacity);
+      strings = Arrays.copyOf(strings, newCapacity);
+    }
+    valueNodeKeys[size] = valueNodeKey;
+    types[size] = (byte) type.ordinal();
+    values[size] = value;
+    strings[size] = string;
+    size++;
+    return this;
+  }
+
+  /**
+   * Remove the value of the given node.
+   *
+   * @param valueNodeKey the key of the node the value belongs to
+   * @return {@code true}, if the value has been removed, {@code false} if it's not stored in this chunk
+   */
+  public boolean remove(final long valueNodeKey) {
+    final int index = indexOf(valueNodeKey);
+    if (index == -1) {
+      return false;
+    }
+    final int numberOfValuesToMove = size - index - 1;
+    System.arraycopy(valueNodeKeys, index + 1, valueNodeKeys, index, numberOfValuesToMove);
+    System.arraycopy(types, index + 1, types, index, numberOfValuesToMove);
+    System.arraycopy(values, index + 1, values, index, numberOfValuesToMove);
+    System.arraycopy(strings, index + 1, strings, index, numberOfValuesToMove);
+    size--;
+    strings[size] = null;
+    return true;
+  }
+
+  /**
+   * Get the position of the value of the given node.
+   *
+   * @param valueNodeKey the key of the node the value belongs to
+   * @return the position or {@code -1}, if the value is not stored in this chunk
+   */
+  public int indexOf(final long valueNodeKey) {
+    for (int i = 0; i < size; i++) {
+      if (valueNodeKeys[i] == valueNodeKey) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Get the key of the node the value at the given position belongs to.
+   *
+   * @param index the position
+   * @return the node key
+   */
+  public long getValueNodeKey(final int index) {
+    checkIndex(index);
+    return valueNodeKeys[index];
+  }
+
+  /**
+   * Get the type of the value at the given position.
+   *
+   * @param index the position
+   * @return the value type
+   */
+  public ValueType getValueType(final int index) {
+    checkIndex(index);
+    return ValueType.fromOrdinal(types[index]);
+  }
+
+  /**
+   * Determines if the value at the given position is a number.
+   *
+   * @param index the position
+   * @return {@code true}, if it is a number, {@code false} otherwise
+   */
+  public boolean isNumber(final int index) {
+    final ValueType type = getValueType(index);
+    return type == ValueType.LONG || type == ValueType.DOUBLE || type == ValueType.DECIMAL;
+  }
+
+  /**
+   * Get the value at the given position as a {@code long}. Floating point numbers are truncated.
+   *
+   * @param index the position
+   * @return the value
+   * @throws IllegalStateException if the value is a string
+   */
+  public long getLongValue(final int index) {
+    return switch (getValueType(index)) {
+      case LONG, BOOLEAN -> values[index];
+      case DOUBLE -> (long) Double.longBitsToDouble(values[index]);
+      case DECIMAL -> new BigDecimal(strings[index]).longValue();
+      case STRING -> throw new IllegalStateException("Value is no number.");
+    };
+  }
+
+  /**
+   * Get the value at the given position as a {@code double}.
+   *
+   * @param index the position
+   * @return the value
+   * @throws IllegalStateException if the value is a string
+   */
+  public double getDoubleValue(final int index) {
+    return switch (getValueType(index)) {
+      case LONG, BOOLEAN -> values[index];
+      case DOUBLE -> Double.longBitsToDouble(values[index]);
+      case DECIMAL -> Double.parseDouble(strings[index]);
+      case STRING -> throw new IllegalStateException("Value is no number.");
+    };
+  }
+
+  /**
+   * Get the value at the given position as a string.
+   *
+   * @param index the position
+   * @return the value
+   */
+  public String getStringValue(final int index) {
+    return switch (getValueType(index)) {
+      case LONG -> Long.toString(values[index]);
+      case DOUBLE -> Double.toString(Double.longBitsToDouble(values[index]));
+      case BOOLEAN -> Boolean.toString(values[index] == 1);
+      case STRING, DECIMAL -> strings[index];
+    };
+  }
+
+  /**
+   * Get the raw value at the given position, that is the integral number, boolean or raw bits of a floating point
+   * number.
+   *
+   * @param index the position
+   * @return the raw value
+   */
+  public long getRawValue(final int index) {
+    checkIndex(index);
+    return values[index];
+  }
+
+  private void checkIndex(final int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException(index);
+    }
+  }
+
+  @Override
+  public long getNodeKey() {
+    return nodeKey;
+  }
+
+  @Override
+  public SirixDeweyID getDeweyID() {
+    return null;
+  }
+
+  @Override
+  public byte[] getDeweyIDAsBytes() {
+    return null;
+  }
+
+  @Override
+  public RecordSerializer getKind() {
+    return NodeKind.COLUMN_CHUNK;
+  }
+
+  @Override
+  public int getPreviousRevisionNumber() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public int getLastModifiedRevisionNumber() {
+    throw new UnsupportedOperationException();
+  }
+}
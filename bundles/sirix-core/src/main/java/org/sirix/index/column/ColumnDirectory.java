@@ -0,0 +1,115 @@
+package org.sirix.index.column;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongLists;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import org.sirix.node.NodeKind;
+import org.sirix.node.SirixDeweyID;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.node.interfaces.RecordSerializer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The directory of a column index, which maps each path class reference (PCR) to the keys of its column chunks in
+ * insertion order.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ColumnDirectory implements DataRecord {
+
+  /**
+   * The record key.
+   */
+  private final long nodeKey;
+
+  /**
+   * Maps the path class references to the keys of the column chunks.
+   */
+  private final Long2ObjectMap<LongList> chunkKeysByPathNodeKey;
+
+  /**
+   * Constructor.
+   *
+   * @param nodeKey the record key
+   */
+  public ColumnDirectory(final long nodeKey) {
+    this(nodeKey, new Long2ObjectOpenHashMap<>());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param nodeKey                the record key
+   * @param chunkKeysByPathNodeKey maps the path class references to the keys of the column chunks
+   */
+  public ColumnDirectory(final long nodeKey, final Long2ObjectMap<LongList> chunkKeysByPathNodeKey) {
+    this.nodeKey = nodeKey;
+    this.chunkKeysByPathNodeKey = requireNonNull(chunkKeysByPathNodeKey);
+  }
+
+  /**
+   * Get all path class references, for which values are stored.
+   *
+   * @return the path class references
+   */
+  public LongSet getPathNodeKeys() {
+    return chunkKeysByPathNodeKey.keySet();
+  }
+
+  /**
+   * Get the keys of the column chunks of a path class reference.
+   *
+   * @param pathNodeKey the path class reference
+   * @return the keys of the chunks in insertion order (might be empty)
+   */
+  public LongList getChunkKeys(final long pathNodeKey) {
+    final LongList chunkKeys = chunkKeysByPathNodeKey.get(pathNodeKey);
+    return chunkKeys == null ? LongLists.EMPTY_LIST : LongLists.unmodifiable(chunkKeys);
+  }
+
+  /**
+   * Add the key of a new column chunk.
+   *
+   * @param pathNodeKey the path class reference
+   * @param chunkKey    the key of the column chunk
+   * @return this directory
+   */
+  public ColumnDirectory addChunkKey(final long pathNodeKey, final long chunkKey) {
+    chunkKeysByPathNodeKey.computeIfAbsent(pathNodeKey, unused -> new LongArrayList()).add(chunkKey);
+    return this;
+  }
+
+  @Override
+  public long getNodeKey() {
+    return nodeKey;
+  }
+
+  @Override
+  public SirixDeweyID getDeweyID() {
+    return null;
+  }
+
+  @Override
+  public byte[] getDeweyIDAsBytes() {
+    return null;
+  }
+
+  @Override
+  public RecordSerializer getKind() {
+    return NodeKind.COLUMN_DIRECTORY;
+  }
+
+  @Override
+  public int getPreviousRevisionNumber() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public int getLastModifiedRevisionNumber() {
+    throw new UnsupportedOperationException();
+  }
+}
@@ -0,0 +1,104 @@
+package org.sirix.index.column;
+
+import com.google.common.collect.AbstractIterator;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongLists;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.longs.LongSets;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.index.IndexType;
+
+import java.util.Iterator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reads the column chunks of a column index in a single revision. Scans only touch the chunks of the requested path
+ * class references (PCRs) and never the document itself.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ColumnIndexReader {
+
+  /**
+   * {@link PageReadOnlyTrx} instance.
+   */
+  private final PageReadOnlyTrx pageReadOnlyTrx;
+
+  /**
+   * The index number.
+   */
+  private final int index;
+
+  /**
+   * Constructor.
+   *
+   * @param pageReadOnlyTrx {@link PageReadOnlyTrx} to read the chunks
+   * @param index           the index number
+   */
+  public ColumnIndexReader(final PageReadOnlyTrx pageReadOnlyTrx, final @NonNegative int index) {
+    this.pageReadOnlyTrx = requireNonNull(pageReadOnlyTrx);
+    this.index = index;
+  }
+
+  private ColumnDirectory getDirectory() {
+    if (pageReadOnlyTrx.getCASPage(pageReadOnlyTrx.getActualRevisionRootPage()).getMaxNodeKey(index) == 0L) {
+      return null;
+    }
+    return pageReadOnlyTrx.getRecord(ColumnIndexWriter.DIRECTORY_KEY, IndexType.CAS, index);
+  }
+
+  /**
+   * Get all path class references, for which values are stored.
+   *
+   * @return the path class references
+   */
+  public LongSet getPathNodeKeys() {
+    final ColumnDirectory directory = getDirectory();
+    return directory == null ? LongSets.EMPTY_SET : new LongOpenHashSet(directory.getPathNodeKeys());
+  }
+
+  /**
+   * Open the column chunks of the given path class references, in order of the path class references and the
+   * insertion order of the chunks.
+   *
+   * @param pathNodeKeys the path class references
+   * @return an iterator over the chunks
+   */
+  public Iterator<ColumnChunk> openChunks(final LongSet pathNodeKeys) {
+    requireNonNull(pathNodeKeys);
+    final ColumnDirectory directory = getDirectory();
+
+    if (directory == null) {
+      return new AbstractIterator<>() {
+        @Override
+        protected ColumnChunk computeNext() {
+          return endOfData();
+        }
+      };
+    }
+
+    final LongIterator pathNodeKeysIterator = pathNodeKeys.iterator();
+
+    return new AbstractIterator<>() {
+      private LongList chunkKeys = LongLists.EMPTY_LIST;
+
+      private int chunkIndex;
+
+      @Override
+      protected ColumnChunk computeNext() {
+        while (chunkIndex == chunkKeys.size()) {
+          if (!pathNodeKeysIterator.hasNext()) {
+            return endOfData();
+          }
+          chunkKeys = directory.getChunkKeys(pathNodeKeysIterator.nextLong());
+          chunkIndex = 0;
+        }
+        return pageReadOnlyTrx.getRecord(chunkKeys.getLong(chunkIndex++), IndexType.CAS, index);
+      }
+    };
+  }
+}
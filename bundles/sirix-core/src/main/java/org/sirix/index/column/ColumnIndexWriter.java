@@ -0,0 +1,174 @@
+package org.sirix.index.column;
+
+import it.unimi.dsi.fastutil.longs.LongList;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.sirix.access.DatabaseType;
+import org.sirix.api.PageTrx;
+import org.sirix.cache.PageContainer;
+import org.sirix.index.IndexType;
+import org.sirix.index.column.ColumnChunk.ValueType;
+import org.sirix.node.json.NumberType;
+import org.sirix.page.CASPage;
+import org.sirix.page.RevisionRootPage;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Appends values to and removes values from a column index. The values of each path class reference (PCR) are
+ * appended to the last column chunk of the PCR, until it is full, such that a revision only stores the chunks, which
+ * have been changed.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ColumnIndexWriter {
+
+  /**
+   * The key of the column directory.
+   */
+  static final long DIRECTORY_KEY = 1;
+
+  /**
+   * {@link PageTrx} instance.
+   */
+  private final PageTrx pageTrx;
+
+  /**
+   * The index number.
+   */
+  private final int index;
+
+  /**
+   * Constructor.
+   *
+   * @param databaseType the type of database
+   * @param pageTrx      {@link PageTrx} for persistent storage
+   * @param index        the index number
+   */
+  public ColumnIndexWriter(final DatabaseType databaseType, final PageTrx pageTrx, final @NonNegative int index) {
+    this.pageTrx = requireNonNull(pageTrx);
+    this.index = index;
+
+    // Create the column index tree and its directory if needed.
+    final RevisionRootPage revisionRootPage = pageTrx.getActualRevisionRootPage();
+    final CASPage casPage = pageTrx.getCASPage(revisionRootPage);
+    pageTrx.appendLogRecord(revisionRootPage.getCASPageReference(), PageContainer.getInstance(casPage, casPage));
+    casPage.createCASIndexTree(databaseType, pageTrx, index, pageTrx.getLog());
+
+    if (casPage.getMaxNodeKey(index) == 0L) {
+      pageTrx.createRecord(new ColumnDirectory(DIRECTORY_KEY), IndexType.CAS, index);
+    }
+  }
+
+  /**
+   * Append an integral number.
+   *
+   * @param pathNodeKey  the path class reference
+   * @param valueNodeKey the key of the node the value belongs to
+   * @param value        the value
+   */
+  public void appendLong(final long pathNodeKey, final long valueNodeKey, final long value) {
+    append(pathNodeKey, valueNodeKey, ValueType.LONG, value, null);
+  }
+
+  /**
+   * Append a floating point number.
+   *
+   * @param pathNodeKey  the path class reference
+   * @param valueNodeKey the key of the node the value belongs to
+   * @param value        the value
+   */
+  public void appendDouble(final long pathNodeKey, final long valueNodeKey, final double value) {
+    append(pathNodeKey, valueNodeKey, ValueType.DOUBLE, Double.doubleToRawLongBits(value), null);
+  }
+
+  /**
+   * Append a boolean value.
+   *
+   * @param pathNodeKey  the path class reference
+   * @param valueNodeKey the key of the node the value belongs to
+   * @param value        the value
+   */
+  public void appendBoolean(final long pathNodeKey, final long valueNodeKey, final boolean value) {
+    append(pathNodeKey, valueNodeKey, ValueType.BOOLEAN, value ? 1 : 0, null);
+  }
+
+  /**
+   * Append a string value.
+   *
+   * @param pathNodeKey  the path class reference
+   * @param valueNodeKey the key of the node the value belongs to
+   * @param value        the value
+   */
+  public void appendString(final long pathNodeKey, final long valueNodeKey, final String value) {
+    append(pathNodeKey, valueNodeKey, ValueType.STRING, 0, requireNonNull(value));
+  }
+
+  /**
+   * Append a number. Numbers, which don't fit into a primitive, are stored as decimals.
+   *
+   * @param pathNodeKey  the path class reference
+   * @param valueNodeKey the key of the node the value belongs to
+   * @param value        the value
+   */
+  public void appendNumber(final long pathNodeKey, final long valueNodeKey, final Number value) {
+    switch (NumberType.of(value)) {
+      case INTEGER, LONG -> appendLong(pathNodeKey, valueNodeKey, value.longValue());
+      case FLOAT, DOUBLE -> appendDouble(pathNodeKey, valueNodeKey, value.doubleValue());
+      case BIG_INTEGER -> append(pathNodeKey, valueNodeKey, ValueType.DECIMAL, 0, ((BigInteger) value).toString());
+      case BIG_DECIMAL ->
+          append(pathNodeKey, valueNodeKey, ValueType.DECIMAL, 0, ((BigDecimal) value).toPlainString());
+    }
+  }
+
+  private void append(final long pathNodeKey, final long valueNodeKey, final ValueType type, final long value,
+      final String string) {
+    final ColumnDirectory directory = pageTrx.getRecord(DIRECTORY_KEY, IndexType.CAS, index);
+    final LongList chunkKeys = directory.getChunkKeys(pathNodeKey);
+
+    if (!chunkKeys.isEmpty()) {
+      final long lastChunkKey = chunkKeys.getLong(chunkKeys.size() - 1);
+      final ColumnChunk lastChunk = pageTrx.getRecord(lastChunkKey, IndexType.CAS, index);
+      if (!lastChunk.isFull()) {
+        final ColumnChunk chunk = pageTrx.prepareRecordForModification(lastChunkKey, IndexType.CAS, index);
+        chunk.add(valueNodeKey, type, value, string);
+        return;
+      }
+    }
+
+    final long chunkKey = pageTrx.getCASPage(pageTrx.getActualRevisionRootPage()).getMaxNodeKey(index) + 1;
+    final ColumnChunk chunk =
+        pageTrx.createRecord(new ColumnChunk(chunkKey, pathNodeKey), IndexType.CAS, index);
+    chunk.add(valueNodeKey, type, value, string);
+
+    final ColumnDirectory modifiableDirectory =
+        pageTrx.prepareRecordForModification(DIRECTORY_KEY, IndexType.CAS, index);
+    modifiableDirectory.addChunkKey(pathNodeKey, chunkKey);
+  }
+
+  /**
+   * Remove the value of a node.
+   *
+   * @param pathNodeKey  the path class reference
+   * @param valueNodeKey the key of the node the value belongs to
+   * @return {@code true}, if the value has been removed, {@code false} if it's not stored in the column
+   */
+  public boolean remove(final long pathNodeKey, final long valueNodeKey) {
+    final ColumnDirectory directory = pageTrx.getRecord(DIRECTORY_KEY, IndexType.CAS, index);
+    final LongList chunkKeys = directory.getChunkKeys(pathNodeKey);
+
+    // Most recently inserted values are more likely to be removed.
+    for (int i = chunkKeys.size() - 1; i >= 0; i--) {
+      final long chunkKey = chunkKeys.getLong(i);
+      final ColumnChunk chunk = pageTrx.getRecord(chunkKey, IndexType.CAS, index);
+      if (chunk.indexOf(valueNodeKey) != -1) {
+        final ColumnChunk modifiableChunk = pageTrx.prepareRecordForModification(chunkKey, IndexType.CAS, index);
+        return modifiableChunk.remove(valueNodeKey);
+      }
+    }
+
+    return false;
+  }
+}
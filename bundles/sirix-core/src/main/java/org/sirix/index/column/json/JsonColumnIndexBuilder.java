@@ -0,0 +1,94 @@
+package org.sirix.index.column.json;
+
+import org.brackit.xquery.atomic.QNm;
+import org.brackit.xquery.util.path.Path;
+import org.sirix.access.trx.node.json.AbstractJsonNodeVisitor;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.visitor.VisitResult;
+import org.sirix.api.visitor.VisitResultType;
+import org.sirix.index.column.ColumnIndexWriter;
+import org.sirix.index.path.summary.PathSummaryReader;
+import org.sirix.node.immutable.json.*;
+import org.sirix.node.interfaces.immutable.ImmutableNode;
+
+import java.util.Set;
+
+/**
+ * Builds a JSON column index from the values of an existing revision.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class JsonColumnIndexBuilder extends AbstractJsonNodeVisitor {
+
+  private final ColumnIndexWriter columnIndexWriter;
+
+  private final JsonNodeReadOnlyTrx rtx;
+
+  private final PathSummaryReader pathSummaryReader;
+
+  private final Set<Path<QNm>> paths;
+
+  public JsonColumnIndexBuilder(final ColumnIndexWriter columnIndexWriter, final JsonNodeReadOnlyTrx rtx,
+      final PathSummaryReader pathSummaryReader, final Set<Path<QNm>> paths) {
+    this.columnIndexWriter = columnIndexWriter;
+    this.rtx = rtx;
+    this.pathSummaryReader = pathSummaryReader;
+    this.paths = paths;
+  }
+
+  @Override
+  public VisitResult visit(ImmutableStringNode node) {
+    return process(node);
+  }
+
+  @Override
+  public VisitResult visit(ImmutableObjectStringNode node) {
+    return process(node);
+  }
+
+  @Override
+  public VisitResult visit(ImmutableBooleanNode node) {
+    return process(node);
+  }
+
+  @Override
+  public VisitResult visit(ImmutableObjectBooleanNode node) {
+    return process(node);
+  }
+
+  @Override
+  public VisitResult visit(ImmutableNumberNode node) {
+    return process(node);
+  }
+
+  @Override
+  public VisitResult visit(ImmutableObjectNumberNode node) {
+    return process(node);
+  }
+
+  private VisitResult process(final ImmutableNode node) {
+    final long pcr = getPathClassRecord(node);
+
+    if (paths.isEmpty() || pathSummaryReader.getPCRsForPaths(paths).contains(pcr)) {
+      JsonColumnIndexListener.append(columnIndexWriter, pcr, node);
+    }
+
+    return VisitResultType.CONTINUE;
+  }
+
+  private long getPathClassRecord(ImmutableNode node) {
+    rtx.moveTo(node.getParentKey());
+
+    final long pcr;
+
+    if (rtx.isObjectKey()) {
+      pcr = ((ImmutableObjectKeyNode) rtx.getNode()).getPathNodeKey();
+    } else if (rtx.isArray()) {
+      pcr = ((ImmutableArrayNode) rtx.getNode()).getPathNodeKey();
+    } else {
+      pcr = 0;
+    }
+
+    return pcr;
+  }
+}
@@ -0,0 +1,96 @@
+package org.sirix.index.column.json;
+
+import org.brackit.xquery.atomic.QNm;
+import org.brackit.xquery.util.path.Path;
+import org.sirix.access.trx.node.IndexController.ChangeType;
+import org.sirix.index.ChangeListener;
+import org.sirix.index.column.ColumnIndexWriter;
+import org.sirix.index.path.summary.PathSummaryReader;
+import org.sirix.node.immutable.json.ImmutableBooleanNode;
+import org.sirix.node.immutable.json.ImmutableNumberNode;
+import org.sirix.node.immutable.json.ImmutableObjectBooleanNode;
+import org.sirix.node.immutable.json.ImmutableObjectNumberNode;
+import org.sirix.node.interfaces.ValueNode;
+import org.sirix.node.interfaces.immutable.ImmutableNode;
+import org.sirix.node.interfaces.immutable.ImmutableValueNode;
+import org.sirix.node.json.AbstractBooleanNode;
+import org.sirix.node.json.AbstractNumberNode;
+import org.sirix.node.json.NumberType;
+
+import java.util.Set;
+
+/**
+ * Keeps a JSON column index up to date, that is appends the values of inserted value nodes to the column of their
+ * path class reference (PCR) and removes the values of deleted nodes.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class JsonColumnIndexListener implements ChangeListener {
+
+  private final PathSummaryReader pathSummaryReader;
+
+  private final ColumnIndexWriter columnIndexWriter;
+
+  private final Set<Path<QNm>> paths;
+
+  public JsonColumnIndexListener(final PathSummaryReader pathSummaryReader, final ColumnIndexWriter columnIndexWriter,
+      final Set<Path<QNm>> paths) {
+    this.pathSummaryReader = pathSummaryReader;
+    this.columnIndexWriter = columnIndexWriter;
+    this.paths = paths;
+  }
+
+  @Override
+  public void listen(final ChangeType type, final ImmutableNode node, final long pathNodeKey) {
+    switch (node.getKind()) {
+      case STRING_VALUE, OBJECT_STRING_VALUE, BOOLEAN_VALUE, OBJECT_BOOLEAN_VALUE, NUMBER_VALUE, OBJECT_NUMBER_VALUE -> {
+        if (!paths.isEmpty() && !pathSummaryReader.getPCRsForPaths(paths).contains(pathNodeKey)) {
+          return;
+        }
+        switch (type) {
+          case INSERT -> append(columnIndexWriter, pathNodeKey, node);
+          case DELETE -> columnIndexWriter.remove(pathNodeKey, node.getNodeKey());
+          default -> {
+          }
+        }
+      }
+      default -> {
+      }
+    }
+  }
+
+  /**
+   * Append the value of a value node to the column of its PCR.
+   *
+   * @param columnIndexWriter the column index writer
+   * @param pathNodeKey       the PCR
+   * @param node              the value node
+   */
+  static void append(final ColumnIndexWriter columnIndexWriter, final long pathNodeKey, final ImmutableNode node) {
+    final long nodeKey = node.getNodeKey();
+    switch (node) {
+      case AbstractNumberNode numberNode -> {
+        final NumberType numberType = numberNode.getNumberType();
+        if (numberType.isPrimitive() && numberType.isIntegral()) {
+          columnIndexWriter.appendLong(pathNodeKey, nodeKey, numberNode.getLongValue());
+        } else if (numberType.isPrimitive()) {
+          columnIndexWriter.appendDouble(pathNodeKey, nodeKey, numberNode.getDoubleValue());
+        } else {
+          columnIndexWriter.appendNumber(pathNodeKey, nodeKey, numberNode.getValue());
+        }
+      }
+      case ImmutableNumberNode numberNode -> columnIndexWriter.appendNumber(pathNodeKey, nodeKey, numberNode.getValue());
+      case ImmutableObjectNumberNode numberNode ->
+          columnIndexWriter.appendNumber(pathNodeKey, nodeKey, numberNode.getValue());
+      case AbstractBooleanNode booleanNode ->
+          columnIndexWriter.appendBoolean(pathNodeKey, nodeKey, booleanNode.getValue());
+      case ImmutableBooleanNode booleanNode ->
+          columnIndexWriter.appendBoolean(pathNodeKey, nodeKey, booleanNode.getValue());
+      case ImmutableObjectBooleanNode booleanNode ->
+          columnIndexWriter.appendBoolean(pathNodeKey, nodeKey, booleanNode.getValue());
+      case ValueNode valueNode -> columnIndexWriter.appendString(pathNodeKey, nodeKey, valueNode.getValue());
+      case ImmutableValueNode valueNode -> columnIndexWriter.appendString(pathNodeKey, nodeKey, valueNode.getValue());
+      default -> throw new IllegalArgumentException("Node is not a value node: " + node.getKind());
+    }
+  }
+}
@@ -3,6 +3,7 @@ package org.sirix.io;
 import net.openhft.chronicle.bytes.Bytes;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.io.bytepipe.ByteHandler;
+import org.sirix.metrics.Metrics;
 import org.sirix.page.PagePersister;
 import org.sirix.page.PageReference;
 import org.sirix.page.SerializationType;
@@ -32,6 +33,9 @@ public abstract class AbstractReader implements Reader {
   }
 
   public Page deserialize(PageReadOnlyTrx pageReadTrx, byte[] page) throws IOException {
+    Metrics.PAGE_READS.increment();
+    Metrics.PAGE_READ_BYTES.record(page.length);
+
     // perform byte operations
     final var inputStream = byteHandler.deserialize(new ByteArrayInputStream(page));
     byte[] bytes = inputStream.readAllBytes();
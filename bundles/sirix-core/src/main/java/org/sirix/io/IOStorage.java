@@ -90,6 +90,14 @@ public interface IOStorage {
    */
   boolean exists();
 
+  /**
+   * Replay the write-ahead log, if any, such that all acknowledged commits are durably stored in the data files. Must
+   * be called before the storage is read for the first time, thus before the revision file data is loaded into
+   * memory.
+   */
+  default void replayWriteAheadLog() {
+  }
+
   /**
    * Load the revision file data into an in-memory cache.
    *
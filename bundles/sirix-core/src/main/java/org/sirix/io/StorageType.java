@@ -29,6 +29,7 @@ import org.sirix.io.filechannel.FileChannelStorage;
 import org.sirix.io.iouring.IOUringStorage;
 import org.sirix.io.memorymapped.MMStorage;
 import org.sirix.io.ram.RAMStorage;
+import org.sirix.io.segmented.SegmentedFileChannelStorage;
 
 import java.io.RandomAccessFile;
 import java.nio.file.Path;
@@ -74,9 +75,16 @@ public enum StorageType {
       final AsyncCache<Integer, RevisionFileData> cache =
           getIntegerRevisionFileDataAsyncCache(resourceConf);
       final var storage = new FileChannelStorage(resourceConf, cache);
+      // The revisions file is only complete once the write-ahead log has been replayed.
+      storage.replayWriteAheadLog();
       storage.loadRevisionFileDataIntoMemory(cache);
       return storage;
     }
+
+    @Override
+    public boolean supportsWriteAheadLog() {
+      return true;
+    }
   },
 
   DIRECT_IO {
@@ -99,9 +107,16 @@ public enum StorageType {
       final AsyncCache<Integer, RevisionFileData> cache =
           getIntegerRevisionFileDataAsyncCache(resourceConf);
       final var storage = new MMStorage(resourceConf, cache);
+      // The revisions file is only complete once the write-ahead log has been replayed.
+      storage.replayWriteAheadLog();
       storage.loadRevisionFileDataIntoMemory(cache);
       return storage;
     }
+
+    @Override
+    public boolean supportsWriteAheadLog() {
+      return true;
+    }
   },
 
   IO_URING {
@@ -113,6 +128,20 @@ public enum StorageType {
       storage.loadRevisionFileDataIntoMemory(cache);
       return storage;
     }
+  },
+
+  /**
+   * FileChannel backend, which splits the data file into fixed-size segment files.
+   */
+  SEGMENTED_FILE_CHANNEL {
+    @Override
+    public IOStorage getInstance(final ResourceConfiguration resourceConf) {
+      final AsyncCache<Integer, RevisionFileData> cache =
+          getIntegerRevisionFileDataAsyncCache(resourceConf);
+      final var storage = new SegmentedFileChannelStorage(resourceConf, cache);
+      storage.loadRevisionFileDataIntoMemory(cache);
+      return storage;
+    }
   };
 
   public static final ConcurrentMap<Path, AsyncCache<Integer, RevisionFileData>> CACHE_REPOSITORY =
@@ -127,6 +156,16 @@ public enum StorageType {
    */
   public abstract IOStorage getInstance(final ResourceConfiguration resourceConf);
 
+  /**
+   * Determines if the storage backend makes commits durable through a write-ahead log, if
+   * {@link ResourceConfiguration#useWriteAheadLog()} is set.
+   *
+   * @return {@code true}, if a write-ahead log is supported, {@code false} otherwise
+   */
+  public boolean supportsWriteAheadLog() {
+    return false;
+  }
+
   /**
    * Factory method to retrieve suitable {@link IOStorage} instances based upon the suitable
    * {@link ResourceConfiguration}.
@@ -0,0 +1,391 @@
+/*
+ * Copyright (c) 2023, University of Konstanz, Distributed Systems Group All rights reserved.
+ * <p>
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met: * Redistributions of source code must retain the
+ * above copyright notice, this list of conditions and the following disclaimer. * Redistributions
+ * in binary form must reproduce the above copyright notice, this list of conditions and the
+ * following disclaimer in the documentation and/or other materials provided with the distribution.
+ * * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.sirix.io;
+
+import org.sirix.exception.SirixIOException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.CRC32;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A physical redo log for commits. Instead of forcing the data file and the revisions file on every commit, all byte
+ * ranges written during a commit are appended as a single checksummed record to the log, and only the log is forced.
+ * The data files are forced asynchronously afterwards (checkpoint), and the log is truncated once all of its records
+ * are durable in the data files.
+ *
+ * <p>A record is laid out as follows: the length of the payload, the CRC32 checksum of the payload and the payload
+ * itself, which consists of the revision number, the number of entries and the entries. Each entry stores the target
+ * file, the offset and the bytes written. Replaying a record thus is idempotent.</p>
+ *
+ * <p>If the system crashes after a record has been appended but before the data files have been forced, the log is
+ * replayed during the startup of the next resource session. A torn record at the end of the log (a crash while
+ * appending) is ignored, as the corresponding commit has never been acknowledged.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class WriteAheadLog implements AutoCloseable {
+
+  /**
+   * The write-ahead log file name.
+   */
+  public static final String FILENAME = "sirix.wal";
+
+  /**
+   * The target of an entry: the data file.
+   */
+  public static final byte DATA_FILE = 0;
+
+  /**
+   * The target of an entry: the revisions file.
+   */
+  public static final byte REVISIONS_FILE = 1;
+
+  /**
+   * The size of the record header (payload length and checksum).
+   */
+  private static final int RECORD_HEADER_SIZE = Integer.BYTES + Long.BYTES;
+
+  /**
+   * The size of an entry header (target, offset and length).
+   */
+  private static final int ENTRY_HEADER_SIZE = Byte.BYTES + Long.BYTES + Integer.BYTES;
+
+  /**
+   * The channel to the log file.
+   */
+  private final FileChannel channel;
+
+  /**
+   * The pending record of the currently running commit.
+   */
+  private ByteBuffer pendingRecord;
+
+  /**
+   * The number of entries in the pending record.
+   */
+  private int numberOfPendingEntries;
+
+  /**
+   * The number of records appended since the log has been opened.
+   */
+  private long numberOfAppendedRecords;
+
+  /**
+   * The currently running checkpoint.
+   */
+  private CompletableFuture<Void> checkpoint = CompletableFuture.completedFuture(null);
+
+  /**
+   * Constructor.
+   *
+   * @param file the log file
+   */
+  public WriteAheadLog(final Path file) {
+    try {
+      channel = FileChannel.open(requireNonNull(file),
+                                 StandardOpenOption.CREATE,
+                                 StandardOpenOption.READ,
+                                 StandardOpenOption.WRITE);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+    pendingRecord = newRecordBuffer(1 << 16);
+  }
+
+  private static ByteBuffer newRecordBuffer(final int capacity) {
+    final var buffer = ByteBuffer.allocate(capacity).order(ByteOrder.nativeOrder());
+    buffer.position(RECORD_HEADER_SIZE + Integer.BYTES + Integer.BYTES);
+    return buffer;
+  }
+
+  /**
+   * Log a write to one of the data files. The remaining bytes of {@code source} are logged, its position is not
+   * changed.
+   *
+   * @param target the target file, either {@link #DATA_FILE} or {@link #REVISIONS_FILE}
+   * @param offset the offset in the target file
+   * @param source the bytes written
+   * @return this log instance
+   */
+  public synchronized WriteAheadLog logWrite(final byte target, final long offset, final ByteBuffer source) {
+    final int length = source.remaining();
+    ensureCapacity(ENTRY_HEADER_SIZE + length);
+    pendingRecord.put(target);
+    pendingRecord.putLong(offset);
+    pendingRecord.putInt(length);
+    pendingRecord.put(source.duplicate());
+    numberOfPendingEntries++;
+    return this;
+  }
+
+  private void ensureCapacity(final int bytesToAdd) {
+    if (pendingRecord.remaining() >= bytesToAdd) {
+      return;
+    }
+    final int newCapacity = Math.max(pendingRecord.capacity() << 1, pendingRecord.position() + bytesToAdd);
+    final var newRecord = ByteBuffer.allocate(newCapacity).order(ByteOrder.nativeOrder());
+    pendingRecord.flip();
+    newRecord.put(pendingRecord);
+    pendingRecord = newRecord;
+  }
+
+  /**
+   * Append the pending record to the log and force the log to the storage device. Once this method returns, the
+   * commit is durable.
+   *
+   * @param revision the revision number of the commit
+   * @return this log instance
+   */
+  public synchronized WriteAheadLog commit(final int revision) {
+    final int end = pendingRecord.position();
+    final int payloadLength = end - RECORD_HEADER_SIZE;
+    pendingRecord.putInt(RECORD_HEADER_SIZE, revision);
+    pendingRecord.putInt(RECORD_HEADER_SIZE + Integer.BYTES, numberOfPendingEntries);
+
+    final var checksum = new CRC32();
+    checksum.update(pendingRecord.slice(RECORD_HEADER_SIZE, payloadLength));
+    pendingRecord.putInt(0, payloadLength);
+    pendingRecord.putLong(Integer.BYTES, checksum.getValue());
+
+    pendingRecord.position(0);
+    pendingRecord.limit(end);
+
+    try {
+      long position = channel.size();
+      while (pendingRecord.hasRemaining()) {
+        position += channel.write(pendingRecord, position);
+      }
+      channel.force(false);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    } finally {
+      pendingRecord.clear();
+      pendingRecord.position(RECORD_HEADER_SIZE + Integer.BYTES + Integer.BYTES);
+      numberOfPendingEntries = 0;
+    }
+
+    numberOfAppendedRecords++;
+    return this;
+  }
+
+  /**
+   * Discard the pending record, for instance if the data files have been truncated.
+   *
+   * @return this log instance
+   */
+  public synchronized WriteAheadLog discardPendingRecord() {
+    pendingRecord.clear();
+    pendingRecord.position(RECORD_HEADER_SIZE + Integer.BYTES + Integer.BYTES);
+    numberOfPendingEntries = 0;
+    return this;
+  }
+
+  /**
+   * Asynchronously force the data files and truncate the log afterwards, if no other record has been appended in the
+   * meantime.
+   *
+   * @param dataFileChannel      the channel to the data file
+   * @param revisionsFileChannel the channel to the revisions file
+   * @return a future, which completes once the checkpoint is done
+   */
+  public synchronized CompletableFuture<Void> checkpointAsync(final FileChannel dataFileChannel,
+      final FileChannel revisionsFileChannel) {
+    final long appendedRecords = numberOfAppendedRecords;
+    checkpoint = checkpoint.thenRunAsync(() -> checkpoint(appendedRecords, dataFileChannel, revisionsFileChannel));
+    return checkpoint;
+  }
+
+  private void checkpoint(final long appendedRecords, final FileChannel dataFileChannel,
+      final FileChannel revisionsFileChannel) {
+    try {
+      dataFileChannel.force(false);
+      revisionsFileChannel.force(false);
+
+      synchronized (this) {
+        if (appendedRecords == numberOfAppendedRecords) {
+          channel.truncate(0);
+          channel.force(false);
+        }
+      }
+    } catch (final IOException e) {
+      // The log is kept and replayed during the next startup.
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Wait for the currently running checkpoint, if any. A failed checkpoint is ignored, as the log is kept in that case.
+   */
+  public void awaitCheckpoint() {
+    final CompletableFuture<Void> currentCheckpoint;
+    synchronized (this) {
+      currentCheckpoint = checkpoint;
+    }
+    currentCheckpoint.exceptionally(throwable -> null).join();
+  }
+
+  /**
+   * Truncate the log, as the data files have been truncated, too.
+   *
+   * @return this log instance
+   */
+  public synchronized WriteAheadLog truncate() {
+    discardPendingRecord();
+    try {
+      channel.truncate(0);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+    // Make sure a running checkpoint doesn't truncate the log once more.
+    numberOfAppendedRecords++;
+    return this;
+  }
+
+  @Override
+  public void close() {
+    awaitCheckpoint();
+    try {
+      channel.close();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Replay all complete records of the log to the data files, force the data files and truncate the log.
+   *
+   * @param logFile       the log file
+   * @param dataFile      the data file
+   * @param revisionsFile the revisions file
+   * @return the number of replayed records
+   */
+  public static int replay(final Path logFile, final Path dataFile, final Path revisionsFile) {
+    try {
+      if (!Files.exists(logFile) || Files.size(logFile) == 0) {
+        return 0;
+      }
+
+      if (!Files.exists(dataFile)) {
+        Files.createDirectories(dataFile.getParent());
+      }
+
+      try (final var logChannel = FileChannel.open(logFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+           final var dataChannel = FileChannel.open(dataFile,
+                                                    StandardOpenOption.CREATE,
+                                                    StandardOpenOption.READ,
+                                                    StandardOpenOption.WRITE,
+                                                    StandardOpenOption.SPARSE);
+           final var revisionsChannel = FileChannel.open(revisionsFile,
+                                                         StandardOpenOption.CREATE,
+                                                         StandardOpenOption.READ,
+                                                         StandardOpenOption.WRITE)) {
+        final long logSize = logChannel.size();
+        final var header = ByteBuffer.allocate(RECORD_HEADER_SIZE).order(ByteOrder.nativeOrder());
+        long position = 0;
+        int replayedRecords = 0;
+
+        while (position + RECORD_HEADER_SIZE <= logSize) {
+          header.clear();
+          readFully(logChannel, header, position);
+          header.flip();
+          final int payloadLength = header.getInt();
+          final long expectedChecksum = header.getLong();
+
+          if (payloadLength < 2 * Integer.BYTES || position + RECORD_HEADER_SIZE + payloadLength > logSize) {
+            // Torn record.
+            break;
+          }
+
+          final var payload = ByteBuffer.allocate(payloadLength).order(ByteOrder.nativeOrder());
+          readFully(logChannel, payload, position + RECORD_HEADER_SIZE);
+          payload.flip();
+
+          final var checksum = new CRC32();
+          checksum.update(payload.duplicate());
+          if (checksum.getValue() != expectedChecksum) {
+            break;
+          }
+
+          replay(payload, dataChannel, revisionsChannel);
+          replayedRecords++;
+          position += RECORD_HEADER_SIZE + payloadLength;
+        }
+
+        dataChannel.force(false);
+        revisionsChannel.force(false);
+        logChannel.truncate(0);
+        logChannel.force(false);
+
+        return replayedRecords;
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private static void replay(final ByteBuffer payload, final FileChannel dataChannel,
+      final FileChannel revisionsChannel) throws IOException {
+    // Revision number.
+    payload.getInt();
+    final int numberOfEntries = payload.getInt();
+
+    for (int i = 0; i < numberOfEntries; i++) {
+      final byte target = payload.get();
+      final long offset = payload.getLong();
+      final int length = payload.getInt();
+      final var bytes = payload.slice(payload.position(), length);
+      payload.position(payload.position() + length);
+
+      final FileChannel targetChannel = switch (target) {
+        case DATA_FILE -> dataChannel;
+        case REVISIONS_FILE -> revisionsChannel;
+        default -> throw new IllegalStateException("Unknown write-ahead log entry target: " + target);
+      };
+
+      long position = offset;
+      while (bytes.hasRemaining()) {
+        position += targetChannel.write(bytes, position);
+      }
+    }
+  }
+
+  private static void readFully(final FileChannel channel, final ByteBuffer buffer, final long position)
+      throws IOException {
+    long currentPosition = position;
+    while (buffer.hasRemaining()) {
+      final int read = channel.read(buffer, currentPosition);
+      if (read < 0) {
+        throw new SirixIOException("Unexpected end of the write-ahead log.");
+      }
+      currentPosition += read;
+    }
+  }
+}
@@ -34,6 +34,7 @@ import org.sirix.io.IOStorage;
 import org.sirix.io.Reader;
 import org.sirix.io.RevisionFileData;
 import org.sirix.io.bytepipe.ByteHandler;
+import org.sirix.metrics.Metrics;
 import org.sirix.page.*;
 import org.sirix.page.interfaces.Page;
 
@@ -125,6 +126,8 @@ public final class FileReader implements Reader {
 
   @NotNull
   private Page getPage(PageReadOnlyTrx pageReadTrx, byte[] page) throws IOException {
+    Metrics.PAGE_READS.increment();
+    Metrics.PAGE_READ_BYTES.record(page.length);
     final var inputStream = byteHandler.deserialize(new ByteArrayInputStream(page));
     final Bytes<?> input = Bytes.wrapForRead(inputStream.readAllBytes());
     final var deserializedPage = pagePersiter.deserializePage(pageReadTrx, input, serializationType);
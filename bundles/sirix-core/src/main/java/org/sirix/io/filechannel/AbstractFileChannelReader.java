@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2023, University of Konstanz, Distributed Systems Group All rights reserved.
+ * <p>
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met: * Redistributions of source code must retain the
+ * above copyright notice, this list of conditions and the following disclaimer. * Redistributions
+ * in binary form must reproduce the above copyright notice, this list of conditions and the
+ * following disclaimer in the documentation and/or other materials provided with the distribution.
+ * * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.sirix.io.filechannel;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.exception.SirixIOException;
+import org.sirix.io.AbstractReader;
+import org.sirix.io.IOStorage;
+import org.sirix.io.RevisionFileData;
+import org.sirix.io.bytepipe.ByteHandler;
+import org.sirix.page.PagePersister;
+import org.sirix.page.PageReference;
+import org.sirix.page.RevisionRootPage;
+import org.sirix.page.SerializationType;
+import org.sirix.page.interfaces.Page;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.time.Instant;
+
+/**
+ * Reads pages from a data file, whose page keys are offsets, and the revision root page offsets from the revisions
+ * file. Subclasses only map the offsets onto the data file.
+ *
+ * @author Johannes Lichtenberger
+ */
+public abstract class AbstractFileChannelReader extends AbstractReader {
+
+  /**
+   * Revisions offset file channel.
+   */
+  private final FileChannel revisionsOffsetFileChannel;
+
+  /**
+   * The revision file data cache.
+   */
+  private final Cache<Integer, RevisionFileData> cache;
+
+  /**
+   * Constructor.
+   *
+   * @param revisionsOffsetFileChannel the file, which holds pointers to the revision root pages
+   * @param handler                    {@link ByteHandler} instance
+   * @param type                       the serialization type
+   * @param pagePersister              transforms in-memory pages into byte-arrays and back
+   * @param cache                      the revision file data cache
+   */
+  protected AbstractFileChannelReader(final FileChannel revisionsOffsetFileChannel, final ByteHandler handler,
+      final SerializationType type, final PagePersister pagePersister, final Cache<Integer, RevisionFileData> cache) {
+    super(handler, pagePersister, type);
+    this.revisionsOffsetFileChannel = revisionsOffsetFileChannel;
+    this.cache = cache;
+  }
+
+  /**
+   * Read bytes from the data file starting at the given offset into the buffer.
+   *
+   * @param buffer   the buffer to read into
+   * @param position the offset in the data file
+   * @return the number of bytes read
+   * @throws IOException if an I/O error occurs
+   */
+  protected abstract int readDataFile(ByteBuffer buffer, long position) throws IOException;
+
+  @Override
+  public Page read(final @NonNull PageReference reference, final @Nullable PageReadOnlyTrx pageReadTrx) {
+    try {
+      return deserialize(pageReadTrx, readBytes(reference.getKey()));
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private byte[] readBytes(final long position) throws IOException {
+    final ByteBuffer lengthBuffer = ByteBuffer.allocate(IOStorage.OTHER_BEACON).order(ByteOrder.nativeOrder());
+    readFully(lengthBuffer, position);
+    lengthBuffer.flip();
+    final int dataLength = lengthBuffer.getInt();
+
+    if (dataLength < 0) {
+      throw new SirixIOException("Invalid length " + dataLength + " of the page at offset " + position + ".");
+    }
+
+    final ByteBuffer buffer = ByteBuffer.allocate(dataLength).order(ByteOrder.nativeOrder());
+    readFully(buffer, position + IOStorage.OTHER_BEACON);
+    return buffer.array();
+  }
+
+  private void readFully(final ByteBuffer buffer, final long position) throws IOException {
+    final int length = buffer.remaining();
+    final int bytesRead = readDataFile(buffer, position);
+
+    // A truncated data file.
+    if (bytesRead != length) {
+      throw new SirixIOException(
+          "Only " + bytesRead + " of " + length + " bytes could be read at offset " + position + ".");
+    }
+  }
+
+  @Override
+  public RevisionRootPage readRevisionRootPage(final int revision, final PageReadOnlyTrx pageReadTrx) {
+    try {
+      final var dataFileOffset = cache.get(revision, (unused) -> getRevisionFileData(revision)).offset();
+      return (RevisionRootPage) deserialize(pageReadTrx, readBytes(dataFileOffset));
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  @Override
+  public Instant readRevisionRootPageCommitTimestamp(final int revision) {
+    return cache.get(revision, (unused) -> getRevisionFileData(revision)).timestamp();
+  }
+
+  @Override
+  public RevisionFileData getRevisionFileData(final int revision) {
+    try {
+      final var fileOffset = revision * 8 * 2 + IOStorage.FIRST_BEACON;
+      final ByteBuffer buffer = ByteBuffer.allocateDirect(16).order(ByteOrder.nativeOrder());
+      revisionsOffsetFileChannel.read(buffer, fileOffset);
+      buffer.flip();
+      final var offset = buffer.getLong();
+      final var timestamp = buffer.getLong();
+      return new RevisionFileData(offset, Instant.ofEpochMilli(timestamp));
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  @Override
+  public void close() {
+  }
+}
@@ -0,0 +1,392 @@
+/*
+ * Copyright (c) 2023, University of Konstanz, Distributed Systems Group All rights reserved.
+ * <p>
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met: * Redistributions of source code must retain the
+ * above copyright notice, this list of conditions and the following disclaimer. * Redistributions
+ * in binary form must reproduce the above copyright notice, this list of conditions and the
+ * following disclaimer in the documentation and/or other materials provided with the distribution.
+ * * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.sirix.io.filechannel;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import net.openhft.chronicle.bytes.Bytes;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.exception.SirixIOException;
+import org.sirix.io.AbstractForwardingReader;
+import org.sirix.io.IOStorage;
+import org.sirix.io.Reader;
+import org.sirix.io.RevisionFileData;
+import org.sirix.io.WriteAheadLog;
+import org.sirix.io.Writer;
+import org.sirix.page.*;
+import org.sirix.page.interfaces.Page;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Serializes pages and appends them to a data file, whose page keys are offsets, and appends the revision root page
+ * offsets to the revisions file. Subclasses only map the offsets onto the data file and may log the writes.
+ *
+ * @author Johannes Lichtenberger
+ */
+public abstract class AbstractFileChannelWriter extends AbstractForwardingReader implements Writer {
+
+  /**
+   * The reader delegate.
+   */
+  private final AbstractFileChannelReader reader;
+
+  private final SerializationType serializationType;
+
+  /**
+   * Channel to the file, which holds pointers to the revision root pages.
+   */
+  protected final FileChannel revisionsFileChannel;
+
+  private final PagePersister pagePersister;
+
+  private final AsyncCache<Integer, RevisionFileData> cache;
+
+  private boolean isFirstUberPage;
+
+  private final Bytes<ByteBuffer> byteBufferBytes = Bytes.elasticByteBuffer(1_000);
+
+  /**
+   * Constructor.
+   *
+   * @param revisionsOffsetFileChannel the channel to the file, which holds pointers to the revision root pages
+   * @param serializationType          the serialization type (for the transaction log or the data file)
+   * @param pagePersister              transforms in-memory pages into byte-arrays and back
+   * @param cache                      the revision file data cache
+   * @param reader                     the reader delegate
+   */
+  protected AbstractFileChannelWriter(final FileChannel revisionsOffsetFileChannel,
+      final SerializationType serializationType, final PagePersister pagePersister,
+      final AsyncCache<Integer, RevisionFileData> cache, final AbstractFileChannelReader reader) {
+    this.serializationType = requireNonNull(serializationType);
+    this.revisionsFileChannel = revisionsOffsetFileChannel;
+    this.pagePersister = requireNonNull(pagePersister);
+    this.cache = requireNonNull(cache);
+    this.reader = requireNonNull(reader);
+  }
+
+  /**
+   * Get the size of the data file.
+   *
+   * @return the size of the data file
+   * @throws IOException if an I/O error occurs
+   */
+  protected abstract long dataFileSize() throws IOException;
+
+  /**
+   * Write the remaining bytes of the buffer to the data file starting at the given offset.
+   *
+   * @param buffer   the buffer to write
+   * @param position the offset in the data file
+   * @throws IOException if an I/O error occurs
+   */
+  protected abstract void writeDataFile(ByteBuffer buffer, long position) throws IOException;
+
+  /**
+   * Truncate the data file to the given size.
+   *
+   * @param size the new size
+   * @throws IOException if an I/O error occurs
+   */
+  protected abstract void truncateDataFile(long size) throws IOException;
+
+  /**
+   * Force the data file to the storage device.
+   *
+   * @param metaData {@code true}, if the file metadata has to be forced, too
+   * @throws IOException if an I/O error occurs
+   */
+  protected abstract void forceDataFile(boolean metaData) throws IOException;
+
+  /**
+   * Called before the bytes of the buffer are written to the given file, for instance to log the write.
+   *
+   * @param target the file, either {@link WriteAheadLog#DATA_FILE} or {@link WriteAheadLog#REVISIONS_FILE}
+   * @param offset the offset in the file
+   * @param buffer the bytes, which are written, whose position must not be changed
+   */
+  protected void beforeWrite(final byte target, final long offset, final ByteBuffer buffer) {
+  }
+
+  /**
+   * Make the revision, whose uber page has just been written, durable. By default, the data file is forced.
+   *
+   * @param uberPage the uber page
+   * @throws IOException if an I/O error occurs
+   */
+  protected void commit(final UberPage uberPage) throws IOException {
+    forceDataFile(false);
+  }
+
+  /**
+   * Called before the data file and the revisions file are truncated.
+   *
+   * @throws IOException if an I/O error occurs
+   */
+  protected void beforeTruncation() throws IOException {
+  }
+
+  @Override
+  public Writer truncateTo(final PageReadOnlyTrx pageReadOnlyTrx, final int revision) {
+    try {
+      final var dataFileRevisionRootPageOffset =
+          cache.get(revision, (unused) -> getRevisionFileData(revision)).get(5, TimeUnit.SECONDS).offset();
+
+      // Read page from file.
+      final var buffer = ByteBuffer.allocateDirect(IOStorage.OTHER_BEACON).order(ByteOrder.nativeOrder());
+
+      if (reader.readDataFile(buffer, dataFileRevisionRootPageOffset) != IOStorage.OTHER_BEACON) {
+        throw new SirixIOException("The revision root page of revision " + revision + " could not be read.");
+      }
+
+      buffer.position(0);
+      final int dataLength = buffer.getInt();
+
+      beforeTruncation();
+      truncateDataFile(dataFileRevisionRootPageOffset + IOStorage.OTHER_BEACON + dataLength);
+    } catch (InterruptedException | ExecutionException | TimeoutException | IOException e) {
+      throw new IllegalStateException(e);
+    }
+
+    return this;
+  }
+
+  @Override
+  public AbstractFileChannelWriter write(final PageReadOnlyTrx pageReadOnlyTrx, final PageReference pageReference,
+      final Bytes<ByteBuffer> bufferedBytes) {
+    try {
+      final long offset = getOffset(bufferedBytes);
+      return writePageReference(pageReadOnlyTrx, pageReference, bufferedBytes, offset);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private long getOffset(final Bytes<ByteBuffer> bufferedBytes) throws IOException {
+    final long fileSize = dataFileSize();
+    long offset;
+
+    if (fileSize == 0) {
+      offset = IOStorage.FIRST_BEACON;
+      offset += (PAGE_FRAGMENT_BYTE_ALIGN - (offset & (PAGE_FRAGMENT_BYTE_ALIGN - 1)));
+      offset += bufferedBytes.writePosition();
+    } else {
+      offset = fileSize + bufferedBytes.writePosition();
+    }
+
+    return offset;
+  }
+
+  private AbstractFileChannelWriter writePageReference(final PageReadOnlyTrx pageReadOnlyTrx,
+      final PageReference pageReference, final Bytes<ByteBuffer> bufferedBytes, long offset) {
+    // Perform byte operations.
+    try {
+      // Serialize page.
+      final Page page = pageReference.getPage();
+      assert page != null;
+
+      pagePersister.serializePage(pageReadOnlyTrx, byteBufferBytes, page, serializationType);
+      final var byteArray = byteBufferBytes.toByteArray();
+
+      final byte[] serializedPage;
+
+      try (final ByteArrayOutputStream output = new ByteArrayOutputStream(byteArray.length);
+           final DataOutputStream dataOutput = new DataOutputStream(reader.getByteHandler().serialize(output))) {
+        dataOutput.write(byteArray);
+        dataOutput.flush();
+        serializedPage = output.toByteArray();
+      }
+
+      byteBufferBytes.clear();
+
+      int offsetToAdd = 0;
+
+      // Getting actual offset and appending to the end of the current file.
+      if (serializationType == SerializationType.DATA) {
+        if (page instanceof UberPage) {
+          offsetToAdd =
+              UBER_PAGE_BYTE_ALIGN - ((serializedPage.length + IOStorage.OTHER_BEACON) % UBER_PAGE_BYTE_ALIGN);
+        } else if (page instanceof RevisionRootPage && offset % REVISION_ROOT_PAGE_BYTE_ALIGN != 0) {
+          offsetToAdd = (int) (REVISION_ROOT_PAGE_BYTE_ALIGN - (offset & (REVISION_ROOT_PAGE_BYTE_ALIGN - 1)));
+          offset += offsetToAdd;
+        } else if (offset % PAGE_FRAGMENT_BYTE_ALIGN != 0) {
+          offsetToAdd = (int) (PAGE_FRAGMENT_BYTE_ALIGN - (offset & (PAGE_FRAGMENT_BYTE_ALIGN - 1)));
+          offset += offsetToAdd;
+        }
+      }
+
+      if (!(page instanceof UberPage) && offsetToAdd > 0) {
+        bufferedBytes.writePosition(bufferedBytes.writePosition() + offsetToAdd);
+      }
+
+      bufferedBytes.writeInt(serializedPage.length);
+      bufferedBytes.write(serializedPage);
+
+      if (page instanceof UberPage && offsetToAdd > 0) {
+        final byte[] bytesToAdd = new byte[offsetToAdd];
+        bufferedBytes.write(bytesToAdd);
+      }
+
+      if (bufferedBytes.writePosition() > FLUSH_SIZE) {
+        flushBuffer(bufferedBytes);
+      }
+
+      // Remember page coordinates.
+      pageReference.setKey(offset);
+
+      if (page instanceof KeyValueLeafPage keyValueLeafPage) {
+        pageReference.setHash(keyValueLeafPage.getHashCode());
+      } else {
+        pageReference.setHash(Reader.hashFunction.hashBytes(serializedPage).asBytes());
+      }
+
+      if (serializationType == SerializationType.DATA) {
+        if (page instanceof RevisionRootPage revisionRootPage) {
+          final ByteBuffer buffer = ByteBuffer.allocateDirect(16).order(ByteOrder.nativeOrder());
+          buffer.putLong(offset);
+          buffer.position(8);
+          buffer.putLong(revisionRootPage.getRevisionTimestamp());
+          buffer.position(0);
+          final long revisionsFileOffset;
+          if (revisionRootPage.getRevision() == 0) {
+            revisionsFileOffset = revisionsFileChannel.size() + IOStorage.FIRST_BEACON;
+          } else {
+            revisionsFileOffset = revisionsFileChannel.size();
+          }
+          beforeWrite(WriteAheadLog.REVISIONS_FILE, revisionsFileOffset, buffer);
+          revisionsFileChannel.write(buffer, revisionsFileOffset);
+          final long currOffset = offset;
+          cache.put(revisionRootPage.getRevision(),
+                    CompletableFuture.supplyAsync(() -> new RevisionFileData(currOffset,
+                                                                             Instant.ofEpochMilli(revisionRootPage.getRevisionTimestamp()))));
+        } else if (page instanceof UberPage && isFirstUberPage) {
+          final ByteBuffer buffer =
+              ByteBuffer.allocateDirect(Writer.UBER_PAGE_BYTE_ALIGN).order(ByteOrder.nativeOrder());
+          buffer.put(serializedPage);
+          buffer.position(0);
+          beforeWrite(WriteAheadLog.REVISIONS_FILE, 0, buffer);
+          beforeWrite(WriteAheadLog.REVISIONS_FILE, Writer.UBER_PAGE_BYTE_ALIGN, buffer);
+          revisionsFileChannel.write(buffer, 0);
+          buffer.position(0);
+          revisionsFileChannel.write(buffer, Writer.UBER_PAGE_BYTE_ALIGN);
+        }
+      }
+
+      return this;
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  @Override
+  public void close() {
+    try {
+      forceDataFile(true);
+      if (revisionsFileChannel != null) {
+        revisionsFileChannel.force(true);
+      }
+      if (reader != null) {
+        reader.close();
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  @Override
+  public Writer writeUberPageReference(final PageReadOnlyTrx pageReadOnlyTrx, final PageReference pageReference,
+      final Bytes<ByteBuffer> bufferedBytes) {
+    try {
+      if (bufferedBytes.writePosition() > 0) {
+        flushBuffer(bufferedBytes);
+      }
+
+      isFirstUberPage = true;
+      writePageReference(pageReadOnlyTrx, pageReference, bufferedBytes, 0);
+      isFirstUberPage = false;
+      writePageReference(pageReadOnlyTrx, pageReference, bufferedBytes, IOStorage.FIRST_BEACON >> 1);
+
+      @SuppressWarnings("DataFlowIssue") final var buffer = bufferedBytes.underlyingObject().rewind();
+      buffer.limit((int) bufferedBytes.readLimit());
+      beforeWrite(WriteAheadLog.DATA_FILE, 0L, buffer);
+      writeDataFile(buffer, 0L);
+      final var uberPage = (UberPage) pageReference.getPage();
+      assert uberPage != null;
+      commit(uberPage);
+      bufferedBytes.clear();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+
+    return this;
+  }
+
+  private void flushBuffer(final Bytes<ByteBuffer> bufferedBytes) throws IOException {
+    final long fileSize = dataFileSize();
+    long offset;
+
+    if (fileSize == 0) {
+      offset = IOStorage.FIRST_BEACON;
+      offset += (PAGE_FRAGMENT_BYTE_ALIGN - (offset % PAGE_FRAGMENT_BYTE_ALIGN));
+    } else {
+      offset = fileSize;
+    }
+
+    @SuppressWarnings("DataFlowIssue") final var buffer = bufferedBytes.underlyingObject().rewind();
+    buffer.limit((int) bufferedBytes.readLimit());
+    beforeWrite(WriteAheadLog.DATA_FILE, offset, buffer);
+    writeDataFile(buffer, offset);
+    bufferedBytes.clear();
+  }
+
+  @Override
+  protected Reader delegate() {
+    return reader;
+  }
+
+  @Override
+  public Writer truncate() {
+    try {
+      beforeTruncation();
+      truncateDataFile(0);
+
+      if (revisionsFileChannel != null) {
+        revisionsFileChannel.truncate(0);
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+
+    return this;
+  }
+}
@@ -22,24 +22,15 @@
 package org.sirix.io.filechannel;
 
 import com.github.benmanes.caffeine.cache.Cache;
-import com.google.common.hash.HashFunction;
-import org.checkerframework.checker.nullness.qual.NonNull;
-import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sirix.api.PageReadOnlyTrx;
-import org.sirix.exception.SirixIOException;
-import org.sirix.io.AbstractReader;
-import org.sirix.io.IOStorage;
-import org.sirix.io.Reader;
 import org.sirix.io.RevisionFileData;
 import org.sirix.io.bytepipe.ByteHandler;
-import org.sirix.page.*;
-import org.sirix.page.interfaces.Page;
+import org.sirix.page.PagePersister;
+import org.sirix.page.SerializationType;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
-import java.time.Instant;
 
 /**
  * File Reader. Used for {@link PageReadOnlyTrx} to provide read only access on a RandomAccessFile.
@@ -48,25 +39,13 @@ import java.time.Instant;
  * @author Sebastian Graf, University of Konstanz
  * @author Johannes Lichtenberger
  */
-public final class FileChannelReader extends AbstractReader {
-
-  /**
-   * The hash function used to hash pages/page fragments.
-   */
-  final HashFunction hashFunction = Reader.hashFunction;
+public final class FileChannelReader extends AbstractFileChannelReader {
 
   /**
    * Data file channel.
    */
   private final FileChannel dataFileChannel;
 
-  /**
-   * Revisions offset file channel.
-   */
-  private final FileChannel revisionsOffsetFileChannel;
-
-  private final Cache<Integer, RevisionFileData> cache;
-
   /**
    * Constructor.
    *
@@ -77,94 +56,24 @@ public final class FileChannelReader extends AbstractReader {
   public FileChannelReader(final FileChannel dataFileChannel, final FileChannel revisionsOffsetFileChannel,
       final ByteHandler handler, final SerializationType type, final PagePersister pagePersistenter,
       final Cache<Integer, RevisionFileData> cache) {
-    super (handler, pagePersistenter, type);
+    super(revisionsOffsetFileChannel, handler, type, pagePersistenter, cache);
     this.dataFileChannel = dataFileChannel;
-    this.revisionsOffsetFileChannel = revisionsOffsetFileChannel;
-    this.cache = cache;
-  }
-
-  public Page read(final @NonNull PageReference reference,
-      final @Nullable PageReadOnlyTrx pageReadTrx) {
-    try {
-      // Read page from file.
-      ByteBuffer buffer = ByteBuffer.allocateDirect(IOStorage.OTHER_BEACON).order(ByteOrder.nativeOrder());
-
-      final long position = reference.getKey();
-      dataFileChannel.read(buffer, position);
-
-      buffer.flip();
-      final int dataLength = buffer.getInt();
-
-      buffer = ByteBuffer.allocate(dataLength).order(ByteOrder.nativeOrder());
-
-      dataFileChannel.read(buffer, position + 4);
-      buffer.flip();
-      final byte[] page = buffer.array();
-
-      // Perform byte operations.
-      return deserialize(pageReadTrx, page);
-    } catch (final IOException e) {
-      throw new SirixIOException(e);
-    }
-  }
-
-  @Override
-  public PageReference readUberPageReference() {
-    final PageReference uberPageReference = new PageReference();
-    uberPageReference.setKey(0);
-    final UberPage page = (UberPage) read(uberPageReference, null);
-    uberPageReference.setPage(page);
-    return uberPageReference;
   }
 
   @Override
-  public RevisionRootPage readRevisionRootPage(final int revision, final PageReadOnlyTrx pageReadTrx) {
-    try {
-      final var dataFileOffset = cache.get(revision, (unused) -> getRevisionFileData(revision)).offset();
+  protected int readDataFile(final ByteBuffer buffer, final long position) throws IOException {
+    int bytesRead = 0;
 
-      ByteBuffer buffer = ByteBuffer.allocateDirect(4).order(ByteOrder.nativeOrder());
-      dataFileChannel.read(buffer, dataFileOffset);
-      buffer.flip();
-      final int dataLength = buffer.getInt();
-
-      buffer = ByteBuffer.allocateDirect(dataLength).order(ByteOrder.nativeOrder());
-      dataFileChannel.read(buffer, dataFileOffset + 4);
-      buffer.flip();
-      final byte[] page = new byte[dataLength];
-      buffer.get(page);
-
-      // Perform byte operations.
-      return (RevisionRootPage) deserialize(pageReadTrx, page);
-    } catch (IOException e) {
-      throw new SirixIOException(e);
-    }
-  }
+    while (buffer.hasRemaining()) {
+      final int read = dataFileChannel.read(buffer, position + bytesRead);
 
-  @Override
-  public Instant readRevisionRootPageCommitTimestamp(int revision) {
-    return cache.get(revision, (unused) -> getRevisionFileData(revision)).timestamp();
-  }
+      if (read <= 0) {
+        break;
+      }
 
-  @Override
-  public RevisionFileData getRevisionFileData(int revision) {
-    try {
-      final var fileOffset = revision * 8 * 2 + IOStorage.FIRST_BEACON;
-      final ByteBuffer buffer = ByteBuffer.allocateDirect(16).order(ByteOrder.nativeOrder());
-      revisionsOffsetFileChannel.read(buffer, fileOffset);
-      buffer.position(8);
-      revisionsOffsetFileChannel.read(buffer, fileOffset + 8);
-      buffer.flip();
-      final var offset = buffer.getLong();
-      buffer.position(8);
-      final var timestamp = buffer.getLong();
-      return new RevisionFileData(offset, Instant.ofEpochMilli(timestamp));
-    } catch (IOException e) {
-      throw new RuntimeException(e);
+      bytesRead += read;
     }
-  }
 
-  @Override
-  public void close() {
+    return bytesRead;
   }
-
 }
@@ -22,27 +22,16 @@
 package org.sirix.io.filechannel;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
-import net.openhft.chronicle.bytes.Bytes;
-import org.jetbrains.annotations.NotNull;
-import org.sirix.api.PageReadOnlyTrx;
-import org.sirix.exception.SirixIOException;
-import org.sirix.io.*;
-import org.sirix.page.*;
-import org.sirix.page.interfaces.Page;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sirix.io.RevisionFileData;
+import org.sirix.io.WriteAheadLog;
+import org.sirix.page.PagePersister;
+import org.sirix.page.SerializationType;
+import org.sirix.page.UberPage;
 
-import java.io.ByteArrayOutputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
-import java.time.Instant;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
-
-import static java.util.Objects.requireNonNull;
 
 /**
  * File Writer for providing read/write access for file as a Sirix backend.
@@ -51,7 +40,7 @@ import static java.util.Objects.requireNonNull;
  * @author Sebastian Graf, University of Konstanz
  * @author Johannes Lichtenberger
  */
-public final class FileChannelWriter extends AbstractForwardingReader implements Writer {
+public final class FileChannelWriter extends AbstractFileChannelWriter {
 
   /**
    * Random access to work on.
@@ -59,21 +48,10 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
   private final FileChannel dataFileChannel;
 
   /**
-   * {@link FileChannelReader} reference for this writer.
+   * The write-ahead log or {@code null}, if commits force the data file directly.
    */
-  private final FileChannelReader reader;
-
-  private final SerializationType serializationType;
-
-  private final FileChannel revisionsFileChannel;
-
-  private final PagePersister pagePersister;
-
-  private final AsyncCache<Integer, RevisionFileData> cache;
-
-  private boolean isFirstUberPage;
-
-  private final Bytes<ByteBuffer> byteBufferBytes = Bytes.elasticByteBuffer(1_000);
+  @Nullable
+  private final WriteAheadLog writeAheadLog;
 
   /**
    * Constructor.
@@ -88,239 +66,79 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
   public FileChannelWriter(final FileChannel dataFileChannel, final FileChannel revisionsOffsetFileChannel,
       final SerializationType serializationType, final PagePersister pagePersister,
       final AsyncCache<Integer, RevisionFileData> cache, final FileChannelReader reader) {
-    this.dataFileChannel = dataFileChannel;
-    this.serializationType = requireNonNull(serializationType);
-    this.revisionsFileChannel = revisionsOffsetFileChannel;
-    this.pagePersister = requireNonNull(pagePersister);
-    this.cache = requireNonNull(cache);
-    this.reader = requireNonNull(reader);
+    this(dataFileChannel, revisionsOffsetFileChannel, serializationType, pagePersister, cache, reader, null);
   }
 
-  @Override
-  public Writer truncateTo(final PageReadOnlyTrx pageReadOnlyTrx,final int revision) {
-    try {
-      final var dataFileRevisionRootPageOffset =
-          cache.get(revision, (unused) -> getRevisionFileData(revision)).get(5, TimeUnit.SECONDS).offset();
-
-      // Read page from file.
-      final var buffer = ByteBuffer.allocateDirect(IOStorage.OTHER_BEACON).order(ByteOrder.nativeOrder());
-
-      dataFileChannel.read(buffer, dataFileRevisionRootPageOffset);
-
-      buffer.position(0);
-      final int dataLength = buffer.getInt();
-
-      dataFileChannel.truncate(dataFileRevisionRootPageOffset + IOStorage.OTHER_BEACON + dataLength);
-    } catch (InterruptedException | ExecutionException | TimeoutException | IOException e) {
-      throw new IllegalStateException(e);
-    }
-
-    return this;
+  /**
+   * Constructor.
+   *
+   * @param dataFileChannel            the data file channel
+   * @param revisionsOffsetFileChannel the channel to the file, which holds pointers to the revision root pages
+   * @param serializationType          the serialization type (for the transaction log or the data file)
+   * @param pagePersister              transforms in-memory pages into byte-arrays and back
+   * @param cache                      the revision file data cache
+   * @param reader                     the reader delegate
+   * @param writeAheadLog              the write-ahead log, which makes commits durable, or {@code null} to force the
+   *                                   data file on each commit
+   */
+  public FileChannelWriter(final FileChannel dataFileChannel, final FileChannel revisionsOffsetFileChannel,
+      final SerializationType serializationType, final PagePersister pagePersister,
+      final AsyncCache<Integer, RevisionFileData> cache, final FileChannelReader reader,
+      @Nullable final WriteAheadLog writeAheadLog) {
+    super(revisionsOffsetFileChannel, serializationType, pagePersister, cache, reader);
+    this.writeAheadLog = writeAheadLog;
+    this.dataFileChannel = dataFileChannel;
   }
 
   @Override
-  public FileChannelWriter write(final PageReadOnlyTrx pageReadOnlyTrx, final PageReference pageReference,
-      final Bytes<ByteBuffer> bufferedBytes) {
-    try {
-      final long offset = getOffset(bufferedBytes);
-      return writePageReference(pageReadOnlyTrx, pageReference, bufferedBytes, offset);
-    } catch (final IOException e) {
-      throw new SirixIOException(e);
-    }
+  protected long dataFileSize() throws IOException {
+    return dataFileChannel.size();
   }
 
-  private long getOffset(Bytes<ByteBuffer> bufferedBytes) throws IOException {
-    final long fileSize = dataFileChannel.size();
-    long offset;
-
-    if (fileSize == 0) {
-      offset = IOStorage.FIRST_BEACON;
-      offset += (PAGE_FRAGMENT_BYTE_ALIGN - (offset & (PAGE_FRAGMENT_BYTE_ALIGN - 1)));
-      offset += bufferedBytes.writePosition();
-    } else {
-      offset = fileSize + bufferedBytes.writePosition();
-    }
-
-    return offset;
+  @Override
+  protected void writeDataFile(final ByteBuffer buffer, final long position) throws IOException {
+    dataFileChannel.write(buffer, position);
   }
 
-  @NotNull
-  private FileChannelWriter writePageReference(final PageReadOnlyTrx pageReadOnlyTrx, final PageReference pageReference,
-      final Bytes<ByteBuffer> bufferedBytes, long offset) {
-    // Perform byte operations.
-    try {
-      // Serialize page.
-      final Page page = pageReference.getPage();
-      assert page != null;
-
-      pagePersister.serializePage(pageReadOnlyTrx, byteBufferBytes, page, serializationType);
-      final var byteArray = byteBufferBytes.toByteArray();
-
-      final byte[] serializedPage;
-
-      try (final ByteArrayOutputStream output = new ByteArrayOutputStream(byteArray.length);
-           final DataOutputStream dataOutput = new DataOutputStream(reader.getByteHandler().serialize(output))) {
-        dataOutput.write(byteArray);
-        dataOutput.flush();
-        serializedPage = output.toByteArray();
-      }
-
-      byteBufferBytes.clear();
-
-      int offsetToAdd = 0;
-
-      // Getting actual offset and appending to the end of the current file.
-      if (serializationType == SerializationType.DATA) {
-        if (page instanceof UberPage) {
-          offsetToAdd =
-              UBER_PAGE_BYTE_ALIGN - ((serializedPage.length + IOStorage.OTHER_BEACON) % UBER_PAGE_BYTE_ALIGN);
-        } else if (page instanceof RevisionRootPage && offset % REVISION_ROOT_PAGE_BYTE_ALIGN != 0) {
-          offsetToAdd = (int) (REVISION_ROOT_PAGE_BYTE_ALIGN - (offset & (REVISION_ROOT_PAGE_BYTE_ALIGN - 1)));
-          offset += offsetToAdd;
-        } else if (offset % PAGE_FRAGMENT_BYTE_ALIGN != 0) {
-          offsetToAdd = (int) (PAGE_FRAGMENT_BYTE_ALIGN - (offset & (PAGE_FRAGMENT_BYTE_ALIGN
-              - 1)));//(offset % PAGE_FRAGMENT_BYTE_ALIGN));
-          offset += offsetToAdd;
-        }
-      }
-
-      if (!(page instanceof UberPage) && offsetToAdd > 0) {
-        bufferedBytes.writePosition(bufferedBytes.writePosition() + offsetToAdd);
-      }
-
-      bufferedBytes.writeInt(serializedPage.length);
-      bufferedBytes.write(serializedPage);
-
-      if (page instanceof UberPage && offsetToAdd > 0) {
-        final byte[] bytesToAdd = new byte[(int) offsetToAdd];
-        bufferedBytes.write(bytesToAdd);
-      }
-
-      if (bufferedBytes.writePosition() > FLUSH_SIZE) {
-        flushBuffer(bufferedBytes);
-      }
-
-      // Remember page coordinates.
-      pageReference.setKey(offset);
-
-      if (page instanceof KeyValueLeafPage keyValueLeafPage) {
-        pageReference.setHash(keyValueLeafPage.getHashCode());
-      } else {
-        pageReference.setHash(reader.hashFunction.hashBytes(serializedPage).asBytes());
-      }
-
-      if (serializationType == SerializationType.DATA) {
-        if (page instanceof RevisionRootPage revisionRootPage) {
-          ByteBuffer buffer = ByteBuffer.allocateDirect(16).order(ByteOrder.nativeOrder());
-          buffer.putLong(offset);
-          buffer.position(8);
-          buffer.putLong(revisionRootPage.getRevisionTimestamp());
-          buffer.position(0);
-          final long revisionsFileOffset;
-          if (revisionRootPage.getRevision() == 0) {
-            revisionsFileOffset = revisionsFileChannel.size() + IOStorage.FIRST_BEACON;
-          } else {
-            revisionsFileOffset = revisionsFileChannel.size();
-          }
-          revisionsFileChannel.write(buffer, revisionsFileOffset);
-          buffer = null;
-          final long currOffset = offset;
-          cache.put(revisionRootPage.getRevision(),
-                    CompletableFuture.supplyAsync(() -> new RevisionFileData(currOffset,
-                                                                             Instant.ofEpochMilli(revisionRootPage.getRevisionTimestamp()))));
-        } else if (page instanceof UberPage && isFirstUberPage) {
-          ByteBuffer buffer = ByteBuffer.allocateDirect(Writer.UBER_PAGE_BYTE_ALIGN).order(ByteOrder.nativeOrder());
-          buffer.put(serializedPage);
-          buffer.position(0);
-          revisionsFileChannel.write(buffer, 0);
-          buffer.position(0);
-          revisionsFileChannel.write(buffer, Writer.UBER_PAGE_BYTE_ALIGN);
-          buffer = null;
-        }
-      }
-
-      return this;
-    } catch (final IOException e) {
-      throw new SirixIOException(e);
-    }
+  @Override
+  protected void truncateDataFile(final long size) throws IOException {
+    dataFileChannel.truncate(size);
   }
 
   @Override
-  public void close() {
-    try {
-      if (dataFileChannel != null) {
-        dataFileChannel.force(true);
-      }
-      if (revisionsFileChannel != null) {
-        revisionsFileChannel.force(true);
-      }
-      if (reader != null) {
-        reader.close();
-      }
-    } catch (final IOException e) {
-      throw new SirixIOException(e);
+  protected void forceDataFile(final boolean metaData) throws IOException {
+    if (dataFileChannel != null) {
+      dataFileChannel.force(metaData);
     }
   }
 
   @Override
-  public Writer writeUberPageReference(final PageReadOnlyTrx pageReadOnlyTrx, final PageReference pageReference,
-      final Bytes<ByteBuffer> bufferedBytes) {
-    try {
-      if (bufferedBytes.writePosition() > 0) {
-        flushBuffer(bufferedBytes);
-      }
-
-      isFirstUberPage = true;
-      writePageReference(pageReadOnlyTrx, pageReference, bufferedBytes, 0);
-      isFirstUberPage = false;
-      writePageReference(pageReadOnlyTrx, pageReference, bufferedBytes, IOStorage.FIRST_BEACON >> 1);
-
-      @SuppressWarnings("DataFlowIssue") final var buffer = bufferedBytes.underlyingObject().rewind();
-      buffer.limit((int) bufferedBytes.readLimit());
-      dataFileChannel.write(buffer, 0L);
-      dataFileChannel.force(false);
-      bufferedBytes.clear();
-    } catch (final IOException e) {
-      throw new SirixIOException(e);
+  protected void beforeWrite(final byte target, final long offset, final ByteBuffer buffer) {
+    if (writeAheadLog != null) {
+      writeAheadLog.logWrite(target, offset, buffer);
     }
-
-    return this;
   }
 
-  private void flushBuffer(Bytes<ByteBuffer> bufferedBytes) throws IOException {
-    final long fileSize = dataFileChannel.size();
-    long offset;
-
-    if (fileSize == 0) {
-      offset = IOStorage.FIRST_BEACON;
-      offset += (PAGE_FRAGMENT_BYTE_ALIGN - (offset % PAGE_FRAGMENT_BYTE_ALIGN));
+  @Override
+  protected void commit(final UberPage uberPage) throws IOException {
+    if (writeAheadLog == null) {
+      super.commit(uberPage);
     } else {
-      offset = fileSize;
+      // Only the log is forced, the data files are forced asynchronously.
+      writeAheadLog.commit(uberPage.getRevisionNumber());
+      writeAheadLog.checkpointAsync(dataFileChannel, revisionsFileChannel);
     }
-
-    @SuppressWarnings("DataFlowIssue") final var buffer = bufferedBytes.underlyingObject().rewind();
-    buffer.limit((int) bufferedBytes.readLimit());
-    dataFileChannel.write(buffer, offset);
-    bufferedBytes.clear();
-  }
-
-  @Override
-  protected Reader delegate() {
-    return reader;
   }
 
   @Override
-  public Writer truncate() {
-    try {
-      dataFileChannel.truncate(0);
-
-      if (revisionsFileChannel != null) {
-        revisionsFileChannel.truncate(0);
-      }
-    } catch (final IOException e) {
-      throw new SirixIOException(e);
+  protected void beforeTruncation() throws IOException {
+    if (writeAheadLog != null) {
+      // The records of the log must not be replayed after the truncation, as they would restore the truncated
+      // revisions, thus the data files are forced before the log is truncated.
+      writeAheadLog.awaitCheckpoint();
+      dataFileChannel.force(false);
+      revisionsFileChannel.force(false);
+      writeAheadLog.truncate();
     }
-
-    return this;
   }
 }
@@ -27,6 +27,7 @@ import org.sirix.exception.SirixIOException;
 import org.sirix.io.IOStorage;
 import org.sirix.io.Reader;
 import org.sirix.io.RevisionFileData;
+import org.sirix.io.WriteAheadLog;
 import org.sirix.io.Writer;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.io.bytepipe.ByteHandlerPipeline;
@@ -74,6 +75,16 @@ public final class MMStorage implements IOStorage {
 
   final Semaphore semaphore = new Semaphore(1);
 
+  /**
+   * Determines if commits are made durable through a write-ahead log.
+   */
+  private final boolean useWriteAheadLog;
+
+  /**
+   * The write-ahead log, lazily opened for the first writer.
+   */
+  private WriteAheadLog writeAheadLog;
+
   /**
    * Revision file data cache.
    */
@@ -100,6 +111,7 @@ public final class MMStorage implements IOStorage {
     dataFilePath = file.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath()).resolve(FILENAME);
     byteHandlerPipeline = resourceConfig.byteHandlePipeline;
     this.cache = cache;
+    useWriteAheadLog = resourceConfig.useWriteAheadLog();
   }
 
   @Override
@@ -191,7 +203,8 @@ public final class MMStorage implements IOStorage {
                                    serializationType,
                                    pagePersister,
                                    cache,
-                                   reader);
+                                   reader,
+                                   getWriteAheadLogIfEnabled());
     } catch (final IOException | InterruptedException e) {
       throw new SirixIOException(e);
     } finally {
@@ -218,6 +231,9 @@ public final class MMStorage implements IOStorage {
   @Override
   public void close() {
     try {
+      if (writeAheadLog != null) {
+        writeAheadLog.close();
+      }
       if (revisionsOffsetFileChannel != null) {
         revisionsOffsetFileChannel.close();
       }
@@ -247,6 +263,25 @@ public final class MMStorage implements IOStorage {
     return revisionsFilePath;
   }
 
+  private synchronized WriteAheadLog getWriteAheadLogIfEnabled() {
+    if (useWriteAheadLog && writeAheadLog == null) {
+      writeAheadLog = new WriteAheadLog(getWriteAheadLogFilePath());
+    }
+    return writeAheadLog;
+  }
+
+  private Path getWriteAheadLogFilePath() {
+    return file.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath()).resolve(WriteAheadLog.FILENAME);
+  }
+
+  @Override
+  public void replayWriteAheadLog() {
+    if (WriteAheadLog.replay(getWriteAheadLogFilePath(), getDataFilePath(), getRevisionFilePath()) > 0) {
+      // The revision file data might have been read from the revisions file before it has been replayed.
+      cache.synchronous().invalidateAll();
+    }
+  }
+
   @Override
   public boolean exists() {
     final Path storage = getDataFilePath();
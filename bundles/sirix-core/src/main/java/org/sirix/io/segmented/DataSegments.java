@@ -0,0 +1,382 @@
+/*
+ * Copyright (c) 2023, University of Konstanz, Distributed Systems Group All rights reserved.
+ * <p>
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met: * Redistributions of source code must retain the
+ * above copyright notice, this list of conditions and the following disclaimer. * Redistributions
+ * in binary form must reproduce the above copyright notice, this list of conditions and the
+ * following disclaimer in the documentation and/or other materials provided with the distribution.
+ * * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.sirix.io.segmented;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.sirix.exception.SirixIOException;
+import org.sirix.io.IOStorage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Maps the logical address space of the data file onto fixed-size segment files. Each segment has its own file
+ * channel, which is opened lazily. Reads and writes spanning a segment boundary are split transparently.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class DataSegments implements AutoCloseable {
+
+  /**
+   * Default segment size exponent (1 GiB segments).
+   */
+  public static final int DEFAULT_SEGMENT_SIZE_EXPONENT = 30;
+
+  /**
+   * Minimum segment size exponent (4 KiB segments).
+   */
+  public static final int MIN_SEGMENT_SIZE_EXPONENT = 12;
+
+  /**
+   * Maximum segment size exponent (1 TiB segments).
+   */
+  public static final int MAX_SEGMENT_SIZE_EXPONENT = 40;
+
+  /**
+   * The prefix of the segment file names. The segment id is appended.
+   */
+  static final String SEGMENT_FILENAME_PREFIX = IOStorage.FILENAME + ".";
+
+  /**
+   * The directory, in which the segments are stored.
+   */
+  private final Path directory;
+
+  /**
+   * The segment size exponent.
+   */
+  private final int segmentSizeExponent;
+
+  /**
+   * The segment size in bytes.
+   */
+  private final long segmentSize;
+
+  /**
+   * The file channels of all segments opened so far.
+   */
+  private final ConcurrentMap<Integer, FileChannel> channels;
+
+  /**
+   * The segments written since the last {@link #force()}.
+   */
+  private final Set<Integer> dirtySegments;
+
+  /**
+   * The id of the last segment, or {@code -1} if no segment exists.
+   */
+  private final AtomicInteger lastSegmentId;
+
+  /**
+   * Constructor.
+   *
+   * @param directory           the directory, in which the segments are stored
+   * @param segmentSizeExponent the segment size exponent, that is the segment size is {@code 2^segmentSizeExponent}
+   */
+  public DataSegments(final Path directory, final @NonNegative int segmentSizeExponent) {
+    checkArgument(segmentSizeExponent >= MIN_SEGMENT_SIZE_EXPONENT && segmentSizeExponent <= MAX_SEGMENT_SIZE_EXPONENT,
+                  "The segment size exponent must be between %s and %s.",
+                  MIN_SEGMENT_SIZE_EXPONENT,
+                  MAX_SEGMENT_SIZE_EXPONENT);
+    this.directory = requireNonNull(directory);
+    this.segmentSizeExponent = segmentSizeExponent;
+    this.segmentSize = 1L << segmentSizeExponent;
+    this.channels = new ConcurrentHashMap<>();
+    this.dirtySegments = ConcurrentHashMap.newKeySet();
+    this.lastSegmentId = new AtomicInteger(findLastSegmentId());
+  }
+
+  private int findLastSegmentId() {
+    if (!Files.exists(directory)) {
+      return -1;
+    }
+
+    try (final Stream<Path> files = Files.list(directory)) {
+      return files.map(file -> file.getFileName().toString())
+                  .filter(DataSegments::isSegmentFileName)
+                  .mapToInt(fileName -> Integer.parseInt(fileName.substring(SEGMENT_FILENAME_PREFIX.length())))
+                  .max()
+                  .orElse(-1);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private static boolean isSegmentFileName(final String fileName) {
+    if (!fileName.startsWith(SEGMENT_FILENAME_PREFIX) || fileName.length() == SEGMENT_FILENAME_PREFIX.length()) {
+      return false;
+    }
+
+    return fileName.substring(SEGMENT_FILENAME_PREFIX.length()).chars().allMatch(Character::isDigit);
+  }
+
+  /**
+   * Get the segment id of a logical offset.
+   *
+   * @param offset the logical offset
+   * @return the segment id
+   */
+  public int segmentId(final @NonNegative long offset) {
+    return (int) (offset >>> segmentSizeExponent);
+  }
+
+  /**
+   * Get the offset within its segment of a logical offset.
+   *
+   * @param offset the logical offset
+   * @return the offset within the segment
+   */
+  public long offsetInSegment(final @NonNegative long offset) {
+    return offset & (segmentSize - 1);
+  }
+
+  /**
+   * Get the segment size in bytes.
+   *
+   * @return the segment size
+   */
+  public long getSegmentSize() {
+    return segmentSize;
+  }
+
+  /**
+   * Get the path of a segment file.
+   *
+   * @param segmentId the segment id
+   * @return the path of the segment file
+   */
+  public Path getSegmentPath(final @NonNegative int segmentId) {
+    return directory.resolve(SEGMENT_FILENAME_PREFIX + segmentId);
+  }
+
+  /**
+   * Get the paths of all existing segment files in ascending order. All but the last segment are immutable, such that
+   * only new or the last segment have to be copied during incremental backups.
+   *
+   * @return the paths of all segment files
+   */
+  public List<Path> getSegmentPaths() {
+    final int last = lastSegmentId.get();
+    final List<Path> segmentPaths = new ArrayList<>(last + 1);
+    for (int segmentId = 0; segmentId <= last; segmentId++) {
+      final Path segmentPath = getSegmentPath(segmentId);
+      if (Files.exists(segmentPath)) {
+        segmentPaths.add(segmentPath);
+      }
+    }
+    return segmentPaths;
+  }
+
+  private FileChannel channel(final int segmentId, final boolean create) throws IOException {
+    FileChannel channel = channels.get(segmentId);
+
+    if (channel == null) {
+      final Path segmentPath = getSegmentPath(segmentId);
+
+      if (!create && !Files.exists(segmentPath)) {
+        return null;
+      }
+
+      channel = channels.computeIfAbsent(segmentId, unused -> {
+        try {
+          return FileChannel.open(segmentPath,
+                                  StandardOpenOption.CREATE,
+                                  StandardOpenOption.READ,
+                                  StandardOpenOption.WRITE,
+                                  StandardOpenOption.SPARSE);
+        } catch (final IOException e) {
+          throw new SirixIOException(e);
+        }
+      });
+      lastSegmentId.accumulateAndGet(segmentId, Math::max);
+    }
+
+    return channel;
+  }
+
+  /**
+   * Get the logical size of the data file, that is the offset after the last byte of the last segment.
+   *
+   * @return the logical size
+   * @throws IOException if an I/O error occurs
+   */
+  public long size() throws IOException {
+    final int last = lastSegmentId.get();
+
+    if (last == -1) {
+      return 0;
+    }
+
+    final FileChannel channel = channel(last, false);
+    return ((long) last << segmentSizeExponent) + (channel == null ? 0 : channel.size());
+  }
+
+  /**
+   * Read bytes starting at a logical offset into the buffer. Reads spanning segment boundaries are split.
+   *
+   * @param buffer   the buffer to read into
+   * @param position the logical offset
+   * @return the number of bytes read
+   * @throws IOException if an I/O error occurs
+   */
+  public int read(final ByteBuffer buffer, final @NonNegative long position) throws IOException {
+    long currentPosition = position;
+    int bytesRead = 0;
+
+    while (buffer.hasRemaining()) {
+      final FileChannel channel = channel(segmentId(currentPosition), false);
+
+      if (channel == null) {
+        break;
+      }
+
+      final long offset = offsetInSegment(currentPosition);
+      final int limit = buffer.limit();
+      buffer.limit((int) Math.min(limit, buffer.position() + (segmentSize - offset)));
+
+      final int read;
+      try {
+        read = channel.read(buffer, offset);
+      } finally {
+        buffer.limit(limit);
+      }
+
+      if (read <= 0) {
+        break;
+      }
+
+      bytesRead += read;
+      currentPosition += read;
+    }
+
+    return bytesRead;
+  }
+
+  /**
+   * Write the remaining bytes of the buffer starting at a logical offset. Writes spanning segment boundaries are
+   * split.
+   *
+   * @param buffer   the buffer to write
+   * @param position the logical offset
+   * @return the number of bytes written
+   * @throws IOException if an I/O error occurs
+   */
+  public int write(final ByteBuffer buffer, final @NonNegative long position) throws IOException {
+    long currentPosition = position;
+    int bytesWritten = 0;
+
+    while (buffer.hasRemaining()) {
+      final int segmentId = segmentId(currentPosition);
+      final FileChannel channel = channel(segmentId, true);
+      final long offset = offsetInSegment(currentPosition);
+      final int limit = buffer.limit();
+      buffer.limit((int) Math.min(limit, buffer.position() + (segmentSize - offset)));
+
+      final int written;
+      try {
+        written = channel.write(buffer, offset);
+      } finally {
+        buffer.limit(limit);
+      }
+
+      dirtySegments.add(segmentId);
+      bytesWritten += written;
+      currentPosition += written;
+    }
+
+    return bytesWritten;
+  }
+
+  /**
+   * Truncate the data file to the given logical size. All segments, which start at or after the new end, are deleted
+   * and only the segment containing the new end is truncated.
+   *
+   * @param size the new logical size
+   * @throws IOException if an I/O error occurs
+   */
+  public void truncate(final @NonNegative long size) throws IOException {
+    final long newEndInSegment = offsetInSegment(size);
+    final int newLastSegmentId = newEndInSegment == 0 ? segmentId(size) - 1 : segmentId(size);
+
+    for (int segmentId = lastSegmentId.get(); segmentId > newLastSegmentId; segmentId--) {
+      deleteSegment(segmentId);
+    }
+
+    if (newLastSegmentId >= 0) {
+      final FileChannel channel = channel(newLastSegmentId, true);
+      channel.truncate(newEndInSegment == 0 ? segmentSize : newEndInSegment);
+    }
+
+    lastSegmentId.set(newLastSegmentId);
+  }
+
+  private void deleteSegment(final int segmentId) throws IOException {
+    final FileChannel channel = channels.remove(segmentId);
+    if (channel != null) {
+      channel.close();
+    }
+    dirtySegments.remove(segmentId);
+    Files.deleteIfExists(getSegmentPath(segmentId));
+  }
+
+  /**
+   * Force all segments written since the last call to the storage device.
+   *
+   * @throws IOException if an I/O error occurs
+   */
+  public void force() throws IOException {
+    for (final Integer segmentId : dirtySegments) {
+      final FileChannel channel = channels.get(segmentId);
+      if (channel != null) {
+        channel.force(false);
+      }
+      dirtySegments.remove(segmentId);
+    }
+  }
+
+  @Override
+  public void close() {
+    try {
+      for (final FileChannel channel : channels.values()) {
+        channel.close();
+      }
+      channels.clear();
+      dirtySegments.clear();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2023, University of Konstanz, Distributed Systems Group All rights reserved.
+ * <p>
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met: * Redistributions of source code must retain the
+ * above copyright notice, this list of conditions and the following disclaimer. * Redistributions
+ * in binary form must reproduce the above copyright notice, this list of conditions and the
+ * following disclaimer in the documentation and/or other materials provided with the distribution.
+ * * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.sirix.io.segmented;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.sirix.io.RevisionFileData;
+import org.sirix.io.bytepipe.ByteHandler;
+import org.sirix.io.filechannel.AbstractFileChannelReader;
+import org.sirix.page.PagePersister;
+import org.sirix.page.SerializationType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Reader for the segmented data file. Page keys are logical offsets, which are resolved to a segment file and an
+ * offset within this segment by {@link DataSegments}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class SegmentedFileChannelReader extends AbstractFileChannelReader {
+
+  /**
+   * The data segments.
+   */
+  private final DataSegments dataSegments;
+
+  /**
+   * Constructor.
+   *
+   * @param dataSegments               the data segments
+   * @param revisionsOffsetFileChannel the file, which holds pointers to the revision root pages
+   * @param handler                    {@link ByteHandler} instance
+   * @param type                       the serialization type
+   * @param pagePersister              transforms in-memory pages into byte-arrays and back
+   * @param cache                      the revision file data cache
+   */
+  public SegmentedFileChannelReader(final DataSegments dataSegments, final FileChannel revisionsOffsetFileChannel,
+      final ByteHandler handler, final SerializationType type, final PagePersister pagePersister,
+      final Cache<Integer, RevisionFileData> cache) {
+    super(revisionsOffsetFileChannel, handler, type, pagePersister, cache);
+    this.dataSegments = dataSegments;
+  }
+
+  @Override
+  protected int readDataFile(final ByteBuffer buffer, final long position) throws IOException {
+    return dataSegments.read(buffer, position);
+  }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2023, University of Konstanz, Distributed Systems Group All rights reserved.
+ * <p>
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met: * Redistributions of source code must retain the
+ * above copyright notice, this list of conditions and the following disclaimer. * Redistributions
+ * in binary form must reproduce the above copyright notice, this list of conditions and the
+ * following disclaimer in the documentation and/or other materials provided with the distribution.
+ * * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.sirix.io.segmented;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.exception.SirixIOException;
+import org.sirix.io.IOStorage;
+import org.sirix.io.Reader;
+import org.sirix.io.RevisionFileData;
+import org.sirix.io.Writer;
+import org.sirix.io.bytepipe.ByteHandler;
+import org.sirix.io.bytepipe.ByteHandlerPipeline;
+import org.sirix.page.PagePersister;
+import org.sirix.page.SerializationType;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Factory to provide access to a data file, which is split into fixed-size segment files.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class SegmentedFileChannelStorage implements IOStorage {
+
+  /**
+   * Instance to storage.
+   */
+  private final Path file;
+
+  /**
+   * Byte handler pipeline.
+   */
+  private final ByteHandlerPipeline byteHandlerPipeline;
+
+  /**
+   * The segment size exponent.
+   */
+  private final int segmentSizeExponent;
+
+  private FileChannel revisionsOffsetFileChannel;
+
+  private DataSegments dataSegments;
+
+  final Semaphore semaphore = new Semaphore(1);
+
+  /**
+   * Revision file data cache.
+   */
+  private final AsyncCache<Integer, RevisionFileData> cache;
+
+  /**
+   * Constructor.
+   *
+   * @param resourceConfig the resource configuration
+   * @param cache          the revision file data cache
+   */
+  public SegmentedFileChannelStorage(final ResourceConfiguration resourceConfig,
+      final AsyncCache<Integer, RevisionFileData> cache) {
+    assert resourceConfig != null : "resourceConfig must not be null!";
+    file = resourceConfig.resourcePath;
+    byteHandlerPipeline = resourceConfig.byteHandlePipeline;
+    this.cache = cache;
+    segmentSizeExponent = resourceConfig.getSegmentSizeExponent();
+  }
+
+  @Override
+  public Reader createReader() {
+    try {
+      final var semaphoreAcquired = semaphore.tryAcquire(5, TimeUnit.SECONDS);
+
+      if (!semaphoreAcquired) {
+        throw new IllegalStateException("Couldn't acquire semaphore.");
+      }
+
+      initialize();
+
+      return new SegmentedFileChannelReader(dataSegments,
+                                            revisionsOffsetFileChannel,
+                                            new ByteHandlerPipeline(byteHandlerPipeline),
+                                            SerializationType.DATA,
+                                            new PagePersister(),
+                                            cache.synchronous());
+    } catch (final IOException | InterruptedException e) {
+      throw new SirixIOException(e);
+    } finally {
+      semaphore.release();
+    }
+  }
+
+  @Override
+  public Writer createWriter() {
+    try {
+      final var semaphoreAcquired = semaphore.tryAcquire(5, TimeUnit.SECONDS);
+
+      if (!semaphoreAcquired) {
+        throw new IllegalStateException("Couldn't acquire semaphore.");
+      }
+
+      initialize();
+
+      final var byteHandlePipeline = new ByteHandlerPipeline(byteHandlerPipeline);
+      final var serializationType = SerializationType.DATA;
+      final var pagePersister = new PagePersister();
+      final var reader = new SegmentedFileChannelReader(dataSegments,
+                                                        revisionsOffsetFileChannel,
+                                                        byteHandlePipeline,
+                                                        serializationType,
+                                                        pagePersister,
+                                                        cache.synchronous());
+
+      return new SegmentedFileChannelWriter(dataSegments,
+                                            revisionsOffsetFileChannel,
+                                            serializationType,
+                                            pagePersister,
+                                            cache,
+                                            reader);
+    } catch (final IOException | InterruptedException e) {
+      throw new SirixIOException(e);
+    } finally {
+      semaphore.release();
+    }
+  }
+
+  private void initialize() throws IOException {
+    final Path dataDirectory = getDataDirectory();
+
+    if (!Files.exists(dataDirectory)) {
+      Files.createDirectories(dataDirectory);
+    }
+
+    final Path revisionsOffsetFilePath = dataDirectory.resolve(REVISIONS_FILENAME);
+
+    if (!Files.exists(revisionsOffsetFilePath)) {
+      Files.createFile(revisionsOffsetFilePath);
+    }
+
+    if (revisionsOffsetFileChannel == null) {
+      revisionsOffsetFileChannel =
+          FileChannel.open(revisionsOffsetFilePath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    getDataSegments();
+  }
+
+  private synchronized DataSegments getDataSegments() {
+    if (dataSegments == null) {
+      dataSegments = new DataSegments(getDataDirectory(), segmentSizeExponent);
+    }
+    return dataSegments;
+  }
+
+  /**
+   * Get the paths of all segment files in ascending order.
+   *
+   * @return the paths of all segment files
+   */
+  public List<Path> getSegmentPaths() {
+    return getDataSegments().getSegmentPaths();
+  }
+
+  @Override
+  public void close() {
+    try {
+      if (revisionsOffsetFileChannel != null) {
+        revisionsOffsetFileChannel.close();
+      }
+      if (dataSegments != null) {
+        dataSegments.close();
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private Path getDataDirectory() {
+    return file.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath());
+  }
+
+  @Override
+  public boolean exists() {
+    final Path firstSegment = getDataDirectory().resolve(DataSegments.SEGMENT_FILENAME_PREFIX + 0);
+    try {
+      return Files.exists(firstSegment) && Files.size(firstSegment) > 0;
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  @Override
+  public ByteHandler getByteHandler() {
+    return byteHandlerPipeline;
+  }
+}
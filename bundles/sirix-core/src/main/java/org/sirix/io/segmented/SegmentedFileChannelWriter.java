@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2023, University of Konstanz, Distributed Systems Group All rights reserved.
+ * <p>
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met: * Redistributions of source code must retain the
+ * above copyright notice, this list of conditions and the following disclaimer. * Redistributions
+ * in binary form must reproduce the above copyright notice, this list of conditions and the
+ * following disclaimer in the documentation and/or other materials provided with the distribution.
+ * * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.sirix.io.segmented;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import org.sirix.io.RevisionFileData;
+import org.sirix.io.filechannel.AbstractFileChannelWriter;
+import org.sirix.page.PagePersister;
+import org.sirix.page.SerializationType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Writer for the segmented data file. Pages are appended to the logical address space, which is mapped onto the
+ * segment files by {@link DataSegments}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class SegmentedFileChannelWriter extends AbstractFileChannelWriter {
+
+  /**
+   * The data segments.
+   */
+  private final DataSegments dataSegments;
+
+  /**
+   * Constructor.
+   *
+   * @param dataSegments               the data segments
+   * @param revisionsOffsetFileChannel the channel to the file, which holds pointers to the revision root pages
+   * @param serializationType          the serialization type (for the transaction log or the data file)
+   * @param pagePersister              transforms in-memory pages into byte-arrays and back
+   * @param cache                      the revision file data cache
+   * @param reader                     the reader delegate
+   */
+  public SegmentedFileChannelWriter(final DataSegments dataSegments, final FileChannel revisionsOffsetFileChannel,
+      final SerializationType serializationType, final PagePersister pagePersister,
+      final AsyncCache<Integer, RevisionFileData> cache, final SegmentedFileChannelReader reader) {
+    super(revisionsOffsetFileChannel, serializationType, pagePersister, cache, reader);
+    this.dataSegments = requireNonNull(dataSegments);
+  }
+
+  @Override
+  protected long dataFileSize() throws IOException {
+    return dataSegments.size();
+  }
+
+  @Override
+  protected void writeDataFile(final ByteBuffer buffer, final long position) throws IOException {
+    dataSegments.write(buffer, position);
+  }
+
+  @Override
+  protected void truncateDataFile(final long size) throws IOException {
+    dataSegments.truncate(size);
+  }
+
+  @Override
+  protected void forceDataFile(final boolean metaData) throws IOException {
+    dataSegments.force();
+  }
+}
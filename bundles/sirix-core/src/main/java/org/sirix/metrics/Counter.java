@@ -0,0 +1,22 @@
+package org.sirix.metrics;
+
+/**
+ * A monotonically increasing count, for instance of cache hits.
+ *
+ * @author Johannes Lichtenberger
+ */
+public interface Counter {
+  /**
+   * Increment the count by one.
+   */
+  default void increment() {
+    increment(1);
+  }
+
+  /**
+   * Increment the count.
+   *
+   * @param amount the amount to add, must not be negative
+   */
+  void increment(long amount);
+}
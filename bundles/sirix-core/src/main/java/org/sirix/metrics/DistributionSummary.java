@@ -0,0 +1,15 @@
+package org.sirix.metrics;
+
+/**
+ * Records the distribution of values, for instance of the number of page fragments read to reconstruct a page.
+ *
+ * @author Johannes Lichtenberger
+ */
+public interface DistributionSummary {
+  /**
+   * Record a value.
+   *
+   * @param amount the value
+   */
+  void record(double amount);
+}
@@ -0,0 +1,191 @@
+package org.sirix.metrics;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The global metrics registry and the meters of the storage engine.
+ *
+ * <p>The meters are handles, which forward to the meters of the current registry. Thus, they can be stored in static
+ * fields and the instrumented code doesn't have to look up a meter for each measurement. By default, all measurements
+ * are discarded. A monitoring system is plugged in by setting another registry, typically once during startup.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class Metrics {
+  private static final List<ForwardingMeter<?>> meters = new CopyOnWriteArrayList<>();
+
+  private static volatile MetricsRegistry registry = NoOpMetricsRegistry.INSTANCE;
+
+  public static final Counter PAGE_CACHE_HITS =
+      counter("sirix.page.cache.hits", "Number of pages found in the page cache.");
+
+  public static final Counter PAGE_CACHE_MISSES =
+      counter("sirix.page.cache.misses", "Number of pages not found in the page cache.");
+
+  public static final Counter RECORD_PAGE_CACHE_HITS =
+      counter("sirix.record.page.cache.hits", "Number of reconstructed record pages found in the record page cache.");
+
+  public static final Counter RECORD_PAGE_CACHE_MISSES =
+      counter("sirix.record.page.cache.misses", "Number of record pages, which had to be reconstructed.");
+
+  public static final Counter REVISION_ROOT_PAGE_CACHE_HITS =
+      counter("sirix.revision.root.page.cache.hits", "Number of revision root pages found in the cache.");
+
+  public static final Counter REVISION_ROOT_PAGE_CACHE_MISSES =
+      counter("sirix.revision.root.page.cache.misses", "Number of revision root pages not found in the cache.");
+
+  public static final DistributionSummary PAGE_FRAGMENTS =
+      summary("sirix.page.fragments", "Number of page fragments read to reconstruct a record page.");
+
+  public static final Counter PAGE_READS = counter("sirix.page.reads", "Number of pages read from durable storage.");
+
+  public static final DistributionSummary PAGE_READ_BYTES =
+      summary("sirix.page.read.bytes", "Size of the pages read from durable storage in bytes.");
+
+  public static final Counter PAGE_WRITES = counter("sirix.page.writes", "Number of pages written to durable storage.");
+
+  public static final Timer COMMIT = timer("sirix.commit", "Duration of commits.");
+
+  /**
+   * Utility class.
+   */
+  private Metrics() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Get the current registry, for instance to create meters with tags, which are only known at runtime.
+   *
+   * @return the current registry
+   */
+  public static MetricsRegistry registry() {
+    return registry;
+  }
+
+  /**
+   * Set the registry, to which all meters forward.
+   *
+   * @param registry the new registry
+   */
+  public static synchronized void setRegistry(final MetricsRegistry registry) {
+    Metrics.registry = requireNonNull(registry);
+    meters.forEach(meter -> meter.bind(registry));
+  }
+
+  /**
+   * Create a counter handle, which forwards to the current registry.
+   *
+   * @param name        the name of the counter
+   * @param description a description of the counter
+   * @param tags        alternating tag keys and values
+   * @return the counter handle
+   */
+  public static Counter counter(final String name, final String description, final String... tags) {
+    return register(new ForwardingCounter(name, description, tags));
+  }
+
+  /**
+   * Create a timer handle, which forwards to the current registry.
+   *
+   * @param name        the name of the timer
+   * @param description a description of the timer
+   * @param tags        alternating tag keys and values
+   * @return the timer handle
+   */
+  public static Timer timer(final String name, final String description, final String... tags) {
+    return register(new ForwardingTimer(name, description, tags));
+  }
+
+  /**
+   * Create a distribution summary handle, which forwards to the current registry.
+   *
+   * @param name        the name of the distribution summary
+   * @param description a description of the distribution summary
+   * @param tags        alternating tag keys and values
+   * @return the distribution summary handle
+   */
+  public static DistributionSummary summary(final String name, final String description, final String... tags) {
+    return register(new ForwardingSummary(name, description, tags));
+  }
+
+  private static synchronized <M extends ForwardingMeter<?>> M register(final M meter) {
+    meter.bind(registry);
+    meters.add(meter);
+    return meter;
+  }
+
+  private abstract static class ForwardingMeter<M> {
+    final String name;
+
+    final String description;
+
+    final String[] tags;
+
+    volatile M delegate;
+
+    ForwardingMeter(final String name, final String description, final String[] tags) {
+      this.name = requireNonNull(name);
+      this.description = requireNonNull(description);
+      this.tags = tags.clone();
+    }
+
+    void bind(final MetricsRegistry registry) {
+      delegate = resolve(registry);
+    }
+
+    abstract M resolve(MetricsRegistry registry);
+  }
+
+  private static final class ForwardingCounter extends ForwardingMeter<Counter> implements Counter {
+    ForwardingCounter(final String name, final String description, final String[] tags) {
+      super(name, description, tags);
+    }
+
+    @Override
+    Counter resolve(final MetricsRegistry registry) {
+      return registry.counter(name, description, tags);
+    }
+
+    @Override
+    public void increment(final long amount) {
+      delegate.increment(amount);
+    }
+  }
+
+  private static final class ForwardingTimer extends ForwardingMeter<Timer> implements Timer {
+    ForwardingTimer(final String name, final String description, final String[] tags) {
+      super(name, description, tags);
+    }
+
+    @Override
+    Timer resolve(final MetricsRegistry registry) {
+      return registry.timer(name, description, tags);
+    }
+
+    @Override
+    public void record(final long amount, final TimeUnit unit) {
+      delegate.record(amount, unit);
+    }
+  }
+
+  private static final class ForwardingSummary extends ForwardingMeter<DistributionSummary>
+      implements DistributionSummary {
+    ForwardingSummary(final String name, final String description, final String[] tags) {
+      super(name, description, tags);
+    }
+
+    @Override
+    DistributionSummary resolve(final MetricsRegistry registry) {
+      return registry.summary(name, description, tags);
+    }
+
+    @Override
+    public void record(final double amount) {
+      delegate.record(amount);
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package org.sirix.metrics;
+
+/**
+ * Creates and keeps track of meters. Meters are identified by their name and their tags, which are given as
+ * alternating keys and values. Names are dot-separated and lower case, for instance {@code sirix.page.cache.hits},
+ * such that they can be mapped to the naming conventions of a monitoring system. The methods are modelled after
+ * Micrometer's {@code MeterRegistry}, such that a registry is easily adapted to it.
+ *
+ * <p>Implementations must be thread safe. Asking for a meter with the same name and tags twice must return a
+ * meter, which records into the same time series.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public interface MetricsRegistry {
+  /**
+   * Get or create a counter.
+   *
+   * @param name        the name of the counter
+   * @param description a description of the counter
+   * @param tags        alternating tag keys and values
+   * @return the counter
+   */
+  Counter counter(String name, String description, String... tags);
+
+  /**
+   * Get or create a timer.
+   *
+   * @param name        the name of the timer
+   * @param description a description of the timer
+   * @param tags        alternating tag keys and values
+   * @return the timer
+   */
+  Timer timer(String name, String description, String... tags);
+
+  /**
+   * Get or create a distribution summary.
+   *
+   * @param name        the name of the distribution summary
+   * @param description a description of the distribution summary
+   * @param tags        alternating tag keys and values
+   * @return the distribution summary
+   */
+  DistributionSummary summary(String name, String description, String... tags);
+}
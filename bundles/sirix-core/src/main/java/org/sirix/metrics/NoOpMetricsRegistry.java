@@ -0,0 +1,40 @@
+package org.sirix.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A registry, which discards all measurements. It's the default, such that instrumentation has (almost) no overhead,
+ * if no monitoring system is used.
+ *
+ * @author Johannes Lichtenberger
+ */
+public enum NoOpMetricsRegistry implements MetricsRegistry, Counter, Timer, DistributionSummary {
+  INSTANCE;
+
+  @Override
+  public Counter counter(String name, String description, String... tags) {
+    return this;
+  }
+
+  @Override
+  public Timer timer(String name, String description, String... tags) {
+    return this;
+  }
+
+  @Override
+  public DistributionSummary summary(String name, String description, String... tags) {
+    return this;
+  }
+
+  @Override
+  public void increment(long amount) {
+  }
+
+  @Override
+  public void record(long amount, TimeUnit unit) {
+  }
+
+  @Override
+  public void record(double amount) {
+  }
+}
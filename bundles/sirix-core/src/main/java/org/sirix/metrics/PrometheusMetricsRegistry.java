@@ -0,0 +1,215 @@
+package org.sirix.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAccumulator;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An in-memory registry, which renders its meters in the Prometheus text exposition format. Counters are exposed with
+ * the suffix {@code _total}, timers as summaries in seconds and distribution summaries as summaries. Besides, the
+ * maximum recorded value of timers and distribution summaries is exposed as a gauge with the suffix {@code _max}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class PrometheusMetricsRegistry implements MetricsRegistry {
+  /**
+   * The content type of the text exposition format.
+   */
+  public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  private record MeterId(String name, List<String> tags) {
+  }
+
+  private sealed interface Meter permits PrometheusCounter, PrometheusTimer, PrometheusSummary {
+    String description();
+  }
+
+  private final ConcurrentMap<MeterId, Meter> meters = new ConcurrentHashMap<>();
+
+  @Override
+  public Counter counter(final String name, final String description, final String... tags) {
+    return register(name, tags, PrometheusCounter.class, () -> new PrometheusCounter(description));
+  }
+
+  @Override
+  public Timer timer(final String name, final String description, final String... tags) {
+    return register(name, tags, PrometheusTimer.class, () -> new PrometheusTimer(description));
+  }
+
+  @Override
+  public DistributionSummary summary(final String name, final String description, final String... tags) {
+    return register(name, tags, PrometheusSummary.class, () -> new PrometheusSummary(description));
+  }
+
+  private <M extends Meter> M register(final String name, final String[] tags, final Class<M> type,
+      final Supplier<M> meterFactory) {
+    requireNonNull(name);
+
+    if (tags.length % 2 != 0) {
+      throw new IllegalArgumentException("Tags must be given as pairs of keys and values: " + Arrays.toString(tags));
+    }
+
+    final var meter = meters.computeIfAbsent(new MeterId(name, List.of(tags)), id -> meterFactory.get());
+
+    if (!type.isInstance(meter)) {
+      throw new IllegalArgumentException("Meter " + name + " has already been registered with another type.");
+    }
+
+    return type.cast(meter);
+  }
+
+  /**
+   * Render all meters in the text exposition format.
+   *
+   * @return the meters in the text exposition format
+   */
+  public String scrape() {
+    final Map<String, List<Map.Entry<MeterId, Meter>>> metersByName = new TreeMap<>();
+
+    for (final var entry : meters.entrySet()) {
+      metersByName.computeIfAbsent(sanitize(entry.getKey().name()), name -> new ArrayList<>()).add(entry);
+    }
+
+    final var out = new StringBuilder();
+
+    metersByName.forEach((name, entries) -> {
+      final var description = entries.get(0).getValue().description();
+
+      final var firstMeter = entries.get(0).getValue();
+
+      if (firstMeter instanceof PrometheusCounter) {
+        writeHeader(out, name + "_total", description, "counter");
+        for (final var entry : entries) {
+          final var counter = (PrometheusCounter) entry.getValue();
+          writeSample(out, name + "_total", entry.getKey().tags(), Long.toString(counter.count.sum()));
+        }
+      } else if (firstMeter instanceof PrometheusTimer) {
+        writeHeader(out, name + "_seconds", description, "summary");
+        for (final var entry : entries) {
+          final var timer = (PrometheusTimer) entry.getValue();
+          writeSample(out, name + "_seconds_count", entry.getKey().tags(), Long.toString(timer.count.sum()));
+          writeSample(out, name + "_seconds_sum", entry.getKey().tags(), toSeconds(timer.totalNanos.sum()));
+        }
+        writeHeader(out, name + "_seconds_max", description, "gauge");
+        for (final var entry : entries) {
+          final var timer = (PrometheusTimer) entry.getValue();
+          writeSample(out, name + "_seconds_max", entry.getKey().tags(), toSeconds(timer.maxNanos.get()));
+        }
+      } else {
+        writeHeader(out, name, description, "summary");
+        for (final var entry : entries) {
+          final var summary = (PrometheusSummary) entry.getValue();
+          writeSample(out, name + "_count", entry.getKey().tags(), Long.toString(summary.count.sum()));
+          writeSample(out, name + "_sum", entry.getKey().tags(), Double.toString(summary.sum.sum()));
+        }
+        writeHeader(out, name + "_max", description, "gauge");
+        for (final var entry : entries) {
+          final var summary = (PrometheusSummary) entry.getValue();
+          writeSample(out, name + "_max", entry.getKey().tags(), Double.toString(summary.max.get()));
+        }
+      }
+    });
+
+    return out.toString();
+  }
+
+  private static void writeHeader(final StringBuilder out, final String name, final String description,
+      final String type) {
+    out.append("# HELP ").append(name).append(' ').append(description.replace("\\", "\\\\").replace("\n", "\\n"));
+    out.append('\n');
+    out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+  }
+
+  private static void writeSample(final StringBuilder out, final String name, final List<String> tags,
+      final String value) {
+    out.append(name);
+
+    if (!tags.isEmpty()) {
+      out.append('{');
+      for (int i = 0; i < tags.size(); i += 2) {
+        if (i > 0) {
+          out.append(',');
+        }
+        out.append(sanitize(tags.get(i)))
+           .append("=\"")
+           .append(tags.get(i + 1).replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n"))
+           .append('"');
+      }
+      out.append('}');
+    }
+
+    out.append(' ').append(value).append('\n');
+  }
+
+  private static String toSeconds(final long nanos) {
+    return Double.toString(nanos / 1_000_000_000.0);
+  }
+
+  /**
+   * Map a dot-separated name to a valid metric or label name.
+   */
+  private static String sanitize(final String name) {
+    final var sanitizedName = new StringBuilder(name.length());
+
+    for (int i = 0; i < name.length(); i++) {
+      final char c = name.charAt(i);
+      final boolean isValid =
+          (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || (i > 0 && c >= '0' && c <= '9');
+      sanitizedName.append(isValid ? c : '_');
+    }
+
+    return sanitizedName.toString();
+  }
+
+  private record PrometheusCounter(String description, LongAdder count) implements Meter, Counter {
+    PrometheusCounter(final String description) {
+      this(description, new LongAdder());
+    }
+
+    @Override
+    public void increment(final long amount) {
+      count.add(amount);
+    }
+  }
+
+  private record PrometheusTimer(String description, LongAdder count, LongAdder totalNanos, LongAccumulator maxNanos)
+      implements Meter, Timer {
+    PrometheusTimer(final String description) {
+      this(description, new LongAdder(), new LongAdder(), new LongAccumulator(Math::max, 0));
+    }
+
+    @Override
+    public void record(final long amount, final TimeUnit unit) {
+      final long nanos = unit.toNanos(amount);
+      count.increment();
+      totalNanos.add(nanos);
+      maxNanos.accumulate(nanos);
+    }
+  }
+
+  private record PrometheusSummary(String description, LongAdder count, DoubleAdder sum, DoubleAccumulator max)
+      implements Meter, DistributionSummary {
+    PrometheusSummary(final String description) {
+      this(description, new LongAdder(), new DoubleAdder(), new DoubleAccumulator(Math::max, 0));
+    }
+
+    @Override
+    public void record(final double amount) {
+      count.increment();
+      sum.add(amount);
+      max.accumulate(amount);
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package org.sirix.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the durations of events, for instance of commits.
+ *
+ * @author Johannes Lichtenberger
+ */
+public interface Timer {
+  /**
+   * Record the duration of an event.
+   *
+   * @param amount the duration
+   * @param unit   the unit of the duration
+   */
+  void record(long amount, TimeUnit unit);
+
+  /**
+   * Record the duration of an event, which started at the given {@link System#nanoTime()}.
+   *
+   * @param startNanos the start time in nanoseconds
+   */
+  default void recordSince(long startNanos) {
+    record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+  }
+}
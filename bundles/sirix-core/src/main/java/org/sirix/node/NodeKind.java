@@ -28,8 +28,11 @@
 
 package org.sirix.node;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.openhft.chronicle.bytes.BytesIn;
 import net.openhft.chronicle.bytes.BytesOut;
 import net.openhft.hashing.LongHashFunction;
@@ -45,6 +48,8 @@ import org.sirix.access.ResourceConfiguration;
 import org.sirix.access.trx.node.HashType;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.index.AtomicUtil;
+import org.sirix.index.column.ColumnChunk;
+import org.sirix.index.column.ColumnDirectory;
 import org.sirix.index.path.summary.PathNode;
 import org.sirix.index.redblacktree.RBNode;
 import org.sirix.index.redblacktree.keyvalue.CASValue;
@@ -161,10 +166,7 @@ public enum NodeKind implements DeweyIdSerializer {
       final NameNodeDelegate nameDel = deserializeNameDelegate(nodeDel, source);
 
       // Val delegate.
-      final boolean isCompressed = source.readByte() == (byte) 1;
-      final byte[] vals = new byte[source.readInt()];
-      source.read(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel = deserializeValDelegate(nodeDel, source, pageReadTrx);
 
       // Returning an instance.
       return new AttributeNode(nodeDel, nameDel, valDel, new QNm(""));
@@ -214,10 +216,7 @@ public enum NodeKind implements DeweyIdSerializer {
       final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
 
       // Val delegate.
-      final boolean isCompressed = source.readByte() == (byte) 1;
-      final byte[] vals = new byte[source.readInt()];
-      source.read(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel = deserializeValDelegate(nodeDel, source, pageReadTrx);
 
       // Struct delegate.
       final long nodeKey = nodeDel.getNodeKey();
@@ -262,10 +261,7 @@ public enum NodeKind implements DeweyIdSerializer {
       final NameNodeDelegate nameDel = deserializeNameDelegate(nodeDel, source);
 
       // Val delegate.
-      final boolean isCompressed = source.readByte() == (byte) 1;
-      final byte[] vals = new byte[source.readInt()];
-      source.read(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel = deserializeValDelegate(nodeDel, source, pageReadTrx);
 
       // Returning an instance.
       return new PINode(structDel, nameDel, valDel, pageReadTrx);
@@ -295,10 +291,7 @@ public enum NodeKind implements DeweyIdSerializer {
       final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
 
       // Val delegate.
-      final boolean isCompressed = source.readByte() == (byte) 1;
-      final byte[] vals = new byte[source.readInt()];
-      source.read(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel = deserializeValDelegate(nodeDel, source, pageReadTrx);
 
       // Struct delegate.
       final long nodeKey = nodeDel.getNodeKey();
@@ -942,10 +935,7 @@ public enum NodeKind implements DeweyIdSerializer {
       final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
 
       // Val delegate.
-      final boolean isCompressed = source.readByte() == (byte) 1;
-      final byte[] vals = new byte[source.readInt()];
-      source.read(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel = deserializeValDelegate(nodeDel, source, pageReadTrx);
 
       // Struct delegate.
       final StructNodeDelegate structDelegate = new StructNodeDelegate(nodeDel,
@@ -1029,21 +1019,22 @@ public enum NodeKind implements DeweyIdSerializer {
     @Override
     public @NotNull DataRecord deserialize(final BytesIn<?> source, final @NonNegative long recordID,
         final byte[] deweyID, final PageReadOnlyTrx pageReadTrx) {
-      final byte valueType = source.readByte();
-      final Number number;
-
-      switch (valueType) {
-        case 0 -> number = source.readDouble();
-        case 1 -> number = source.readFloat();
-        case 2 -> number = source.readInt();
-        case 3 -> number = source.readLong();
-        case 4 -> number = deserializeBigInteger(source);
-        case 5 -> {
+      final NumberType numberType = NumberType.fromId(source.readByte());
+      long longValue = 0;
+      double doubleValue = 0;
+      Number bigNumber = null;
+
+      switch (numberType) {
+        case DOUBLE -> doubleValue = source.readDouble();
+        case FLOAT -> doubleValue = source.readFloat();
+        case INTEGER -> longValue = source.readInt();
+        case LONG -> longValue = source.readLong();
+        case BIG_INTEGER -> bigNumber = deserializeBigInteger(source);
+        case BIG_DECIMAL -> {
           final BigInteger bigInt = deserializeBigInteger(source);
           final int scale = source.readInt();
-          number = new BigDecimal(bigInt, scale);
+          bigNumber = new BigDecimal(bigInt, scale);
         }
-        default -> throw new AssertionError("Type not known.");
       }
 
       // Node delegate.
@@ -1059,43 +1050,30 @@ public enum NodeKind implements DeweyIdSerializer {
                                                                        0);
 
       // Returning an instance.
-      return new ObjectNumberNode(number, structDelegate);
+      return bigNumber == null
+          ? new ObjectNumberNode(numberType, longValue, doubleValue, structDelegate)
+          : new ObjectNumberNode(bigNumber, structDelegate);
     }
 
     @Override
     public void serialize(final BytesOut<ByteBuffer> sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx) {
       final ObjectNumberNode node = (ObjectNumberNode) record;
-      final Number number = node.getValue();
-
-      switch (number) {
-        case Double aDouble -> {
-          sink.writeByte((byte) 0);
-          sink.writeDouble(number.doubleValue());
-        }
-        case Float aFloat -> {
-          sink.writeByte((byte) 1);
-          sink.writeFloat(number.floatValue());
-        }
-        case Integer integer -> {
-          sink.writeByte((byte) 2);
-          sink.writeInt(number.intValue());
-        }
-        case Long aLong -> {
-          sink.writeByte((byte) 3);
-          sink.writeLong(number.longValue());
-        }
-        case BigInteger bigInt -> {
-          sink.writeByte((byte) 4);
-          sink.writeBigInteger(bigInt);
-        }
-        case final BigDecimal value -> {
-          sink.writeByte((byte) 5);
+      final NumberType numberType = node.getNumberType();
+
+      sink.writeByte(numberType.getId());
+      switch (numberType) {
+        case DOUBLE -> sink.writeDouble(node.getDoubleValue());
+        case FLOAT -> sink.writeFloat((float) node.getDoubleValue());
+        case INTEGER -> sink.writeInt((int) node.getLongValue());
+        case LONG -> sink.writeLong(node.getLongValue());
+        case BIG_INTEGER -> sink.writeBigInteger((BigInteger) node.getValue());
+        case BIG_DECIMAL -> {
+          final BigDecimal value = (BigDecimal) node.getValue();
           final BigInteger bigInt = value.unscaledValue();
           final int scale = value.scale();
           sink.writeBigInteger(bigInt);
           sink.writeInt(scale);
         }
-        case null, default -> throw new AssertionError("Type not known.");
       }
 
       serializeDelegate(node.getNodeDelegate(), sink);
@@ -1164,10 +1142,7 @@ public enum NodeKind implements DeweyIdSerializer {
       final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
 
       // Val delegate.
-      final boolean isCompressed = source.readByte() == (byte) 1;
-      final byte[] vals = new byte[source.readInt()];
-      source.read(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel = deserializeValDelegate(nodeDel, source, pageReadTrx);
 
       // Struct delegate.
       final StructNodeDelegate structDel = deserializeStructNodeJsonValueNode(source, nodeDel);
@@ -1241,62 +1216,52 @@ public enum NodeKind implements DeweyIdSerializer {
     @Override
     public @NotNull DataRecord deserialize(final BytesIn<?> source, final @NonNegative long recordID,
         final byte[] deweyID, final PageReadOnlyTrx pageReadTrx) {
-      final byte valueType = source.readByte();
-      final Number number = switch (valueType) {
-        case 0 -> source.readDouble();
-        case 1 -> source.readFloat();
-        case 2 -> source.readInt();
-        case 3 -> source.readLong();
-        case 4 -> deserializeBigInteger(source);
-        case 5 -> {
+      final NumberType numberType = NumberType.fromId(source.readByte());
+      long longValue = 0;
+      double doubleValue = 0;
+      Number bigNumber = null;
+
+      switch (numberType) {
+        case DOUBLE -> doubleValue = source.readDouble();
+        case FLOAT -> doubleValue = source.readFloat();
+        case INTEGER -> longValue = source.readInt();
+        case LONG -> longValue = source.readLong();
+        case BIG_INTEGER -> bigNumber = deserializeBigInteger(source);
+        case BIG_DECIMAL -> {
           final BigInteger bigInt = deserializeBigInteger(source);
           final int scale = source.readInt();
-          yield new BigDecimal(bigInt, scale);
+          bigNumber = new BigDecimal(bigInt, scale);
         }
-        default -> throw new AssertionError("Type not known.");
-      };
+      }
 
       final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
       final StructNodeDelegate structDel = deserializeStructNodeJsonValueNode(source, nodeDel);
 
       // Returning an instance.
-      return new NumberNode(number, structDel);
+      return bigNumber == null
+          ? new NumberNode(numberType, longValue, doubleValue, structDel)
+          : new NumberNode(bigNumber, structDel);
     }
 
     @Override
     public void serialize(final BytesOut<ByteBuffer> sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx) {
       final NumberNode node = (NumberNode) record;
-      final Number number = node.getValue();
-
-      switch (number) {
-        case Double ignored -> {
-          sink.writeByte((byte) 0);
-          sink.writeDouble(number.doubleValue());
-        }
-        case Float ignored1 -> {
-          sink.writeByte((byte) 1);
-          sink.writeFloat(number.floatValue());
-        }
-        case Integer ignored2 -> {
-          sink.writeByte((byte) 2);
-          sink.writeInt(number.intValue());
-        }
-        case Long ignored3 -> {
-          sink.writeByte((byte) 3);
-          sink.writeLong(number.longValue());
-        }
-        case BigInteger bigInteger -> {
-          sink.writeByte((byte) 4);
-          serializeBigInteger(sink, bigInteger);
-        }
-        case final BigDecimal value -> {
-          sink.writeByte((byte) 5);
+      final NumberType numberType = node.getNumberType();
+
+      sink.writeByte(numberType.getId());
+      switch (numberType) {
+        case DOUBLE -> sink.writeDouble(node.getDoubleValue());
+        case FLOAT -> sink.writeFloat((float) node.getDoubleValue());
+        case INTEGER -> sink.writeInt((int) node.getLongValue());
+        case LONG -> sink.writeLong(node.getLongValue());
+        case BIG_INTEGER -> serializeBigInteger(sink, (BigInteger) node.getValue());
+        case BIG_DECIMAL -> {
+          final BigDecimal value = (BigDecimal) node.getValue();
           final BigInteger bigInt = value.unscaledValue();
           final int scale = value.scale();
           serializeBigInteger(sink, bigInt);
           sink.writeInt(scale);
         }
-        case null, default -> throw new AssertionError("Type not known.");
       }
 
       serializeDelegate(node.getNodeDelegate(), sink);
@@ -1517,6 +1482,140 @@ public enum NodeKind implements DeweyIdSerializer {
     }
   },
 
+  /**
+   * Chunk of a column index.
+   */
+  COLUMN_CHUNK((byte) 36, ColumnChunk.class) {
+    @Override
+    public @NotNull DataRecord deserialize(final BytesIn<?> source, final @NonNegative long recordID,
+        final byte[] deweyID, final PageReadOnlyTrx pageReadTrx) {
+      final long pathNodeKey = getVarLong(source);
+      final int size = (int) getVarLong(source);
+      final long[] valueNodeKeys = new long[size];
+      final byte[] types = new byte[size];
+      final long[] values = new long[size];
+      final String[] strings = new String[size];
+
+      long previousValueNodeKey = 0;
+      for (int i = 0; i < size; i++) {
+        final long delta = getVarLong(source);
+        previousValueNodeKey += (delta >>> 1) ^ -(delta & 1);
+        valueNodeKeys[i] = previousValueNodeKey;
+      }
+
+      for (int i = 0; i < size; i++) {
+        final byte type = source.readByte();
+        types[i] = type;
+        switch (ColumnChunk.ValueType.fromOrdinal(type)) {
+          case LONG -> {
+            final long value = getVarLong(source);
+            values[i] = (value >>> 1) ^ -(value & 1);
+          }
+          case DOUBLE -> values[i] = source.readLong();
+          case BOOLEAN -> values[i] = source.readByte();
+          case STRING, DECIMAL -> {
+            final byte[] bytes = new byte[(int) getVarLong(source)];
+            source.read(bytes);
+            strings[i] = new String(bytes, Constants.DEFAULT_ENCODING);
+          }
+        }
+      }
+
+      return new ColumnChunk(recordID, pathNodeKey, valueNodeKeys, types, values, strings, size);
+    }
+
+    @Override
+    public void serialize(final BytesOut<ByteBuffer> sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx) {
+      final ColumnChunk chunk = (ColumnChunk) record;
+      final int size = chunk.size();
+      putVarLong(sink, chunk.getPathNodeKey());
+      putVarLong(sink, size);
+
+      // Node keys of the values are mostly ascending, thus store zig-zag encoded deltas.
+      long previousValueNodeKey = 0;
+      for (int i = 0; i < size; i++) {
+        final long delta = chunk.getValueNodeKey(i) - previousValueNodeKey;
+        putVarLong(sink, (delta << 1) ^ (delta >> 63));
+        previousValueNodeKey = chunk.getValueNodeKey(i);
+      }
+
+      for (int i = 0; i < size; i++) {
+        final ColumnChunk.ValueType type = chunk.getValueType(i);
+        sink.writeByte((byte) type.ordinal());
+        switch (type) {
+          case LONG -> {
+            final long value = chunk.getRawValue(i);
+            putVarLong(sink, (value << 1) ^ (value >> 63));
+          }
+          case DOUBLE -> sink.writeLong(chunk.getRawValue(i));
+          case BOOLEAN -> sink.writeByte((byte) chunk.getRawValue(i));
+          case STRING, DECIMAL -> {
+            final byte[] bytes = chunk.getStringValue(i).getBytes(Constants.DEFAULT_ENCODING);
+            putVarLong(sink, bytes.length);
+            sink.write(bytes);
+          }
+        }
+      }
+    }
+
+    @Override
+    public byte[] deserializeDeweyID(BytesIn<?> source, byte[] previousDeweyID, ResourceConfiguration resourceConfig) {
+      return null;
+    }
+
+    @Override
+    public void serializeDeweyID(BytesOut<ByteBuffer> sink, byte[] deweyID, byte[] nextDeweyID,
+        ResourceConfiguration resourceConfig) {
+    }
+  },
+
+  /**
+   * Directory of a column index.
+   */
+  COLUMN_DIRECTORY((byte) 37, ColumnDirectory.class) {
+    @Override
+    public @NotNull DataRecord deserialize(final BytesIn<?> source, final @NonNegative long recordID,
+        final byte[] deweyID, final PageReadOnlyTrx pageReadTrx) {
+      final int numberOfPathNodeKeys = (int) getVarLong(source);
+      final Long2ObjectMap<LongList> chunkKeysByPathNodeKey = new Long2ObjectOpenHashMap<>(numberOfPathNodeKeys);
+      for (int i = 0; i < numberOfPathNodeKeys; i++) {
+        final long pathNodeKey = getVarLong(source);
+        final int numberOfChunkKeys = (int) getVarLong(source);
+        final LongList chunkKeys = new LongArrayList(numberOfChunkKeys);
+        for (int j = 0; j < numberOfChunkKeys; j++) {
+          chunkKeys.add(getVarLong(source));
+        }
+        chunkKeysByPathNodeKey.put(pathNodeKey, chunkKeys);
+      }
+      return new ColumnDirectory(recordID, chunkKeysByPathNodeKey);
+    }
+
+    @Override
+    public void serialize(final BytesOut<ByteBuffer> sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx) {
+      final ColumnDirectory directory = (ColumnDirectory) record;
+      final LongSet pathNodeKeys = directory.getPathNodeKeys();
+      putVarLong(sink, pathNodeKeys.size());
+      for (final long pathNodeKey : pathNodeKeys) {
+        final LongList chunkKeys = directory.getChunkKeys(pathNodeKey);
+        putVarLong(sink, pathNodeKey);
+        putVarLong(sink, chunkKeys.size());
+        for (int i = 0, size = chunkKeys.size(); i < size; i++) {
+          putVarLong(sink, chunkKeys.getLong(i));
+        }
+      }
+    }
+
+    @Override
+    public byte[] deserializeDeweyID(BytesIn<?> source, byte[] previousDeweyID, ResourceConfiguration resourceConfig) {
+      return null;
+    }
+
+    @Override
+    public void serializeDeweyID(BytesOut<ByteBuffer> sink, byte[] deweyID, byte[] nextDeweyID,
+        ResourceConfiguration resourceConfig) {
+    }
+  },
+
   /**
    * Node type not known.
    */
@@ -1856,6 +1955,25 @@ public enum NodeKind implements DeweyIdSerializer {
     putVarLong(sink, nameDel.getPathNodeKey());
   }
 
+  /**
+   * Deserializing a {@link ValueNodeDelegate} instance.
+   *
+   * @param nodeDel     the node delegate
+   * @param source      the input source
+   * @param pageReadTrx the page read-only transaction
+   * @return the value delegate
+   */
+  private static ValueNodeDelegate deserializeValDelegate(final NodeDelegate nodeDel, final BytesIn<?> source,
+      final PageReadOnlyTrx pageReadTrx) {
+    final boolean isCompressed = source.readByte() == (byte) 1;
+    final byte[] vals = new byte[source.readInt()];
+    source.read(vals, 0, vals.length);
+    return new ValueNodeDelegate(nodeDel,
+                                 vals,
+                                 isCompressed,
+                                 pageReadTrx.getResourceSession().getResourceConfig().compressValuesIndividually());
+  }
+
   /**
    * Serializing the {@link ValueNodeDelegate} instance.
    *
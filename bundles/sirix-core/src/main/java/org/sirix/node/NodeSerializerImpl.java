@@ -39,19 +39,16 @@ public final class NodeSerializerImpl implements DeweyIdSerializer {
       ResourceConfiguration resourceConfig) {
     if (resourceConfig.areDeweyIDsStored) {
       if (previousDeweyID != null) {
-        final int cutOffSize = source.readByte();
-        final int size = source.readByte();
-        final byte[] deweyIDBytes = new byte[size];
-        source.read(deweyIDBytes);
+        final int cutOffSize = source.readByte() & 0xFF;
+        final int size = source.readByte() & 0xFF;
 
-        final byte[] bytes = new byte[cutOffSize + deweyIDBytes.length];
-        final ByteBuffer target = ByteBuffer.wrap(bytes);
-        target.put(Arrays.copyOfRange(previousDeweyID, 0, cutOffSize));
-        target.put(deweyIDBytes);
+        final byte[] bytes = new byte[cutOffSize + size];
+        System.arraycopy(previousDeweyID, 0, bytes, 0, cutOffSize);
+        source.read(bytes, cutOffSize, size);
 
         return bytes;
       } else {
-        final byte deweyIDLength = source.readByte();
+        final int deweyIDLength = source.readByte() & 0xFF;
         final byte[] deweyIDBytes = new byte[deweyIDLength];
         source.read(deweyIDBytes, 0, deweyIDLength);
         return deweyIDBytes;
@@ -69,12 +66,9 @@ public final class NodeSerializerImpl implements DeweyIdSerializer {
 
         //assert deweyIDBytes.length <= nextDeweyIDBytes.length;
 
-        int i = 0;
-        for (; i < deweyID.length && i < nextDeweyID.length; i++) {
-          if (deweyID[i] != nextDeweyID[i]) {
-            break;
-          }
-        }
+        // The length of the common prefix with the previous DeweyID, which is cut off.
+        final int mismatch = Arrays.mismatch(deweyID, nextDeweyID);
+        final int i = mismatch == -1 ? nextDeweyID.length : mismatch;
         writeDeweyID(sink, nextDeweyID, i);
       } else {
         sink.writeByte((byte) deweyID.length);
@@ -86,7 +80,6 @@ public final class NodeSerializerImpl implements DeweyIdSerializer {
   private static void writeDeweyID(final BytesOut<ByteBuffer> sink, final byte[] deweyID, @NonNegative final int i) {
     sink.writeByte((byte) i);
     sink.writeByte((byte) (deweyID.length - i));
-    final var bytes = Arrays.copyOfRange(deweyID, i, deweyID.length);
-    sink.write(bytes);
+    sink.write(deweyID, i, deweyID.length - i);
   }
 }
@@ -582,59 +582,57 @@ public final class SirixDeweyID implements Comparable<SirixDeweyID>, SimpleDewey
 
     int[] myD = this.divisionValues;
     int[] oD = deweyID.divisionValues;
-    int myLen = myD.length;
-    int oLen = oD.length;
-    int len = Math.min(myLen, oLen);
 
-    int pos = -1;
-    while (++pos < len) {
-      if (myD[pos] != oD[pos]) {
-        return myD[pos] - oD[pos];
-      }
+    // Arrays.mismatch(...) is an intrinsic, which compares several divisions at once.
+    int pos = Arrays.mismatch(myD, oD);
+
+    if (pos == -1) {
+      return 0;
+    }
+    if (pos == myD.length || pos == oD.length) {
+      return Integer.compare(myD.length, oD.length);
     }
 
-    return Integer.compare(myLen, oLen);
+    return Integer.compare(myD[pos], oD[pos]);
   }
 
   @Override
   public boolean equals(Object object) {
-    return ((object instanceof SirixDeweyID) && (compareTo((SirixDeweyID) object) == 0));
+    return this == object || ((object instanceof SirixDeweyID deweyID) && Arrays.equals(divisionValues,
+                                                                                         deweyID.divisionValues));
   }
 
+  /**
+   * Compares two DeweyIDs in their byte representation in document order without decoding them.
+   *
+   * @param deweyID1 the first DeweyID
+   * @param deweyID2 the second DeweyID
+   * @return a negative value, zero or a positive value, if the first DeweyID is less than, equal to or greater than
+   * the second DeweyID
+   */
   public static int compare(byte[] deweyID1, byte[] deweyID2) {
-    int length1 = deweyID1.length;
-    int length2 = deweyID2.length;
-    int length = Math.min(length1, length2);
-
-    int pos = -1;
-    while (++pos < length) {
-      int v2 = deweyID2[pos] & 255;
-      int v1 = deweyID1[pos] & 255;
-
-      if (v1 != v2) {
-        return v1 - v2;
-      }
-    }
-
-    return length1 - length2;
+    return Arrays.compareUnsigned(deweyID1, deweyID2);
   }
 
+  /**
+   * Compares two DeweyIDs in their byte representation without decoding them, whereas the first DeweyID is considered
+   * equal, if it is a prefix of the second DeweyID.
+   *
+   * @param deweyID1 the first DeweyID
+   * @param deweyID2 the second DeweyID
+   * @return a negative value, zero or a positive value, if the first DeweyID is less than, a prefix of or greater
+   * than the second DeweyID
+   */
   public static int compareAsPrefix(byte[] deweyID1, byte[] deweyID2) {
     int length1 = deweyID1.length;
     int length2 = deweyID2.length;
-    int length = Math.min(length1, length2);
+    int pos = Arrays.mismatch(deweyID1, deweyID2);
 
-    int pos = -1;
-    while (++pos < length) {
-      int v2 = deweyID2[pos] & 255;
-      int v1 = deweyID1[pos] & 255;
-
-      if (v1 != v2) {
-        return v1 - v2;
-      }
+    if (pos == -1 || pos == length1 || pos == length2) {
+      return (length1 <= length2) ? 0 : 1;
     }
 
-    return (length1 <= length2) ? 0 : 1;
+    return (deweyID1[pos] & 255) - (deweyID2[pos] & 255);
   }
 
   public boolean isSelfOf(SirixDeweyID deweyID) {
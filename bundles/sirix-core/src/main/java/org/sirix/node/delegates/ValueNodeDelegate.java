@@ -54,6 +54,9 @@ public class ValueNodeDelegate extends AbstractForwardingNode implements ValueNo
   /** Determines if input has been compressed. */
   private boolean compressed;
 
+  /** Determines if new values are compressed individually (only for resources stored in the legacy format). */
+  private final boolean compressValues;
+
   /**
    * Constructor
    *
@@ -62,11 +65,25 @@ public class ValueNodeDelegate extends AbstractForwardingNode implements ValueNo
    * @param compressed compress value or not
    */
   public ValueNodeDelegate(final NodeDelegate nodeDel, final byte[] val, final boolean compressed) {
+    this(nodeDel, val, compressed, compressed);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param nodeDel {@link NodeDelegate} reference
+   * @param val the value
+   * @param compressed determines if the value is compressed
+   * @param compressValues determines if values set later on are compressed
+   */
+  public ValueNodeDelegate(final NodeDelegate nodeDel, final byte[] val, final boolean compressed,
+      final boolean compressValues) {
     assert nodeDel != null : "nodeDel must not be null!";
     assert val != null : "val must not be null!";
     nodeDelegate = nodeDel;
     value = val;
     this.compressed = compressed;
+    this.compressValues = compressValues;
   }
 
   @Override
@@ -107,7 +124,8 @@ public class ValueNodeDelegate extends AbstractForwardingNode implements ValueNo
 
   @Override
   public void setRawValue(final byte[] value) {
-    compressed = new String(value).length() > 10;
+    // Only values of legacy resources are compressed individually, otherwise a page-level symbol table is used.
+    compressed = compressValues && value.length > 10;
     this.value = compressed
         ? Compression.compress(value, Deflater.DEFAULT_COMPRESSION)
         : value;
@@ -43,13 +43,41 @@ import java.nio.ByteBuffer;
 public abstract class AbstractNumberNode extends AbstractStructForwardingNode implements ImmutableJsonNode {
 
   private final StructNodeDelegate structNodeDelegate;
-  private Number number;
+
+  /**
+   * The type of the number.
+   */
+  private NumberType numberType;
+
+  /**
+   * The value of {@code int} and {@code long} numbers.
+   */
+  private long longValue;
+
+  /**
+   * The value of {@code float} and {@code double} numbers.
+   */
+  private double doubleValue;
+
+  /**
+   * The value of {@link BigInteger} and {@link BigDecimal} numbers, {@code null} otherwise.
+   */
+  private Number bigNumber;
 
   private long hashCode;
 
   public AbstractNumberNode(StructNodeDelegate structNodeDel, Number number) {
     this.structNodeDelegate = structNodeDel;
-    this.number = number;
+    setValue(number);
+  }
+
+  public AbstractNumberNode(StructNodeDelegate structNodeDel, NumberType numberType, long longValue,
+      double doubleValue) {
+    assert numberType.isPrimitive();
+    this.structNodeDelegate = structNodeDel;
+    this.numberType = numberType;
+    this.longValue = longValue;
+    this.doubleValue = doubleValue;
   }
 
   @Override
@@ -72,14 +100,14 @@ public abstract class AbstractNumberNode extends AbstractStructForwardingNode im
       bytes.writeLong(structNodeDelegate.getLastChildKey());
     }
 
-    switch (number) {
-      case Float floatVal -> bytes.writeFloat(floatVal);
-      case Double doubleVal -> bytes.writeDouble(doubleVal);
-      case BigDecimal bigDecimalVal -> bytes.writeBigDecimal(bigDecimalVal);
-      case Integer intVal -> bytes.writeInt(intVal);
-      case Long longVal -> bytes.writeLong(longVal);
-      case BigInteger bigIntegerVal -> bytes.writeBigInteger(bigIntegerVal);
-      default -> throw new IllegalStateException("Unexpected value: " + number);
+    switch (numberType) {
+      case FLOAT -> bytes.writeFloat((float) doubleValue);
+      case DOUBLE -> bytes.writeDouble(doubleValue);
+      case BIG_DECIMAL -> bytes.writeBigDecimal((BigDecimal) bigNumber);
+      case INTEGER -> bytes.writeInt((int) longValue);
+      case LONG -> bytes.writeLong(longValue);
+      case BIG_INTEGER -> bytes.writeBigInteger((BigInteger) bigNumber);
+      default -> throw new IllegalStateException("Unexpected value: " + numberType);
     }
 
     final var buffer = bytes.underlyingObject().rewind();
@@ -103,11 +131,75 @@ public abstract class AbstractNumberNode extends AbstractStructForwardingNode im
 
   public void setValue(final Number number) {
     hashCode = 0L;
-    this.number = number;
+    numberType = NumberType.of(number);
+    switch (numberType) {
+      case DOUBLE, FLOAT -> {
+        doubleValue = number.doubleValue();
+        longValue = 0;
+        bigNumber = null;
+      }
+      case INTEGER, LONG -> {
+        longValue = number.longValue();
+        doubleValue = 0;
+        bigNumber = null;
+      }
+      case BIG_INTEGER, BIG_DECIMAL -> {
+        bigNumber = number;
+        longValue = 0;
+        doubleValue = 0;
+      }
+    }
   }
 
+  /**
+   * Get the value. Primitive values are boxed, thus prefer {@link #getLongValue()} and {@link #getDoubleValue()}
+   * whenever possible.
+   *
+   * @return the boxed value
+   */
   public Number getValue() {
-    return number;
+    return switch (numberType) {
+      case DOUBLE -> doubleValue;
+      case FLOAT -> (float) doubleValue;
+      case INTEGER -> (int) longValue;
+      case LONG -> longValue;
+      case BIG_INTEGER, BIG_DECIMAL -> bigNumber;
+    };
+  }
+
+  /**
+   * Get the type of the number.
+   *
+   * @return the number type
+   */
+  public NumberType getNumberType() {
+    return numberType;
+  }
+
+  /**
+   * Get the value as a {@code long} without boxing. Floating point numbers are truncated.
+   *
+   * @return the value as a {@code long}
+   */
+  public long getLongValue() {
+    return switch (numberType) {
+      case INTEGER, LONG -> longValue;
+      case DOUBLE, FLOAT -> (long) doubleValue;
+      case BIG_INTEGER, BIG_DECIMAL -> bigNumber.longValue();
+    };
+  }
+
+  /**
+   * Get the value as a {@code double} without boxing.
+   *
+   * @return the value as a {@code double}
+   */
+  public double getDoubleValue() {
+    return switch (numberType) {
+      case DOUBLE, FLOAT -> doubleValue;
+      case INTEGER, LONG -> longValue;
+      case BIG_INTEGER, BIG_DECIMAL -> bigNumber.doubleValue();
+    };
   }
 
   @Override
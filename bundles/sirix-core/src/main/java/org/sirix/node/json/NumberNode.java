@@ -53,6 +53,19 @@ public final class NumberNode extends AbstractNumberNode {
     super(structNodeDelegate, number);
   }
 
+  /**
+   * Constructor for primitive numbers, which avoids boxing.
+   *
+   * @param numberType the type of the number, which must be primitive
+   * @param longValue the value of {@code int} and {@code long} numbers
+   * @param doubleValue the value of {@code float} and {@code double} numbers
+   * @param structNodeDelegate delegate for {@link StructNode} implementation
+   */
+  public NumberNode(final NumberType numberType, final long longValue, final double doubleValue,
+      final StructNodeDelegate structNodeDelegate) {
+    super(structNodeDelegate, numberType, longValue, doubleValue);
+  }
+
   @Override
   public NodeKind getKind() {
     return NodeKind.NUMBER_VALUE;
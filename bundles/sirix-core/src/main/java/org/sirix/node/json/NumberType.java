@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2011, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met: * Redistributions of source code must retain the
+ * above copyright notice, this list of conditions and the following disclaimer. * Redistributions
+ * in binary form must reproduce the above copyright notice, this list of conditions and the
+ * following disclaimer in the documentation and/or other materials provided with the distribution.
+ * * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.sirix.node.json;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * The type of a JSON number value, as it is stored. The identifiers are part of the binary encoding of number nodes.
+ *
+ * @author Johannes Lichtenberger
+ */
+public enum NumberType {
+  /**
+   * A {@code double} value.
+   */
+  DOUBLE((byte) 0, false, true),
+
+  /**
+   * A {@code float} value.
+   */
+  FLOAT((byte) 1, false, true),
+
+  /**
+   * An {@code int} value.
+   */
+  INTEGER((byte) 2, true, true),
+
+  /**
+   * A {@code long} value.
+   */
+  LONG((byte) 3, true, true),
+
+  /**
+   * A {@link BigInteger} value.
+   */
+  BIG_INTEGER((byte) 4, true, false),
+
+  /**
+   * A {@link BigDecimal} value.
+   */
+  BIG_DECIMAL((byte) 5, false, false);
+
+  private final byte id;
+
+  private final boolean isIntegral;
+
+  private final boolean isPrimitive;
+
+  NumberType(final byte id, final boolean isIntegral, final boolean isPrimitive) {
+    this.id = id;
+    this.isIntegral = isIntegral;
+    this.isPrimitive = isPrimitive;
+  }
+
+  /**
+   * Get the unique identifier.
+   *
+   * @return the identifier
+   */
+  public byte getId() {
+    return id;
+  }
+
+  /**
+   * Determines if the number is integral.
+   *
+   * @return {@code true}, if the number is integral, {@code false} otherwise
+   */
+  public boolean isIntegral() {
+    return isIntegral;
+  }
+
+  /**
+   * Determines if the number is stored as a primitive value without any boxing.
+   *
+   * @return {@code true}, if the number is stored as a primitive value, {@code false} otherwise
+   */
+  public boolean isPrimitive() {
+    return isPrimitive;
+  }
+
+  /**
+   * Get the number type for the given identifier.
+   *
+   * @param id the identifier
+   * @return the number type
+   */
+  public static NumberType fromId(final byte id) {
+    return switch (id) {
+      case 0 -> DOUBLE;
+      case 1 -> FLOAT;
+      case 2 -> INTEGER;
+      case 3 -> LONG;
+      case 4 -> BIG_INTEGER;
+      case 5 -> BIG_DECIMAL;
+      default -> throw new AssertionError("Type not known.");
+    };
+  }
+
+  /**
+   * Get the number type of the given number.
+   *
+   * @param number the number
+   * @return the number type
+   */
+  public static NumberType of(final Number number) {
+    return switch (number) {
+      case Double ignored -> DOUBLE;
+      case Float ignored -> FLOAT;
+      case Integer ignored -> INTEGER;
+      case Long ignored -> LONG;
+      case BigInteger ignored -> BIG_INTEGER;
+      case BigDecimal ignored -> BIG_DECIMAL;
+      case null, default -> throw new AssertionError("Type not known.");
+    };
+  }
+}
@@ -12,4 +12,7 @@ public final class PageConstants {
   public static final int JSON_NAME_INDEX_OFFSET = 1;
 
   public static final int XML_NAME_INDEX_OFFSET = 4;
+
+  // Column indexes are stored in the pages of the CAS index, after the CAS indexes themselves.
+  public static final int COLUMN_INDEX_OFFSET = 512;
 }
@@ -70,7 +70,7 @@ public enum PageKind {
       final BinaryEncodingVersion binaryVersion = BinaryEncodingVersion.fromByte(source.readByte());
 
       switch (binaryVersion) {
-        case V0 -> {
+        case V0, V1 -> {
           final long recordPageKey = getVarLong(source);
           final int revision = source.readInt();
           final IndexType indexType = IndexType.getType(source.readByte());
@@ -106,6 +106,8 @@ public enum PageKind {
 
           final var entriesBitmap = SerializationType.deserializeBitSet(source);
           final var overlongEntriesBitmap = SerializationType.deserializeBitSet(source);
+          final SymbolTable symbolTable =
+              binaryVersion == BinaryEncodingVersion.V0 ? SymbolTable.EMPTY : SymbolTable.deserialize(source);
           final int normalEntrySize = source.readInt();
           var setBit = -1;
 
@@ -121,7 +123,8 @@ public enum PageKind {
             source.read(data);
             final var offset = PageReadOnlyTrx.recordPageOffset(key);
 
-            slots[offset] = data;
+            // Decode eagerly, such that the slots are always plain (versioning combines raw slots).
+            slots[offset] = symbolTable.decode(data);
           }
 
           final int overlongEntrySize = source.readInt();
@@ -165,8 +168,10 @@ public enum PageKind {
         return;
       }
 
+      final BinaryEncodingVersion binaryVersion =
+          pageReadOnlyTrx.getResourceSession().getResourceConfig().getBinaryEncodingVersion();
       sink.writeByte(KEYVALUELEAFPAGE.id);
-      sink.writeByte(pageReadOnlyTrx.getResourceSession().getResourceConfig().getBinaryEncodingVersion().byteVersion());
+      sink.writeByte(binaryVersion.byteVersion());
 
       //Variables from keyValueLeafPage
       final long recordPageKey = keyValueLeafPage.getPageKey();
@@ -231,9 +236,34 @@ public enum PageKind {
       }
       SerializationType.serializeBitSet(sink, overlongEntriesBitmap);
 
+      // Write page-level symbol table and encode entries.
+      byte[][] encodedSlots = slots;
+      if (binaryVersion != BinaryEncodingVersion.V0) {
+        SymbolTable symbolTable =
+            resourceConfig.usePageLevelStringDictionary() ? SymbolTable.train(slots) : SymbolTable.EMPTY;
+        if (!symbolTable.isEmpty()) {
+          encodedSlots = new byte[slots.length][];
+          long size = 0;
+          long encodedSize = symbolTable.serializedSize();
+          for (int i = 0; i < slots.length; i++) {
+            if (slots[i] != null) {
+              encodedSlots[i] = symbolTable.encode(slots[i]);
+              size += slots[i].length;
+              encodedSize += encodedSlots[i].length;
+            }
+          }
+          // Only use the symbol table if it pays off.
+          if (encodedSize >= size) {
+            symbolTable = SymbolTable.EMPTY;
+            encodedSlots = slots;
+          }
+        }
+        symbolTable.serialize(sink);
+      }
+
       // Write normal entries.
       sink.writeInt(entriesBitmap.cardinality());
-      for (final byte[] data : slots) {
+      for (final byte[] data : encodedSlots) {
         if (data != null) {
           final int length = data.length;
           sink.writeInt(length);
@@ -271,7 +301,7 @@ public enum PageKind {
       final BinaryEncodingVersion binaryVersion = BinaryEncodingVersion.fromByte(source.readByte());
 
       switch (binaryVersion) {
-        case V0 -> {
+        case V0, V1 -> {
           Page delegate = PageUtils.createDelegate(source, type);
 
           final Int2LongMap maxNodeKeys = PageKind.deserializeMaxNodeKeys(source);
@@ -329,7 +359,7 @@ public enum PageKind {
       final BinaryEncodingVersion binaryVersion = BinaryEncodingVersion.fromByte(source.readByte());
 
       switch (binaryVersion) {
-        case V0 -> {
+        case V0, V1 -> {
           final int revisionCount = source.readInt();
 
           return new UberPage(revisionCount);
@@ -366,7 +396,7 @@ public enum PageKind {
       final BinaryEncodingVersion binaryVersion = BinaryEncodingVersion.fromByte(source.readByte());
 
       switch (binaryVersion) {
-        case V0 -> {
+        case V0, V1 -> {
           Page delegate = PageUtils.createDelegate(source, type);
           return new IndirectPage(delegate);
         }
@@ -404,7 +434,7 @@ public enum PageKind {
       final BinaryEncodingVersion binaryVersion = BinaryEncodingVersion.fromByte(source.readByte());
 
       switch (binaryVersion) {
-        case V0 -> {
+        case V0, V1 -> {
           Page delegate = new BitmapReferencesPage(8, source, type);
           final int revision = source.readInt();
           final long maxNodeKeyInDocumentIndex = source.readLong();
@@ -515,7 +545,7 @@ public enum PageKind {
       final BinaryEncodingVersion binaryVersion = BinaryEncodingVersion.fromByte(source.readByte());
 
       switch (binaryVersion) {
-        case V0 -> {
+        case V0, V1 -> {
           Page delegate = PageUtils.createDelegate(source, type);
 
           final int maxNodeKeysSize = source.readInt();
@@ -576,7 +606,7 @@ public enum PageKind {
       final BinaryEncodingVersion binaryVersion = BinaryEncodingVersion.fromByte(source.readByte());
 
       switch (binaryVersion) {
-        case V0 -> {
+        case V0, V1 -> {
           Page delegate = PageUtils.createDelegate(source, type);
 
           final Int2LongMap maxNodeKeys = PageKind.deserializeMaxNodeKeys(source);
@@ -630,7 +660,7 @@ public enum PageKind {
       final BinaryEncodingVersion binaryVersion = BinaryEncodingVersion.fromByte(source.readByte());
 
       switch (binaryVersion) {
-        case V0 -> {
+        case V0, V1 -> {
           final byte[] data = new byte[source.readInt()];
           source.read(data);
 
@@ -665,7 +695,7 @@ public enum PageKind {
         @NonNull SerializationType type) {
       final BinaryEncodingVersion binaryVersion = BinaryEncodingVersion.fromByte(source.readByte());
       switch (binaryVersion) {
-        case V0 -> {
+        case V0, V1 -> {
           final Page delegate = PageUtils.createDelegate(source, type);
 
           final Int2LongMap maxNodeKeys = PageKind.deserializeMaxNodeKeys(source);
@@ -717,7 +747,7 @@ public enum PageKind {
       final BinaryEncodingVersion binaryVersion = BinaryEncodingVersion.fromByte(source.readByte());
 
       switch (binaryVersion) {
-        case V0 -> {
+        case V0, V1 -> {
           Page delegate = PageUtils.createDelegate(source, type);
           final long maxNodeKey = source.readLong();
           final int currentMaxLevelOfIndirectPages = source.readByte() & 0xFF;
@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2023, University of Konstanz, Distributed Systems Group All rights reserved.
+ * <p>
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met: * Redistributions of source code must retain the
+ * above copyright notice, this list of conditions and the following disclaimer. * Redistributions
+ * in binary form must reproduce the above copyright notice, this list of conditions and the
+ * following disclaimer in the documentation and/or other materials provided with the distribution.
+ * * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.sirix.page;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.openhft.chronicle.bytes.Bytes;
+import net.openhft.chronicle.bytes.BytesOut;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A page-level symbol table in the spirit of FSST (Fast Static Symbol Table). Up to {@code 255} frequent byte
+ * sequences of length one to eight are trained on the records of a single page. Each symbol is replaced by a one byte
+ * code, all other bytes are escaped with {@link #ESCAPE}.
+ *
+ * <p>Symbol tables are immutable, such that encoding and decoding is thread-safe.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+final class SymbolTable {
+
+  /**
+   * The escape code, which is followed by a literal byte.
+   */
+  static final int ESCAPE = 255;
+
+  /**
+   * The maximum number of symbols.
+   */
+  static final int MAX_SYMBOLS = 255;
+
+  /**
+   * The maximum length of a single symbol.
+   */
+  static final int MAX_SYMBOL_LENGTH = 8;
+
+  /**
+   * An empty symbol table, which leaves all values untouched.
+   */
+  static final SymbolTable EMPTY = new SymbolTable(new byte[0][]);
+
+  /**
+   * The maximum number of bytes used to train the symbol table.
+   */
+  private static final int SAMPLE_SIZE = 1 << 14;
+
+  /**
+   * The minimum number of bytes for which training a symbol table is worthwhile.
+   */
+  private static final int MIN_TRAINING_SIZE = 64;
+
+  /**
+   * The symbols, indexed by their code.
+   */
+  private final byte[][] symbols;
+
+  /**
+   * The symbol codes, indexed by the first byte of the symbols (longest symbols first).
+   */
+  private final int[][] codesByFirstByte;
+
+  private SymbolTable(final byte[][] symbols) {
+    assert symbols.length <= MAX_SYMBOLS;
+    this.symbols = symbols;
+    codesByFirstByte = new int[256][];
+
+    final List<List<Integer>> codes = new ArrayList<>(256);
+    for (int i = 0; i < 256; i++) {
+      codes.add(new ArrayList<>());
+    }
+    for (int code = 0; code < symbols.length; code++) {
+      codes.get(symbols[code][0] & 0xFF).add(code);
+    }
+    for (int i = 0; i < 256; i++) {
+      codesByFirstByte[i] = codes.get(i)
+                                 .stream()
+                                 .sorted(Comparator.comparingInt((Integer code) -> symbols[code].length).reversed())
+                                 .mapToInt(Integer::intValue)
+                                 .toArray();
+    }
+  }
+
+  /**
+   * Train a symbol table on the given values.
+   *
+   * @param values the values (might contain {@code null} entries)
+   * @return the trained symbol table, or {@link #EMPTY} if there is not enough data to train a useful table
+   */
+  static SymbolTable train(final byte[][] values) {
+    requireNonNull(values);
+
+    final List<byte[]> sample = sample(values);
+
+    if (sample.stream().mapToInt(value -> value.length).sum() < MIN_TRAINING_SIZE) {
+      return EMPTY;
+    }
+
+    // First round: choose the symbols with the highest potential gain.
+    final Long2IntMap[] counts = new Long2IntMap[MAX_SYMBOL_LENGTH + 1];
+    for (int length = 1; length <= MAX_SYMBOL_LENGTH; length++) {
+      counts[length] = new Long2IntOpenHashMap();
+    }
+    for (final byte[] value : sample) {
+      for (int pos = 0; pos < value.length; pos++) {
+        long key = 0;
+        for (int length = 1; length <= MAX_SYMBOL_LENGTH && pos + length <= value.length; length++) {
+          key = (key << 8) | (value[pos + length - 1] & 0xFF);
+          counts[length].mergeInt(key, 1, Integer::sum);
+        }
+      }
+    }
+
+    final List<Candidate> candidates = new ArrayList<>();
+    for (int length = 1; length <= MAX_SYMBOL_LENGTH; length++) {
+      for (final Long2IntMap.Entry entry : counts[length].long2IntEntrySet()) {
+        final int count = entry.getIntValue();
+        if (length == 1 || count > 1) {
+          candidates.add(new Candidate(unpack(entry.getLongKey(), length), (long) count * length));
+        }
+      }
+    }
+    final var firstRound = new SymbolTable(choose(candidates));
+
+    // Second round: keep only the symbols, which are actually used during greedy encoding, ranked by their real gain.
+    final long[] usages = new long[firstRound.symbols.length];
+    for (final byte[] value : sample) {
+      for (int pos = 0; pos < value.length; ) {
+        final int code = firstRound.findLongestSymbol(value, pos);
+        if (code == -1) {
+          pos++;
+        } else {
+          usages[code]++;
+          pos += firstRound.symbols[code].length;
+        }
+      }
+    }
+
+    final List<Candidate> usedSymbols = new ArrayList<>();
+    for (int code = 0; code < usages.length; code++) {
+      if (usages[code] > 0) {
+        usedSymbols.add(new Candidate(firstRound.symbols[code], usages[code] * firstRound.symbols[code].length));
+      }
+    }
+
+    return usedSymbols.isEmpty() ? EMPTY : new SymbolTable(choose(usedSymbols));
+  }
+
+  private static List<byte[]> sample(final byte[][] values) {
+    final List<byte[]> sample = new ArrayList<>();
+    int remaining = SAMPLE_SIZE;
+    for (final byte[] value : values) {
+      if (value == null) {
+        continue;
+      }
+      if (value.length >= remaining) {
+        sample.add(Arrays.copyOf(value, remaining));
+        break;
+      }
+      sample.add(value);
+      remaining -= value.length;
+    }
+    return sample;
+  }
+
+  private static byte[][] choose(final List<Candidate> candidates) {
+    return candidates.stream()
+                     .sorted(Comparator.comparingLong(Candidate::gain).reversed())
+                     .limit(MAX_SYMBOLS)
+                     .map(Candidate::symbol)
+                     .toArray(byte[][]::new);
+  }
+
+  private static byte[] unpack(long key, final int length) {
+    final byte[] symbol = new byte[length];
+    for (int i = length - 1; i >= 0; i--) {
+      symbol[i] = (byte) key;
+      key >>>= 8;
+    }
+    return symbol;
+  }
+
+  private int findLongestSymbol(final byte[] value, final int pos) {
+    for (final int code : codesByFirstByte[value[pos] & 0xFF]) {
+      final byte[] symbol = symbols[code];
+      if (pos + symbol.length <= value.length && Arrays.equals(symbol,
+                                                               0,
+                                                               symbol.length,
+                                                               value,
+                                                               pos,
+                                                               pos + symbol.length)) {
+        return code;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Determines if the symbol table is empty.
+   *
+   * @return {@code true}, if it doesn't contain any symbol, {@code false} otherwise
+   */
+  boolean isEmpty() {
+    return symbols.length == 0;
+  }
+
+  /**
+   * Get the number of bytes needed to serialize the symbol table.
+   *
+   * @return the serialized size in bytes
+   */
+  int serializedSize() {
+    int size = 1;
+    for (final byte[] symbol : symbols) {
+      size += 1 + symbol.length;
+    }
+    return size;
+  }
+
+  /**
+   * Encode a value.
+   *
+   * @param value the value to encode
+   * @return the encoded value, or the value itself if the symbol table is empty
+   */
+  byte[] encode(final byte[] value) {
+    if (isEmpty()) {
+      return value;
+    }
+
+    final byte[] encoded = new byte[value.length << 1];
+    int encodedPos = 0;
+    for (int pos = 0; pos < value.length; ) {
+      final int code = findLongestSymbol(value, pos);
+      if (code == -1) {
+        encoded[encodedPos++] = (byte) ESCAPE;
+        encoded[encodedPos++] = value[pos++];
+      } else {
+        encoded[encodedPos++] = (byte) code;
+        pos += symbols[code].length;
+      }
+    }
+    return Arrays.copyOf(encoded, encodedPos);
+  }
+
+  /**
+   * Decode a value.
+   *
+   * @param encoded the encoded value
+   * @return the decoded value, or the value itself if the symbol table is empty
+   */
+  byte[] decode(final byte[] encoded) {
+    if (isEmpty()) {
+      return encoded;
+    }
+
+    int length = 0;
+    for (int pos = 0; pos < encoded.length; pos++) {
+      final int code = encoded[pos] & 0xFF;
+      if (code == ESCAPE) {
+        pos++;
+        length++;
+      } else {
+        length += symbols[code].length;
+      }
+    }
+
+    final byte[] value = new byte[length];
+    int valuePos = 0;
+    for (int pos = 0; pos < encoded.length; pos++) {
+      final int code = encoded[pos] & 0xFF;
+      if (code == ESCAPE) {
+        value[valuePos++] = encoded[++pos];
+      } else {
+        final byte[] symbol = symbols[code];
+        System.arraycopy(symbol, 0, value, valuePos, symbol.length);
+        valuePos += symbol.length;
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Serialize the symbol table.
+   *
+   * @param sink the sink to write to
+   */
+  void serialize(final BytesOut<?> sink) {
+    sink.writeByte((byte) symbols.length);
+    for (final byte[] symbol : symbols) {
+      sink.writeByte((byte) symbol.length);
+      sink.write(symbol);
+    }
+  }
+
+  /**
+   * Deserialize a symbol table.
+   *
+   * @param source the source to read from
+   * @return the symbol table
+   */
+  static SymbolTable deserialize(final Bytes<?> source) {
+    final int numberOfSymbols = source.readUnsignedByte();
+    if (numberOfSymbols == 0) {
+      return EMPTY;
+    }
+    final byte[][] symbols = new byte[numberOfSymbols][];
+    for (int code = 0; code < numberOfSymbols; code++) {
+      final byte[] symbol = new byte[source.readByte()];
+      source.read(symbol);
+      symbols[code] = symbol;
+    }
+    return new SymbolTable(symbols);
+  }
+
+  private record Candidate(byte[] symbol, long gain) {
+  }
+}
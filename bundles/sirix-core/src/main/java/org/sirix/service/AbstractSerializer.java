@@ -8,7 +8,16 @@ import org.sirix.axis.visitor.VisitorDescendantAxis;
 import org.sirix.exception.SirixException;
 import org.sirix.settings.Constants;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 
@@ -20,6 +29,16 @@ import static java.util.Objects.requireNonNull;
 public abstract class AbstractSerializer<R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor>
     implements Callable<Void> {
 
+  /**
+   * The number of ranges of children per worker thread in parallel mode.
+   */
+  private static final int RANGES_PER_THREAD = 4;
+
+  /**
+   * The maximum number of children in a range in parallel mode, which bounds the size of the buffers.
+   */
+  private static final int MAX_RANGE_SIZE = 1024;
+
   /**
    * Sirix {@link ResourceSession}.
    */
@@ -114,71 +133,164 @@ public abstract class AbstractSerializer<R extends NodeReadOnlyTrx & NodeCursor,
 
         rtx.moveTo(startNodeKey);
 
-        final VisitorDescendantAxis.Builder builder = VisitorDescendantAxis.newBuilder(rtx).includeSelf();
-
-        if (visitor != null) {
-          builder.visitor(visitor);
-          setTrxForVisitor(rtx);
+        if (!emitSubtreeSpecialized(rtx)) {
+          emitSubtree(rtx);
         }
 
-        final Axis descAxis = builder.build();
+        emitRevisionEndNode(rtx);
+      }
+    }
 
-        // Setup primitives.
-        boolean closeElements = false;
-        long key;
+    emitEndDocument();
 
-        // Iterate over all nodes of the subtree including self.
-        while (descAxis.hasNext()) {
-          key = descAxis.nextLong();
+    return null;
+  }
 
-          // Emit all pending end elements.
-          if (closeElements) {
-            while (!stack.isEmpty() && stack.peekLong(0) != rtx.getLeftSiblingKey()) {
-              rtx.moveTo(stack.popLong());
-              emitEndNode(rtx, false);
-              rtx.moveTo(key);
-            }
-            if (!stack.isEmpty()) {
-              rtx.moveTo(stack.popLong());
-              emitEndNode(rtx, true);
-            }
-            rtx.moveTo(key);
-            closeElements = false;
-          }
+  /**
+   * Serialize the subtree rooted at the current node of the transaction.
+   *
+   * @param rtx read-only transaction, located at the root of the subtree
+   */
+  protected final void emitSubtree(final R rtx) {
+    final VisitorDescendantAxis.Builder builder = VisitorDescendantAxis.newBuilder(rtx).includeSelf();
 
-          // Emit node.
-          final long nodeKey = rtx.getNodeKey();
-          emitNode(rtx);
-          rtx.moveTo(nodeKey);
+    if (visitor != null) {
+      builder.visitor(visitor);
+      setTrxForVisitor(rtx);
+    }
 
-          // Push end element to stack if we are a start element with children.
-          boolean withChildren = false;
-          if (!rtx.isDocumentRoot() && (rtx.hasFirstChild() && isSubtreeGoingToBeVisited(rtx))) {
-            stack.push(rtx.getNodeKey());
-            withChildren = true;
-          }
+    final Axis descAxis = builder.build();
 
-          hasToSkipSiblings = areSiblingNodesGoingToBeSkipped(rtx);
+    // Setup primitives.
+    boolean closeElements = false;
+    long key;
 
-          // Remember to emit all pending end elements from stack if required.
-          if (!withChildren && !rtx.isDocumentRoot() && (!rtx.hasRightSibling() || hasToSkipSiblings)) {
-            closeElements = true;
-          }
-        }
+    // Iterate over all nodes of the subtree including self.
+    while (descAxis.hasNext()) {
+      key = descAxis.nextLong();
 
-        // Finally emit all pending end elements.
-        while (!stack.isEmpty() && stack.peekLong(0) != Constants.NULL_ID_LONG) {
+      // Emit all pending end elements.
+      if (closeElements) {
+        while (!stack.isEmpty() && stack.peekLong(0) != rtx.getLeftSiblingKey()) {
           rtx.moveTo(stack.popLong());
           emitEndNode(rtx, false);
+          rtx.moveTo(key);
+        }
+        if (!stack.isEmpty()) {
+          rtx.moveTo(stack.popLong());
+          emitEndNode(rtx, true);
         }
+        rtx.moveTo(key);
+        closeElements = false;
+      }
 
-        emitRevisionEndNode(rtx);
+      // Emit node.
+      final long nodeKey = rtx.getNodeKey();
+      emitNode(rtx);
+      rtx.moveTo(nodeKey);
+
+      // Push end element to stack if we are a start element with children.
+      boolean withChildren = false;
+      if (!rtx.isDocumentRoot() && (rtx.hasFirstChild() && isSubtreeGoingToBeVisited(rtx))) {
+        stack.push(rtx.getNodeKey());
+        withChildren = true;
+      }
+
+      hasToSkipSiblings = areSiblingNodesGoingToBeSkipped(rtx);
+
+      // Remember to emit all pending end elements from stack if required.
+      if (!withChildren && !rtx.isDocumentRoot() && (!rtx.hasRightSibling() || hasToSkipSiblings)) {
+        closeElements = true;
       }
     }
 
-    emitEndDocument();
+    // Finally emit all pending end elements.
+    while (!stack.isEmpty() && stack.peekLong(0) != Constants.NULL_ID_LONG) {
+      rtx.moveTo(stack.popLong());
+      emitEndNode(rtx, false);
+    }
+  }
 
-    return null;
+  /**
+   * Serialize the subtree rooted at the current node of the transaction in a specialized way, for instance in
+   * parallel, if supported.
+   *
+   * @param rtx read-only transaction, located at the root of the subtree
+   * @return {@code true}, if the subtree has been serialized, {@code false} if it has to be serialized sequentially
+   */
+  protected boolean emitSubtreeSpecialized(final R rtx) {
+    return false;
+  }
+
+  /**
+   * Serialize the children of the current node of the transaction in parallel. The children are split into
+   * contiguous ranges, each range is serialized by its own serializer with its own read-only transaction into a
+   * buffer and the buffers are emitted in document order.
+   *
+   * @param rtx                read-only transaction, located at the parent of the children
+   * @param numberOfThreads    the number of worker threads
+   * @param newBuffer          creates a new buffer for a range of children
+   * @param newChildSerializer creates a serializer, which writes to the given buffer
+   * @param emitBuffer         emits a buffer to the output of this serializer
+   * @param <B>                the type of the buffers
+   */
+  protected final <B> void emitChildrenInParallel(final R rtx, final @NonNegative int numberOfThreads,
+      final Supplier<B> newBuffer, final Function<B, AbstractSerializer<R, W>> newChildSerializer,
+      final Consumer<B> emitBuffer) {
+    final LongArrayList childKeys = new LongArrayList();
+    final long parentKey = rtx.getNodeKey();
+    if (rtx.moveToFirstChild()) {
+      do {
+        childKeys.add(rtx.getNodeKey());
+      } while (rtx.moveToRightSibling());
+    }
+    rtx.moveTo(parentKey);
+
+    if (childKeys.isEmpty()) {
+      return;
+    }
+
+    final int revision = rtx.getRevisionNumber();
+    final int numberOfRanges = numberOfThreads * RANGES_PER_THREAD;
+    final int rangeSize =
+        Math.max(1, Math.min(MAX_RANGE_SIZE, (childKeys.size() + numberOfRanges - 1) / numberOfRanges));
+    final Deque<Future<B>> pendingRanges = new ArrayDeque<>();
+
+    try (final ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads)) {
+      try {
+        for (int from = 0; from < childKeys.size(); from += rangeSize) {
+          // Bound the number of buffered ranges.
+          if (pendingRanges.size() == 2 * numberOfThreads) {
+            emitBuffer.accept(pendingRanges.removeFirst().get());
+          }
+
+          final int fromIndex = from;
+          final int toIndex = Math.min(from + rangeSize, childKeys.size());
+          pendingRanges.addLast(executor.submit(() -> {
+            final B buffer = newBuffer.get();
+            final AbstractSerializer<R, W> childSerializer = newChildSerializer.apply(buffer);
+            try (final R childRtx = resMgr.beginNodeReadOnlyTrx(revision)) {
+              for (int i = fromIndex; i < toIndex; i++) {
+                childRtx.moveTo(childKeys.getLong(i));
+                childSerializer.emitSubtree(childRtx);
+              }
+            }
+            return buffer;
+          }));
+        }
+
+        while (!pendingRanges.isEmpty()) {
+          emitBuffer.accept(pendingRanges.removeFirst().get());
+        }
+      } catch (final ExecutionException e) {
+        executor.shutdownNow();
+        throw new SirixException(e.getCause());
+      } catch (final InterruptedException e) {
+        executor.shutdownNow();
+        Thread.currentThread().interrupt();
+        throw new SirixException(e);
+      }
+    }
   }
 
   protected abstract void setTrxForVisitor(R rtx);
@@ -1,7 +1,6 @@
 package org.sirix.service.json;
 
 import com.google.common.collect.ImmutableSet;
-import org.sirix.access.trx.node.HashType;
 import org.sirix.api.JsonDiff;
 import org.sirix.api.json.JsonResourceSession;
 import org.sirix.diff.*;
@@ -59,9 +58,8 @@ public final class BasicJsonDiff implements DiffObserver, JsonDiff {
     diffs.clear();
 
     DiffFactory.invokeJsonDiff(new DiffFactory.Builder<>(resourceManager, newRevisionNumber, oldRevisionNumber,
-        resourceManager.getResourceConfig().hashType == HashType.NONE
-            ? DiffFactory.DiffOptimized.NO
-            : DiffFactory.DiffOptimized.HASHED, ImmutableSet.of(this)).skipSubtrees(true)
+        DiffFactory.DiffOptimized.HASHED, ImmutableSet.of(this)).hashKind(resourceManager.getResourceConfig().hashType)
+                                                                      .skipSubtrees(true)
                                                                       .newStartKey(startNodeKey)
                                                                       .oldStartKey(startNodeKey)
                                                                       .oldMaxDepth(maxDepth));
@@ -0,0 +1,28 @@
+package org.sirix.service.json;
+
+/**
+ * A change of a JSON resource, as emitted by {@link JsonChangeFeed}.
+ *
+ * @param revision the revision, in which the change has been committed
+ * @param type     the type of the change
+ * @param nodeKey  the node key of the inserted, updated, deleted or replacing node
+ * @param path     the path of the node or {@code null}, if the resource doesn't store a path summary
+ * @param value    the new value as a JSON string (a JSON fragment for inserted or replacing object, array and object
+ *                 key nodes) or {@code null} for deletes
+ * @author Johannes Lichtenberger
+ */
+public record JsonChange(int revision, Type type, long nodeKey, String path, String value) {
+
+  /**
+   * The type of change.
+   */
+  public enum Type {
+    INSERT,
+
+    UPDATE,
+
+    DELETE,
+
+    REPLACE
+  }
+}
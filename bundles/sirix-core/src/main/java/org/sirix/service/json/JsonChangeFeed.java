@@ -0,0 +1,184 @@
+package org.sirix.service.json;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonResourceSession;
+import org.sirix.diff.JsonUpdateOperations;
+import org.sirix.index.path.summary.PathSummaryReader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Change data capture for a JSON resource. Emits the changes of all revisions committed after a given revision in
+ * commit order.
+ *
+ * <p>The changes of a revision are read from the update operations, which are stored during the commit if the
+ * resource is configured to store diffs. Only for revisions without complete update operations (for instance the
+ * first revision or revisions created by bulk inserts or reverts) the changes are computed with a full diff.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class JsonChangeFeed {
+
+  private final JsonResourceSession resourceSession;
+
+  /**
+   * Constructor.
+   *
+   * @param resourceSession the resource session of the resource
+   */
+  public JsonChangeFeed(final JsonResourceSession resourceSession) {
+    this.resourceSession = requireNonNull(resourceSession);
+  }
+
+  /**
+   * Get the changes of all revisions, which have been committed after the given revision. The changes of a revision
+   * are only read once the stream reaches the revision.
+   *
+   * @param revision the revision after which to emit changes
+   * @return the changes in commit order
+   */
+  public Stream<JsonChange> changesSince(final @NonNegative int revision) {
+    return changesBetween(revision, resourceSession.getMostRecentRevisionNumber());
+  }
+
+  /**
+   * Get the changes of all revisions, which have been committed after the given revision up to and including the
+   * given last revision.
+   *
+   * @param revision     the revision after which to emit changes
+   * @param lastRevision the last revision for which to emit changes
+   * @return the changes in commit order
+   */
+  public Stream<JsonChange> changesBetween(final @NonNegative int revision, final @NonNegative int lastRevision) {
+    checkArgument(revision >= 0, "revision must be >= 0!");
+    checkArgument(lastRevision <= resourceSession.getMostRecentRevisionNumber(),
+                  "lastRevision must not be greater than the most recent revision!");
+
+    return IntStream.rangeClosed(revision + 1, lastRevision)
+                    .boxed()
+                    .flatMap(newRevision -> getChanges(newRevision).stream());
+  }
+
+  /**
+   * Get the changes of a single revision in commit order.
+   *
+   * @param revision the revision
+   * @return the changes
+   */
+  public List<JsonChange> getChanges(final @NonNegative int revision) {
+    checkArgument(revision > 0, "revision must be > 0!");
+
+    final List<JsonElement> updateOperations = getUpdateOperations(revision);
+    final List<JsonChange> changes = new ArrayList<>(updateOperations.size());
+
+    try (final JsonNodeReadOnlyTrx newRtx = resourceSession.beginNodeReadOnlyTrx(revision);
+         final JsonNodeReadOnlyTrx oldRtx = resourceSession.beginNodeReadOnlyTrx(revision - 1);
+         final PathSummaryReader newPathSummary = openPathSummary(revision);
+         final PathSummaryReader oldPathSummary = openPathSummary(revision - 1)) {
+      for (final JsonElement updateOperation : updateOperations) {
+        final JsonObject operation = updateOperation.getAsJsonObject();
+
+        if (operation.has("insert")) {
+          final JsonObject insert = operation.getAsJsonObject("insert");
+          final long nodeKey = insert.get("nodeKey").getAsLong();
+          changes.add(new JsonChange(revision,
+                                     JsonChange.Type.INSERT,
+                                     nodeKey,
+                                     getPath(newRtx, newPathSummary, nodeKey),
+                                     getData(insert)));
+        } else if (operation.has("replace")) {
+          final JsonObject replace = operation.getAsJsonObject("replace");
+          final long nodeKey = replace.get("newNodeKey").getAsLong();
+          changes.add(new JsonChange(revision,
+                                     JsonChange.Type.REPLACE,
+                                     nodeKey,
+                                     getPath(newRtx, newPathSummary, nodeKey),
+                                     getData(replace)));
+        } else if (operation.has("update")) {
+          final JsonObject update = operation.getAsJsonObject("update");
+          final long nodeKey = update.get("nodeKey").getAsLong();
+          final JsonElement value = update.has("value") ? update.get("value") : update.get("name");
+          changes.add(new JsonChange(revision,
+                                     JsonChange.Type.UPDATE,
+                                     nodeKey,
+                                     getPath(newRtx, newPathSummary, nodeKey),
+                                     value == null ? "null" : value.toString()));
+        } else if (operation.has("delete")) {
+          final JsonElement delete = operation.get("delete");
+          final long nodeKey =
+              delete.isJsonObject() ? delete.getAsJsonObject().get("nodeKey").getAsLong() : delete.getAsLong();
+          changes.add(new JsonChange(revision,
+                                     JsonChange.Type.DELETE,
+                                     nodeKey,
+                                     getPath(oldRtx, oldPathSummary, nodeKey),
+                                     null));
+        }
+      }
+    }
+
+    return changes;
+  }
+
+  private List<JsonElement> getUpdateOperations(final int revision) {
+    final ResourceConfiguration resourceConfig = resourceSession.getResourceConfig();
+
+    // The stored update operations are incomplete for instance after a revert, thus only use them with the marker.
+    if (JsonUpdateOperations.isComplete(resourceConfig, revision)) {
+      try (final JsonNodeReadOnlyTrx rtx = resourceSession.beginNodeReadOnlyTrx(revision)) {
+        return new ArrayList<>(rtx.getUpdateOperations());
+      }
+    }
+
+    final String databaseName = resourceConfig.getResource().getParent().getParent().getFileName().toString();
+    final String diff = new BasicJsonDiff(databaseName).generateDiff(resourceSession, revision - 1, revision);
+    final List<JsonElement> updateOperations = new ArrayList<>();
+    JsonParser.parseString(diff).getAsJsonObject().getAsJsonArray("diffs").forEach(updateOperations::add);
+    return updateOperations;
+  }
+
+  private PathSummaryReader openPathSummary(final int revision) {
+    return resourceSession.getResourceConfig().withPathSummary ? resourceSession.openPathSummary(revision) : null;
+  }
+
+  private static String getData(final JsonObject diff) {
+    final JsonElement type = diff.get("type");
+    final JsonElement data = diff.get("data");
+
+    if (data == null || data.isJsonNull()) {
+      return "null";
+    }
+
+    // JSON fragments are stored as serialized strings.
+    return type != null && "jsonFragment".equals(type.getAsString()) ? data.getAsString() : data.toString();
+  }
+
+  private static String getPath(final JsonNodeReadOnlyTrx rtx, final PathSummaryReader pathSummary,
+      final long nodeKey) {
+    if (pathSummary == null || !rtx.moveTo(nodeKey)) {
+      return null;
+    }
+
+    // Values don't have a path node, thus use the path of the nearest object key or array.
+    do {
+      if (rtx.isObjectKey() || rtx.isArray()) {
+        if (pathSummary.moveTo(rtx.getPathNodeKey())) {
+          return pathSummary.getPath().toString();
+        }
+        return null;
+      }
+    } while (rtx.moveToParent());
+
+    return "/";
+  }
+}
@@ -33,6 +33,8 @@ import org.sirix.api.json.JsonNodeTrx;
 import org.sirix.api.json.JsonResourceSession;
 import org.sirix.api.visitor.VisitResultType;
 import org.sirix.axis.IncludeSelf;
+import org.sirix.cache.SerializedSubtreeCache;
+import org.sirix.cache.SerializedSubtreeCacheKey;
 import org.sirix.node.NodeKind;
 import org.sirix.service.AbstractSerializer;
 import org.sirix.service.xml.serialize.XmlSerializerProperties;
@@ -51,6 +53,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.concurrent.ConcurrentMap;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -70,6 +73,11 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
    */
   private static final LogWrapper LOGWRAPPER = new LogWrapper(LoggerFactory.getLogger(JsonSerializer.class));
 
+  /**
+   * The minimum number of descendants of a subtree to look it up in the subtree cache.
+   */
+  private static final long MIN_DESCENDANTS_TO_MEMOIZE = 32;
+
   /**
    * OutputStream to write to.
    */
@@ -102,6 +110,16 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
 
   private final boolean serializeStartNodeWithBrackets;
 
+  /**
+   * Number of worker threads to serialize the children of the top-level object or array in parallel.
+   */
+  private final int numberOfThreads;
+
+  /**
+   * Cache of serialized subtrees or {@code null}, if subtrees shouldn't be memoized.
+   */
+  private final SerializedSubtreeCache subtreeCache;
+
   private boolean hadToAddBracket;
 
   private int currentIndent;
@@ -135,6 +153,159 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
     withNodeKeyMetaData = builder.withNodeKey;
     withNodeKeyAndChildNodeKeyMetaData = builder.withNodeKeyAndChildCount;
     serializeStartNodeWithBrackets = builder.serializeStartNodeWithBrackets;
+    numberOfThreads = builder.numberOfThreads;
+    subtreeCache = builder.subtreeCache;
+  }
+
+  /**
+   * Constructor for serializing ranges of children in parallel, which copies the configuration of the given
+   * serializer.
+   *
+   * @param serializer    the serializer, which serializes the parent of the children
+   * @param out           the buffer to write to
+   * @param currentIndent the current indentation of the children
+   */
+  private JsonSerializer(final JsonSerializer serializer, final Appendable out, final int currentIndent) {
+    super(serializer.resMgr,
+          null,
+          serializer.startNodeKey,
+          serializer.revisions[0],
+          Arrays.copyOfRange(serializer.revisions, 1, serializer.revisions.length));
+    this.out = out;
+    this.currentIndent = currentIndent;
+    indent = serializer.indent;
+    indentSpaces = serializer.indentSpaces;
+    withInitialIndent = serializer.withInitialIndent;
+    emitXQueryResultSequence = serializer.emitXQueryResultSequence;
+    serializeTimestamp = serializer.serializeTimestamp;
+    withMetaData = serializer.withMetaData;
+    withNodeKeyMetaData = serializer.withNodeKeyMetaData;
+    withNodeKeyAndChildNodeKeyMetaData = serializer.withNodeKeyAndChildNodeKeyMetaData;
+    serializeStartNodeWithBrackets = serializer.serializeStartNodeWithBrackets;
+    numberOfThreads = 1;
+    subtreeCache = serializer.subtreeCache;
+  }
+
+  @Override
+  protected boolean emitSubtreeSpecialized(final JsonNodeReadOnlyTrx rtx) {
+    if (visitor != null) {
+      return false;
+    }
+
+    if (subtreeCache != null) {
+      emitMemoizedSubtree(rtx);
+      return true;
+    }
+
+    if (numberOfThreads <= 1) {
+      return false;
+    }
+
+    final long subtreeRootKey = rtx.getNodeKey();
+
+    if (rtx.isDocumentRoot() && !rtx.moveToFirstChild()) {
+      return false;
+    }
+
+    if (!(rtx.isObject() || rtx.isArray()) || rtx.getChildCount() < 2) {
+      rtx.moveTo(subtreeRootKey);
+      return false;
+    }
+
+    final long containerKey = rtx.getNodeKey();
+    emitNode(rtx);
+    rtx.moveTo(containerKey);
+
+    final int childIndent = currentIndent;
+    emitChildrenInParallel(rtx,
+                           numberOfThreads,
+                           StringBuilder::new,
+                           buffer -> new JsonSerializer(this, buffer, childIndent),
+                           this::appendBuffer);
+
+    emitEndNode(rtx, false);
+
+    return true;
+  }
+
+  /**
+   * Serialize the subtree rooted at the current node of the transaction, whereas the subtrees of the children are
+   * looked up in or added to the subtree cache.
+   *
+   * @param rtx read-only transaction, located at the root of the subtree
+   */
+  private void emitMemoizedSubtree(final JsonNodeReadOnlyTrx rtx) {
+    final long nodeKey = rtx.getNodeKey();
+    emitNode(rtx);
+    rtx.moveTo(nodeKey);
+
+    if (!rtx.moveToFirstChild()) {
+      return;
+    }
+
+    do {
+      emitMemoizedChild(rtx);
+    } while (rtx.moveToRightSibling());
+
+    rtx.moveTo(nodeKey);
+
+    if (!rtx.isDocumentRoot()) {
+      emitEndNode(rtx, false);
+    }
+  }
+
+  private void emitMemoizedChild(final JsonNodeReadOnlyTrx rtx) {
+    final long nodeKey = rtx.getNodeKey();
+    final long hash = rtx.getHash();
+
+    // Small subtrees are cheaper to serialize than to look up, and without hashes nothing can be memoized.
+    if (hash == 0L || rtx.getDescendantCount() < MIN_DESCENDANTS_TO_MEMOIZE) {
+      emitSubtree(rtx);
+      rtx.moveTo(nodeKey);
+      return;
+    }
+
+    final var cacheKey = new SerializedSubtreeCacheKey(resMgr.getResourceConfig().getResource(),
+                                                       nodeKey,
+                                                       hash,
+                                                       options(),
+                                                       currentIndent,
+                                                       rtx.hasLeftSibling(),
+                                                       rtx.hasRightSibling());
+
+    String subtree = subtreeCache.get(cacheKey);
+
+    if (subtree == null) {
+      final var buffer = new StringBuilder();
+      new JsonSerializer(this, buffer, currentIndent).emitMemoizedSubtree(rtx);
+      rtx.moveTo(nodeKey);
+      subtree = buffer.toString();
+      subtreeCache.put(cacheKey, subtree);
+    }
+
+    try {
+      out.append(subtree);
+    } catch (final IOException e) {
+      LOGWRAPPER.error(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Get the options, which change the serialized form of a subtree.
+   *
+   * @return the options encoded as bits
+   */
+  private int options() {
+    return (indent ? 1 : 0) | (withMetaData ? 2 : 0) | (withNodeKeyMetaData ? 4 : 0)
+        | (withNodeKeyAndChildNodeKeyMetaData ? 8 : 0) | (indentSpaces << 4);
+  }
+
+  private void appendBuffer(final StringBuilder buffer) {
+    try {
+      out.append(buffer);
+    } catch (final IOException e) {
+      LOGWRAPPER.error(e.getMessage(), e);
+    }
   }
 
   /**
@@ -752,6 +923,16 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
 
     private long maxChildNodes;
 
+    /**
+     * Number of worker threads for parallel serialization.
+     */
+    private int numberOfThreads = 1;
+
+    /**
+     * Cache of serialized subtrees.
+     */
+    private SerializedSubtreeCache subtreeCache;
+
     /**
      * Constructor, setting the necessary stuff.
      *
@@ -931,6 +1112,34 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
       return this;
     }
 
+    /**
+     * Serialize the children of the top-level object or array in parallel. The children are split into ranges,
+     * which are serialized with their own read-only transactions and are written in document order. Parallel
+     * serialization is only used if neither a maximum level nor a maximum number of (child) nodes is set.
+     *
+     * @param numberOfThreads the number of worker threads
+     * @return this reference
+     */
+    public Builder parallel(final int numberOfThreads) {
+      checkArgument(numberOfThreads > 0, "numberOfThreads must be > 0!");
+      this.numberOfThreads = numberOfThreads;
+      return this;
+    }
+
+    /**
+     * Memoize serialized subtrees in the given cache, keyed by their node key and their subtree hash, such that
+     * serializing successive revisions of a resource only serializes subtrees again, which have been changed. Only
+     * used if the resource stores hashes and if neither a maximum level nor a maximum number of (child) nodes is set.
+     * Takes precedence over parallel serialization.
+     *
+     * @param subtreeCache the cache of serialized subtrees, which may be shared between serializers
+     * @return this reference
+     */
+    public Builder subtreeCache(final SerializedSubtreeCache subtreeCache) {
+      this.subtreeCache = requireNonNull(subtreeCache);
+      return this;
+    }
+
     /**
      * The versions to serialize.
      *
@@ -663,6 +663,21 @@ public final class JsonShredder implements Callable<Long> {
     }
   }
 
+  /**
+   * Create a new {@link JsonReader} instance on a character stream, for instance the body of a request, which is
+   * parsed while it is read.
+   *
+   * @param reader the reader to read the JSON from
+   * @return an {@link JsonReader} instance
+   */
+  public static JsonReader createReader(final Reader reader) {
+    requireNonNull(reader);
+
+    final var jsonReader = new JsonReader(reader);
+    jsonReader.setLenient(true);
+    return jsonReader;
+  }
+
   /**
    * Create a new {@link JsonReader} instance on a String.
    *
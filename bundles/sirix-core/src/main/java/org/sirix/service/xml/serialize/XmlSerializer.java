@@ -29,6 +29,7 @@ import static org.sirix.service.xml.serialize.XmlSerializerProperties.S_INDENT_S
 import static org.sirix.service.xml.serialize.XmlSerializerProperties.S_REST;
 import static org.sirix.service.xml.serialize.XmlSerializerProperties.S_XMLDECL;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -38,6 +39,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.concurrent.ConcurrentMap;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -108,6 +110,9 @@ public final class XmlSerializer extends org.sirix.service.AbstractSerializer<Xm
 
   private final boolean metaData;
 
+  /** Number of worker threads to serialize the children of the root element in parallel. */
+  private final int numberOfThreads;
+
   /**
    * Initialize XMLStreamReader implementation with transaction. The cursor points to the node the
    * XMLStreamReader starts to read.
@@ -135,6 +140,78 @@ public final class XmlSerializer extends org.sirix.service.AbstractSerializer<Xm
     emitXQueryResultSequence = builder.emitXQueryResultSequence;
     serializeTimestamp = builder.serializeTimestamp;
     metaData = builder.metaData;
+    numberOfThreads = builder.numberOfThreads;
+  }
+
+  /**
+   * Constructor for serializing ranges of children in parallel, which copies the configuration of the given
+   * serializer.
+   *
+   * @param serializer the serializer, which serializes the parent of the children
+   * @param out the buffer to write to
+   * @param level the level of the children, which determines their indentation
+   */
+  private XmlSerializer(final XmlSerializer serializer, final OutputStream out, final int level) {
+    super(serializer.resMgr, null, serializer.startNodeKey, serializer.revisions[0],
+        Arrays.copyOfRange(serializer.revisions, 1, serializer.revisions.length));
+    this.out = out;
+    indent = serializer.indent;
+    serializeXMLDeclaration = serializer.serializeXMLDeclaration;
+    serializeRest = serializer.serializeRest;
+    serializeRestSequence = serializer.serializeRestSequence;
+    serializeId = serializer.serializeId;
+    indentSpaces = serializer.indentSpaces;
+    withInitialIndent = serializer.withInitialIndent;
+    emitXQueryResultSequence = serializer.emitXQueryResultSequence;
+    serializeTimestamp = serializer.serializeTimestamp;
+    metaData = serializer.metaData;
+    numberOfThreads = 1;
+    for (int i = 0; i < level; i++) {
+      stack.push(Constants.NULL_ID_LONG);
+    }
+  }
+
+  @Override
+  protected boolean emitSubtreeSpecialized(final XmlNodeReadOnlyTrx rtx) {
+    if (numberOfThreads <= 1 || visitor != null) {
+      return false;
+    }
+
+    final long subtreeRootKey = rtx.getNodeKey();
+
+    if (rtx.isDocumentRoot() && (rtx.getChildCount() != 1 || !rtx.moveToFirstChild())) {
+      return false;
+    }
+
+    if (!rtx.isElement() || rtx.getChildCount() < 2) {
+      rtx.moveTo(subtreeRootKey);
+      return false;
+    }
+
+    final long elementKey = rtx.getNodeKey();
+    emitNode(rtx);
+    rtx.moveTo(elementKey);
+
+    stack.push(elementKey);
+    final int level = stack.size();
+    emitChildrenInParallel(rtx,
+                           numberOfThreads,
+                           ByteArrayOutputStream::new,
+                           buffer -> new XmlSerializer(this, buffer, level),
+                           this::writeBuffer);
+    stack.popLong();
+
+    emitEndNode(rtx, false);
+
+    return true;
+  }
+
+  private void writeBuffer(final ByteArrayOutputStream buffer) {
+    try {
+      buffer.writeTo(out);
+    } catch (final IOException e) {
+      LOGWRAPPER.error(e.getMessage(), e);
+    }
   }
 
   /**
@@ -602,6 +679,9 @@ public final class XmlSerializer extends org.sirix.service.AbstractSerializer<Xm
 
     private long maxLevel;
 
+    /** Number of worker threads for parallel serialization. */
+    private int numberOfThreads = 1;
+
     /**
      * Constructor, setting the necessary stuff.
      *
@@ -767,6 +847,20 @@ public final class XmlSerializer extends org.sirix.service.AbstractSerializer<Xm
       return this;
     }
 
+    /**
+     * Serialize the children of the root element in parallel. The children are split into ranges, which are
+     * serialized with their own read-only transactions and are written in document order. Parallel serialization is
+     * only used if no maximum level is set.
+     *
+     * @param numberOfThreads the number of worker threads
+     * @return this {@link XmlSerializerBuilder} instance
+     */
+    public XmlSerializerBuilder parallel(final int numberOfThreads) {
+      checkArgument(numberOfThreads > 0, "numberOfThreads must be > 0!");
+      this.numberOfThreads = numberOfThreads;
+      return this;
+    }
+
     /**
      * The versions to serialize.
      *
@@ -335,11 +335,23 @@ public final class XmlShredder extends AbstractShredder implements Callable<Long
    * @throws SirixException if creating the xml event reader fails.
    */
   public static XMLEventReader createFileReader(final FileInputStream fis) {
-    requireNonNull(fis);
+    return createReader(fis);
+  }
+
+  /**
+   * Create a new {@link XMLEventReader} instance on an input stream, for instance the body of a request, which is
+   * parsed while it is read.
+   *
+   * @param in the input stream
+   * @return an {@link XMLEventReader}
+   * @throws SirixException if creating the xml event reader fails.
+   */
+  public static XMLEventReader createReader(final InputStream in) {
+    requireNonNull(in);
     final XMLInputFactory factory = XMLInputFactory.newInstance();
     setProperties(factory);
     try {
-      return factory.createXMLEventReader(fis);
+      return factory.createXMLEventReader(in);
     } catch (XMLStreamException e) {
       throw new SirixException(e.getMessage(), e);
     }
@@ -33,6 +33,7 @@ import org.sirix.io.file.FileStorage;
 import org.sirix.io.filechannel.FileChannelStorage;
 import org.sirix.io.memorymapped.MMStorage;
 import org.sirix.io.ram.RAMStorage;
+import org.sirix.io.segmented.SegmentedFileChannelStorage;
 import org.sirix.page.PageReference;
 import org.sirix.page.UberPage;
 import org.testng.annotations.AfterClass;
@@ -143,6 +144,7 @@ public final class StorageTest {
                 new FileChannelStorage(resourceConfig.setDatabaseConfiguration(dbConfig), Caffeine.newBuilder().buildAsync()),
                 new FileStorage(resourceConfig.setDatabaseConfiguration(dbConfig), Caffeine.newBuilder().buildAsync()),
                 new MMStorage(resourceConfig.setDatabaseConfiguration(dbConfig), Caffeine.newBuilder().buildAsync()),
+                new SegmentedFileChannelStorage(resourceConfig.setDatabaseConfiguration(dbConfig), Caffeine.newBuilder().buildAsync()),
            //     new IOUringStorage(resourceConfig.setDatabaseConfiguration(dbConfig), Caffeine.newBuilder().buildAsync()),
                 new RAMStorage(resourceConfig.setDatabaseConfiguration(dbConfig)),
             }
@@ -0,0 +1,56 @@
+package org.sirix.access.node.json;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.access.Databases;
+import org.sirix.api.PostCommitHook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public final class PostCommitHookTest {
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testGlobalPostCommitHookIsExecutedAfterEachCommit() {
+    JsonTestHelper.createTestDocument();
+
+    final List<String> events = new ArrayList<>();
+    final PostCommitHook globalHook =
+        rtx -> events.add("global:" + rtx.getResourceSession().getResourceConfig().getName());
+
+    Databases.addPostCommitHook(globalHook);
+
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+         final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.addPostCommitHook(rtx -> events.add("trx"));
+
+      wtx.moveTo(2);
+      wtx.remove();
+      wtx.commit();
+
+      Databases.removePostCommitHook(globalHook);
+
+      wtx.moveTo(7);
+      wtx.remove();
+      wtx.commit();
+    } finally {
+      Databases.removePostCommitHook(globalHook);
+    }
+
+    assertEquals(List.of("trx", "global:" + JsonTestHelper.RESOURCE, "trx"), events);
+  }
+}
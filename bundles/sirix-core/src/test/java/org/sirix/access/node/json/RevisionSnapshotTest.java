@@ -0,0 +1,111 @@
+package org.sirix.access.node.json;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.access.trx.node.RevisionSnapshot;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.axis.DescendantAxis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test the {@link RevisionSnapshot}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class RevisionSnapshotTest {
+  @BeforeEach
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testConcurrentReadersOfSnapshot() throws Exception {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var snapshot = session.openSnapshot()) {
+      final long expectedNumberOfNodes;
+      try (final var rtx = session.beginNodeReadOnlyTrx()) {
+        expectedNumberOfNodes = countDescendants(rtx);
+      }
+
+      final int numberOfReaders = 8;
+      final var executor = Executors.newFixedThreadPool(numberOfReaders);
+      try {
+        final List<Callable<Long>> readers = new ArrayList<>();
+        for (int i = 0; i < numberOfReaders; i++) {
+          readers.add(() -> {
+            try (final var rtx = snapshot.beginNodeReadOnlyTrx()) {
+              return countDescendants(rtx);
+            }
+          });
+        }
+
+        for (final Future<Long> result : executor.invokeAll(readers)) {
+          assertEquals(expectedNumberOfNodes, result.get());
+        }
+      } finally {
+        executor.shutdown();
+      }
+    }
+  }
+
+  @Test
+  public void testSnapshotIsBoundToRevision() {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE)) {
+      final var snapshot = session.openSnapshot();
+      final long numberOfNodes;
+
+      try (final var rtx = snapshot.beginNodeReadOnlyTrx()) {
+        numberOfNodes = countDescendants(rtx);
+      }
+
+      try (final var wtx = session.beginNodeTrx()) {
+        wtx.moveTo(2);
+        wtx.remove();
+        wtx.commit();
+      }
+
+      try (final var rtx = snapshot.beginNodeReadOnlyTrx()) {
+        assertEquals(snapshot.getRevisionNumber(), rtx.getRevisionNumber());
+        assertEquals(numberOfNodes, countDescendants(rtx));
+      }
+
+      try (final var rtx = session.beginNodeReadOnlyTrx()) {
+        assertNotEquals(numberOfNodes, countDescendants(rtx));
+      }
+
+      snapshot.close();
+
+      assertThrows(IllegalStateException.class, snapshot::beginNodeReadOnlyTrx);
+    }
+  }
+
+  private static long countDescendants(final JsonNodeReadOnlyTrx rtx) {
+    long count = 0;
+    for (final var ignored : new DescendantAxis(rtx)) {
+      count++;
+    }
+    return count;
+  }
+}
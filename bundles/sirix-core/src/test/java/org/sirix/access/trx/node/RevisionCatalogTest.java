@@ -0,0 +1,84 @@
+package org.sirix.access.trx.node;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sirix.access.User;
+import org.sirix.io.RevisionFileData;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test the {@link RevisionCatalog}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class RevisionCatalogTest {
+
+  private AtomicInteger loads;
+
+  private RevisionCatalog catalog;
+
+  @BeforeEach
+  public void setUp() {
+    loads = new AtomicInteger();
+    catalog = new RevisionCatalog().ensureLoaded(99, this::revisionFileData);
+  }
+
+  private RevisionFileData revisionFileData(final int revision) {
+    loads.incrementAndGet();
+    return new RevisionFileData(revision * 256L, Instant.ofEpochMilli(1_000L + revision * 100L));
+  }
+
+  @Test
+  public void testLoadedOnlyOnce() {
+    assertEquals(100, catalog.size());
+    assertEquals(100, loads.get());
+
+    catalog.ensureLoaded(99, this::revisionFileData);
+    assertEquals(100, loads.get());
+
+    catalog.ensureLoaded(101, this::revisionFileData);
+    assertEquals(102, catalog.size());
+    assertEquals(102, loads.get());
+    assertEquals(101 * 256L, catalog.getOffset(101));
+  }
+
+  @Test
+  public void testTruncation() {
+    catalog.ensureLoaded(9, this::revisionFileData);
+    assertEquals(10, catalog.size());
+    assertThrows(IllegalArgumentException.class, () -> catalog.getTimestamp(10));
+  }
+
+  @Test
+  public void testClosestRevision() {
+    assertEquals(0, catalog.getRevisionNumber(Instant.ofEpochMilli(0)));
+    assertEquals(5, catalog.getRevisionNumber(Instant.ofEpochMilli(1_500)));
+    assertEquals(5, catalog.getRevisionNumber(Instant.ofEpochMilli(1_530)));
+    assertEquals(6, catalog.getRevisionNumber(Instant.ofEpochMilli(1_570)));
+    assertEquals(99, catalog.getRevisionNumber(Instant.ofEpochMilli(100_000)));
+  }
+
+  @Test
+  public void testCommitCredentialsAreLoadedLazilyOnce() {
+    final var user = new User("admin", UUID.randomUUID());
+    final var credentialLoads = new AtomicInteger();
+
+    final CommitCredentials credentials = catalog.getCommitCredentials(42, revision -> {
+      credentialLoads.incrementAndGet();
+      return new CommitCredentials(user, "commit " + revision);
+    });
+
+    assertEquals("commit 42", credentials.getMessage());
+    assertSame(credentials, catalog.getCommitCredentials(42, revision -> {
+      throw new AssertionError();
+    }));
+    assertEquals(1, credentialLoads.get());
+  }
+}
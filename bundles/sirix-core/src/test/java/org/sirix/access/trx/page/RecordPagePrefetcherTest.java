@@ -0,0 +1,78 @@
+package org.sirix.access.trx.page;
+
+import org.junit.Test;
+import org.sirix.cache.IndexLogKey;
+import org.sirix.index.IndexType;
+import org.sirix.page.interfaces.Page;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class RecordPagePrefetcherTest {
+
+  private final List<Long> prefetchedKeys = new ArrayList<>();
+
+  private final Page page = mock(Page.class);
+
+  private final RecordPagePrefetcher prefetcher = new RecordPagePrefetcher(indexLogKey -> {
+    prefetchedKeys.add(indexLogKey.getRecordPageKey());
+    return CompletableFuture.completedFuture(page);
+  });
+
+  @Test
+  public void testSequentialAccessPrefetchesWithGrowingWindow() {
+    prefetcher.recordAccess(documentKey(0));
+    prefetcher.recordAccess(documentKey(1));
+    assertTrue(prefetchedKeys.isEmpty());
+
+    prefetcher.recordAccess(documentKey(2));
+    assertEquals(List.of(3L, 4L), prefetchedKeys);
+
+    prefetcher.recordAccess(documentKey(3));
+    assertEquals(List.of(3L, 4L, 5L, 6L, 7L), prefetchedKeys);
+
+    assertSame(page, prefetcher.getPrefetchedPage(documentKey(4)));
+    assertNull(prefetcher.getPrefetchedPage(documentKey(4)));
+  }
+
+  @Test
+  public void testStridedAccess() {
+    prefetcher.recordAccess(documentKey(0));
+    prefetcher.recordAccess(documentKey(2));
+    prefetcher.recordAccess(documentKey(4));
+    assertEquals(List.of(6L, 8L), prefetchedKeys);
+  }
+
+  @Test
+  public void testRandomAccessDoesNotPrefetch() {
+    prefetcher.recordAccess(documentKey(7));
+    prefetcher.recordAccess(documentKey(2));
+    prefetcher.recordAccess(documentKey(100));
+    prefetcher.recordAccess(documentKey(3));
+    prefetcher.recordAccess(new IndexLogKey(IndexType.PATH_SUMMARY, 4, 0, 1));
+    prefetcher.recordAccess(new IndexLogKey(IndexType.PATH_SUMMARY, 5, 0, 1));
+    prefetcher.recordAccess(new IndexLogKey(IndexType.PATH_SUMMARY, 6, 0, 1));
+    assertTrue(prefetchedKeys.isEmpty());
+  }
+
+  @Test
+  public void testLoadIsHandedOverOnce() {
+    final var future = prefetcher.load(documentKey(42));
+    assertSame(future, prefetcher.load(documentKey(42)));
+    assertEquals(List.of(42L), prefetchedKeys);
+
+    assertSame(page, prefetcher.getPrefetchedPage(documentKey(42)));
+    assertNull(prefetcher.getPrefetchedPage(documentKey(42)));
+  }
+
+  private static IndexLogKey documentKey(final long recordPageKey) {
+    return new IndexLogKey(IndexType.DOCUMENT, recordPageKey, 0, 1);
+  }
+}
@@ -38,6 +38,7 @@ public class ConcurrentBenchTestMain {
      */
     final Benchmark bench = new Benchmark(new ConcurrentBenchConfig());
     bench.add(ConcurrentAxisTest.class);
+    bench.add(ConcurrentSetAxisBench.class);
 
     /*
      * Start test.
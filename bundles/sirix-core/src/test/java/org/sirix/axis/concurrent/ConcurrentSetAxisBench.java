@@ -0,0 +1,114 @@
+package org.sirix.axis.concurrent;
+
+import org.perfidix.annotation.AfterBenchClass;
+import org.perfidix.annotation.BeforeBenchClass;
+import org.perfidix.annotation.Bench;
+import org.sirix.Holder;
+import org.sirix.XmlTestHelper;
+import org.sirix.XmlTestHelper.PATHS;
+import org.sirix.api.Axis;
+import org.sirix.api.xml.XmlNodeReadOnlyTrx;
+import org.sirix.axis.DescendantAxis;
+import org.sirix.axis.IncludeSelf;
+import org.sirix.axis.filter.FilterAxis;
+import org.sirix.axis.filter.xml.XmlNameFilter;
+import org.sirix.service.xml.shredder.XmlShredder;
+import org.sirix.service.xml.xpath.expr.ExceptAxis;
+import org.sirix.service.xml.xpath.expr.IntersectAxis;
+import org.sirix.service.xml.xpath.expr.UnionAxis;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the concurrent set axes with their sequential counterparts. The operands are descendant
+ * axes filtered by name, thus the producers have to scan the whole document, which is the case the
+ * concurrent evaluation is made for. Run by {@link ConcurrentBenchTestMain}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ConcurrentSetAxisBench {
+
+  /** XML file name to benchmark. */
+  private static final String XMLFILE = "10mb.xml";
+
+  /** Path to XML file. */
+  private static final Path XML = Paths.get("src", "test", "resources", XMLFILE);
+
+  private Holder holder;
+
+  private final List<XmlNodeReadOnlyTrx> trxs = new ArrayList<>();
+
+  @BeforeBenchClass
+  public void setUp() throws Exception {
+    XmlTestHelper.deleteEverything();
+    XmlShredder.main(XML.toAbsolutePath().toString(), PATHS.PATH1.getFile().toAbsolutePath().toString());
+    holder = Holder.generateRtx();
+  }
+
+  @AfterBenchClass
+  public void tearDown() {
+    holder.close();
+    XmlTestHelper.closeEverything();
+  }
+
+  @Bench
+  public void benchSequentialUnion() {
+    final XmlNodeReadOnlyTrx rtx = holder.getXmlNodeReadTrx();
+    consume(new UnionAxis(rtx, names(rtx, "location"), names(rtx, "city")));
+  }
+
+  @Bench
+  public void benchConcurrentUnion() {
+    consume(new ConcurrentUnionAxis<>(newTrx(), names(newTrx(), "location"), names(newTrx(), "city")));
+    closeTrxs();
+  }
+
+  @Bench
+  public void benchSequentialIntersect() {
+    final XmlNodeReadOnlyTrx rtx = holder.getXmlNodeReadTrx();
+    consume(new IntersectAxis(rtx, names(rtx, "location"), names(rtx, "location")));
+  }
+
+  @Bench
+  public void benchConcurrentIntersect() {
+    consume(new ConcurrentIntersectAxis<>(newTrx(), names(newTrx(), "location"), names(newTrx(), "location")));
+    closeTrxs();
+  }
+
+  @Bench
+  public void benchSequentialExcept() {
+    final XmlNodeReadOnlyTrx rtx = holder.getXmlNodeReadTrx();
+    consume(new ExceptAxis(rtx, names(rtx, "location"), names(rtx, "city")));
+  }
+
+  @Bench
+  public void benchConcurrentExcept() {
+    consume(new ConcurrentExceptAxis<>(newTrx(), names(newTrx(), "location"), names(newTrx(), "city")));
+    closeTrxs();
+  }
+
+  private static Axis names(final XmlNodeReadOnlyTrx rtx, final String name) {
+    rtx.moveToDocumentRoot();
+    return new FilterAxis<>(new DescendantAxis(rtx, IncludeSelf.YES), new XmlNameFilter(rtx, name));
+  }
+
+  private XmlNodeReadOnlyTrx newTrx() {
+    final XmlNodeReadOnlyTrx rtx = holder.getResourceManager().beginNodeReadOnlyTrx();
+    trxs.add(rtx);
+    return rtx;
+  }
+
+  private void closeTrxs() {
+    trxs.forEach(XmlNodeReadOnlyTrx::close);
+    trxs.clear();
+  }
+
+  private static void consume(final Axis axis) {
+    while (axis.hasNext()) {
+      axis.nextLong();
+    }
+  }
+}
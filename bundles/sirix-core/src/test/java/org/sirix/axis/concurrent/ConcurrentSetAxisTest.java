@@ -0,0 +1,146 @@
+package org.sirix.axis.concurrent;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.Holder;
+import org.sirix.XmlTestHelper;
+import org.sirix.api.NodeCursor;
+import org.sirix.api.xml.XmlNodeReadOnlyTrx;
+import org.sirix.axis.AbstractAxis;
+import org.sirix.axis.ChildAxis;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+/** Test the termination of the producers of {@link ConcurrentIntersectAxis} and {@link ConcurrentAxis}. */
+public final class ConcurrentSetAxisTest {
+
+  private Holder holder;
+
+  @Before
+  public void setUp() {
+    XmlTestHelper.deleteEverything();
+    XmlTestHelper.createTestDocument();
+    holder = Holder.generateRtx();
+  }
+
+  @After
+  public void tearDown() {
+    holder.close();
+    XmlTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testIntersectStopsRunningOperand() throws InterruptedException {
+    try (final XmlNodeReadOnlyTrx firstRtx = holder.getResourceManager().beginNodeReadOnlyTrx();
+         final XmlNodeReadOnlyTrx secondRtx = holder.getResourceManager().beginNodeReadOnlyTrx()) {
+      firstRtx.moveTo(9L);
+      final var endlessAxis = new EndlessAxis(secondRtx, 13L);
+      final var axis = new ConcurrentIntersectAxis<>(holder.getXmlNodeReadTrx(), new ChildAxis(firstRtx), endlessAxis);
+
+      // The children of node 9 are smaller than 13, thus the intersection ends once the first operand is drained.
+      assertFalse(axis.hasNext());
+
+      final Thread producer = endlessAxis.awaitProducer();
+      producer.join(10_000);
+      assertFalse(producer.isAlive());
+    }
+  }
+
+  @Test
+  public void testCloseStopsProducer() throws InterruptedException {
+    try (final XmlNodeReadOnlyTrx rtx = holder.getResourceManager().beginNodeReadOnlyTrx()) {
+      final var endlessAxis = new EndlessAxis(rtx, 13L);
+      final var axis = new ConcurrentAxis<>(holder.getXmlNodeReadTrx(), endlessAxis);
+
+      // Take the first result only.
+      assertTrue(axis.hasNext());
+      assertEquals(13L, axis.nextLong());
+      axis.close();
+
+      final Thread producer = endlessAxis.awaitProducer();
+      producer.join(10_000);
+      assertFalse(producer.isAlive());
+      assertTrue(endlessAxis.getNumberOfResults() > 0);
+      assertFalse(axis.hasNext());
+    }
+  }
+
+  @Test
+  public void testCloseAfterCancelWaitsForProducer() throws InterruptedException {
+    try (final XmlNodeReadOnlyTrx rtx = holder.getResourceManager().beginNodeReadOnlyTrx()) {
+      final var endlessAxis = new EndlessAxis(rtx, 13L, 1);
+      final var axis = new ConcurrentAxis<>(holder.getXmlNodeReadTrx(), endlessAxis);
+
+      assertTrue(axis.hasNext());
+      assertEquals(13L, axis.nextLong());
+
+      // As done by the set axes, once they don't need any more results of an operand.
+      axis.cancel();
+      assertFalse(axis.hasNext());
+
+      // Afterwards, the transaction of the producer may be closed.
+      axis.close();
+      assertFalse(endlessAxis.isComputing());
+    }
+  }
+
+  /**
+   * Returns the same node key over and over again and remembers the thread it runs on.
+   */
+  private static final class EndlessAxis extends AbstractAxis {
+    private final long nodeKey;
+
+    private final AtomicLong numberOfResults = new AtomicLong();
+
+    private final long millisPerResult;
+
+    private volatile Thread thread;
+
+    private volatile boolean computing;
+
+    EndlessAxis(final NodeCursor cursor, final long nodeKey) {
+      this(cursor, nodeKey, 0);
+    }
+
+    EndlessAxis(final NodeCursor cursor, final long nodeKey, final long millisPerResult) {
+      super(cursor);
+      this.nodeKey = nodeKey;
+      this.millisPerResult = millisPerResult;
+    }
+
+    @Override
+    protected long nextKey() {
+      computing = true;
+      thread = Thread.currentThread();
+      try {
+        if (millisPerResult > 0) {
+          Thread.sleep(millisPerResult);
+        }
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        computing = false;
+      }
+      numberOfResults.incrementAndGet();
+      return nodeKey;
+    }
+
+    boolean isComputing() {
+      return computing;
+    }
+
+    Thread awaitProducer() throws InterruptedException {
+      while (thread == null) {
+        Thread.sleep(1);
+      }
+      return thread;
+    }
+
+    long getNumberOfResults() {
+      return numberOfResults.get();
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package org.sirix.axis.concurrent;
+
+import org.junit.Test;
+import org.sirix.exception.SirixException;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.*;
+
+/** Test {@link LongBatchRing}. */
+public final class LongBatchRingTest {
+
+  @Test
+  public void testHandOverPreservesOrder() {
+    final LongBatchRing ring = new LongBatchRing(4);
+    final int numberOfBatches = 10_000;
+
+    final CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+      long next = 0;
+      for (int i = 0; i < numberOfBatches; i++) {
+        final long[] batch = new long[1 + i % 7];
+        for (int j = 0; j < batch.length; j++) {
+          batch[j] = next++;
+        }
+        assertTrue(ring.put(batch));
+      }
+      ring.finish(null);
+    });
+
+    long expected = 0;
+    long[] batch;
+    while ((batch = ring.take()) != null) {
+      for (final long value : batch) {
+        assertEquals(expected++, value);
+      }
+    }
+
+    producer.join();
+    assertTrue(expected > numberOfBatches);
+  }
+
+  @Test
+  public void testCancelReleasesWaitingProducer() {
+    final LongBatchRing ring = new LongBatchRing(1);
+    assertTrue(ring.put(new long[] { 1 }));
+
+    final CompletableFuture<Boolean> producer = CompletableFuture.supplyAsync(() -> ring.put(new long[] { 2 }));
+    ring.cancel();
+
+    assertFalse(producer.join());
+  }
+
+  @Test(expected = SirixException.class)
+  public void testFailureOfProducerIsRethrown() {
+    final LongBatchRing ring = new LongBatchRing(2);
+    ring.finish(new IllegalStateException());
+    ring.take();
+  }
+}
@@ -0,0 +1,104 @@
+package org.sirix.diff;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.JsonTestHelper.PATHS;
+import org.sirix.access.trx.node.json.InternalJsonNodeTrx;
+import org.sirix.access.trx.node.json.objectvalue.StringValue;
+import org.sirix.api.json.JsonResourceSession;
+import org.sirix.diff.DiffFactory.DiffOptimized;
+import org.sirix.diff.DiffFactory.DiffType;
+import org.sirix.utils.JsonDocumentCreator;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test that the diff of adjacent revisions, which skips unchanged subtrees based on the stored update operations,
+ * emits the same changes as the full traversal.
+ */
+public final class JsonDiffTest {
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testChangesOfAdjacentRevisionsAreTheSameAsWithFullTraversal() {
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    assert database != null;
+
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var wtx = session.beginNodeTrx()) {
+      JsonDocumentCreator.create(wtx);
+      wtx.commit();
+
+      // Revision 2: insert and remove object records.
+      wtx.moveTo(1);
+      wtx.moveToFirstChild();
+      wtx.insertObjectRecordAsRightSibling("hereIAm", new StringValue("yeah"));
+      wtx.moveTo(1);
+      wtx.moveToLastChild();
+      wtx.remove();
+      wtx.commit();
+
+      // Revision 3: the state of revision 1.
+      wtx.revertTo(1);
+      wtx.commit();
+
+      // Revision 4: an insertion, which isn't recorded, as bulk insertion is enabled.
+      ((InternalJsonNodeTrx) wtx).setBulkInsertion(true);
+      wtx.moveTo(1);
+      wtx.moveToFirstChild();
+      wtx.insertObjectRecordAsRightSibling("bulk", new StringValue("inserted"));
+      ((InternalJsonNodeTrx) wtx).setBulkInsertion(false);
+      wtx.commit();
+
+      final var resourceConfig = session.getResourceConfig();
+      assertTrue(Files.exists(JsonUpdateOperations.getCompleteMarker(resourceConfig, 2)));
+      assertFalse(Files.exists(JsonUpdateOperations.getCompleteMarker(resourceConfig, 3)));
+      assertFalse(Files.exists(JsonUpdateOperations.getCompleteMarker(resourceConfig, 4)));
+
+      for (int revision = 2; revision <= 4; revision++) {
+        final List<String> changes = diff(session, revision, DiffOptimized.HASHED);
+        assertFalse("no changes found in revision " + revision, changes.isEmpty());
+        assertEquals(diff(session, revision, DiffOptimized.NO), changes);
+      }
+    }
+  }
+
+  private static List<String> diff(final JsonResourceSession session, final int revision,
+      final DiffOptimized diffKind) {
+    final var changes = new ArrayList<String>();
+    final var observer = new DiffObserver() {
+      @Override
+      public void diffListener(final DiffType diffType, final long newNodeKey, final long oldNodeKey,
+          final DiffDepth depth) {
+        if (diffType != DiffType.SAME && diffType != DiffType.SAMEHASH) {
+          changes.add(diffType + ":" + newNodeKey + ":" + oldNodeKey);
+        }
+      }
+
+      @Override
+      public void diffDone() {
+      }
+    };
+
+    DiffFactory.invokeJsonDiff(new DiffFactory.Builder<>(session, revision, revision - 1, diffKind, Set.of(observer))
+                                   .hashKind(session.getResourceConfig().hashType));
+
+    return changes;
+  }
+}
@@ -0,0 +1,118 @@
+package org.sirix.index.column;
+
+import it.unimi.dsi.fastutil.longs.LongSet;
+import org.brackit.xquery.util.path.PathParser;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.index.IndexDef;
+import org.sirix.index.IndexDefs;
+import org.sirix.index.column.ColumnChunk.ValueType;
+import org.sirix.service.json.shredder.JsonShredder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static org.brackit.xquery.util.path.Path.parse;
+import static org.junit.Assert.*;
+
+public final class JsonColumnIndexTest {
+
+  private static final String JSON = """
+      {"items":[{"price":1,"name":"a"},{"price":2.5,"name":"b"},{"price":true,"name":"c"},{"price":"n/a"}]}
+      """;
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testCreateColumnIndexWhileListening() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var trx = manager.beginNodeTrx()) {
+      final var indexController = manager.getWtxIndexController(trx.getRevisionNumber());
+
+      final var pathToPrice = parse("/items/[]/price", PathParser.Type.JSON);
+      final var columnIndexDef =
+          IndexDefs.createColumnIdxDef(Collections.singleton(pathToPrice), 0, IndexDef.DbType.JSON);
+
+      indexController.createIndexes(Set.of(columnIndexDef), trx);
+
+      trx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(JSON));
+
+      assertPrices(trx.getPageTrx(), columnIndexDef, trx.getPathSummary().getPCRsForPath(pathToPrice));
+    }
+  }
+
+  @Test
+  public void testCreateColumnIndexOnDemandAndRemoveValue() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var trx = manager.beginNodeTrx()) {
+      trx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(JSON));
+      trx.commit();
+
+      final var indexController = manager.getWtxIndexController(trx.getRevisionNumber() - 1);
+
+      final var pathToPrice = parse("/items/[]/price", PathParser.Type.JSON);
+      final var columnIndexDef =
+          IndexDefs.createColumnIdxDef(Collections.singleton(pathToPrice), 0, IndexDef.DbType.JSON);
+
+      indexController.createIndexes(Set.of(columnIndexDef), trx);
+
+      final var pathNodeKeys = trx.getPathSummary().getPCRsForPath(pathToPrice);
+      assertPrices(trx.getPageTrx(), columnIndexDef, pathNodeKeys);
+
+      final long valueNodeKeyOfFirstPrice = new ColumnIndexReader(trx.getPageTrx(), columnIndexDef.getID())
+          .openChunks(pathNodeKeys).next().getValueNodeKey(0);
+
+      trx.moveTo(valueNodeKeyOfFirstPrice);
+      trx.moveToParent();
+      trx.remove();
+      trx.commit();
+
+      final ColumnChunk chunk =
+          new ColumnIndexReader(trx.getPageTrx(), columnIndexDef.getID()).openChunks(pathNodeKeys).next();
+      assertEquals(3, chunk.size());
+      assertEquals(-1, chunk.indexOf(valueNodeKeyOfFirstPrice));
+      assertEquals(ValueType.DOUBLE, chunk.getValueType(0));
+    }
+  }
+
+  private static void assertPrices(final PageReadOnlyTrx pageTrx, final IndexDef columnIndexDef,
+      final LongSet pathNodeKeys) {
+    assertEquals(1, pathNodeKeys.size());
+
+    final var reader = new ColumnIndexReader(pageTrx, columnIndexDef.getID());
+    assertEquals(pathNodeKeys, reader.getPathNodeKeys());
+
+    final List<ColumnChunk> chunks = new ArrayList<>();
+    final Iterator<ColumnChunk> chunkIterator = reader.openChunks(pathNodeKeys);
+    chunkIterator.forEachRemaining(chunks::add);
+
+    assertEquals(1, chunks.size());
+
+    final ColumnChunk chunk = chunks.get(0);
+    assertEquals(4, chunk.size());
+    assertEquals(ValueType.LONG, chunk.getValueType(0));
+    assertEquals(1L, chunk.getLongValue(0));
+    assertEquals(ValueType.DOUBLE, chunk.getValueType(1));
+    assertEquals(2.5, chunk.getDoubleValue(1), 0.0);
+    assertEquals(ValueType.BOOLEAN, chunk.getValueType(2));
+    assertEquals(1L, chunk.getRawValue(2));
+    assertEquals(ValueType.STRING, chunk.getValueType(3));
+    assertEquals("n/a", chunk.getStringValue(3));
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2023, University of Konstanz, Distributed Systems Group All rights reserved.
+ * <p>
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met: * Redistributions of source code must retain the
+ * above copyright notice, this list of conditions and the following disclaimer. * Redistributions
+ * in binary form must reproduce the above copyright notice, this list of conditions and the
+ * following disclaimer in the documentation and/or other materials provided with the distribution.
+ * * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.sirix.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sirix.access.DatabaseConfiguration;
+import org.sirix.access.Databases;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.access.trx.node.json.objectvalue.StringValue;
+import org.sirix.service.json.shredder.JsonShredder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link WriteAheadLog}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class WriteAheadLogTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  public void testReplayAppliesCommittedRecords() throws IOException {
+    final Path logFile = directory.resolve(WriteAheadLog.FILENAME);
+    final Path dataFile = directory.resolve(IOStorage.FILENAME);
+    final Path revisionsFile = directory.resolve(IOStorage.REVISIONS_FILENAME);
+
+    try (final var log = new WriteAheadLog(logFile)) {
+      log.logWrite(WriteAheadLog.DATA_FILE, 8, ByteBuffer.wrap(new byte[] { 1, 2, 3 }));
+      log.logWrite(WriteAheadLog.REVISIONS_FILE, 0, ByteBuffer.wrap(new byte[] { 4, 5 }));
+      log.commit(1);
+      log.logWrite(WriteAheadLog.DATA_FILE, 9, ByteBuffer.wrap(new byte[] { 6 }));
+      log.commit(2);
+      // Not committed.
+      log.logWrite(WriteAheadLog.DATA_FILE, 0, ByteBuffer.wrap(new byte[] { 7 }));
+    }
+
+    assertEquals(2, WriteAheadLog.replay(logFile, dataFile, revisionsFile));
+    assertArrayEquals(new byte[] { 0, 0, 0, 0, 0, 0, 0, 0, 1, 6, 3 }, Files.readAllBytes(dataFile));
+    assertArrayEquals(new byte[] { 4, 5 }, Files.readAllBytes(revisionsFile));
+    assertEquals(0, Files.size(logFile));
+  }
+
+  @Test
+  public void testReplayIgnoresTornRecord() throws IOException {
+    final Path logFile = directory.resolve(WriteAheadLog.FILENAME);
+    final Path dataFile = directory.resolve(IOStorage.FILENAME);
+    final Path revisionsFile = directory.resolve(IOStorage.REVISIONS_FILENAME);
+
+    try (final var log = new WriteAheadLog(logFile)) {
+      log.logWrite(WriteAheadLog.DATA_FILE, 0, ByteBuffer.wrap(new byte[] { 1, 2 }));
+      log.commit(1);
+      log.logWrite(WriteAheadLog.DATA_FILE, 0, ByteBuffer.wrap(new byte[] { 3, 4 }));
+      log.commit(2);
+    }
+
+    // Simulate a crash while appending the second record.
+    try (final var channel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+      channel.truncate(channel.size() - 1);
+    }
+
+    assertEquals(1, WriteAheadLog.replay(logFile, dataFile, revisionsFile));
+    assertArrayEquals(new byte[] { 1, 2 }, Files.readAllBytes(dataFile));
+  }
+
+  @Test
+  public void testCheckpointTruncatesLog() throws Exception {
+    final Path logFile = directory.resolve(WriteAheadLog.FILENAME);
+
+    try (final var log = new WriteAheadLog(logFile);
+         final var dataChannel = FileChannel.open(directory.resolve(IOStorage.FILENAME),
+                                                  StandardOpenOption.CREATE,
+                                                  StandardOpenOption.WRITE);
+         final var revisionsChannel = FileChannel.open(directory.resolve(IOStorage.REVISIONS_FILENAME),
+                                                       StandardOpenOption.CREATE,
+                                                       StandardOpenOption.WRITE)) {
+      log.logWrite(WriteAheadLog.DATA_FILE, 0, ByteBuffer.wrap(new byte[] { 1 }));
+      log.commit(1);
+      assertTrue(Files.size(logFile) > 0);
+      log.checkpointAsync(dataChannel, revisionsChannel).get(5, TimeUnit.SECONDS);
+      assertEquals(0, Files.size(logFile));
+    }
+  }
+
+  @Test
+  public void testRevisionIsReadableAfterCrash() throws IOException {
+    final Path databaseFile = directory.resolve("database");
+    Databases.createJsonDatabase(new DatabaseConfiguration(databaseFile));
+
+    final Path dataDirectory;
+    try (final var database = Databases.openJsonDatabase(databaseFile)) {
+      database.createResource(ResourceConfiguration.newBuilder("resource")
+                                                   .storageType(StorageType.FILE_CHANNEL)
+                                                   .useWriteAheadLog(true)
+                                                   .build());
+      try (final var session = database.beginResourceSession("resource");
+           final var wtx = session.beginNodeTrx()) {
+        wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("{\"foo\":[1,2,3]}"));
+        wtx.moveToDocumentRoot();
+        wtx.moveToFirstChild();
+        wtx.insertObjectRecordAsFirstChild("bar", new StringValue("baz"));
+        wtx.commit();
+        dataDirectory =
+            session.getResourceConfig().resourcePath.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath());
+      }
+    }
+
+    // Simulate a crash after the log of the second commit has been forced, but before the revisions file has been
+    // forced: the log contains the data files and the entry of revision 2 in the revisions file is torn.
+    final Path dataFile = dataDirectory.resolve(IOStorage.FILENAME);
+    final Path revisionsFile = dataDirectory.resolve(IOStorage.REVISIONS_FILENAME);
+    try (final var log = new WriteAheadLog(dataDirectory.resolve(WriteAheadLog.FILENAME))) {
+      log.logWrite(WriteAheadLog.DATA_FILE, 0, ByteBuffer.wrap(Files.readAllBytes(dataFile)));
+      log.logWrite(WriteAheadLog.REVISIONS_FILE, 0, ByteBuffer.wrap(Files.readAllBytes(revisionsFile)));
+      log.commit(2);
+    }
+    try (final var channel = FileChannel.open(revisionsFile, StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.allocate(2 * Long.BYTES), channel.size() - 2 * Long.BYTES);
+    }
+    // A restart, which empties the in-memory revision file data.
+    StorageType.CACHE_REPOSITORY.clear();
+
+    try (final var database = Databases.openJsonDatabase(databaseFile);
+         final var session = database.beginResourceSession("resource");
+         final var rtx = session.beginNodeReadOnlyTrx(2)) {
+      assertEquals(0, Files.size(dataDirectory.resolve(WriteAheadLog.FILENAME)));
+      assertTrue(rtx.moveToFirstChild());
+      assertEquals(2, rtx.getChildCount());
+    }
+  }
+
+  @Test
+  public void testUnsupportedStorageTypeIsRejected() {
+    final Path databaseFile = directory.resolve("database");
+    Databases.createJsonDatabase(new DatabaseConfiguration(databaseFile));
+
+    try (final var database = Databases.openJsonDatabase(databaseFile)) {
+      for (final StorageType storageType : StorageType.values()) {
+        final var resourceConfig = ResourceConfiguration.newBuilder("resource-" + storageType.name())
+                                                        .storageType(storageType)
+                                                        .useWriteAheadLog(true)
+                                                        .build();
+
+        if (storageType.supportsWriteAheadLog()) {
+          assertTrue(database.createResource(resourceConfig));
+        } else {
+          assertThrows(IllegalArgumentException.class, () -> database.createResource(resourceConfig));
+        }
+      }
+    }
+  }
+}
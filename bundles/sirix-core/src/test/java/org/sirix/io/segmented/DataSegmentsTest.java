@@ -0,0 +1,126 @@
+package org.sirix.io.segmented;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sirix.exception.SirixIOException;
+import org.sirix.io.bytepipe.ByteHandlerPipeline;
+import org.sirix.page.PagePersister;
+import org.sirix.page.PageReference;
+import org.sirix.page.SerializationType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test the {@link DataSegments}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class DataSegmentsTest {
+
+  private static final int SEGMENT_SIZE_EXPONENT = 12;
+
+  @TempDir
+  Path directory;
+
+  private DataSegments dataSegments;
+
+  @BeforeEach
+  public void setUp() {
+    dataSegments = new DataSegments(directory, SEGMENT_SIZE_EXPONENT);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    dataSegments.close();
+  }
+
+  @Test
+  public void testAddressing() {
+    final long key = (3L << SEGMENT_SIZE_EXPONENT) | 17;
+    assertEquals(3, dataSegments.segmentId(key));
+    assertEquals(17, dataSegments.offsetInSegment(key));
+  }
+
+  @Test
+  public void testWriteAndReadAcrossSegmentBoundaries() throws IOException {
+    final byte[] bytes = bytes(10_000);
+    final long position = 4_000;
+
+    dataSegments.write(ByteBuffer.wrap(bytes), position);
+    dataSegments.force();
+
+    assertEquals(position + bytes.length, dataSegments.size());
+    assertEquals(4, dataSegments.getSegmentPaths().size());
+
+    final ByteBuffer buffer = ByteBuffer.allocate(bytes.length);
+    assertEquals(bytes.length, dataSegments.read(buffer, position));
+    assertArrayEquals(bytes, buffer.array());
+
+    try (final DataSegments reopened = new DataSegments(directory, SEGMENT_SIZE_EXPONENT)) {
+      assertEquals(position + bytes.length, reopened.size());
+    }
+  }
+
+  @Test
+  public void testTruncateDeletesSegments() throws IOException {
+    dataSegments.write(ByteBuffer.wrap(bytes(20_000)), 0);
+
+    dataSegments.truncate(5_000);
+
+    assertEquals(5_000, dataSegments.size());
+    assertTrue(Files.exists(dataSegments.getSegmentPath(1)));
+    assertFalse(Files.exists(dataSegments.getSegmentPath(2)));
+
+    // The segment starting at the new end is deleted instead of being truncated to an empty file.
+    dataSegments.truncate(1L << SEGMENT_SIZE_EXPONENT);
+
+    assertEquals(1L << SEGMENT_SIZE_EXPONENT, dataSegments.size());
+    assertFalse(Files.exists(dataSegments.getSegmentPath(1)));
+    assertEquals(1, dataSegments.getSegmentPaths().size());
+
+    dataSegments.truncate(0);
+
+    assertEquals(0, dataSegments.size());
+    assertTrue(dataSegments.getSegmentPaths().isEmpty());
+  }
+
+  @Test
+  public void testReadOfTruncatedPageFails() throws IOException {
+    // The length of the page is 1000 bytes, but the segment ends after 100 bytes.
+    final ByteBuffer page = ByteBuffer.allocate(104).order(ByteOrder.nativeOrder());
+    page.putInt(1_000).put(bytes(100)).flip();
+    dataSegments.write(page, 0);
+
+    final var reader = new SegmentedFileChannelReader(dataSegments,
+                                                      null,
+                                                      new ByteHandlerPipeline(),
+                                                      SerializationType.DATA,
+                                                      new PagePersister(),
+                                                      Caffeine.newBuilder().build());
+
+    assertThrows(SirixIOException.class, () -> reader.read(new PageReference().setKey(0), null));
+    // The page is located in a segment, which doesn't exist.
+    assertThrows(SirixIOException.class, () -> reader.read(new PageReference().setKey(1L << 20), null));
+  }
+
+  private static byte[] bytes(final int length) {
+    final byte[] bytes = new byte[length];
+    for (int i = 0; i < length; i++) {
+      bytes[i] = (byte) i;
+    }
+    return bytes;
+  }
+}
@@ -0,0 +1,101 @@
+package org.sirix.metrics;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public final class PrometheusMetricsRegistryTest {
+
+  @After
+  public void tearDown() {
+    Metrics.setRegistry(NoOpMetricsRegistry.INSTANCE);
+  }
+
+  @Test
+  public void testCounter() {
+    final var registry = new PrometheusMetricsRegistry();
+    registry.counter("sirix.test.requests", "Number of requests.", "method", "GET").increment();
+    registry.counter("sirix.test.requests", "Number of requests.", "method", "GET").increment(2);
+    registry.counter("sirix.test.requests", "Number of requests.", "method", "PUT").increment();
+
+    final var scrape = registry.scrape();
+
+    assertTrue(scrape.contains("# HELP sirix_test_requests_total Number of requests.\n"));
+    assertTrue(scrape.contains("# TYPE sirix_test_requests_total counter\n"));
+    assertTrue(scrape.contains("sirix_test_requests_total{method=\"GET\"} 3\n"));
+    assertTrue(scrape.contains("sirix_test_requests_total{method=\"PUT\"} 1\n"));
+  }
+
+  @Test
+  public void testTimer() {
+    final var registry = new PrometheusMetricsRegistry();
+    final var timer = registry.timer("sirix.test.commit", "Duration of commits.");
+    timer.record(500, TimeUnit.MILLISECONDS);
+    timer.record(1, TimeUnit.SECONDS);
+
+    final var scrape = registry.scrape();
+
+    assertTrue(scrape.contains("# TYPE sirix_test_commit_seconds summary\n"));
+    assertTrue(scrape.contains("sirix_test_commit_seconds_count 2\n"));
+    assertTrue(scrape.contains("sirix_test_commit_seconds_sum 1.5\n"));
+    assertTrue(scrape.contains("sirix_test_commit_seconds_max 1.0\n"));
+  }
+
+  @Test
+  public void testSummary() {
+    final var registry = new PrometheusMetricsRegistry();
+    final var summary = registry.summary("sirix.test.fragments", "Number of fragments.");
+    summary.record(1);
+    summary.record(4);
+
+    final var scrape = registry.scrape();
+
+    assertTrue(scrape.contains("sirix_test_fragments_count 2\n"));
+    assertTrue(scrape.contains("sirix_test_fragments_sum 5.0\n"));
+    assertTrue(scrape.contains("sirix_test_fragments_max 4.0\n"));
+  }
+
+  @Test
+  public void testLabelValuesAreEscaped() {
+    final var registry = new PrometheusMetricsRegistry();
+    registry.counter("sirix.test.queries", "Number of queries.", "query", "\"a\\b\"").increment();
+
+    assertTrue(registry.scrape().contains("sirix_test_queries_total{query=\"\\\"a\\\\b\\\"\"} 1\n"));
+  }
+
+  @Test
+  public void testSameMeterIsReturned() {
+    final var registry = new PrometheusMetricsRegistry();
+    assertSame(registry.counter("sirix.test.counter", "A counter."), registry.counter("sirix.test.counter", "A counter."));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTypeMismatch() {
+    final var registry = new PrometheusMetricsRegistry();
+    registry.counter("sirix.test.meter", "A meter.");
+    registry.timer("sirix.test.meter", "A meter.");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testOddNumberOfTags() {
+    new PrometheusMetricsRegistry().counter("sirix.test.counter", "A counter.", "key");
+  }
+
+  @Test
+  public void testHandlesForwardToCurrentRegistry() {
+    final var counter = Metrics.counter("sirix.test.handle", "A handle.");
+    counter.increment();
+
+    final var registry = new PrometheusMetricsRegistry();
+    Metrics.setRegistry(registry);
+    counter.increment();
+
+    assertTrue(registry.scrape().contains("sirix_test_handle_total 1\n"));
+    assertEquals(registry, Metrics.registry());
+  }
+}
@@ -0,0 +1,89 @@
+package org.sirix.node;
+
+import org.perfidix.Benchmark;
+import org.perfidix.annotation.BeforeBenchClass;
+import org.perfidix.annotation.Bench;
+import org.perfidix.ouput.TabularSummaryOutput;
+import org.perfidix.result.BenchmarkResult;
+
+/**
+ * Measures the throughput of generating DeweyIDs for inserted nodes and of comparing DeweyIDs in
+ * document order, both on the decoded division values and on the byte representation.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class SirixDeweyIDBench {
+
+  /** Number of siblings. */
+  private static final int SIBLINGS = 10_000;
+
+  private SirixDeweyID[] deweyIDs;
+
+  private byte[][] deweyIDBytes;
+
+  private long sink;
+
+  @BeforeBenchClass
+  public void setUp() {
+    deweyIDs = new SirixDeweyID[SIBLINGS * 2];
+    deweyIDBytes = new byte[SIBLINGS * 2][];
+
+    SirixDeweyID sibling = SirixDeweyID.newRootID().getNewChildID().getNewChildID();
+    for (int i = 0; i < SIBLINGS; i++) {
+      deweyIDs[2 * i] = sibling;
+      deweyIDs[2 * i + 1] = sibling.getNewChildID().getNewChildID();
+      sibling = SirixDeweyID.newBetween(sibling, null);
+    }
+
+    for (int i = 0; i < deweyIDs.length; i++) {
+      deweyIDBytes[i] = deweyIDs[i].toBytes();
+    }
+  }
+
+  @Bench
+  public void benchInsertRightSiblings() {
+    SirixDeweyID sibling = SirixDeweyID.newRootID().getNewChildID();
+    for (int i = 0; i < SIBLINGS; i++) {
+      sibling = SirixDeweyID.newBetween(sibling, null);
+      sink += sibling.toBytes().length;
+    }
+  }
+
+  @Bench
+  public void benchInsertBetweenSiblings() {
+    final SirixDeweyID first = SirixDeweyID.newRootID().getNewChildID();
+    SirixDeweyID last = SirixDeweyID.newBetween(first, null);
+    for (int i = 0; i < SIBLINGS; i++) {
+      last = SirixDeweyID.newBetween(first, last);
+      sink += last.toBytes().length;
+    }
+  }
+
+  @Bench
+  public void benchCompareDivisions() {
+    for (int i = 1; i < deweyIDs.length; i++) {
+      sink += deweyIDs[i - 1].compareTo(deweyIDs[i]);
+    }
+  }
+
+  @Bench
+  public void benchCompareBytes() {
+    for (int i = 1; i < deweyIDBytes.length; i++) {
+      sink += SirixDeweyID.compare(deweyIDBytes[i - 1], deweyIDBytes[i]);
+    }
+  }
+
+  @Bench
+  public void benchDecodeAndCompare() {
+    for (int i = 1; i < deweyIDBytes.length; i++) {
+      sink += new SirixDeweyID(deweyIDBytes[i - 1]).compareTo(new SirixDeweyID(deweyIDBytes[i]));
+    }
+  }
+
+  public static void main(final String[] args) {
+    final Benchmark bench = new Benchmark();
+    bench.add(SirixDeweyIDBench.class);
+    final BenchmarkResult result = bench.run();
+    new TabularSummaryOutput().visitBenchmark(result);
+  }
+}
@@ -0,0 +1,64 @@
+package org.sirix.node;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class SirixDeweyIDTest {
+
+  @Test
+  public void testByteOrderIsDocumentOrder() {
+    final List<SirixDeweyID> deweyIDs = createDeweyIDs();
+
+    for (final SirixDeweyID deweyID : deweyIDs) {
+      for (final SirixDeweyID otherDeweyID : deweyIDs) {
+        assertEquals(deweyID + " vs. " + otherDeweyID,
+                     Integer.signum(deweyID.compareTo(otherDeweyID)),
+                     Integer.signum(SirixDeweyID.compare(deweyID.toBytes(), otherDeweyID.toBytes())));
+        assertEquals(deweyID.compareTo(otherDeweyID) == 0, deweyID.equals(otherDeweyID));
+      }
+    }
+  }
+
+  @Test
+  public void testCompareAsPrefix() {
+    final SirixDeweyID parent = SirixDeweyID.newRootID().getNewChildID();
+    final SirixDeweyID child = parent.getNewChildID();
+    final SirixDeweyID sibling = SirixDeweyID.newBetween(parent, null);
+
+    assertEquals(0, SirixDeweyID.compareAsPrefix(parent.toBytes(), child.toBytes()));
+    assertEquals(1, SirixDeweyID.compareAsPrefix(child.toBytes(), parent.toBytes()));
+    assertTrue(SirixDeweyID.compareAsPrefix(child.toBytes(), sibling.toBytes()) < 0);
+    assertTrue(SirixDeweyID.compareAsPrefix(sibling.toBytes(), child.toBytes()) > 0);
+  }
+
+  private static List<SirixDeweyID> createDeweyIDs() {
+    final List<SirixDeweyID> deweyIDs = new ArrayList<>();
+    final SirixDeweyID root = SirixDeweyID.newRootID();
+    deweyIDs.add(root);
+
+    SirixDeweyID sibling = root.getNewChildID();
+    for (int i = 0; i < 20; i++) {
+      deweyIDs.add(sibling);
+      final SirixDeweyID child = sibling.getNewChildID();
+      deweyIDs.add(child);
+      deweyIDs.add(child.getNewChildID());
+      deweyIDs.add(SirixDeweyID.newBetween(null, child));
+      deweyIDs.add(SirixDeweyID.newBetween(child, null));
+      final SirixDeweyID nextSibling = SirixDeweyID.newBetween(sibling, null);
+      deweyIDs.add(SirixDeweyID.newBetween(sibling, nextSibling));
+      sibling = nextSibling;
+    }
+
+    // Large division values, which need more bits.
+    deweyIDs.add(root.getNewChildID(1_000));
+    deweyIDs.add(root.getNewChildID(100_000));
+    deweyIDs.add(root.getNewChildID(10_000_000).getNewChildID(Integer.MAX_VALUE));
+
+    return deweyIDs;
+  }
+}
@@ -0,0 +1,54 @@
+package org.sirix.node.delegates;
+
+import net.openhft.hashing.LongHashFunction;
+import org.junit.Test;
+import org.sirix.node.SirixDeweyID;
+import org.sirix.settings.Constants;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the {@link ValueNodeDelegate}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ValueNodeDelegateTest {
+
+  private static final byte[] SHORT_VALUE = "foo".getBytes(StandardCharsets.UTF_8);
+
+  private static final byte[] LONG_VALUE = "a value, which is long enough".getBytes(StandardCharsets.UTF_8);
+
+  @Test
+  public void testCompressionIsDecidedPerValue() {
+    final ValueNodeDelegate delegate = new ValueNodeDelegate(nodeDelegate(), SHORT_VALUE, false, true);
+    assertFalse(delegate.isCompressed());
+
+    delegate.setRawValue(LONG_VALUE);
+    assertTrue(delegate.isCompressed());
+    assertArrayEquals(LONG_VALUE, delegate.getRawValue());
+
+    delegate.setRawValue(SHORT_VALUE);
+    assertFalse(delegate.isCompressed());
+
+    delegate.setRawValue(LONG_VALUE);
+    assertTrue(delegate.isCompressed());
+    assertArrayEquals(LONG_VALUE, delegate.getRawValue());
+  }
+
+  @Test
+  public void testValuesAreNotCompressedIfDisabled() {
+    final ValueNodeDelegate delegate = new ValueNodeDelegate(nodeDelegate(), SHORT_VALUE, false, false);
+
+    delegate.setRawValue(LONG_VALUE);
+    assertFalse(delegate.isCompressed());
+    assertArrayEquals(LONG_VALUE, delegate.getRawValue());
+  }
+
+  private static NodeDelegate nodeDelegate() {
+    return new NodeDelegate(13, 14, LongHashFunction.xx3(), Constants.NULL_REVISION_NUMBER, 0, (SirixDeweyID) null);
+  }
+}
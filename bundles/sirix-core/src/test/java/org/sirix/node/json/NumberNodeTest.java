@@ -87,6 +87,29 @@ public class NumberNodeTest {
     check(node2);
   }
 
+  @Test
+  public void testPrimitiveLongValue() {
+    final NodeDelegate del = new NodeDelegate(13,
+                                              14,
+                                              LongHashFunction.xx3(), Constants.NULL_REVISION_NUMBER,
+                                              0,
+                                              SirixDeweyID.newRootID());
+    final StructNodeDelegate strucDel =
+        new StructNodeDelegate(del, Fixed.NULL_NODE_KEY.getStandardProperty(), 16L, 15L, 0L, 0L);
+    final NumberNode node = new NumberNode(NumberType.LONG, Long.MAX_VALUE, 0, strucDel);
+    final long hash = node.computeHash(Bytes.elasticByteBuffer());
+    assertEquals(new NumberNode(Long.MAX_VALUE, strucDel).computeHash(Bytes.elasticByteBuffer()), hash);
+
+    // Serialize and deserialize node.
+    final Bytes<ByteBuffer> data = Bytes.elasticByteBuffer();
+    node.getKind().serialize(data, node, pageTrx);
+    final NumberNode node2 = (NumberNode) NodeKind.NUMBER_VALUE.deserialize(data, node.getNodeKey(), null, pageTrx);
+    assertEquals(NumberType.LONG, node2.getNumberType());
+    assertEquals(Long.MAX_VALUE, node2.getLongValue());
+    assertEquals(Long.MAX_VALUE, node2.getValue());
+    assertEquals(hash, node2.computeHash(Bytes.elasticByteBuffer()));
+  }
+
   private void check(final NumberNode node) {
     // Now compare.
     assertEquals(13L, node.getNodeKey());
@@ -0,0 +1,107 @@
+package org.sirix.page;
+
+import org.perfidix.Benchmark;
+import org.perfidix.annotation.BeforeBenchClass;
+import org.perfidix.annotation.Bench;
+import org.perfidix.ouput.TabularSummaryOutput;
+import org.perfidix.result.BenchmarkResult;
+import org.sirix.utils.Compression;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.Deflater;
+
+/**
+ * Compares the page-level {@link SymbolTable} with compressing each value individually with Deflate, as done for
+ * resources stored in the legacy format. The values of a page are records with repeated, enum-like strings. The
+ * storage sizes are printed once, the benchmarks measure encoding and decoding a whole page.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class SymbolTableBench {
+
+  /** Number of records in a key/value leaf page. */
+  private static final int RECORDS = 1 << 10;
+
+  private static final String[] STATUS = { "active", "inactive", "pending", "deleted" };
+
+  private static final String[] COUNTRIES = { "Germany", "United States of America", "France", "Japan", "Brazil" };
+
+  private byte[][] values;
+
+  private byte[][] deflated;
+
+  private SymbolTable symbolTable;
+
+  private byte[][] encoded;
+
+  private long sink;
+
+  @BeforeBenchClass
+  public void setUp() {
+    final var random = new Random(42);
+    values = new byte[RECORDS][];
+    for (int i = 0; i < RECORDS; i++) {
+      values[i] = ("{\"id\":" + i + ",\"status\":\"" + STATUS[random.nextInt(STATUS.length)] + "\",\"country\":\""
+          + COUNTRIES[random.nextInt(COUNTRIES.length)] + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    deflated = new byte[RECORDS][];
+    for (int i = 0; i < RECORDS; i++) {
+      deflated[i] = Compression.compress(values[i], Deflater.DEFAULT_COMPRESSION);
+    }
+
+    symbolTable = SymbolTable.train(values);
+    encoded = new byte[RECORDS][];
+    for (int i = 0; i < RECORDS; i++) {
+      encoded[i] = symbolTable.encode(values[i]);
+    }
+
+    System.out.format("plain: %,d bytes, deflate: %,d bytes, symbol table: %,d bytes%n",
+                      size(values),
+                      size(deflated),
+                      symbolTable.serializedSize() + size(encoded));
+  }
+
+  @Bench
+  public void benchDeflateEncode() {
+    for (final byte[] value : values) {
+      sink += Compression.compress(value, Deflater.DEFAULT_COMPRESSION).length;
+    }
+  }
+
+  @Bench
+  public void benchDeflateDecode() {
+    for (final byte[] value : deflated) {
+      sink += Compression.decompress(value).length;
+    }
+  }
+
+  @Bench
+  public void benchSymbolTableEncode() {
+    // Training is part of serializing a page.
+    final SymbolTable table = SymbolTable.train(values);
+    for (final byte[] value : values) {
+      sink += table.encode(value).length;
+    }
+  }
+
+  @Bench
+  public void benchSymbolTableDecode() {
+    for (final byte[] value : encoded) {
+      sink += symbolTable.decode(value).length;
+    }
+  }
+
+  private static long size(final byte[][] values) {
+    return Arrays.stream(values).mapToLong(value -> value.length).sum();
+  }
+
+  public static void main(final String[] args) {
+    final Benchmark bench = new Benchmark();
+    bench.add(SymbolTableBench.class);
+    final BenchmarkResult result = bench.run();
+    new TabularSummaryOutput().visitBenchmark(result);
+  }
+}
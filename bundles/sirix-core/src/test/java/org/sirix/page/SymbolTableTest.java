@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2023, University of Konstanz, Distributed Systems Group All rights reserved.
+ * <p>
+ * Redistribution and use in source and binary forms, with or without modification, are permitted
+ * provided that the following conditions are met: * Redistributions of source code must retain the
+ * above copyright notice, this list of conditions and the following disclaimer. * Redistributions
+ * in binary form must reproduce the above copyright notice, this list of conditions and the
+ * following disclaimer in the documentation and/or other materials provided with the distribution.
+ * * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.sirix.page;
+
+import net.openhft.chronicle.bytes.Bytes;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the {@link SymbolTable}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class SymbolTableTest {
+
+  @Test
+  public void testRoundTrip() {
+    final byte[][] values = new byte[1024][];
+    for (int i = 0; i < values.length; i += 2) {
+      values[i] = ("{\"name\":\"sirix-" + i + "\",\"description\":\"a versioned, temporal storage system\"}").getBytes(
+          StandardCharsets.UTF_8);
+    }
+
+    final SymbolTable symbolTable = SymbolTable.train(values);
+    assertFalse(symbolTable.isEmpty());
+
+    long size = 0;
+    long encodedSize = 0;
+    for (final byte[] value : values) {
+      if (value == null) {
+        continue;
+      }
+      final byte[] encoded = symbolTable.encode(value);
+      assertArrayEquals(value, symbolTable.decode(encoded));
+      size += value.length;
+      encodedSize += encoded.length;
+    }
+    assertTrue(encodedSize * 2 < size);
+    assertNull(values[1]);
+  }
+
+  @Test
+  public void testSerialization() {
+    final byte[][] values = new byte[64][];
+    final var random = new Random(42);
+    for (int i = 0; i < values.length; i++) {
+      final byte[] value = new byte[random.nextInt(100) + 1];
+      random.nextBytes(value);
+      values[i] = value;
+    }
+
+    final SymbolTable symbolTable = SymbolTable.train(values);
+    final Bytes<ByteBuffer> bytes = Bytes.elasticByteBuffer();
+    symbolTable.serialize(bytes);
+    assertEquals(symbolTable.serializedSize(), bytes.readRemaining());
+
+    final SymbolTable deserializedSymbolTable = SymbolTable.deserialize(bytes);
+    for (final byte[] value : values) {
+      assertArrayEquals(value, deserializedSymbolTable.decode(symbolTable.encode(value)));
+    }
+  }
+
+  @Test
+  public void testEmpty() {
+    final byte[] value = "foo".getBytes(StandardCharsets.UTF_8);
+    final SymbolTable symbolTable = SymbolTable.train(new byte[][] { value });
+    assertSame(SymbolTable.EMPTY, symbolTable);
+    assertSame(value, symbolTable.encode(value));
+    assertSame(value, symbolTable.decode(value));
+  }
+}
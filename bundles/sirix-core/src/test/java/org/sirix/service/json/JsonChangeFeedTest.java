@@ -0,0 +1,109 @@
+package org.sirix.service.json;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public final class JsonChangeFeedTest {
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void test_whenRevisionsAreCommitted_thenChangesAreEmittedInCommitOrder() {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabaseWithHashesEnabled(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.moveTo(3);
+      final long insertedNodeKey = wtx.insertStringValueAsFirstChild("new").getNodeKey();
+      wtx.commit();
+      wtx.moveTo(14);
+      wtx.setStringValue("updated");
+      wtx.commit();
+      wtx.moveTo(6);
+      wtx.remove();
+      wtx.commit();
+
+      final List<JsonChange> changes = manager.changesSince(1).collect(Collectors.toList());
+
+      assertEquals(3, changes.size());
+
+      final JsonChange insert = changes.get(0);
+      assertEquals(2, insert.revision());
+      assertEquals(JsonChange.Type.INSERT, insert.type());
+      assertEquals(insertedNodeKey, insert.nodeKey());
+      assertEquals("\"new\"", insert.value());
+      assertNotNull(insert.path());
+
+      final JsonChange update = changes.get(1);
+      assertEquals(3, update.revision());
+      assertEquals(JsonChange.Type.UPDATE, update.type());
+      assertEquals(14, update.nodeKey());
+      assertEquals("\"updated\"", update.value());
+      assertNotNull(update.path());
+
+      final JsonChange delete = changes.get(2);
+      assertEquals(4, delete.revision());
+      assertEquals(JsonChange.Type.DELETE, delete.type());
+      assertEquals(6, delete.nodeKey());
+      assertNull(delete.value());
+      assertNotNull(delete.path());
+    }
+  }
+
+  @Test
+  public void test_whenNoUpdateOperationsAreStored_thenChangesAreComputedByDiffing() {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabaseWithHashesEnabled(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE)) {
+      final List<JsonChange> changes = manager.changesSince(0).collect(Collectors.toList());
+
+      assertTrue(changes.stream().allMatch(change -> change.revision() == 1));
+      assertTrue(changes.stream().allMatch(change -> change.type() == JsonChange.Type.INSERT));
+      assertEquals(1, changes.get(0).nodeKey());
+    }
+  }
+
+  @Test
+  public void test_whenRevisionIsReverted_thenChangesAreComputedByDiffing() {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabaseWithHashesEnabled(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.moveTo(3);
+      final long insertedNodeKey = wtx.insertStringValueAsFirstChild("new").getNodeKey();
+      wtx.commit();
+      wtx.revertTo(1);
+      wtx.commit();
+
+      final List<JsonChange> changes = manager.changesSince(2).collect(Collectors.toList());
+
+      assertEquals(1, changes.size());
+
+      final JsonChange delete = changes.get(0);
+      assertEquals(3, delete.revision());
+      assertEquals(JsonChange.Type.DELETE, delete.type());
+      assertEquals(insertedNodeKey, delete.nodeKey());
+    }
+  }
+}
@@ -9,6 +9,7 @@ import org.sirix.access.ResourceConfiguration;
 import org.sirix.access.trx.node.json.objectvalue.StringValue;
 import org.sirix.api.json.JsonNodeTrx;
 import org.sirix.api.json.JsonResourceSession;
+import org.sirix.cache.SerializedSubtreeCache;
 import org.sirix.exception.SirixException;
 import org.sirix.service.InsertPosition;
 import org.sirix.service.json.shredder.JsonShredder;
@@ -110,6 +111,94 @@ public final class JsonSerializerTest {
     }
   }
 
+  @Test
+  public void testJsonDocumentInParallel() throws IOException {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final Writer writer = new StringWriter()) {
+      final var serializer = new JsonSerializer.Builder(manager, writer).parallel(4).build();
+      serializer.call();
+      assertEquals(JsonDocumentCreator.JSON, writer.toString());
+    }
+  }
+
+  @Test
+  public void testJsonDocumentPrettyPrintedInParallel() throws IOException {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final Writer sequentialWriter = new StringWriter();
+         final Writer parallelWriter = new StringWriter()) {
+      new JsonSerializer.Builder(manager, sequentialWriter).prettyPrint().withMetaData(true).build().call();
+      new JsonSerializer.Builder(manager, parallelWriter).prettyPrint().withMetaData(true).parallel(4).build().call();
+      assertEquals(sequentialWriter.toString(), parallelWriter.toString());
+    }
+  }
+
+  @Test
+  public void testMultipleRevisionsJsonDocumentInParallel() throws IOException {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var writer = new StringWriter();
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.moveToDocumentRoot();
+      wtx.moveToFirstChild();
+      wtx.insertObjectRecordAsFirstChild("tadaaa", new StringValue("todooo"));
+      wtx.commit();
+
+      final var serializer = new JsonSerializer.Builder(manager, writer, 1, 2).parallel(2).build();
+      serializer.call();
+
+      final var expected = Files.readString(JSON.resolve("multiple-revisions.json"), StandardCharsets.UTF_8);
+      JSONAssert.assertEquals(expected, writer.toString(), true);
+    }
+  }
+
+  @Test
+  public void testMultipleRevisionsWithSubtreeCache() throws IOException {
+    final var json = new StringBuilder("{\"first\":[");
+    for (int i = 0; i < 50; i++) {
+      json.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append(",\"values\":[");
+      for (int j = 0; j < 40; j++) {
+        json.append(j == 0 ? "" : ",").append(i * j);
+      }
+      json.append("]}");
+    }
+    json.append("],\"second\":\"value\"}");
+
+    final var database = JsonTestHelper.getDatabaseWithHashesEnabled(PATHS.PATH1.getFile());
+    try (final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(json.toString()));
+      wtx.commit();
+      // The array of the first object.
+      wtx.moveTo(8);
+      wtx.insertNumberValueAsFirstChild(-1);
+      wtx.commit();
+
+      final var subtreeCache = new SerializedSubtreeCache(1 << 20);
+
+      for (final int[] revisions : new int[][] { { 1 }, { 2 }, { 1, 2 } }) {
+        final var expected = new StringWriter();
+        new JsonSerializer.Builder(manager, expected).revisions(revisions).prettyPrint().build().call();
+
+        final var actual = new StringWriter();
+        new JsonSerializer.Builder(manager, actual).revisions(revisions)
+                                                   .prettyPrint()
+                                                   .subtreeCache(subtreeCache)
+                                                   .build()
+                                                   .call();
+
+        assertEquals(expected.toString(), actual.toString());
+      }
+    }
+  }
+
   @Test
   public void testJsonDocumentWithMaxChildren1() throws IOException {
     JsonTestHelper.createTestDocumentWithDeweyIdsEnabled();
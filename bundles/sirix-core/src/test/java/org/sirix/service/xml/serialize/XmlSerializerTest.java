@@ -98,6 +98,39 @@ public class XmlSerializerTest {
     }
   }
 
+  @Test
+  public void testXMLSerializerInParallel() throws Exception {
+    final var database = XmlTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final XmlResourceSession manager = database.beginResourceSession(XmlTestHelper.RESOURCE);
+         final XmlNodeTrx wtx = manager.beginNodeTrx();
+         final ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+      XmlDocumentCreator.create(wtx);
+      wtx.commit();
+
+      // Generate from this session.
+      final XmlSerializer serializer = new XmlSerializerBuilder(manager, out).emitXMLDeclaration().parallel(4).build();
+      serializer.call();
+      assertEquals(XmlDocumentCreator.XML, out.toString(Constants.DEFAULT_ENCODING.toString()));
+    }
+  }
+
+  @Test
+  public void testXMLSerializerPrettyPrintedInParallel() throws Exception {
+    final var database = XmlTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final XmlResourceSession manager = database.beginResourceSession(XmlTestHelper.RESOURCE);
+         final XmlNodeTrx wtx = manager.beginNodeTrx();
+         final ByteArrayOutputStream sequentialOut = new ByteArrayOutputStream();
+         final ByteArrayOutputStream parallelOut = new ByteArrayOutputStream()) {
+      XmlDocumentCreator.create(wtx);
+      wtx.commit();
+
+      new XmlSerializerBuilder(manager, sequentialOut).prettyPrint().emitIDs().build().call();
+      new XmlSerializerBuilder(manager, parallelOut).prettyPrint().emitIDs().parallel(4).build().call();
+      assertEquals(sequentialOut.toString(Constants.DEFAULT_ENCODING.toString()),
+                   parallelOut.toString(Constants.DEFAULT_ENCODING.toString()));
+    }
+  }
+
   @Test
   public void testRestSerializer() throws Exception {
     final var database = XmlTestHelper.getDatabase(PATHS.PATH1.getFile());
@@ -0,0 +1,196 @@
+package org.sirix.api
+
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.suspendCancellableCoroutine
+import org.sirix.index.IndexType
+import org.sirix.node.NodeKind
+import org.sirix.settings.Fixed
+import java.util.concurrent.Callable
+import java.util.concurrent.CompletableFuture
+import kotlin.coroutines.resume
+import kotlin.coroutines.resumeWithException
+
+/**
+ * A read-only transaction with suspending navigation. Before the cursor is moved to a node, the record page, which
+ * stores the node, is loaded by [PageReadOnlyTrx.loadRecordPageAsync]. Thus, a coroutine suspends while a page is read
+ * from storage instead of blocking its thread, and the cursor is moved once the page is in memory.
+ *
+ * Like the wrapped transaction, it must not be used by multiple coroutines concurrently.
+ *
+ * @author Johannes Lichtenberger
+ */
+class SuspendingNodeReadOnlyTrx<R>(val trx: R) : AutoCloseable where R : NodeReadOnlyTrx, R : NodeCursor {
+    val nodeKey: Long
+        get() = trx.nodeKey
+
+    val kind: NodeKind
+        get() = trx.kind
+
+    val value: String?
+        get() = trx.value
+
+    suspend fun moveTo(key: Long): Boolean {
+        load(key)
+        return trx.moveTo(key)
+    }
+
+    suspend fun moveToDocumentRoot() = moveTo(Fixed.DOCUMENT_NODE_KEY.standardProperty)
+
+    suspend fun moveToParent() = trx.hasParent() && moveTo(trx.parentKey)
+
+    suspend fun moveToFirstChild() = trx.hasFirstChild() && moveTo(trx.firstChildKey)
+
+    suspend fun moveToLastChild() = trx.hasLastChild() && moveTo(trx.lastChildKey)
+
+    suspend fun moveToLeftSibling() = trx.hasLeftSibling() && moveTo(trx.leftSiblingKey)
+
+    suspend fun moveToRightSibling() = trx.hasRightSibling() && moveTo(trx.rightSiblingKey)
+
+    /**
+     * Move to a node and get its value.
+     *
+     * @param key the key of the node
+     * @return the value of the node or `null`, if the node doesn't exist
+     */
+    suspend fun getValue(key: Long): String? {
+        return if (moveTo(key)) trx.value else null
+    }
+
+    /**
+     * The children of the current node. The cursor is located at each child, when its key is emitted, and is moved
+     * back to the current node, once all children have been emitted.
+     */
+    fun children(): Flow<Long> = flow {
+        val parentKey = trx.nodeKey
+        var key = trx.firstChildKey
+
+        while (key != NULL_NODE_KEY) {
+            moveTo(key)
+            val rightSiblingKey = trx.rightSiblingKey
+            emit(key)
+            key = rightSiblingKey
+        }
+
+        moveTo(parentKey)
+    }
+
+    /**
+     * The descendants of the current node in preorder. The cursor is located at each descendant, when its key is
+     * emitted, and is moved back to the current node, once all descendants have been emitted.
+     */
+    fun descendants(): Flow<Long> = flow {
+        val startKey = trx.nodeKey
+        val rightSiblingKeys = ArrayDeque<Long>()
+        var key = trx.firstChildKey
+
+        while (key != NULL_NODE_KEY) {
+            moveTo(key)
+            val firstChildKey = trx.firstChildKey
+            val rightSiblingKey = trx.rightSiblingKey
+            emit(key)
+
+            key = if (firstChildKey != NULL_NODE_KEY) {
+                if (rightSiblingKey != NULL_NODE_KEY) {
+                    rightSiblingKeys.addLast(rightSiblingKey)
+                }
+                firstChildKey
+            } else if (rightSiblingKey != NULL_NODE_KEY) {
+                rightSiblingKey
+            } else {
+                rightSiblingKeys.removeLastOrNull() ?: NULL_NODE_KEY
+            }
+        }
+
+        moveTo(startKey)
+    }
+
+    /**
+     * Serialize the subtree rooted at the current node. The record pages of the subtree are loaded first, such that
+     * the serializer, which is synchronous, mostly reads cached pages instead of blocking on storage.
+     *
+     * The subtree is traversed level by level: The pages of all known but not yet visited nodes are loaded together
+     * (up to [PAGES_PER_BATCH] pages), such that their I/O overlaps, and the first children and right siblings of the
+     * visited nodes are visited in one of the next batches.
+     *
+     * @param serializer the serializer of the subtree, for instance a `JsonSerializer`
+     * @return the result of the serializer
+     */
+    suspend fun <T> serialize(serializer: Callable<T>): T {
+        val startKey = trx.nodeKey
+        val pageTrx = trx.pageTrx
+        val keys = ArrayDeque<Long>()
+        val batch = ArrayList<Long>()
+        val pageKeys = HashSet<Long>()
+        val pages = ArrayList<CompletableFuture<Void>>()
+
+        if (trx.hasFirstChild()) {
+            keys.addLast(trx.firstChildKey)
+        }
+
+        while (keys.isNotEmpty()) {
+            while (keys.isNotEmpty() && (pageKeys.size < PAGES_PER_BATCH
+                        || pageKeys.contains(pageTrx.pageKey(keys.first(), IndexType.DOCUMENT)))) {
+                val key = keys.removeFirst()
+                if (pageKeys.add(pageTrx.pageKey(key, IndexType.DOCUMENT))) {
+                    pages.add(pageTrx.loadRecordPageAsync(key, IndexType.DOCUMENT, -1))
+                }
+                batch.add(key)
+            }
+
+            CompletableFuture.allOf(*pages.toTypedArray()).await()
+
+            for (key in batch) {
+                trx.moveTo(key)
+                if (trx.hasFirstChild()) {
+                    keys.addLast(trx.firstChildKey)
+                }
+                if (trx.hasRightSibling()) {
+                    keys.addLast(trx.rightSiblingKey)
+                }
+            }
+
+            batch.clear()
+            pageKeys.clear()
+            pages.clear()
+        }
+
+        moveTo(startKey)
+        return serializer.call()
+    }
+
+    override fun close() {
+        trx.close()
+    }
+
+    private suspend fun load(key: Long) {
+        if (key != NULL_NODE_KEY) {
+            trx.pageTrx.loadRecordPageAsync(key, IndexType.DOCUMENT, -1).await()
+        }
+    }
+
+    private suspend fun <T> CompletableFuture<T>.await(): T {
+        if (isDone) {
+            return join()
+        }
+
+        return suspendCancellableCoroutine { continuation ->
+            whenComplete { result, throwable ->
+                if (throwable == null) {
+                    continuation.resume(result)
+                } else {
+                    continuation.resumeWithException(throwable)
+                }
+            }
+        }
+    }
+
+    private companion object {
+        val NULL_NODE_KEY = Fixed.NULL_NODE_KEY.standardProperty
+
+        /**
+         * The maximum number of record pages, which are loaded together while serializing a subtree.
+         */
+        const val PAGES_PER_BATCH = 16
+    }
+}
@@ -0,0 +1,123 @@
+package org.sirix.api
+
+import kotlinx.coroutines.flow.count
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.runBlocking
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Before
+import org.junit.Test
+import org.sirix.Holder
+import org.sirix.XmlTestHelper
+import org.sirix.access.Databases
+import org.sirix.access.ResourceConfiguration
+import org.sirix.service.xml.serialize.XmlSerializer
+import org.sirix.service.xml.shredder.XmlShredder
+import org.sirix.settings.Fixed
+import java.io.ByteArrayOutputStream
+
+class SuspendingNodeReadOnlyTrxTest {
+    private var holder: Holder? = null
+
+    @Before
+    fun setUp() {
+        XmlTestHelper.deleteEverything()
+        XmlTestHelper.createTestDocument()
+        holder = Holder.generateRtx()
+    }
+
+    @After
+    fun tearDown() {
+        holder!!.close()
+        XmlTestHelper.closeEverything()
+    }
+
+    @Test
+    fun testMove() = runBlocking {
+        SuspendingNodeReadOnlyTrx(holder!!.resourceManager.beginNodeReadOnlyTrx()).use { trx ->
+            assertTrue(trx.moveToFirstChild())
+            assertEquals(1L, trx.nodeKey)
+            assertTrue(trx.moveToLastChild())
+            assertEquals(13L, trx.nodeKey)
+            assertTrue(trx.moveToLeftSibling())
+            assertEquals(9L, trx.nodeKey)
+            assertTrue(trx.moveToParent())
+            assertEquals(1L, trx.nodeKey)
+            assertTrue(trx.moveToDocumentRoot())
+            assertEquals(Fixed.DOCUMENT_NODE_KEY.standardProperty, trx.nodeKey)
+            assertFalse(trx.moveToRightSibling())
+            assertEquals("oops1", trx.getValue(4L))
+        }
+    }
+
+    @Test
+    fun testChildren() = runBlocking {
+        SuspendingNodeReadOnlyTrx(holder!!.resourceManager.beginNodeReadOnlyTrx()).use { trx ->
+            trx.moveTo(1L)
+            assertEquals(listOf(4L, 5L, 8L, 9L, 13L), trx.children().toList())
+            assertEquals(1L, trx.nodeKey)
+        }
+    }
+
+    @Test
+    fun testDescendants() = runBlocking {
+        SuspendingNodeReadOnlyTrx(holder!!.resourceManager.beginNodeReadOnlyTrx()).use { trx ->
+            assertEquals(listOf(1L, 4L, 5L, 6L, 7L, 8L, 9L, 11L, 12L, 13L), trx.descendants().toList())
+            assertEquals(Fixed.DOCUMENT_NODE_KEY.standardProperty, trx.nodeKey)
+            trx.moveTo(9L)
+            assertEquals(listOf(11L, 12L), trx.descendants().toList())
+            trx.moveTo(13L)
+            assertEquals(emptyList<Long>(), trx.descendants().toList())
+        }
+    }
+
+    @Test
+    fun testMultiPageResourceWithColdCache() = runBlocking {
+        val database = holder!!.database
+        val xml = buildString {
+            append("<root>")
+            repeat(NUMBER_OF_ELEMENTS) { append("<a>").append(it).append("</a>") }
+            append("</root>")
+        }
+
+        database.createResource(ResourceConfiguration.Builder(MULTI_PAGE_RESOURCE).build())
+        database.beginResourceSession(MULTI_PAGE_RESOURCE).use { session ->
+            session.beginNodeTrx().use { wtx ->
+                wtx.insertSubtreeAsFirstChild(XmlShredder.createStringReader(xml))
+                wtx.commit()
+            }
+        }
+
+        // Restart the session with empty caches, such that the record pages have to be read from storage.
+        Databases.getBufferManager(XmlTestHelper.PATHS.PATH1.file).values.forEach { it.clearAllCaches() }
+
+        database.beginResourceSession(MULTI_PAGE_RESOURCE).use { session ->
+            SuspendingNodeReadOnlyTrx(session.beginNodeReadOnlyTrx()).use { trx ->
+                assertTrue(trx.moveToFirstChild())
+                assertTrue(trx.moveToLastChild())
+                assertTrue(trx.moveToFirstChild())
+                assertEquals((NUMBER_OF_ELEMENTS - 1).toString(), trx.value)
+                assertTrue(trx.moveToDocumentRoot())
+
+                // The root element and each element with its text node.
+                assertEquals(1 + 2 * NUMBER_OF_ELEMENTS, trx.descendants().count())
+
+                val out = ByteArrayOutputStream()
+                trx.serialize(XmlSerializer.newBuilder(session, out).build())
+                assertEquals(xml, out.toString())
+                assertEquals(Fixed.DOCUMENT_NODE_KEY.standardProperty, trx.nodeKey)
+            }
+        }
+    }
+
+    private companion object {
+        const val MULTI_PAGE_RESOURCE = "multi-page"
+
+        /**
+         * The number of elements, such that the nodes are stored in several record pages.
+         */
+        const val NUMBER_OF_ELEMENTS = 5_000
+    }
+}
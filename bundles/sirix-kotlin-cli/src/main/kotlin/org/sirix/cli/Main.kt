@@ -34,7 +34,8 @@ fun parseArgs(args: Array<String>): CliCommand? {
         DropResourceSubCommand(),
         DumpResourceHistorySubCommand(),
         QuerySubCommand(),
-        UpdateSubCommand()
+        UpdateSubCommand(),
+        LoadSubCommand()
     )
     argParser.subcommands(*subCommandList)
     argParser.parse(args)
@@ -0,0 +1,36 @@
+package org.sirix.cli.commands
+
+import com.google.gson.stream.JsonReader
+import org.sirix.cli.CliOptions
+import org.sirix.service.json.shredder.JsonShredder
+import org.sirix.xquery.json.BasicJsonDBStore
+import org.sirix.xquery.json.JsonImportListener
+import java.nio.file.Paths
+import java.time.Duration
+import java.util.function.Supplier
+
+class JsonLoad(options: CliOptions, private val files: List<String>, private val threads: Int) : CliCommand(options) {
+
+    override fun execute() {
+        val path = path().toAbsolutePath()
+        val store = BasicJsonDBStore.newBuilder()
+            .location(path.parent)
+            .numberOfImportThreads(threads)
+            .importListener(ProgressListener())
+            .build()
+
+        store.use {
+            val readers = files.map { file -> Supplier<JsonReader> { JsonShredder.createFileReader(Paths.get(file)) } }
+            val start = System.nanoTime()
+            store.createFromReaders(path.fileName.toString(), readers.iterator())
+            cliPrinter.prnLn("Imported ${files.size} file(s) in ${Duration.ofNanos(System.nanoTime() - start).toMillis()} ms.")
+        }
+    }
+
+    private inner class ProgressListener : JsonImportListener {
+        override fun finished(collName: String, resourceName: String, numberOfNodes: Long, duration: Duration) {
+            val millis = duration.toMillis().coerceAtLeast(1)
+            cliPrinter.prnLn("$resourceName: $numberOfNodes nodes in $millis ms (${numberOfNodes * 1000 / millis} nodes/s).")
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.sirix.cli.parser
+
+import kotlinx.cli.ArgType
+import org.sirix.cli.CliOptions
+import org.sirix.cli.commands.CliCommand
+import org.sirix.cli.commands.JsonLoad
+
+class LoadSubCommand : AbstractArgSubCommand("load", "Import JSON files in parallel, one resource per file.") {
+
+    private val files by argument(CliArgType.Csv(), "The JSON file(s) to import")
+    private val threads by option(
+        ArgType.Int,
+        "threads",
+        "t",
+        "The number of files to import in parallel. Default is the number of available processors."
+    )
+
+    override fun createCliCommand(options: CliOptions): CliCommand {
+        return JsonLoad(options, files, threads ?: Runtime.getRuntime().availableProcessors())
+    }
+}
@@ -0,0 +1,54 @@
+package org.sirix.cli.commands
+
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.sirix.access.Databases
+import org.sirix.service.json.serialize.JsonSerializer
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import java.io.StringWriter
+
+internal class JsonLoadTest : CliCommandTest() {
+
+    companion object {
+        @JvmField
+        val LOGGER: Logger = LoggerFactory.getLogger(JsonLoadTest::class.java)
+    }
+
+    @BeforeEach
+    fun setUp() {
+        super.sirixTestFile = createSirixTestFileName()
+    }
+
+    @AfterEach
+    fun tearDown() {
+        super.removeTestDatabase(LOGGER)
+    }
+
+    @Test
+    fun execute() {
+        // GIVEN
+        val files = List(3) { CliCommandTestConstants.TEST_JSON_DATA_PATH }
+        val load = JsonLoad(giveACliOptions(), files, 2)
+
+        // WHEN
+        load.execute()
+
+        // THEN
+        val database = Databases.openJsonDatabase(path())
+        database.use {
+            assertEquals(3, database.listResources().size)
+
+            for (i in 1..3) {
+                val manager = database.beginResourceSession("resource$i")
+                manager.use {
+                    val out = StringWriter()
+                    JsonSerializer.newBuilder(manager, out).build().call()
+                    assertEquals(CliCommandTestConstants.TEST_JSON_DATA, out.toString())
+                }
+            }
+        }
+    }
+}
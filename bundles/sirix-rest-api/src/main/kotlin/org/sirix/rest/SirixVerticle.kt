@@ -30,9 +30,12 @@ import io.vertx.kotlin.coroutines.dispatcher
 import io.vertx.kotlin.ext.auth.oauth2.oAuth2OptionsOf
 import kotlinx.coroutines.launch
 import org.apache.http.HttpStatus
+import org.sirix.metrics.Metrics
+import org.sirix.metrics.PrometheusMetricsRegistry
 import org.sirix.rest.crud.*
 import org.sirix.rest.crud.json.JsonCreate
 import org.sirix.rest.crud.json.JsonHead
+import org.sirix.rest.crud.json.JsonPatch
 import org.sirix.rest.crud.json.JsonUpdate
 import org.sirix.rest.crud.xml.XmlCreate
 import org.sirix.rest.crud.xml.XmlHead
@@ -51,6 +54,12 @@ class SirixVerticle : CoroutineVerticle() {
     private val location = Paths.get(userHome, "sirix-data")
 
     override suspend fun start() {
+        if (isMetricsEnabled()) {
+            Metrics.setRegistry(metricsRegistry)
+        }
+
+        ExecutionLanes.configure(config)
+
         val router = createRouter()
 
         // Start an HTTP/2 server
@@ -58,12 +67,17 @@ class SirixVerticle : CoroutineVerticle() {
             vertx.createHttpServer(
                 httpServerOptionsOf()
                     .setSsl(false)
+                    .setHttp2ClearTextEnabled(true)
+                    .setCompressionSupported(config.getBoolean("compression", true))
+                    .setCompressionLevel(config.getInteger("compression.level", 6))
             )
         } else {
             vertx.createHttpServer(
                 httpServerOptionsOf()
                     .setSsl(true)
                     .setUseAlpn(true)
+                    .setCompressionSupported(config.getBoolean("compression", true))
+                    .setCompressionLevel(config.getInteger("compression.level", 6))
                     .setPemKeyCertOptions(
                         PemKeyCertOptions().setKeyPath(location.resolve("key.pem").toString())
                             .setCertPath(
@@ -109,6 +123,8 @@ class SirixVerticle : CoroutineVerticle() {
         allowedHeaders.add("X-PINGARUNER")
         allowedHeaders.add("Authorization")
         allowedHeaders.add("ETag")
+        allowedHeaders.add("If-None-Match")
+        allowedHeaders.add("Accept-Encoding")
 
         val allowedMethods = HashSet<HttpMethod>()
         allowedMethods.add(HttpMethod.GET)
@@ -138,6 +154,29 @@ class SirixVerticle : CoroutineVerticle() {
                 )
         )
 
+        if (isMetricsEnabled()) {
+            // Record the duration of each request by route pattern, such that the number of time series is bounded.
+            route().handler { ctx ->
+                val startNanos = System.nanoTime()
+                ctx.addEndHandler {
+                    metricsRegistry.timer(
+                        "sirix.http.server.requests",
+                        "Duration of HTTP requests.",
+                        "method", ctx.request().method().name(),
+                        "route", ctx.currentRoute()?.path ?: "none",
+                        "status", ctx.response().statusCode.toString()
+                    ).recordSince(startNanos)
+                }
+                ctx.next()
+            }
+
+            get("/metrics").handler { ctx ->
+                ctx.response()
+                    .putHeader(HttpHeaders.CONTENT_TYPE, PrometheusMetricsRegistry.CONTENT_TYPE)
+                    .end(metricsRegistry.scrape())
+            }
+        }
+
         get("/user/authorize").coroutineHandler { rc ->
             if (oAuth2FlowType != OAuth2FlowType.AUTH_CODE) {
                 rc.response().statusCode = HttpStatus.SC_BAD_REQUEST
@@ -224,7 +263,6 @@ class SirixVerticle : CoroutineVerticle() {
         // "/:database"
         post("/:database")
             .consumes("multipart/form-data")
-            .handler(BodyHandler.create())
             .coroutineHandler {
                 Auth(keycloak, authz, AuthRole.CREATE).handle(it)
                 it.next()
@@ -246,13 +284,13 @@ class SirixVerticle : CoroutineVerticle() {
                 Auth(keycloak, authz, AuthRole.CREATE).handle(it)
                 it.next()
             }.coroutineHandler {
-                XmlCreate(location, false).handle(it)
+                XmlCreate(location).handle(it)
             }
         put("/:database").consumes("application/json").coroutineHandler {
             Auth(keycloak, authz, AuthRole.CREATE).handle(it)
             it.next()
         }.coroutineHandler {
-            JsonCreate(location, true).handle(it)
+            JsonCreate(location).handle(it)
         }
 
         delete("/:database").coroutineHandler {
@@ -280,7 +318,6 @@ class SirixVerticle : CoroutineVerticle() {
         post("/:database/:resource")
             .consumes("application/xml")
             .produces("application/xml")
-            .handler(BodyHandler.create())
             .coroutineHandler {
                 Auth(keycloak, authz, AuthRole.MODIFY).handle(it)
                 it.next()
@@ -290,13 +327,22 @@ class SirixVerticle : CoroutineVerticle() {
         post("/:database/:resource")
             .consumes("application/json")
             .produces("application/json")
-            .handler(BodyHandler.create())
             .coroutineHandler {
                 Auth(keycloak, authz, AuthRole.MODIFY).handle(it)
                 it.next()
             }.coroutineHandler {
                 JsonUpdate(location).handle(it)
             }
+        patch("/:database/:resource")
+            .consumes("application/json")
+            .produces("application/json")
+            .handler(BodyHandler.create())
+            .coroutineHandler {
+                Auth(keycloak, authz, AuthRole.MODIFY).handle(it)
+                it.next()
+            }.coroutineHandler {
+                JsonPatch(location).handle(it)
+            }
 
         post("/:database/:resource")
             .handler(BodyHandler.create())
@@ -318,13 +364,13 @@ class SirixVerticle : CoroutineVerticle() {
             Auth(keycloak, authz, AuthRole.CREATE).handle(it)
             it.next()
         }.coroutineHandler {
-            XmlCreate(location, false).handle(it)
+            XmlCreate(location).handle(it)
         }
         put("/:database/:resource").consumes("application/json").coroutineHandler {
             Auth(keycloak, authz, AuthRole.CREATE).handle(it)
             it.next()
         }.coroutineHandler {
-            JsonCreate(location, false).handle(it)
+            JsonCreate(location).handle(it)
         }
 
         delete("/:database/:resource").coroutineHandler {
@@ -347,6 +393,12 @@ class SirixVerticle : CoroutineVerticle() {
         }.coroutineHandler {
             DiffHandler(location).handle(it)
         }
+        get("/:database/:resource/changes").produces("text/event-stream").coroutineHandler {
+            Auth(keycloak, authz, AuthRole.VIEW).handle(it)
+            it.next()
+        }.coroutineHandler {
+            ChangesHandler(location).handle(it)
+        }
         get("/:database/:resource/pathSummary").produces("application/json").coroutineHandler {
             Auth(keycloak, authz, AuthRole.VIEW).handle(it)
             it.next()
@@ -370,6 +422,14 @@ class SirixVerticle : CoroutineVerticle() {
                 failure?.printStackTrace(printWriter)
                 printWriter.flush()
 
+                // Rejected by an execution lane due to overload.
+                if (failure is HttpException
+                    && (failure.statusCode == HttpResponseStatus.TOO_MANY_REQUESTS.code()
+                            || failure.statusCode == HttpResponseStatus.SERVICE_UNAVAILABLE.code())
+                ) {
+                    failureRoutingContext.response().putHeader(HttpHeaders.RETRY_AFTER, "1")
+                }
+
                 if (statusCode == -1) {
                     if (failure is HttpException) {
                         response(
@@ -437,6 +497,8 @@ class SirixVerticle : CoroutineVerticle() {
         }
     }
 
+    private fun isMetricsEnabled() = config.getBoolean("metrics", true)
+
     private fun response(response: HttpServerResponse, statusCode: Int, failureMessage: String?) {
         response.setStatusCode(statusCode).end("Failure calling the RESTful API: $failureMessage")
     }
@@ -455,4 +517,11 @@ class SirixVerticle : CoroutineVerticle() {
             }
         }
     }
+
+    companion object {
+        /**
+         * Meters of the storage engine and of the REST API, shared between all verticle instances.
+         */
+        private val metricsRegistry = PrometheusMetricsRegistry()
+    }
 }
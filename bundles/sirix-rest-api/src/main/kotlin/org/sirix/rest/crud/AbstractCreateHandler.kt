@@ -2,14 +2,13 @@ package org.sirix.rest.crud
 
 import io.vertx.core.Context
 import io.vertx.core.Promise
-import io.vertx.core.file.impl.FileResolverImpl
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
-import io.vertx.ext.web.handler.BodyHandler
 import io.vertx.kotlin.coroutines.await
 import io.vertx.kotlin.coroutines.dispatcher
 import kotlinx.coroutines.CoroutineDispatcher
 import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.channels.ReceiveChannel
 import kotlinx.coroutines.withContext
 import org.sirix.access.DatabaseConfiguration
 import org.sirix.access.ResourceConfiguration
@@ -17,12 +16,12 @@ import org.sirix.access.User
 import org.sirix.access.trx.node.HashType
 import org.sirix.api.Database
 import org.sirix.api.ResourceSession
+import java.io.InputStream
 import java.nio.file.Files
 import java.nio.file.Path
 
 abstract class AbstractCreateHandler<T : ResourceSession<*, *>>(
-    private val location: Path,
-    private val createMultipleResources: Boolean = false
+    private val location: Path
 ) : Handler {
 
     override suspend fun handle(ctx: RoutingContext): Route {
@@ -33,6 +32,7 @@ abstract class AbstractCreateHandler<T : ResourceSession<*, *>>(
             val dbFile = location.resolve(databaseName)
             val vertxContext = ctx.vertx().orCreateContext
             createDatabaseIfNotExists(dbFile, vertxContext)
+            MetadataCache.invalidate(dbFile)
             ctx.response().setStatusCode(201).end()
             return ctx.currentRoute()
         }
@@ -40,17 +40,13 @@ abstract class AbstractCreateHandler<T : ResourceSession<*, *>>(
         if (databaseName == null) {
             throw IllegalArgumentException("Database name and resource data to store not given.")
         } else {
-            if (createMultipleResources) {
-                createMultipleResources(databaseName, ctx)
-                return ctx.currentRoute()
-            }
             shredder(databaseName, resource, ctx)
             return ctx.currentRoute()
         }
     }
 
     suspend fun prepareDatabasePath(dbFile: Path, context: Context): DatabaseConfiguration? {
-        return context.executeBlocking { promise: Promise<DatabaseConfiguration> ->
+        return ExecutionLanes.write.executeBlocking { promise: Promise<DatabaseConfiguration> ->
             val dbExists = Files.exists(dbFile)
 
             if (!dbExists) {
@@ -73,6 +69,7 @@ abstract class AbstractCreateHandler<T : ResourceSession<*, *>>(
                 database.createResource(resConfig)
             }
         }
+        MetadataCache.invalidate(database.databaseConfig.databaseFile)
     }
 
     private suspend fun shredder(
@@ -83,11 +80,24 @@ abstract class AbstractCreateHandler<T : ResourceSession<*, *>>(
         val context = ctx.vertx().orCreateContext
         ctx.request().pause()
         createDatabaseIfNotExists(dbFile, context)
-        ctx.request().resume()
         insertResource(dbFile, resPathName, ctx)
     }
 
-    private suspend fun createMultipleResources(databaseName: String, ctx: RoutingContext) {
+    /**
+     * Creates a resource for each uploaded file, which is shredded directly from the request stream. The uploads are
+     * shredded one after the other, as the next upload is only received once the previous one has been read.
+     *
+     * @param databaseName the name of the database
+     * @param ctx the routing context
+     * @param firstUpload the first upload
+     * @param nextUploads the uploads following the first one
+     */
+    suspend fun createMultipleResources(
+        databaseName: String,
+        ctx: RoutingContext,
+        firstUpload: StreamedUpload,
+        nextUploads: ReceiveChannel<StreamedUpload>
+    ) {
         val dbFile = location.resolve(databaseName)
         val context = ctx.vertx().orCreateContext
         val dispatcher = ctx.vertx().dispatcher()
@@ -95,37 +105,41 @@ abstract class AbstractCreateHandler<T : ResourceSession<*, *>>(
 
         createDatabaseIfNotExists(dbFile, context)
 
-        withContext(Dispatchers.IO) {
-            val database = openDatabase(dbFile, sirixDBUser)
-            database.use {
-                BodyHandler.create().handle(ctx)
-                val fileResolver = FileResolverImpl()
-                val hashType = ctx.queryParam("hashType").getOrNull(0) ?: "NONE"
-                ctx.fileUploads().forEach { fileUpload ->
-                    val fileName = fileUpload.fileName()
+        val database = withContext(Dispatchers.IO) { openDatabase(dbFile, sirixDBUser) }
+
+        database.use {
+            val hashType = ctx.queryParam("hashType").getOrNull(0) ?: "NONE"
+            var upload: StreamedUpload? = firstUpload
+
+            while (upload != null) {
+                val fileName = upload.fileName
+                val body = upload.body
+
+                // The body is closed in any case, such that the rest of the request is discarded on failure.
+                body.use {
                     val resConfig = ResourceConfiguration.Builder(fileName).useDeweyIDs(true)
                         .hashKind(HashType.valueOf(hashType.uppercase())).build()
                     createOrRemoveAndCreateResource(database, resConfig, fileName, dispatcher)
 
-                    val manager = database.beginResourceSession(fileName)
-
-                    manager.use {
-                        insertResourceSubtreeAsFirstChild(
-                            manager,
-                            fileResolver.resolveFile(fileUpload.uploadedFileName()).toPath(),
-                            ctx
-                        )
+                    withContext(Dispatchers.IO) {
+                        database.beginResourceSession(fileName).use { manager ->
+                            insertResourceSubtreeAsFirstChild(manager, body, ctx)
+                        }
                     }
                 }
 
+                val nextUpload = nextUploads.receiveCatching()
+                nextUpload.exceptionOrNull()?.let { throw it }
+                upload = nextUpload.getOrNull()
             }
-            ctx.response().setStatusCode(201).end()
         }
+
+        ctx.response().setStatusCode(201).end()
     }
 
     abstract suspend fun createDatabaseIfNotExists(dbFile: Path, context: Context): DatabaseConfiguration?
     abstract suspend fun insertResource(dbFile: Path?, resPathName: String, ctx: RoutingContext)
-    abstract fun insertResourceSubtreeAsFirstChild(manager: T, filePath: Path, ctx: RoutingContext): Long
+    abstract fun insertResourceSubtreeAsFirstChild(manager: T, body: InputStream, ctx: RoutingContext): Long
     abstract suspend fun openDatabase(dbFile: Path, sirixDBUser: User): Database<T>
 
     abstract fun serializeResource(manager: T, routingContext: RoutingContext): String
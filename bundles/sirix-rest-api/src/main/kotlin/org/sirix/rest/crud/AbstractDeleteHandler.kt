@@ -1,7 +1,6 @@
 package org.sirix.rest.crud
 
 import io.netty.handler.codec.http.HttpResponseStatus
-import io.vertx.core.Context
 import io.vertx.core.Promise
 import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.web.RoutingContext
@@ -25,13 +24,14 @@ abstract class AbstractDeleteHandler(protected val location: Path) {
         // Initialize queryResource context and store.
         val dbStore = createStore(ctx)
 
-        ctx.vertx().executeBlocking { promise: Promise<Unit> ->
+        ExecutionLanes.write.executeBlocking { promise: Promise<Unit> ->
             val databases = Files.list(location)
 
             databases.use {
                 databases.filter { Files.isDirectory(it) && Databases.getDatabaseType(it) == dbType }
                     .forEach {
                         dbStore.drop(it.fileName.toString())
+                        MetadataCache.invalidate(it)
                     }
             }
 
@@ -43,7 +43,6 @@ abstract class AbstractDeleteHandler(protected val location: Path) {
 
     protected suspend fun delete(databaseName: String, resPathName: String?, nodeId: Long?, ctx: RoutingContext) {
         val dbFile = location.resolve(databaseName)
-        val context = ctx.vertx().orCreateContext
         val dispatcher = ctx.vertx().dispatcher()
 
         if (resPathName == null) {
@@ -54,6 +53,7 @@ abstract class AbstractDeleteHandler(protected val location: Path) {
                 )
             }
             removeDatabase(dbFile, dispatcher)
+            MetadataCache.invalidate(dbFile)
             return
         }
 
@@ -71,8 +71,9 @@ abstract class AbstractDeleteHandler(protected val location: Path) {
 
             if (nodeId == null) {
                 removeResource(dispatcher, database, resPathName)
+                MetadataCache.invalidate(dbFile)
             } else {
-                removeSubtree(database, resPathName, nodeId, context, ctx)
+                removeSubtree(database, resPathName, nodeId, ctx)
             }
         }
     }
@@ -101,10 +102,9 @@ abstract class AbstractDeleteHandler(protected val location: Path) {
         database: Database<*>,
         resPathName: String,
         nodeId: Long,
-        ctx: Context,
         routingCtx: RoutingContext
     ) {
-        ctx.executeBlocking { promise: Promise<Unit> ->
+        ExecutionLanes.write.executeBlocking { promise: Promise<Unit> ->
             val manager = database.beginResourceSession(resPathName)
             manager.use {
                 val wtx = manager.beginNodeTrx()
@@ -115,7 +115,7 @@ abstract class AbstractDeleteHandler(protected val location: Path) {
                             val hashCode = routingCtx.request().getHeader(HttpHeaders.ETAG)
                                 ?: throw IllegalStateException("Hash code is missing in ETag HTTP-Header.")
 
-                            if (wtx.hash != hashCode.toLong()) {
+                            if (wtx.hash != RepresentationCache.hashOf(hashCode)) {
                                 throw IllegalArgumentException("Someone might have changed the resource in the meantime.")
                             }
                         }
@@ -0,0 +1,141 @@
+package org.sirix.rest.crud
+
+import io.netty.handler.codec.http.HttpResponseStatus
+import io.vertx.core.Promise
+import io.vertx.core.http.HttpHeaders
+import io.vertx.ext.web.Route
+import io.vertx.ext.web.RoutingContext
+import io.vertx.ext.web.handler.HttpException
+import io.vertx.kotlin.coroutines.await
+import kotlinx.coroutines.delay
+import org.sirix.access.DatabaseType
+import org.sirix.access.Databases.getDatabaseType
+import org.sirix.access.Databases.openJsonDatabase
+import org.sirix.service.json.JsonChange
+import org.sirix.service.json.JsonChangeFeed
+import org.sirix.service.json.serialize.StringValue
+import java.nio.file.Path
+
+/**
+ * Streams the changes of a JSON resource as server-sent events. Each change is sent as a `change` event in commit
+ * order, the last change of a revision carries the revision number as the event ID, such that clients resume after
+ * the last completely received revision via the `Last-Event-ID` header.
+ */
+class ChangesHandler(private val location: Path) {
+    suspend fun handle(ctx: RoutingContext): Route {
+        val databaseName = ctx.pathParam("database")
+        val resourceName = ctx.pathParam("resource")
+
+        if (getDatabaseType(location.resolve(databaseName).toAbsolutePath()) != DatabaseType.JSON) {
+            throw HttpException(HttpResponseStatus.BAD_REQUEST.code(), "Changes are only supported for JSON resources.")
+        }
+
+        val since = ctx.request().getHeader("Last-Event-ID")?.toIntOrNull()
+            ?: ctx.queryParam("since").getOrNull(0)?.let { since ->
+                since.toIntOrNull()?.takeIf { it >= 0 }
+                    ?: throw HttpException(HttpResponseStatus.BAD_REQUEST.code(), "since must be a revision number.")
+            }
+            ?: 0
+        val follow = ctx.queryParam("follow").getOrNull(0)?.toBoolean() ?: false
+        val pollInterval = ctx.queryParam("pollInterval").getOrNull(0)?.let { pollInterval ->
+            pollInterval.toLongOrNull()?.takeIf { it >= 0 }
+                ?: throw HttpException(
+                    HttpResponseStatus.BAD_REQUEST.code(),
+                    "pollInterval must be given in milliseconds."
+                )
+        } ?: DEFAULT_POLL_INTERVAL
+
+        val response = ctx.response()
+        response.setChunked(true)
+            .setStatusCode(200)
+            .putHeader(HttpHeaders.CONTENT_TYPE, "text/event-stream")
+            .putHeader(HttpHeaders.CACHE_CONTROL, "no-cache")
+
+        var lastRevision = since
+
+        do {
+            // The events are written per batch of revisions, such that they aren't buffered all at once.
+            do {
+                val events = ExecutionLanes.read.executeBlocking { promise: Promise<Events> ->
+                    promise.complete(readEvents(databaseName, resourceName, lastRevision))
+                }.await()
+
+                if (events.text.isNotEmpty()) {
+                    response.write(events.text).await()
+                }
+
+                lastRevision = events.lastRevision
+            } while (lastRevision < events.mostRecentRevision && !response.closed())
+
+            if (follow) {
+                delay(pollInterval)
+            }
+        } while (follow && !response.closed())
+
+        if (!response.closed()) {
+            response.end()
+        }
+
+        return ctx.currentRoute()
+    }
+
+    private fun readEvents(databaseName: String, resourceName: String, since: Int): Events {
+        val buffer = StringBuilder()
+
+        openJsonDatabase(location.resolve(databaseName)).use { database ->
+            database.beginResourceSession(resourceName).use { manager ->
+                val mostRecentRevision = manager.mostRecentRevisionNumber
+                val lastRevision = minOf(mostRecentRevision, since + REVISIONS_PER_BATCH)
+                var previousChange: JsonChange? = null
+
+                JsonChangeFeed(manager).changesBetween(since, lastRevision).forEach { change ->
+                    previousChange?.let { appendEvent(buffer, it, it.revision() != change.revision()) }
+                    previousChange = change
+                }
+
+                previousChange?.let { appendEvent(buffer, it, true) }
+
+                return Events(buffer.toString(), lastRevision, mostRecentRevision)
+            }
+        }
+    }
+
+    /**
+     * The events of the revisions up to [lastRevision].
+     */
+    private class Events(val text: String, val lastRevision: Int, val mostRecentRevision: Int)
+
+    private fun appendEvent(buffer: StringBuilder, change: JsonChange, isLastChangeOfRevision: Boolean) {
+        buffer.append("event: change\n")
+
+        if (isLastChangeOfRevision) {
+            buffer.append("id: ").append(change.revision()).append("\n")
+        }
+
+        buffer.append("data: {\"revision\":").append(change.revision())
+        buffer.append(",\"type\":\"").append(change.type().name.lowercase()).append("\"")
+        buffer.append(",\"nodeKey\":").append(change.nodeKey())
+
+        if (change.path() != null) {
+            buffer.append(",\"path\":\"").append(StringValue.escape(change.path())).append("\"")
+        }
+
+        if (change.value() != null) {
+            buffer.append(",\"value\":").append(change.value())
+        }
+
+        buffer.append("}\n\n")
+    }
+
+    companion object {
+        /**
+         * Default interval in milliseconds to check for new revisions if changes are followed.
+         */
+        private const val DEFAULT_POLL_INTERVAL = 1000L
+
+        /**
+         * Maximum number of revisions, whose events are read and written at once.
+         */
+        private const val REVISIONS_PER_BATCH = 16
+    }
+}
@@ -2,38 +2,87 @@ package org.sirix.rest.crud
 
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
+import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.channels.ReceiveChannel
 import org.sirix.rest.crud.json.JsonCreate
 import org.sirix.rest.crud.xml.XmlCreate
+import java.io.InputStream
 import java.nio.file.Path
 
+/**
+ * A file upload of a multipart request, whose content is read while it is received.
+ */
+class StreamedUpload(val fileName: String, val contentType: String, val body: InputStream)
+
 class CreateMultipleResources(private val location: Path) {
     suspend fun handle(ctx: RoutingContext): Route {
-        val fileUploads = ctx.fileUploads()
-        var isXmlFiles = false
-        var isJsonFiles = false
-
-        fileUploads.forEach { fileUpload ->
-            when (fileUpload.contentType()) {
-                "application/xml", "text/xml" -> {
-                    if (isJsonFiles) {
-                        throw IllegalArgumentException("All uploaded files must be either of type XML or JSON.")
-                    }
-
-                    isXmlFiles = true
-                }
-                "application/json", "text/json" -> {
-                    if (isXmlFiles) {
-                        throw IllegalArgumentException("All uploaded files must be either of type XML or JSON.")
-                    }
-
-                    isJsonFiles = true
-                }
+        val databaseName = ctx.pathParam("database")
+            ?: throw IllegalArgumentException("Database name not given.")
+
+        val uploads = receiveUploads(ctx)
+
+        try {
+            val receivedUpload = uploads.receiveCatching()
+            receivedUpload.exceptionOrNull()?.let { throw it }
+            val firstUpload = receivedUpload.getOrNull()
+                ?: throw IllegalArgumentException("No files to store have been uploaded.")
+
+            if (firstUpload.contentType in XML_CONTENT_TYPES) {
+                XmlCreate(location).createMultipleResources(databaseName, ctx, firstUpload, uploads)
+            } else {
+                JsonCreate(location).createMultipleResources(databaseName, ctx, firstUpload, uploads)
             }
+        } finally {
+            // Discards the bodies of the uploads, which haven't been read, for instance if a resource couldn't be
+            // created, such that the rest of the request is still received.
+            uploads.cancel()
         }
 
-        if (isXmlFiles) XmlCreate(location, true).handle(ctx)
-        else if (isJsonFiles) JsonCreate(location, true).handle(ctx)
-
         return ctx.currentRoute()
     }
+
+    /**
+     * Receive the file uploads of the request. Each upload is handed over as soon as its first part is received,
+     * instead of being buffered in memory or written to a temporary file.
+     */
+    private fun receiveUploads(ctx: RoutingContext): ReceiveChannel<StreamedUpload> {
+        val uploads = Channel<StreamedUpload>(Channel.UNLIMITED) { upload -> upload.body.close() }
+        val context = ctx.vertx().orCreateContext
+        val request = ctx.request()
+        var contentTypes: Set<String>? = null
+
+        request.setExpectMultipart(true)
+        request.uploadHandler { fileUpload ->
+            val body = RequestBodyInputStream(context, fileUpload)
+            val contentType = fileUpload.contentType()
+            val uploadContentTypes = when (contentType) {
+                in XML_CONTENT_TYPES -> XML_CONTENT_TYPES
+                in JSON_CONTENT_TYPES -> JSON_CONTENT_TYPES
+                else -> null
+            }
+
+            if (contentTypes == null) {
+                contentTypes = uploadContentTypes
+            }
+
+            if (uploadContentTypes == null || uploadContentTypes != contentTypes) {
+                body.close()
+                uploads.close(IllegalArgumentException("All uploaded files must be either of type XML or JSON."))
+            } else if (uploads.trySend(StreamedUpload(fileUpload.filename(), contentType, body)).isFailure) {
+                // The uploads have already been closed, thus the body is discarded.
+                body.close()
+            }
+        }
+        request.exceptionHandler { throwable -> uploads.close(throwable) }
+        request.endHandler { uploads.close() }
+        request.resume()
+
+        return uploads
+    }
+
+    companion object {
+        private val XML_CONTENT_TYPES = setOf("application/xml", "text/xml")
+
+        private val JSON_CONTENT_TYPES = setOf("application/json", "text/json")
+    }
 }
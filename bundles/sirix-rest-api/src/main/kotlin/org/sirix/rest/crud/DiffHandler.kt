@@ -27,7 +27,6 @@ private val logger = LogWrapper(LoggerFactory.getLogger(DiffHandler::class.java)
 
 class DiffHandler(private val location: Path) {
     suspend fun handle(ctx: RoutingContext): Route {
-        val context = ctx.vertx().orCreateContext
         val databaseName = ctx.pathParam("database")
         val resourceName = ctx.pathParam("resource")
 
@@ -39,7 +38,7 @@ class DiffHandler(private val location: Path) {
         
         val database = openDatabase(databaseName)
 
-        val diff = context.executeBlocking<String> { resultPromise ->
+        val diff = ExecutionLanes.diff.executeBlocking<String> { resultPromise ->
             var diffString: String? = null
             database.use {
                 val resourceManager = database.beginResourceSession(resourceName)
@@ -0,0 +1,105 @@
+package org.sirix.rest.crud
+
+import io.netty.handler.codec.http.HttpResponseStatus
+import io.vertx.core.Future
+import io.vertx.core.Promise
+import io.vertx.ext.web.handler.HttpException
+import org.sirix.metrics.Metrics
+import java.time.Duration
+import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.Semaphore
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Executes the blocking storage work of one class of requests, for instance of point reads or of queries, such that
+ * long running requests of one class don't starve the requests of other classes, as they would, if all requests
+ * shared the worker pool of Vert.x.
+ *
+ * Each task runs on its own virtual thread, but at most [concurrency] tasks of a lane run at the same time and at most
+ * [maxQueueSize] further tasks wait for their turn. If the queue is full, a task is rejected with
+ * `429 Too Many Requests` and if a task waits longer than [queueTimeout], it is rejected with
+ * `503 Service Unavailable`, such that clients back off instead of piling up requests, which are answered too late
+ * anyway. Running tasks are not interrupted, as interrupting a thread closes the file channels it reads from.
+ *
+ * @author Johannes Lichtenberger
+ */
+class ExecutionLane(
+    val name: String,
+    private val concurrency: Int,
+    private val maxQueueSize: Int,
+    private val queueTimeout: Duration
+) {
+    private val executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sirix-$name-", 0).factory())
+
+    private val permits = Semaphore(concurrency, true)
+
+    /**
+     * The number of running and waiting tasks.
+     */
+    private val pendingTasks = AtomicInteger()
+
+    private val rejectedTasks =
+        Metrics.counter("sirix.lane.rejections", "Number of rejected tasks.", "lane", name, "reason", "queue-full")
+
+    private val timedOutTasks =
+        Metrics.counter("sirix.lane.rejections", "Number of rejected tasks.", "lane", name, "reason", "queue-timeout")
+
+    private val waitTimer = Metrics.timer("sirix.lane.wait", "Time tasks wait for their turn.", "lane", name)
+
+    /**
+     * Execute blocking code in this lane. Like [io.vertx.core.Context.executeBlocking], the future is failed, if the
+     * code throws an exception, and otherwise completed by the code itself.
+     *
+     * @param blockingCodeHandler the blocking code
+     * @return the future of the result or a failed future with an [HttpException], if the task has been rejected
+     */
+    fun <T> executeBlocking(blockingCodeHandler: (Promise<T>) -> Unit): Future<T> {
+        val promise = Promise.promise<T>()
+
+        if (pendingTasks.incrementAndGet() > concurrency + maxQueueSize) {
+            pendingTasks.decrementAndGet()
+            rejectedTasks.increment()
+            promise.fail(
+                HttpException(HttpResponseStatus.TOO_MANY_REQUESTS.code(), "Too many pending $name requests.")
+            )
+            return promise.future()
+        }
+
+        val submissionNanos = System.nanoTime()
+
+        try {
+            executor.execute {
+                try {
+                    if (permits.tryAcquire(queueTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                        waitTimer.recordSince(submissionNanos)
+
+                        try {
+                            blockingCodeHandler(promise)
+                        } finally {
+                            permits.release()
+                        }
+                    } else {
+                        timedOutTasks.increment()
+                        promise.fail(
+                            HttpException(
+                                HttpResponseStatus.SERVICE_UNAVAILABLE.code(),
+                                "Timed out waiting for a $name worker."
+                            )
+                        )
+                    }
+                } catch (e: Throwable) {
+                    promise.tryFail(e)
+                } finally {
+                    pendingTasks.decrementAndGet()
+                }
+            }
+        } catch (e: RejectedExecutionException) {
+            pendingTasks.decrementAndGet()
+            promise.fail(HttpException(HttpResponseStatus.SERVICE_UNAVAILABLE.code(), e))
+        }
+
+        return promise.future()
+    }
+}
@@ -0,0 +1,75 @@
+package org.sirix.rest.crud
+
+import io.vertx.core.json.JsonObject
+import java.time.Duration
+
+/**
+ * The execution lanes of the REST API, shared between all verticle instances. The limits of a lane are configured
+ * with the keys `lanes.<lane>.concurrency`, `lanes.<lane>.queueSize` and `lanes.<lane>.queueTimeout` (in
+ * milliseconds).
+ *
+ * @author Johannes Lichtenberger
+ */
+class ExecutionLanes private constructor(config: JsonObject) {
+    private val readLane = lane(config, "read", 4 * PROCESSORS, 1_000, 10_000)
+
+    private val writeLane = lane(config, "write", PROCESSORS, 100, 30_000)
+
+    private val queryLane = lane(config, "query", PROCESSORS, 100, 30_000)
+
+    private val diffLane = lane(config, "diff", maxOf(1, PROCESSORS / 2), 50, 30_000)
+
+    companion object {
+        private val PROCESSORS = Runtime.getRuntime().availableProcessors()
+
+        @Volatile
+        private var lanes: ExecutionLanes? = null
+
+        /**
+         * Serializations, point reads, path summaries and changes.
+         */
+        val read: ExecutionLane get() = lanes().readLane
+
+        /**
+         * Imports, updates and deletions.
+         */
+        val write: ExecutionLane get() = lanes().writeLane
+
+        /**
+         * Queries, which might be long running analytics.
+         */
+        val query: ExecutionLane get() = lanes().queryLane
+
+        /**
+         * Diffs between revisions.
+         */
+        val diff: ExecutionLane get() = lanes().diffLane
+
+        /**
+         * Create the lanes, unless they have already been created.
+         *
+         * @param config the configuration of the verticle
+         */
+        @Synchronized
+        fun configure(config: JsonObject): ExecutionLanes {
+            return lanes ?: ExecutionLanes(config).also { lanes = it }
+        }
+
+        private fun lanes(): ExecutionLanes = lanes ?: configure(JsonObject())
+
+        private fun lane(
+            config: JsonObject,
+            name: String,
+            concurrency: Int,
+            queueSize: Int,
+            queueTimeoutMillis: Long
+        ): ExecutionLane {
+            return ExecutionLane(
+                name,
+                config.getInteger("lanes.$name.concurrency", concurrency),
+                config.getInteger("lanes.$name.queueSize", queueSize),
+                Duration.ofMillis(config.getLong("lanes.$name.queueTimeout", queueTimeoutMillis))
+            )
+        }
+    }
+}
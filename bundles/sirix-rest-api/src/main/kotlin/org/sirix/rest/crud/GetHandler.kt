@@ -59,12 +59,20 @@ class GetHandler(
                     endResultSeqIndex = jsonBody?.getLong("endResultSeqIndex")
                 }
 
-                val body: String?
+                val page = QueryCursor.page(
+                    ctx,
+                    jsonBody,
+                    QueryCursor.fromRequest(ctx, jsonBody),
+                    startResultSeqIndex,
+                    endResultSeqIndex,
+                    null,
+                    null
+                )
 
                 with(acceptHeader) {
                     when {
                         contains("application/json") -> {
-                            body = JsonGet(location, keycloak, authz).xquery(
+                            JsonGet(location, keycloak, authz).xquery(
                                 null,
                                 null,
                                 null,
@@ -73,14 +81,13 @@ class GetHandler(
                                 ctx,
                                 context,
                                 ctx.get("user") as User,
-                                startResultSeqIndex,
-                                endResultSeqIndex,
+                                page,
                                 jsonBody
                             )
                         }
 
                         contains("application/xml") -> {
-                            body = XmlGet(location, keycloak, authz).xquery(
+                            XmlGet(location, keycloak, authz).xquery(
                                 null,
                                 null,
                                 null,
@@ -89,14 +96,13 @@ class GetHandler(
                                 ctx,
                                 context,
                                 ctx.get("user") as User,
-                                startResultSeqIndex,
-                                endResultSeqIndex,
+                                page,
                                 jsonBody
                             )
                         }
 
                         else -> {
-                            body = JsonGet(location, keycloak, authz).xquery(
+                            JsonGet(location, keycloak, authz).xquery(
                                 null,
                                 null,
                                 null,
@@ -105,19 +111,12 @@ class GetHandler(
                                 ctx,
                                 context,
                                 ctx.get("user") as User,
-                                startResultSeqIndex,
-                                endResultSeqIndex,
+                                page,
                                 jsonBody
                             )
                         }
                     }
                 }
-
-                if (body != null) {
-                    ctx.response().end(body)
-                } else {
-                    ctx.response().end()
-                }
             }
         } else if (databaseName != null && resourceName == null) {
             val buffer = StringBuilder()
@@ -150,62 +149,77 @@ class GetHandler(
     }
 
     private suspend fun listDatabases(ctx: RoutingContext, context: Context) {
-        context.executeBlocking { _: Promise<Unit> ->
-            val databases = Files.list(location)
+        ExecutionLanes.read.executeBlocking { promise: Promise<Unit> ->
+            val withResources = ctx.queryParam("withResources").getOrNull(0)?.toBoolean() ?: false
+            val content = MetadataCache.get(null, null, "databases", withResources) {
+                databases(withResources)
+            }
 
-            val buffer = StringBuilder()
+            ctx.response().setStatusCode(200)
+                .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                .end(content)
+
+            promise.complete()
+        }.await()
+    }
 
-            buffer.append("{\"databases\":[")
+    private fun databases(withResources: Boolean): String {
+        val databases = Files.list(location)
 
-            databases.use {
-                val databasesList = it.collect(Collectors.toList())
-                val databaseDirectories =
-                    databasesList.filter { database -> Files.isDirectory(database) }.toList()
+        val buffer = StringBuilder()
 
-                for ((index, database) in databaseDirectories.withIndex()) {
-                    val databaseName = database.fileName
-                    val databaseType = Databases.getDatabaseType(database.toAbsolutePath()).stringType
-                    buffer.append(
-                        "{\"name\":\"${StringValue.escape(databaseName.toString())}\",\"type\":\"${
-                            StringValue.escape(
-                                databaseType
-                            )
-                        }\""
-                    )
+        buffer.append("{\"databases\":[")
 
-                    val withResources = ctx.queryParam("withResources")
-                    if (withResources.isNotEmpty() && withResources[0]!!.toBoolean()) {
-                        buffer.append(",")
-                        emitResourcesOfDatabase(buffer, databaseName)
-                    }
-                    buffer.append("}")
+        databases.use {
+            val databasesList = it.collect(Collectors.toList())
+            val databaseDirectories =
+                databasesList.filter { database -> Files.isDirectory(database) }.toList()
 
-                    if (index != databaseDirectories.size - 1)
-                        buffer.append(",")
+            for ((index, database) in databaseDirectories.withIndex()) {
+                val databaseName = database.fileName
+                val databaseType = Databases.getDatabaseType(database.toAbsolutePath()).stringType
+                buffer.append(
+                    "{\"name\":\"${StringValue.escape(databaseName.toString())}\",\"type\":\"${
+                        StringValue.escape(
+                            databaseType
+                        )
+                    }\""
+                )
+
+                if (withResources) {
+                    buffer.append(",")
+                    emitResourcesOfDatabase(buffer, databaseName)
                 }
-            }
+                buffer.append("}")
 
-            buffer.append("]}")
+                if (index != databaseDirectories.size - 1)
+                    buffer.append(",")
+            }
+        }
 
-            val content = buffer.toString()
+        buffer.append("]}")
 
-            ctx.response().setStatusCode(200)
-                .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
-                .end(content)
-        }.await()
+        return buffer.toString()
     }
 
     private fun emitResourcesOfDatabase(
         buffer: StringBuilder,
         databaseName: Path
     ) {
-        val database = Databases.openJsonDatabase(location.resolve(databaseName))
+        val resources = MetadataCache.get(location.resolve(databaseName), null, "resources") {
+            val resourcesBuffer = StringBuilder()
+            val database = Databases.openJsonDatabase(location.resolve(databaseName))
+
+            database.use {
+                resourcesBuffer.append("\"resources\":[")
+                emitCommaSeparatedResourceString(it, resourcesBuffer)
+                resourcesBuffer.append("]")
+            }
 
-        database.use {
-            buffer.append("\"resources\":[")
-            emitCommaSeparatedResourceString(it, buffer)
-            buffer.append("]")
+            resourcesBuffer.toString()
         }
+
+        buffer.append(resources)
     }
 
     private fun emitCommaSeparatedResourceString(
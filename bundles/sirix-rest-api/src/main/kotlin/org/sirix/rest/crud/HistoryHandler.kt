@@ -1,10 +1,10 @@
 package org.sirix.rest.crud
 
+import io.vertx.core.Promise
 import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
-import io.vertx.kotlin.coroutines.dispatcher
-import kotlinx.coroutines.withContext
+import io.vertx.kotlin.coroutines.await
 import org.sirix.access.DatabaseType
 import org.sirix.access.Databases.*
 import org.sirix.api.Database
@@ -17,72 +17,88 @@ class HistoryHandler(private val location: Path) {
         val databaseName = ctx.pathParam("database")
         val resourceName = ctx.pathParam("resource")
 
+        val numberOfRevisions = ctx.queryParam("revisions")
+        val startRevision = ctx.queryParam("startRevision")
+        val endRevision = ctx.queryParam("endRevision")
+
+        val database = location.resolve(databaseName)
+        val arguments = arrayOf(numberOfRevisions.getOrNull(0), startRevision.getOrNull(0), endRevision.getOrNull(0))
+
+        // Only a cache miss reads the history from storage, which blocks, thus it is read on the read lane.
+        val content = MetadataCache.getIfPresent<String>(database, resourceName, "history", *arguments)
+            ?: ExecutionLanes.read.executeBlocking { promise: Promise<String> ->
+                promise.complete(MetadataCache.get(database, resourceName, "history", *arguments) {
+                    history(databaseName, resourceName, numberOfRevisions, startRevision, endRevision)
+                })
+            }.await()
+
+        val res = ctx.response().setStatusCode(200)
+            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+            .putHeader(HttpHeaders.CONTENT_LENGTH, content.toByteArray(StandardCharsets.UTF_8).size.toString())
+        res.write(content)
+        res.end()
+
+        return ctx.currentRoute()
+    }
+
+    private fun history(
+        databaseName: String,
+        resourceName: String,
+        numberOfRevisions: List<String>,
+        startRevision: List<String>,
+        endRevision: List<String>
+    ): String {
         @Suppress("WHEN_ENUM_CAN_BE_NULL_IN_JAVA") val database: Database<*> =
             when (getDatabaseType(location.resolve(databaseName).toAbsolutePath())) {
                 DatabaseType.JSON -> openJsonDatabase(location.resolve(databaseName))
                 DatabaseType.XML -> openXmlDatabase(location.resolve(databaseName))
             }
 
-        withContext(ctx.vertx().dispatcher()) {
-            val buffer = StringBuilder()
-            database.use {
-                val manager = database.beginResourceSession(resourceName)
-
-                manager.use {
-                    val numberOfRevisions = ctx.queryParam("revisions")
-                    val startRevision = ctx.queryParam("startRevision")
-                    val endRevision = ctx.queryParam("endRevision")
-
-
-                    val historyList = if (numberOfRevisions.isEmpty()) {
-                        if (startRevision.isEmpty() && endRevision.isEmpty()) {
-                            manager.history
-                        } else {
-                            val startRevisionAsInt = startRevision[0].toInt()
-                            val endRevisionAsInt = endRevision[0].toInt()
-                            manager.getHistory(startRevisionAsInt, endRevisionAsInt)
-                        }
+        val buffer = StringBuilder()
+        database.use {
+            val manager = database.beginResourceSession(resourceName)
+
+            manager.use {
+                val historyList = if (numberOfRevisions.isEmpty()) {
+                    if (startRevision.isEmpty() && endRevision.isEmpty()) {
+                        manager.history
                     } else {
-                        val revisions = numberOfRevisions[0].toInt()
-                        manager.getHistory(revisions)
+                        val startRevisionAsInt = startRevision[0].toInt()
+                        val endRevisionAsInt = endRevision[0].toInt()
+                        manager.getHistory(startRevisionAsInt, endRevisionAsInt)
                     }
+                } else {
+                    val revisions = numberOfRevisions[0].toInt()
+                    manager.getHistory(revisions)
+                }
 
-                    buffer.append("{\"history\":[")
-
-                    historyList.forEachIndexed { index, revisionTuple ->
-                        buffer.append("{\"revision\":")
-                        buffer.append(revisionTuple.revision)
-                        buffer.append(",")
+                buffer.append("{\"history\":[")
 
-                        buffer.append("\"revisionTimestamp\":\"")
-                        buffer.append(revisionTuple.revisionTimestamp)
-                        buffer.append("\",")
+                historyList.forEachIndexed { index, revisionTuple ->
+                    buffer.append("{\"revision\":")
+                    buffer.append(revisionTuple.revision)
+                    buffer.append(",")
 
-                        buffer.append("\"author\":\"")
-                        buffer.append(StringValue.escape(revisionTuple.user.name))
-                        buffer.append("\",")
+                    buffer.append("\"revisionTimestamp\":\"")
+                    buffer.append(revisionTuple.revisionTimestamp)
+                    buffer.append("\",")
 
-                        buffer.append("\"commitMessage\":\"")
-                        buffer.append(StringValue.escape(revisionTuple.commitMessage.orElse("")))
-                        buffer.append("\"}")
+                    buffer.append("\"author\":\"")
+                    buffer.append(StringValue.escape(revisionTuple.user.name))
+                    buffer.append("\",")
 
-                        if (index != historyList.size - 1)
-                            buffer.append(",")
-                    }
+                    buffer.append("\"commitMessage\":\"")
+                    buffer.append(StringValue.escape(revisionTuple.commitMessage.orElse("")))
+                    buffer.append("\"}")
 
-                    buffer.append("]}")
+                    if (index != historyList.size - 1)
+                        buffer.append(",")
                 }
-            }
-
-            val content = buffer.toString()
 
-            val res = ctx.response().setStatusCode(200)
-                .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
-                .putHeader(HttpHeaders.CONTENT_LENGTH, content.toByteArray(StandardCharsets.UTF_8).size.toString())
-            res.write(content)
-            res.end()
+                buffer.append("]}")
+            }
         }
 
-        return ctx.currentRoute()
+        return buffer.toString()
     }
 }
\ No newline at end of file
@@ -0,0 +1,135 @@
+package org.sirix.rest.crud
+
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import org.sirix.access.Databases
+import org.sirix.api.PostCommitHook
+import java.nio.file.Path
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Caches metadata of databases and resources, which would otherwise be read from storage for each request, for
+ * instance revision histories, path summaries and resource listings. The metadata only changes, when a resource is
+ * committed, created or removed. Thus, the entries of a database are invalidated by a post-commit hook, which is
+ * executed after each commit of any resource, and by the handlers, which create or remove databases and resources.
+ * As the hook is executed before a commit returns, clients read their own writes.
+ *
+ * Entries are tagged with a generation of their database, which is incremented on invalidation, such that an entry,
+ * which has been computed concurrently to a commit, is never returned after the commit.
+ *
+ * @author Johannes Lichtenberger
+ */
+class MetadataCache private constructor(maximumSize: Long) {
+    /**
+     * @property database the database or `null` for metadata of all databases
+     */
+    private data class Key(
+        val database: Path?,
+        val generation: Long,
+        val resource: String?,
+        val kind: String,
+        val arguments: List<Any?>
+    )
+
+    private val cache: Cache<Key, Any> = Caffeine.newBuilder().maximumSize(maximumSize).build()
+
+    private val generations = ConcurrentHashMap<Path, AtomicLong>()
+
+    private val globalGeneration = AtomicLong()
+
+    private fun generation(database: Path?): Long {
+        return if (database == null) {
+            globalGeneration.get()
+        } else {
+            generations.computeIfAbsent(database) { AtomicLong() }.get()
+        }
+    }
+
+    private fun <T : Any> get(
+        database: Path?,
+        resource: String?,
+        kind: String,
+        arguments: List<Any?>,
+        load: () -> T
+    ): T {
+        // The generation must be read before the metadata is loaded.
+        val key = Key(database, generation(database), resource, kind, arguments)
+
+        // Not computed atomically, as metadata may be loaded recursively, for instance resource listings of databases.
+        @Suppress("UNCHECKED_CAST")
+        return cache.getIfPresent(key) as T? ?: load().also { cache.put(key, it) }
+    }
+
+    private fun <T : Any> getIfPresent(database: Path?, resource: String?, kind: String, arguments: List<Any?>): T? {
+        @Suppress("UNCHECKED_CAST")
+        return cache.getIfPresent(Key(database, generation(database), resource, kind, arguments)) as T?
+    }
+
+    private fun invalidate(database: Path) {
+        generations.computeIfAbsent(database) { AtomicLong() }.incrementAndGet()
+        globalGeneration.incrementAndGet()
+        cache.asMap().keys.removeIf { it.database == null || it.database == database }
+    }
+
+    companion object {
+        private val instance = MetadataCache(10_000)
+
+        private val invalidationHook = PostCommitHook { rtx ->
+            // The resources of a database are stored in a subdirectory of the database directory.
+            invalidate(rtx.resourceSession.resourceConfig.resource.parent.parent)
+        }
+
+        init {
+            Databases.addPostCommitHook(invalidationHook)
+        }
+
+        /**
+         * Get the cached metadata or load it.
+         *
+         * @param database the database directory or `null` for metadata of all databases
+         * @param resource the name of the resource, if the metadata belongs to a single resource
+         * @param kind the kind of metadata, for instance `history`
+         * @param arguments further arguments, on which the metadata depends
+         * @param load loads the metadata from storage
+         * @return the metadata
+         */
+        fun <T : Any> get(database: Path?, resource: String?, kind: String, vararg arguments: Any?, load: () -> T): T {
+            return instance.get(database?.toAbsolutePath()?.normalize(), resource, kind, arguments.toList(), load)
+        }
+
+        /**
+         * Get the cached metadata without loading it, such that it can be returned without blocking.
+         *
+         * @param database the database directory or `null` for metadata of all databases
+         * @param resource the name of the resource, if the metadata belongs to a single resource
+         * @param kind the kind of metadata, for instance `history`
+         * @param arguments further arguments, on which the metadata depends
+         * @return the metadata or `null`, if it isn't cached
+         */
+        fun <T : Any> getIfPresent(database: Path?, resource: String?, kind: String, vararg arguments: Any?): T? {
+            return instance.getIfPresent(database?.toAbsolutePath()?.normalize(), resource, kind, arguments.toList())
+        }
+
+        /**
+         * Get the generation of a database, which is incremented whenever the metadata of the database is
+         * invalidated, that is after a commit and once one of its resources has been created or removed.
+         *
+         * @param database the database directory
+         * @return the generation
+         */
+        fun generation(database: Path): Long {
+            return instance.generation(database.toAbsolutePath().normalize())
+        }
+
+        /**
+         * Invalidate the metadata of a database and of all databases, for instance after a database or a resource
+         * has been created or removed.
+         *
+         * @param database the database directory
+         */
+        fun invalidate(database: Path) {
+            instance.invalidate(database.toAbsolutePath().normalize())
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.sirix.rest.crud
 
+import io.vertx.core.Promise
 import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
@@ -13,68 +14,74 @@ import java.nio.file.Path
 
 class PathSummaryHandler(private val location: Path) {
     suspend fun handle(ctx: RoutingContext): Route {
-        val context = ctx.vertx().orCreateContext
         val databaseName = ctx.pathParam("database")
         val resourceName = ctx.pathParam("resource")
 
+        ExecutionLanes.read.executeBlocking { promise: Promise<Unit> ->
+            val revision = ctx.queryParam("revision")[0].toInt()
+            val content = MetadataCache.get(location.resolve(databaseName), resourceName, "pathSummary", revision) {
+                pathSummary(databaseName, resourceName, revision)
+            }
+
+            val res = ctx.response().setStatusCode(200)
+                .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                .putHeader(HttpHeaders.CONTENT_LENGTH, content.toByteArray(StandardCharsets.UTF_8).size.toString())
+            res.write(content)
+            res.end()
+
+            promise.complete()
+        }.await()
+
+        return ctx.currentRoute()
+    }
+
+    private fun pathSummary(databaseName: String, resourceName: String, revision: Int): String {
         @Suppress("WHEN_ENUM_CAN_BE_NULL_IN_JAVA") val database: Database<*> =
             when (getDatabaseType(location.resolve(databaseName).toAbsolutePath())) {
                 DatabaseType.JSON -> openJsonDatabase(location.resolve(databaseName))
                 DatabaseType.XML -> openXmlDatabase(location.resolve(databaseName))
             }
 
-        context.executeBlocking<String> {
-            val buffer = StringBuilder()
-            database.use {
-                val manager = database.beginResourceSession(resourceName)
+        val buffer = StringBuilder()
+        database.use {
+            val manager = database.beginResourceSession(resourceName)
 
-                manager.use {
-                    if (manager.resourceConfig.withPathSummary) {
-                        val revision = ctx.queryParam("revision")[0]
+            manager.use {
+                if (manager.resourceConfig.withPathSummary) {
+                    val pathSummary = manager.openPathSummary(revision)
+                    val pathSummaryAxis = DescendantAxis(pathSummary)
 
-                        val pathSummary = manager.openPathSummary(revision.toInt())
-                        val pathSummaryAxis = DescendantAxis(pathSummary)
+                    buffer.append("{\"pathSummary\":[")
 
-                        buffer.append("{\"pathSummary\":[")
+                    while (pathSummaryAxis.hasNext()) {
+                        pathSummaryAxis.nextLong()
 
-                        while (pathSummaryAxis.hasNext()) {
-                            pathSummaryAxis.nextLong()
+                        buffer.append("{")
+                        buffer.append("nodeKey:")
+                        buffer.append(pathSummary.nodeKey)
+                        buffer.append(",")
+                        buffer.append("path:")
+                        buffer.append(pathSummary.path)
+                        buffer.append(",")
+                        buffer.append("references:")
+                        buffer.append(pathSummary.references)
+                        buffer.append(",")
+                        buffer.append("level:")
+                        buffer.append(pathSummary.level)
+                        buffer.append("}")
 
-                            buffer.append("{")
-                            buffer.append("nodeKey:")
-                            buffer.append(pathSummary.nodeKey)
-                            buffer.append(",")
-                            buffer.append("path:")
-                            buffer.append(pathSummary.path)
+                        if (pathSummaryAxis.hasNext()) {
                             buffer.append(",")
-                            buffer.append("references:")
-                            buffer.append(pathSummary.references)
-                            buffer.append(",")
-                            buffer.append("level:")
-                            buffer.append(pathSummary.level)
-                            buffer.append("}")
-
-                            if (pathSummaryAxis.hasNext()) {
-                                buffer.append(",")
-                            }
                         }
-
-                        buffer.append("]}")
-                    } else {
-                        buffer.append("{\"pathSummary\":[]}")
                     }
+
+                    buffer.append("]}")
+                } else {
+                    buffer.append("{\"pathSummary\":[]}")
                 }
             }
+        }
 
-            val content = buffer.toString()
-
-            val res = ctx.response().setStatusCode(200)
-                .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
-                .putHeader(HttpHeaders.CONTENT_LENGTH, content.toByteArray(StandardCharsets.UTF_8).size.toString())
-            res.write(content)
-            res.end()
-        }.await()
-
-        return ctx.currentRoute()
+        return buffer.toString()
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,62 @@
+package org.sirix.rest.crud
+
+import org.sirix.api.Database
+import org.sirix.xquery.json.JsonDBCollection
+import org.sirix.xquery.node.XmlDBCollection
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * The revisions of resources, which are read by all pages of a paged query, which isn't evaluated on a single
+ * resource. Once a database is looked up, the most recent revisions of its resources, which haven't been pinned by
+ * a previous page, are pinned.
+ *
+ * @author Johannes Lichtenberger
+ */
+class PinnedRevisions(revisions: Map<String, Int>) {
+    private val revisions = ConcurrentHashMap(revisions)
+
+    /**
+     * Pin the revisions of the resources of a JSON database.
+     *
+     * @param databaseName the name of the database
+     * @param collection the collection, which has been looked up
+     */
+    fun pin(databaseName: String, collection: JsonDBCollection) {
+        collection.pinRevisions(revisionsOf(databaseName, collection.database))
+    }
+
+    /**
+     * Pin the revisions of the resources of an XML database.
+     *
+     * @param databaseName the name of the database
+     * @param collection the collection, which has been looked up
+     */
+    fun pin(databaseName: String, collection: XmlDBCollection) {
+        collection.pinRevisions(revisionsOf(databaseName, collection.database))
+    }
+
+    private fun revisionsOf(databaseName: String, database: Database<*>): Map<String, Int> {
+        val resourceRevisions = HashMap<String, Int>()
+
+        for (resource in database.listResources()) {
+            val resourceName = resource.fileName.toString()
+            resourceRevisions[resourceName] = revisions.computeIfAbsent("$databaseName$SEPARATOR$resourceName") {
+                // The session is shared with the collection and closed with the database.
+                database.beginResourceSession(resourceName).mostRecentRevisionNumber
+            }
+        }
+
+        return resourceRevisions
+    }
+
+    /**
+     * Get the pinned revisions.
+     *
+     * @return the revisions, keyed by the database name and the resource name
+     */
+    fun toMap(): Map<String, Int> = HashMap(revisions)
+
+    companion object {
+        private const val SEPARATOR = '/'
+    }
+}
@@ -0,0 +1,155 @@
+package org.sirix.rest.crud
+
+import io.vertx.core.json.JsonObject
+import io.vertx.ext.web.RoutingContext
+import java.net.URLDecoder
+import java.net.URLEncoder
+import java.nio.charset.StandardCharsets
+import java.util.*
+
+/**
+ * An opaque continuation token to page through the result sequence of a query. It denotes the revision the query
+ * has been evaluated on, the node key of the context node and the position of the next item, such that all pages of
+ * a result sequence are computed on the same revision, even if the resource has been changed in the meantime, and
+ * such that the server never holds a result sequence between two requests. Queries, which aren't evaluated on a
+ * resource, read the revisions of the resources pinned by the first page instead.
+ *
+ * @property revisions the pinned revisions of the resources, keyed by the database name and the resource name
+ *
+ * @author Johannes Lichtenberger
+ */
+class QueryCursor(
+    val revision: Int?,
+    val nodeKey: Long?,
+    val position: Long,
+    val revisions: Map<String, Int> = emptyMap()
+) {
+    fun encode(): String {
+        val token = StringBuilder("$revision$SEPARATOR$nodeKey$SEPARATOR$position")
+
+        if (revisions.isNotEmpty()) {
+            token.append(SEPARATOR)
+            revisions.entries.joinTo(token, REVISION_SEPARATOR) { (resource, revision) ->
+                "${URLEncoder.encode(resource, StandardCharsets.UTF_8)}=$revision"
+            }
+        }
+
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(token.toString().toByteArray(StandardCharsets.UTF_8))
+    }
+
+    /**
+     * The page of a result sequence to serialize.
+     *
+     * @property startResultSeqIndex the index of the first item to serialize
+     * @property endResultSeqIndex the index of the last item to serialize
+     * @property pinnedRevisions the revisions to read, if the result sequence of a query, which isn't evaluated on a
+     * resource, is paged through
+     */
+    class Page(
+        val startResultSeqIndex: Long?,
+        val endResultSeqIndex: Long?,
+        private val nextCursor: QueryCursor?,
+        val pinnedRevisions: PinnedRevisions? = null
+    ) {
+        /**
+         * `true`, if the result sequence is paged through, thus the page has to be serialized before the response is
+         * sent, to determine if there's a next page.
+         */
+        val isPaged: Boolean
+            get() = nextCursor != null
+
+        /**
+         * Get the cursor of the next page, including the revisions pinned so far.
+         *
+         * @return the cursor of the next page or `null`, if the result sequence isn't paged through
+         */
+        fun nextCursor(): QueryCursor? {
+            return nextCursor?.let {
+                QueryCursor(it.revision, it.nodeKey, it.position, pinnedRevisions?.toMap() ?: it.revisions)
+            }
+        }
+    }
+
+    companion object {
+        /**
+         * The response header containing the cursor of the next page. It's only sent, if there are more items.
+         */
+        const val NEXT_CURSOR_HEADER = "Next-Cursor"
+
+        private const val SEPARATOR = ':'
+
+        private const val REVISION_SEPARATOR = ","
+
+        fun decode(token: String): QueryCursor {
+            val parts = try {
+                String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(SEPARATOR)
+            } catch (e: IllegalArgumentException) {
+                throw IllegalArgumentException("Invalid cursor: $token", e)
+            }
+
+            require(parts.size == 3 || parts.size == 4) { "Invalid cursor: $token" }
+
+            val position = parts[2].toLongOrNull() ?: throw IllegalArgumentException("Invalid cursor: $token")
+
+            val revisions = if (parts.size == 4) {
+                parts[3].split(REVISION_SEPARATOR).associate { entry ->
+                    val resource = entry.substringBefore('=', "")
+                    val revision = entry.substringAfter('=', "").toIntOrNull()
+                    require(resource.isNotEmpty() && revision != null) { "Invalid cursor: $token" }
+                    URLDecoder.decode(resource, StandardCharsets.UTF_8) to revision
+                }
+            } else {
+                emptyMap()
+            }
+
+            return QueryCursor(parts[0].toIntOrNull(), parts[1].toLongOrNull(), position, revisions)
+        }
+
+        /**
+         * Get the cursor passed as the `cursor` query parameter or in the request body, if any.
+         */
+        fun fromRequest(ctx: RoutingContext, jsonBody: JsonObject?): QueryCursor? {
+            val token = ctx.queryParam("cursor").getOrElse(0) { jsonBody?.getString("cursor") }
+            return token?.let { decode(it) }
+        }
+
+        /**
+         * Determine the page of the result sequence to serialize. If a page size is given, the page starts at the
+         * position of the cursor or otherwise at the given start index and the cursor of the next page is
+         * computed, which refers to the same revision and context node. If the query isn't evaluated on a resource,
+         * the most recent revisions of the resources are pinned, once their databases are looked up.
+         *
+         * @param ctx the routing context
+         * @param jsonBody the body of the request
+         * @param cursor the cursor of the request
+         * @param startResultSeqIndex the start index given in the request
+         * @param endResultSeqIndex the end index given in the request
+         * @param revision the revision the query is evaluated on, if the query is evaluated on a resource
+         * @param nodeKey the node key of the context node, if any
+         * @return the page to serialize
+         */
+        fun page(
+            ctx: RoutingContext,
+            jsonBody: JsonObject?,
+            cursor: QueryCursor?,
+            startResultSeqIndex: Long?,
+            endResultSeqIndex: Long?,
+            revision: Int?,
+            nodeKey: Long?
+        ): Page {
+            val pageSize = ctx.queryParam("pageSize").getOrNull(0)?.toLong() ?: jsonBody?.getLong("pageSize")
+
+            if (pageSize == null) {
+                return Page(cursor?.position ?: startResultSeqIndex, endResultSeqIndex, null)
+            }
+
+            require(pageSize > 0) { "The page size must be greater than 0." }
+
+            val start = cursor?.position ?: startResultSeqIndex ?: 0
+            val pinnedRevisions = if (revision == null) PinnedRevisions(cursor?.revisions ?: emptyMap()) else null
+
+            return Page(start, start + pageSize - 1, QueryCursor(revision, nodeKey, start + pageSize), pinnedRevisions)
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.sirix.rest.crud
+
+import io.vertx.core.json.JsonArray
+import io.vertx.core.json.JsonObject
+import org.brackit.xquery.QueryContext
+import org.brackit.xquery.atomic.Bool
+import org.brackit.xquery.atomic.Dbl
+import org.brackit.xquery.atomic.Dec
+import org.brackit.xquery.atomic.Int64
+import org.brackit.xquery.atomic.QNm
+import org.brackit.xquery.atomic.Str
+import org.brackit.xquery.jdm.Item
+import org.brackit.xquery.jdm.Sequence
+import org.brackit.xquery.sequence.ItemSequence
+import java.math.BigDecimal
+
+/**
+ * Binds the query parameters of a request to the external variables of a query, for instance
+ * `{"query": "declare variable $name external; ...", "parameters": {"name": "value"}}`.
+ *
+ * @author Johannes Lichtenberger
+ */
+class QueryParameters {
+    companion object {
+        fun bind(queryCtx: QueryContext, parameters: JsonObject?) {
+            parameters?.forEach { (name, value) ->
+                queryCtx.bind(QNm(name), toSequence(name, value))
+            }
+        }
+
+        private fun toSequence(name: String, value: Any?): Sequence? {
+            return when (value) {
+                null -> null
+                is JsonArray -> ItemSequence(*value.map { toItem(name, it) }.toTypedArray())
+                else -> toItem(name, value)
+            }
+        }
+
+        private fun toItem(name: String, value: Any?): Item {
+            return when (value) {
+                is String -> Str(value)
+                is Boolean -> if (value) Bool.TRUE else Bool.FALSE
+                is Int -> Int64(value.toLong())
+                is Long -> Int64(value)
+                is Float -> Dbl(value.toDouble())
+                is Double -> Dbl(value)
+                is BigDecimal -> Dec(value)
+                else -> throw IllegalArgumentException("Parameter $name must be an atomic value or an array of atomic values.")
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.sirix.rest.crud
+
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import org.brackit.xquery.module.Module
+import org.sirix.metrics.Metrics
+import org.sirix.xquery.SirixCompileChain
+import org.sirix.xquery.json.JsonDBCollection
+import org.sirix.xquery.json.JsonDBStore
+import org.sirix.xquery.node.XmlDBStore
+import java.nio.file.Path
+
+/**
+ * Bounded cache of compiled query plans, keyed by the normalized query text. Parameters should be declared as
+ * external variables and bound to the query context, such that queries, which only differ in their parameters, share
+ * the same plan.
+ *
+ * The optimizer rewrites path expressions based on the path summaries and index definitions of the referenced JSON
+ * resources, thus a plan is only reused as long as none of the databases, which have been looked up during
+ * compilation, has been changed in the meantime. Changes are detected by the generations of the databases in the
+ * [MetadataCache], which are incremented after each commit and whenever a resource is created or removed, such that
+ * checking a cached plan doesn't have to open any database.
+ *
+ * @author Johannes Lichtenberger
+ */
+class QueryPlanCache(maximumSize: Long) {
+    private class Plan(val module: Module, val generations: Map<Path, Long>) {
+        fun isUpToDate() = generations.all { (database, generation) -> MetadataCache.generation(database) == generation }
+    }
+
+    private val cache: Cache<String, Plan> = Caffeine.newBuilder().maximumSize(maximumSize).build()
+
+    /**
+     * Get the compiled plan of the query from the cache or compile the query, if it hasn't been cached or if one of
+     * the referenced databases has been changed since it has been compiled. The stores are not closed.
+     *
+     * @param location the location of the databases
+     * @param xmlDBStore the XML store to compile the query with
+     * @param jsonDBStore the JSON store to compile the query with
+     * @param query the query
+     * @return the compiled query plan
+     */
+    fun compile(location: Path, xmlDBStore: XmlDBStore, jsonDBStore: JsonDBStore, query: String): Module {
+        val key = normalize(query)
+        val plan = cache.getIfPresent(key)
+
+        if (plan != null && plan.isUpToDate()) {
+            planCacheHits.increment()
+            return plan.module
+        }
+
+        planCacheMisses.increment()
+
+        val startNanos = System.nanoTime()
+        val recordingStore = GenerationRecordingJsonDBStore(location, jsonDBStore)
+        val module = SirixCompileChain.createWithNodeAndJsonStore(xmlDBStore, recordingStore).compile(query)
+        cache.put(key, Plan(module, recordingStore.generations))
+        compileTimer.recordSince(startNanos)
+        return module
+    }
+
+    /**
+     * Records the generation of a database, once it is looked up during compilation. The generation is recorded
+     * before the optimizer reads the resources, such that a concurrent commit results in an outdated plan being
+     * recompiled instead of being reused.
+     */
+    private class GenerationRecordingJsonDBStore(
+        private val location: Path,
+        private val dbStore: JsonDBStore
+    ) : JsonDBStore by dbStore {
+        val generations = HashMap<Path, Long>()
+
+        override fun lookup(name: String): JsonDBCollection {
+            val database = location.resolve(name)
+            generations.computeIfAbsent(database) { MetadataCache.generation(it) }
+            return dbStore.lookup(name)
+        }
+    }
+
+    companion object {
+        private val DIRECT_CONSTRUCTOR = Regex("<[\\p{L}_]")
+
+        private val planCacheHits = Metrics.counter("sirix.query.plan.cache.hits", "Number of reused query plans.")
+
+        private val planCacheMisses =
+            Metrics.counter("sirix.query.plan.cache.misses", "Number of queries, which had to be compiled.")
+
+        private val compileTimer = Metrics.timer("sirix.query.compile", "Duration of query compilations.")
+
+        /**
+         * Normalize the query text, such that queries, which only differ in insignificant whitespace, share the same
+         * plan. Whitespace in string literals is kept and if the query might contain direct element constructors, in
+         * which whitespace may be significant, the query is only trimmed.
+         *
+         * @param query the query
+         * @return the normalized query
+         */
+        fun normalize(query: String): String {
+            val trimmedQuery = query.trim()
+
+            if (DIRECT_CONSTRUCTOR.containsMatchIn(trimmedQuery)) {
+                return trimmedQuery
+            }
+
+            val normalizedQuery = StringBuilder(trimmedQuery.length)
+            var quote: Char? = null
+            var isWhitespace = false
+
+            for (c in trimmedQuery) {
+                if (quote != null) {
+                    normalizedQuery.append(c)
+                    if (c == quote) {
+                        quote = null
+                    }
+                } else if (c.isWhitespace()) {
+                    isWhitespace = true
+                } else {
+                    if (isWhitespace) {
+                        normalizedQuery.append(' ')
+                        isWhitespace = false
+                    }
+                    if (c == '"' || c == '\'') {
+                        quote = c
+                    }
+                    normalizedQuery.append(c)
+                }
+            }
+
+            return normalizedQuery.toString()
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package org.sirix.rest.crud
+
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import com.github.benmanes.caffeine.cache.RemovalCause
+import io.netty.handler.codec.http.HttpResponseStatus
+import io.vertx.core.buffer.Buffer
+import io.vertx.core.http.HttpHeaders
+import io.vertx.ext.web.RoutingContext
+import org.sirix.access.trx.node.HashType
+import org.sirix.api.NodeCursor
+import org.sirix.api.NodeReadOnlyTrx
+import org.sirix.api.NodeTrx
+import org.sirix.api.ResourceSession
+import java.io.ByteArrayOutputStream
+import java.io.IOException
+import java.io.UncheckedIOException
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardCopyOption
+import java.security.MessageDigest
+import java.util.*
+import java.util.zip.DeflaterOutputStream
+import java.util.zip.GZIPOutputStream
+
+/**
+ * An on-disk cache of compressed serializations of resource revisions. As committed revisions are immutable, the
+ * serialization of a revision with the same serialization options is compressed once and reused for all subsequent
+ * requests, which accept the same content encoding.
+ *
+ * Besides, requests are answered with `304 Not Modified`, if the entity tag given in the `If-None-Match` header
+ * matches the one of the requested revision. The entity tag is the hash of the root node of the revision (or of the
+ * requested node), if the resource stores hashes, thus it is compatible with the entity tags used for optimistic
+ * concurrency control during updates. Otherwise, it is derived from the revision number, the commit timestamp and the
+ * serialization options. The entity tag of a compressed serialization is suffixed with the content encoding, as its
+ * body differs from the uncompressed one.
+ *
+ * @author Johannes Lichtenberger
+ */
+class RepresentationCache(private val directory: Path, maximumSize: Long) {
+    /**
+     * The content encodings, which are cached.
+     */
+    enum class ContentEncoding(val token: String) {
+        GZIP("gzip") {
+            override fun compress(body: ByteArray): ByteArray {
+                val out = ByteArrayOutputStream(body.size / 4)
+                GZIPOutputStream(out).use { it.write(body) }
+                return out.toByteArray()
+            }
+        },
+        DEFLATE("deflate") {
+            override fun compress(body: ByteArray): ByteArray {
+                val out = ByteArrayOutputStream(body.size / 4)
+                DeflaterOutputStream(out).use { it.write(body) }
+                return out.toByteArray()
+            }
+        };
+
+        abstract fun compress(body: ByteArray): ByteArray
+
+        companion object {
+            /**
+             * Select the content encoding based on the `Accept-Encoding` header of a request.
+             *
+             * @param acceptEncoding the value of the header
+             * @return the preferred content encoding or `null`, if neither gzip nor deflate is accepted
+             */
+            fun negotiate(acceptEncoding: String?): ContentEncoding? {
+                if (acceptEncoding == null) {
+                    return null
+                }
+
+                val acceptedTokens = acceptEncoding.split(',').mapNotNull { coding ->
+                    val parameters = coding.split(';').map { it.trim() }
+                    val isRejected = parameters.drop(1).any { parameter ->
+                        parameter.startsWith("q=") && parameter.substring(2).toDoubleOrNull() == 0.0
+                    }
+                    if (isRejected) null else parameters[0].lowercase()
+                }
+
+                return values().firstOrNull { it.token in acceptedTokens || "*" in acceptedTokens }
+            }
+        }
+    }
+
+    /**
+     * A serialization of a revision.
+     *
+     * @property key the key of the serialization in the cache or `null`, if it must not be cached
+     * @property etag the entity tag
+     */
+    class Representation(val key: String?, val etag: String) {
+        /**
+         * Get the entity tag of the serialization compressed with the given content encoding.
+         *
+         * @param encoding the content encoding or `null`, if the serialization isn't compressed
+         * @return the entity tag
+         */
+        fun etagOf(encoding: ContentEncoding?): String =
+            if (encoding == null) etag else "$etag$ENCODING_SEPARATOR${encoding.token}"
+    }
+
+    /**
+     * The sizes of the cached files, which are deleted once they are evicted.
+     */
+    private val files: Cache<String, Long> = Caffeine.newBuilder()
+        .maximumWeight(maximumSize)
+        .weigher { _: String, size: Long -> size.coerceAtMost(Int.MAX_VALUE.toLong()).toInt() }
+        .removalListener { fileName: String?, _: Long?, cause: RemovalCause ->
+            if (fileName != null && cause != RemovalCause.REPLACED) {
+                Files.deleteIfExists(directory.resolve(fileName))
+            }
+        }
+        .build()
+
+    init {
+        Files.createDirectories(directory)
+
+        // Reuse the files of previous runs.
+        Files.list(directory).use { paths ->
+            paths.forEach { path ->
+                val fileName = path.fileName.toString()
+                if (fileName.endsWith(TEMP_FILE_SUFFIX)) {
+                    Files.deleteIfExists(path)
+                } else {
+                    files.put(fileName, Files.size(path))
+                }
+            }
+        }
+    }
+
+    /**
+     * Answer a request for the serialization of a revision. If the entity tag of the uncompressed serialization or
+     * of the serialization compressed with the negotiated content encoding matches, the response status is set to
+     * `304 Not Modified`. Otherwise, a cached compressed serialization is returned, if one exists for the negotiated
+     * content encoding, or the revision is serialized and compressed, which is cached, if it's large enough.
+     *
+     * @param ctx the routing context
+     * @param representation the serialization
+     * @param contentType the content type of the serialization
+     * @param serialize serializes the revision and sets the status code and content type of the response
+     * @return the body of the response or `null`, if the revision has not been modified
+     */
+    fun respond(
+        ctx: RoutingContext,
+        representation: Representation,
+        contentType: String,
+        serialize: () -> ByteArray
+    ): Buffer? {
+        val request = ctx.request()
+        val response = ctx.response()
+        val encoding = ContentEncoding.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING))
+
+        // The client may have stored the uncompressed or the compressed serialization, as it decodes both.
+        val matchingEtag = listOfNotNull(representation.etag, encoding?.let { representation.etagOf(it) })
+            .firstOrNull { isNotModified(request.getHeader(HttpHeaders.IF_NONE_MATCH), it) }
+
+        if (matchingEtag != null) {
+            response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code())
+                .putHeader(HttpHeaders.ETAG, matchingEtag)
+                .putHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+            return null
+        }
+
+        val key = representation.key
+        val fileName = if (key == null || encoding == null) null else "$key.${encoding.token}"
+
+        val cachedBody = fileName?.let { read(it) }
+
+        val body = if (cachedBody != null) {
+            response.setStatusCode(HttpResponseStatus.OK.code())
+                .putHeader(HttpHeaders.CONTENT_TYPE, contentType)
+            encode(ctx, representation, encoding!!, cachedBody)
+        } else {
+            val serializedBody = serialize()
+
+            if (encoding == null) {
+                response.putHeader(HttpHeaders.ETAG, representation.etag)
+                Buffer.buffer(serializedBody)
+            } else {
+                // The body is compressed here instead of by the server, such that the entity tag denotes the encoding.
+                val compressedBody = encoding.compress(serializedBody)
+                if (fileName != null && serializedBody.size >= MINIMUM_SIZE) {
+                    write(fileName, compressedBody)
+                }
+                encode(ctx, representation, encoding, compressedBody)
+            }
+        }
+
+        response.putHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+
+        return body
+    }
+
+    private fun encode(
+        ctx: RoutingContext,
+        representation: Representation,
+        encoding: ContentEncoding,
+        body: ByteArray
+    ): Buffer {
+        ctx.response().putHeader(HttpHeaders.CONTENT_ENCODING, encoding.token)
+            .putHeader(HttpHeaders.ETAG, representation.etagOf(encoding))
+        return Buffer.buffer(body)
+    }
+
+    private fun read(fileName: String): ByteArray? {
+        if (files.getIfPresent(fileName) == null) {
+            return null
+        }
+
+        return try {
+            Files.readAllBytes(directory.resolve(fileName))
+        } catch (e: IOException) {
+            files.invalidate(fileName)
+            null
+        }
+    }
+
+    private fun write(fileName: String, body: ByteArray) {
+        try {
+            val tempFile = Files.createTempFile(directory, fileName, TEMP_FILE_SUFFIX)
+            Files.write(tempFile, body)
+            Files.move(tempFile, directory.resolve(fileName), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE)
+            files.put(fileName, body.size.toLong())
+        } catch (e: IOException) {
+            throw UncheckedIOException(e)
+        }
+    }
+
+    companion object {
+        /**
+         * Serializations, which are smaller, are not cached, but compressed for each request.
+         */
+        private const val MINIMUM_SIZE = 8 * 1024
+
+        private const val TEMP_FILE_SUFFIX = ".tmp"
+
+        private const val ENCODING_SEPARATOR = '-'
+
+        /**
+         * Determine the entity tag and the cache key of the serialization of a revision or of a subtree of a
+         * revision.
+         *
+         * @param ctx the routing context, whose query parameters denote the serialization options
+         * @param databaseName the name of the database
+         * @param manager the resource session
+         * @param revisions the revisions to serialize
+         * @param nodeId the node key of the root of the subtree to serialize, if any
+         * @return the serialization or `null`, if multiple revisions are serialized
+         */
+        fun <R, W> representationOf(
+            ctx: RoutingContext,
+            databaseName: String,
+            manager: ResourceSession<R, W>,
+            revisions: IntArray,
+            nodeId: Long?
+        ): Representation?
+                where R : NodeReadOnlyTrx,
+                      R : NodeCursor,
+                      W : NodeTrx,
+                      W : NodeCursor {
+            if (revisions.size != 1) {
+                return null
+            }
+
+            val revision = revisions[0]
+
+            manager.beginNodeReadOnlyTrx(revision).use { rtx ->
+                val revisionTimestamp = rtx.revisionTimestamp
+                val isNodeFound = if (nodeId == null) rtx.moveToFirstChild() else rtx.moveTo(nodeId)
+
+                // The commit timestamp distinguishes revisions of resources, which have been removed and recreated.
+                val options = ctx.queryParams().entries()
+                    .map { "${it.key}=${it.value}" }
+                    .sorted()
+                    .joinToString("&")
+                val key = sha256(
+                    listOf(
+                        databaseName,
+                        manager.resourceConfig.resource.fileName.toString(),
+                        revision.toString(),
+                        revisionTimestamp.toString(),
+                        nodeId.toString(),
+                        options
+                    ).joinToString("\u0000")
+                )
+
+                // The key is derived from the revision number, the commit timestamp and the serialization options.
+                val etag = if (manager.resourceConfig.hashType != HashType.NONE && isNodeFound) {
+                    rtx.hash.toString()
+                } else {
+                    key
+                }
+
+                return Representation(key, etag)
+            }
+        }
+
+        /**
+         * Determine if one of the entity tags of an `If-None-Match` header matches the entity tag of a revision.
+         */
+        fun isNotModified(ifNoneMatch: String?, etag: String): Boolean {
+            if (ifNoneMatch == null) {
+                return false
+            }
+
+            return ifNoneMatch.split(',').map { it.trim().removePrefix("W/").removeSurrounding("\"") }
+                .any { it == "*" || it == etag }
+        }
+
+        /**
+         * Get the hash of a node from an entity tag, which may denote a compressed serialization, for optimistic
+         * concurrency control during updates.
+         *
+         * @param etag the entity tag
+         * @return the hash
+         * @throws NumberFormatException if the entity tag doesn't denote a hash
+         */
+        fun hashOf(etag: String): Long {
+            val encoding = ContentEncoding.values().firstOrNull { etag.endsWith("$ENCODING_SEPARATOR${it.token}") }
+            return (if (encoding == null) etag else etag.removeSuffix("$ENCODING_SEPARATOR${encoding.token}")).toLong()
+        }
+
+        private fun sha256(value: String): String {
+            val digest = MessageDigest.getInstance("SHA-256").digest(value.toByteArray(StandardCharsets.UTF_8))
+            return HexFormat.of().formatHex(digest)
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package org.sirix.rest.crud
+
+import io.vertx.core.Context
+import io.vertx.core.buffer.Buffer
+import io.vertx.core.streams.ReadStream
+import java.io.IOException
+import java.io.InputStream
+import java.util.Objects
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * A blocking [InputStream] on a Vert.x [ReadStream], for instance the body of a request or a file upload, such that
+ * a shredder running on a worker thread parses the body while it is still being transferred.
+ *
+ * At most about [highWaterMark] bytes are buffered: the stream is paused once more bytes have been received than
+ * have been read and resumed once the reader has caught up to half of the high-water mark. Thus, the memory needed
+ * is bounded regardless of the size of the body.
+ *
+ * Must be created on the event loop of the context the stream belongs to.
+ *
+ * @author Johannes Lichtenberger
+ */
+class RequestBodyInputStream(
+    private val context: Context,
+    private val stream: ReadStream<Buffer>,
+    private val highWaterMark: Long = DEFAULT_HIGH_WATER_MARK
+) : InputStream() {
+    /**
+     * Received buffers, the end marker or a failure.
+     */
+    private val events = LinkedBlockingQueue<Any>()
+
+    private val bufferedBytes = AtomicLong()
+
+    /**
+     * Only changed on the event loop.
+     */
+    @Volatile
+    private var isPaused = false
+
+    /**
+     * Only changed on the event loop.
+     */
+    private var isEndReceived = false
+
+    private var buffer: Buffer? = null
+
+    private var position = 0
+
+    private var isEnded = false
+
+    private var isClosed = false
+
+    init {
+        stream.handler { data ->
+            events.add(data)
+
+            if (bufferedBytes.addAndGet(data.length().toLong()) > highWaterMark && !isPaused) {
+                isPaused = true
+                stream.pause()
+            }
+        }
+        stream.exceptionHandler { throwable -> events.add(throwable) }
+        stream.endHandler {
+            isEndReceived = true
+            events.add(END)
+        }
+        stream.resume()
+    }
+
+    override fun read(): Int {
+        val currentBuffer = nextBuffer() ?: return -1
+        return currentBuffer.getByte(position++).toInt() and 0xFF
+    }
+
+    override fun read(bytes: ByteArray, off: Int, len: Int): Int {
+        Objects.checkFromIndexSize(off, len, bytes.size)
+
+        if (len == 0) {
+            return 0
+        }
+
+        val currentBuffer = nextBuffer() ?: return -1
+        val length = minOf(len, currentBuffer.length() - position)
+        currentBuffer.getBytes(position, position + length, bytes, off)
+        position += length
+        return length
+    }
+
+    override fun available(): Int {
+        val currentBuffer = buffer ?: return 0
+        return currentBuffer.length() - position
+    }
+
+    /**
+     * Discards the rest of the body, such that the connection is not blocked by a stream, which is paused forever,
+     * if the reader stops early, for instance due to a parse error.
+     */
+    override fun close() {
+        if (isClosed) {
+            return
+        }
+
+        isClosed = true
+        isEnded = true
+        buffer = null
+        events.clear()
+
+        context.runOnContext {
+            if (!isEndReceived) {
+                stream.handler { }
+                stream.exceptionHandler(null)
+                stream.endHandler(null)
+                stream.resume()
+            }
+        }
+    }
+
+    private fun nextBuffer(): Buffer? {
+        if (isClosed) {
+            throw IOException("Stream closed.")
+        }
+
+        var currentBuffer = buffer
+
+        while (currentBuffer == null || position == currentBuffer.length()) {
+            if (isEnded) {
+                return null
+            }
+
+            when (val event = events.take()) {
+                END -> {
+                    isEnded = true
+                    buffer = null
+                    return null
+                }
+                is Throwable -> throw IOException(event)
+                else -> {
+                    currentBuffer = event as Buffer
+                    buffer = currentBuffer
+                    position = 0
+                    consumed(currentBuffer.length())
+                }
+            }
+        }
+
+        return currentBuffer
+    }
+
+    private fun consumed(length: Int) {
+        if (bufferedBytes.addAndGet(-length.toLong()) <= highWaterMark / 2 && isPaused) {
+            context.runOnContext {
+                if (isPaused && bufferedBytes.get() <= highWaterMark / 2) {
+                    isPaused = false
+                    stream.resume()
+                }
+            }
+        }
+    }
+
+    companion object {
+        /**
+         * The default number of bytes to buffer at most, before the stream is paused.
+         */
+        const val DEFAULT_HIGH_WATER_MARK = 4L * 1024 * 1024
+
+        private val END = Any()
+    }
+}
@@ -0,0 +1,121 @@
+package org.sirix.rest.crud
+
+import io.vertx.core.buffer.Buffer
+import io.vertx.core.http.HttpServerResponse
+import java.io.IOException
+import java.io.OutputStream
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+/**
+ * A blocking [OutputStream], which writes to a chunked HTTP response, such that results are sent to the client while
+ * they are serialized instead of being materialized in memory. Must be used from a worker thread, as a writer waits
+ * until the write queue of the response has been drained, whenever it is full.
+ *
+ * Closing the stream ends the response. If serialization fails, [abort] has to be called instead, such that a
+ * partial result is not mistaken for a complete one.
+ *
+ * @author Johannes Lichtenberger
+ */
+class ResponseOutputStream(
+    private val response: HttpServerResponse,
+    bufferSize: Int = DEFAULT_BUFFER_SIZE
+) : OutputStream() {
+    private val buffer = ByteArray(bufferSize)
+
+    private var count = 0
+
+    private var isClosed = false
+
+    init {
+        response.setChunked(true)
+    }
+
+    override fun write(b: Int) {
+        if (count == buffer.size) {
+            flushBuffer()
+        }
+
+        buffer[count++] = b.toByte()
+    }
+
+    override fun write(bytes: ByteArray, off: Int, len: Int) {
+        var offset = off
+        var remaining = len
+
+        while (remaining > 0) {
+            if (count == buffer.size) {
+                flushBuffer()
+            }
+
+            val length = minOf(remaining, buffer.size - count)
+            System.arraycopy(bytes, offset, buffer, count, length)
+            count += length
+            offset += length
+            remaining -= length
+        }
+    }
+
+    override fun flush() {
+        flushBuffer()
+    }
+
+    override fun close() {
+        if (isClosed) {
+            return
+        }
+
+        flushBuffer()
+        isClosed = true
+        response.end()
+    }
+
+    /**
+     * Abort the response. If parts of it have already been sent, the connection is reset.
+     */
+    fun abort() {
+        if (isClosed) {
+            return
+        }
+
+        isClosed = true
+
+        if (response.headWritten() && !response.ended()) {
+            response.reset()
+        }
+    }
+
+    private fun flushBuffer() {
+        if (count == 0) {
+            return
+        }
+
+        awaitWritable()
+        response.write(Buffer.buffer(buffer.copyOf(count)))
+        count = 0
+    }
+
+    private fun awaitWritable() {
+        while (response.writeQueueFull()) {
+            if (response.closed()) {
+                throw IOException("The connection has been closed.")
+            }
+
+            val drained = CountDownLatch(1)
+            response.drainHandler { drained.countDown() }
+
+            if (response.writeQueueFull()) {
+                drained.await(DRAIN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+            }
+        }
+    }
+
+    companion object {
+        /**
+         * The default number of bytes to buffer, before a chunk is written.
+         */
+        const val DEFAULT_BUFFER_SIZE = 16 * 1024
+
+        private const val DRAIN_TIMEOUT_MILLIS = 100L
+    }
+}
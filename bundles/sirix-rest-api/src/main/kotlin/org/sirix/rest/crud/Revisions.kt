@@ -4,6 +4,7 @@ import org.sirix.api.NodeCursor
 import org.sirix.api.NodeReadOnlyTrx
 import org.sirix.api.NodeTrx
 import org.sirix.api.ResourceSession
+import java.time.Instant
 import java.time.LocalDateTime
 import java.time.ZoneOffset
 import java.time.ZonedDateTime
@@ -55,7 +56,18 @@ class Revisions {
                       W : NodeTrx,
                       W : NodeCursor {
             val zdt = parseRevisionTimestamp(revision)
-            return manager.getRevisionNumber(zdt.toInstant())
+            return getRevisionNumber(manager, zdt.toInstant())
+        }
+
+        private fun <R, W> getRevisionNumber(manager: ResourceSession<R, W>, instant: Instant): Int
+                where R : NodeReadOnlyTrx,
+                      R : NodeCursor,
+                      W : NodeTrx,
+                      W : NodeCursor {
+            val resource = manager.resourceConfig.resource
+            return MetadataCache.get(resource.parent.parent, resource.fileName.toString(), "revisionNumber", instant) {
+                manager.getRevisionNumber(instant)
+            }
         }
 
         fun parseRevisionTimestamp(revision: String): ZonedDateTime {
@@ -77,8 +89,8 @@ class Revisions {
                       W : NodeCursor {
             val zdtFirstRevision = revisions.first
             val zdtLastRevision = revisions.second
-            var firstRevisionNumber = manager.getRevisionNumber(zdtFirstRevision.toInstant())
-            var lastRevisionNumber = manager.getRevisionNumber(zdtLastRevision.toInstant())
+            var firstRevisionNumber = getRevisionNumber(manager, zdtFirstRevision.toInstant())
+            var lastRevisionNumber = getRevisionNumber(manager, zdtLastRevision.toInstant())
 
             if (firstRevisionNumber == 0) ++firstRevisionNumber
             if (lastRevisionNumber == 0) ++lastRevisionNumber
@@ -2,7 +2,6 @@ package org.sirix.rest.crud.json
 
 import io.vertx.core.Context
 import io.vertx.core.Promise
-import io.vertx.core.parsetools.JsonParser
 import io.vertx.ext.web.RoutingContext
 import io.vertx.kotlin.coroutines.await
 import io.vertx.kotlin.coroutines.dispatcher
@@ -14,27 +13,31 @@ import org.sirix.access.ResourceConfiguration
 import org.sirix.access.User
 import org.sirix.access.trx.node.HashType
 import org.sirix.api.Database
+import org.sirix.api.json.JsonNodeTrx
 import org.sirix.api.json.JsonResourceSession
-import org.sirix.rest.KotlinJsonStreamingShredder
 import org.sirix.rest.crud.AbstractCreateHandler
+import org.sirix.rest.crud.ExecutionLanes
+import org.sirix.rest.crud.RequestBodyInputStream
 import org.sirix.rest.crud.Revisions
 import org.sirix.rest.crud.SirixDBUser
 import org.sirix.service.json.serialize.JsonSerializer
 import org.sirix.service.json.shredder.JsonShredder
+import java.io.InputStream
+import java.io.InputStreamReader
 import java.io.StringWriter
+import java.nio.charset.StandardCharsets
 import java.nio.file.Path
 
 private const val MAX_NODES_TO_SERIALIZE = 5000
 
 class JsonCreate(
-    location: Path,
-    createMultipleResources: Boolean = false
-) : AbstractCreateHandler<JsonResourceSession>(location, createMultipleResources) {
+    location: Path
+) : AbstractCreateHandler<JsonResourceSession>(location) {
     override suspend fun insertResource(
         dbFile: Path?, resPathName: String,
         ctx: RoutingContext
     ) {
-        ctx.request().pause()
+        val requestBody = RequestBodyInputStream(ctx.vertx().orCreateContext, ctx.request())
 
         withContext(Dispatchers.IO) {
             var body: String? = null
@@ -56,7 +59,9 @@ class JsonCreate(
                 val manager = database.beginResourceSession(resPathName)
 
                 manager.use {
-                    val maxNodeKey = insertJsonSubtreeAsFirstChild(manager, ctx)
+                    val maxNodeKey = requestBody.use {
+                        insertResourceSubtreeAsFirstChild(manager, requestBody, ctx)
+                    }
 
                     if (maxNodeKey < MAX_NODES_TO_SERIALIZE) {
                         body = serializeResource(manager, ctx)
@@ -97,7 +102,7 @@ class JsonCreate(
         context: Context
     ): DatabaseConfiguration? {
         val dbConfig = prepareDatabasePath(dbFile, context)
-        return context.executeBlocking { promise: Promise<DatabaseConfiguration> ->
+        return ExecutionLanes.write.executeBlocking { promise: Promise<DatabaseConfiguration> ->
             if (!Databases.existsDatabase(dbFile)) {
                 Databases.createJsonDatabase(dbConfig)
             }
@@ -107,8 +112,9 @@ class JsonCreate(
     }
 
 
-    private suspend fun insertJsonSubtreeAsFirstChild(
+    override fun insertResourceSubtreeAsFirstChild(
         manager: JsonResourceSession,
+        body: InputStream,
         ctx: RoutingContext
     ): Long {
         val commitMessage = ctx.queryParam("commitMessage").getOrNull(0)
@@ -121,26 +127,9 @@ class JsonCreate(
 
         val wtx = manager.beginNodeTrx()
         return wtx.use {
-            val jsonParser = JsonParser.newParser(ctx.request())
-            val future = KotlinJsonStreamingShredder(wtx, jsonParser).call()
-            ctx.request().resume()
-            future.await()
+            val jsonReader = JsonShredder.createReader(InputStreamReader(body, StandardCharsets.UTF_8))
+            wtx.insertSubtreeAsFirstChild(jsonReader, JsonNodeTrx.Commit.NO)
             wtx.commit(commitMessage, commitTimestamp)
-            return@use wtx.maxNodeKey
-        }
-    }
-
-    override fun insertResourceSubtreeAsFirstChild(
-        manager: JsonResourceSession,
-        filePath: Path,
-        ctx: RoutingContext
-    ): Long {
-        val wtx = manager.beginNodeTrx()
-        return wtx.use {
-            val eventReader = JsonShredder.createFileReader(filePath)
-            eventReader.use {
-                wtx.insertSubtreeAsFirstChild(eventReader)
-            }
             wtx.maxNodeKey
         }
     }
@@ -2,6 +2,7 @@ package org.sirix.rest.crud.json
 
 import io.vertx.core.Context
 import io.vertx.core.Promise
+import io.vertx.core.buffer.Buffer
 import io.vertx.core.http.HttpHeaders
 import io.vertx.core.json.JsonObject
 import io.vertx.ext.auth.User
@@ -13,19 +14,29 @@ import io.vertx.kotlin.coroutines.await
 import org.sirix.access.Databases
 import org.sirix.api.Database
 import org.sirix.api.json.JsonResourceSession
+import org.sirix.cache.SerializedSubtreeCache
+import org.sirix.metrics.Metrics
+import org.sirix.rest.crud.ExecutionLanes
 import org.sirix.rest.crud.PermissionCheckingXQuery
+import org.sirix.rest.crud.QueryCursor
+import org.sirix.rest.crud.QueryParameters
+import org.sirix.rest.crud.QueryPlanCache
 import org.sirix.rest.crud.QuerySerializer
+import org.sirix.rest.crud.RepresentationCache
+import org.sirix.rest.crud.ResponseOutputStream
 import org.sirix.rest.crud.Revisions
 import org.sirix.rest.crud.xml.XmlSessionDBStore
 import org.sirix.service.json.serialize.JsonRecordSerializer
 import org.sirix.service.json.serialize.JsonSerializer
 import org.sirix.xquery.JsonDBSerializer
-import org.sirix.xquery.SirixCompileChain
 import org.sirix.xquery.SirixQueryContext
 import org.sirix.xquery.json.*
 import org.sirix.xquery.node.BasicXmlDBStore
+import java.io.OutputStreamWriter
 import java.io.StringWriter
+import java.nio.charset.StandardCharsets
 import java.nio.file.Path
+import java.nio.file.Paths
 
 class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, private val authz: AuthorizationProvider) {
     suspend fun handle(ctx: RoutingContext): Route {
@@ -55,7 +66,7 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, priv
 
         val nodeId: String? = ctx.queryParam("nodeId").getOrNull(0)
 
-        var body: String?
+        var body: Buffer?
 
         val database = Databases.openJsonDatabase(location.resolve(databaseName))
 
@@ -68,6 +79,7 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, priv
                         databaseName, database, revision, revisionTimestamp, manager, ctx, nodeId, query,
                         vertxContext, user, jsonBody
                     )
+                    null
                 } else {
                     val revisions: IntArray =
                         Revisions.getRevisionsToSerialize(
@@ -75,14 +87,14 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, priv
                             endRevisionTimestamp, manager, revision, revisionTimestamp
                         )
 
-                    serializeResource(manager, revisions, nodeId?.toLongOrNull(), ctx, vertxContext)
+                    serializeResource(databaseName, manager, revisions, nodeId?.toLongOrNull(), ctx, vertxContext)
                 }
             }
         }
 
         if (body != null) {
             ctx.response().end(body)
-        } else {
+        } else if (!ctx.response().ended()) {
             ctx.response().end()
         }
     }
@@ -91,26 +103,41 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, priv
         databaseName: String?, database: Database<JsonResourceSession>, revision: String?,
         revisionTimestamp: String?, manager: JsonResourceSession, ctx: RoutingContext,
         nodeId: String?, query: String, vertxContext: Context, user: User, jsonBody: JsonObject?
-    ): String? {
+    ) {
         val dbCollection = JsonDBCollection(databaseName, database)
 
         dbCollection.use {
-            val revisionNumber = Revisions.getRevisionNumber(revision, revisionTimestamp, manager)
+            val cursor = QueryCursor.fromRequest(ctx, jsonBody)
+            val revisionNumber = if (cursor?.revision != null) {
+                intArrayOf(cursor.revision)
+            } else {
+                Revisions.getRevisionNumber(revision, revisionTimestamp, manager)
+            }
+            val contextNodeId = cursor?.nodeKey?.toString() ?: nodeId
 
             val startResultSeqIndex = ctx.queryParam("startResultSeqIndex").getOrElse(0) { null }
             val endResultSeqIndex = ctx.queryParam("endResultSeqIndex").getOrElse(0) { null }
 
-            return xquery(
+            val page = QueryCursor.page(
+                ctx,
+                jsonBody,
+                cursor,
+                startResultSeqIndex?.toLong(),
+                endResultSeqIndex?.toLong(),
+                revisionNumber[0],
+                contextNodeId?.toLong()
+            )
+
+            xquery(
                 manager,
                 dbCollection,
-                nodeId,
+                contextNodeId,
                 revisionNumber,
                 query,
                 ctx,
                 vertxContext,
                 user,
-                startResultSeqIndex?.toLong(),
-                endResultSeqIndex?.toLong(),
+                page,
                 jsonBody
             )
         }
@@ -121,18 +148,24 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, priv
         dbCollection: JsonDBCollection?,
         nodeId: String?,
         revisionNumber: IntArray?, query: String, routingContext: RoutingContext, vertxContext: Context,
-        user: User, startResultSeqIndex: Long?, endResultSeqIndex: Long?, jsonBody: JsonObject?
-    ): String? {
-        return vertxContext.executeBlocking { promise: Promise<String> ->
+        user: User, page: QueryCursor.Page, jsonBody: JsonObject?
+    ) {
+        ExecutionLanes.query.executeBlocking { promise: Promise<Unit> ->
             // Initialize queryResource context and store.
             val jsonDBStore = JsonSessionDBStore(
                 routingContext,
                 BasicJsonDBStore.newBuilder().storeDeweyIds(true).build(),
                 user,
-                authz
+                authz,
+                page.pinnedRevisions
+            )
+            val xmlDBStore = XmlSessionDBStore(
+                routingContext,
+                BasicXmlDBStore.newBuilder().storeDeweyIds(true).build(),
+                user,
+                authz,
+                page.pinnedRevisions
             )
-            val xmlDBStore =
-                XmlSessionDBStore(routingContext, BasicXmlDBStore.newBuilder().storeDeweyIds(true).build(), user, authz)
 
             val commitMessage = routingContext.queryParam("commitMessage").getOrElse(0) {
                 jsonBody?.getString("commitMessage")
@@ -154,7 +187,7 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, priv
                 commitTimestamp
             )
 
-            var body: String? = null
+            QueryParameters.bind(queryCtx, jsonBody?.getJsonObject("parameters"))
 
             queryCtx.use {
                 if (manager != null && dbCollection != null && revisionNumber != null) {
@@ -209,192 +242,242 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, priv
                             }
                         }
 
-                        body = query(
-                            xmlDBStore,
-                            jsonDBStore,
-                            startResultSeqIndex,
-                            query,
-                            queryCtx,
-                            endResultSeqIndex,
-                            routingContext
-                        )
+                        query(xmlDBStore, jsonDBStore, page, query, queryCtx, routingContext)
                     }
                 } else {
-                    body = query(
-                        xmlDBStore,
-                        jsonDBStore,
-                        startResultSeqIndex,
-                        query,
-                        queryCtx,
-                        endResultSeqIndex,
-                        routingContext
-                    )
+                    query(xmlDBStore, jsonDBStore, page, query, queryCtx, routingContext)
                 }
             }
 
-            promise.complete(body)
+            promise.complete()
         }.await()
     }
 
     private fun query(
         xmlDBStore: XmlSessionDBStore,
         jsonDBStore: JsonSessionDBStore,
-        startResultSeqIndex: Long?,
+        page: QueryCursor.Page,
         query: String,
         queryCtx: SirixQueryContext,
-        endResultSeqIndex: Long?,
         routingContext: RoutingContext
-    ): String {
-        val out = StringBuilder()
-
-        executeQueryAndSerialize(
-            routingContext,
-            xmlDBStore,
-            jsonDBStore,
-            out,
-            startResultSeqIndex,
-            query,
-            queryCtx,
-            endResultSeqIndex
-        )
+    ) {
+        val response = routingContext.response().setStatusCode(200)
+            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+        val startNanos = System.nanoTime()
 
-        val body = out.toString()
+        if (page.isPaged) {
+            // A page is bounded, thus it's serialized before the response is sent, such that the cursor of the next
+            // page is only sent, if there are more items.
+            val content = StringBuilder()
+            val hasMore = executeQueryAndSerialize(
+                routingContext,
+                xmlDBStore,
+                jsonDBStore,
+                content,
+                page.startResultSeqIndex,
+                query,
+                queryCtx,
+                page.endResultSeqIndex
+            )
 
-        routingContext.response().setStatusCode(200)
-            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+            if (hasMore) {
+                response.putHeader(QueryCursor.NEXT_CURSOR_HEADER, page.nextCursor()!!.encode())
+            }
+
+            response.end(content.toString())
+            queryTimer.recordSince(startNanos)
+            return
+        }
 
-        return body
+        // Stream the result sequence, such that the first items are sent before the last ones are computed.
+        val out = ResponseOutputStream(response)
+
+        try {
+            val writer = OutputStreamWriter(out, StandardCharsets.UTF_8)
+
+            executeQueryAndSerialize(
+                routingContext,
+                xmlDBStore,
+                jsonDBStore,
+                writer,
+                page.startResultSeqIndex,
+                query,
+                queryCtx,
+                page.endResultSeqIndex
+            )
+
+            writer.close()
+            queryTimer.recordSince(startNanos)
+        } catch (t: Throwable) {
+            out.abort()
+            throw t
+        }
     }
 
     private fun executeQueryAndSerialize(
         routingContext: RoutingContext,
         xmlDBStore: XmlSessionDBStore,
         jsonDBStore: JsonSessionDBStore,
-        out: StringBuilder,
+        out: Appendable,
         startResultSeqIndex: Long?,
         query: String,
         queryCtx: SirixQueryContext,
         endResultSeqIndex: Long?
-    ) {
-        SirixCompileChain.createWithNodeAndJsonStore(xmlDBStore, jsonDBStore).use { sirixCompileChain ->
-            if (startResultSeqIndex == null) {
-                val serializer = JsonDBSerializer(out, false)
-                PermissionCheckingXQuery(
-                    sirixCompileChain,
-                    query,
-                    keycloak,
-                    routingContext.get("user"),
-                    authz
-                ).prettyPrint().serialize(queryCtx, serializer)
-            } else {
-                QuerySerializer.serializePaginated(
-                    sirixCompileChain,
-                    query,
-                    queryCtx,
-                    startResultSeqIndex,
-                    endResultSeqIndex,
-                    keycloak,
-                    authz,
-                    routingContext.get("user"),
-                    JsonDBSerializer(out, true)
-                ) { serializer, startItem -> serializer.serialize(startItem) }
-            }
+    ): Boolean {
+        val module = queryPlanCache.compile(location, xmlDBStore, jsonDBStore, query)
+
+        return if (startResultSeqIndex == null) {
+            val serializer = JsonDBSerializer(out, false)
+            PermissionCheckingXQuery(
+                module,
+                keycloak,
+                routingContext.get("user"),
+                authz
+            ).prettyPrint().serialize(queryCtx, serializer)
+            false
+        } else {
+            QuerySerializer.serializePaginated(
+                module,
+                queryCtx,
+                startResultSeqIndex,
+                endResultSeqIndex,
+                keycloak,
+                authz,
+                routingContext.get("user"),
+                JsonDBSerializer(out, true)
+            ) { serializer, startItem -> serializer.serialize(startItem) }
         }
     }
 
     private suspend fun serializeResource(
-        manager: JsonResourceSession, revisions: IntArray, nodeId: Long?,
+        databaseName: String, manager: JsonResourceSession, revisions: IntArray, nodeId: Long?,
         ctx: RoutingContext,
         vertxContext: Context
-    ): String {
-        val serializedString = vertxContext.executeBlocking { promise: Promise<String> ->
-            val nextTopLevelNodes = ctx.queryParam("nextTopLevelNodes").getOrNull(0)?.toInt()
-            val lastTopLevelNodeKey = ctx.queryParam("lastTopLevelNodeKey").getOrNull(0)?.toLong()
+    ): Buffer? {
+        return ExecutionLanes.read.executeBlocking { promise: Promise<Buffer?> ->
+            val representation =
+                RepresentationCache.representationOf(ctx, databaseName, manager, revisions, nodeId)
 
-            val numberOfNodes = ctx.queryParam("numberOfNodes").getOrNull(0)?.toLong()
-            val maxChildren = ctx.queryParam("maxChildren").getOrNull(0)?.toLong()
+            if (representation == null) {
+                promise.complete(Buffer.buffer(serializeResource(manager, revisions, nodeId, ctx)))
+            } else {
+                promise.complete(representationCache.respond(ctx, representation, "application/json") {
+                    serializeResource(manager, revisions, nodeId, ctx).toByteArray(StandardCharsets.UTF_8)
+                })
+            }
+        }.await()
+    }
 
-            val out = StringWriter()
+    private fun serializeResource(
+        manager: JsonResourceSession, revisions: IntArray, nodeId: Long?,
+        ctx: RoutingContext
+    ): String {
+        val nextTopLevelNodes = ctx.queryParam("nextTopLevelNodes").getOrNull(0)?.toInt()
+        val lastTopLevelNodeKey = ctx.queryParam("lastTopLevelNodeKey").getOrNull(0)?.toLong()
 
-            val withMetaData: String? = ctx.queryParam("withMetaData").getOrNull(0)
-            val maxLevel: String? = ctx.queryParam("maxLevel").getOrNull(0)
-            val prettyPrint: String? = ctx.queryParam("prettyPrint").getOrNull(0)
+        val numberOfNodes = ctx.queryParam("numberOfNodes").getOrNull(0)?.toLong()
+        val maxChildren = ctx.queryParam("maxChildren").getOrNull(0)?.toLong()
 
-            if (nextTopLevelNodes == null) {
-                val serializerBuilder = JsonSerializer.newBuilder(manager, out).revisions(revisions)
+        val out = StringWriter()
 
-                nodeId?.let { serializerBuilder.startNodeKey(nodeId) }
+        val withMetaData: String? = ctx.queryParam("withMetaData").getOrNull(0)
+        val maxLevel: String? = ctx.queryParam("maxLevel").getOrNull(0)
+        val prettyPrint: String? = ctx.queryParam("prettyPrint").getOrNull(0)
 
-                if (withMetaData != null) {
-                    when (withMetaData) {
-                        "nodeKeyAndChildCount" -> serializerBuilder.withNodeKeyAndChildCountMetaData(true)
-                        "nodeKey" -> serializerBuilder.withNodeKeyMetaData(true)
-                        else -> serializerBuilder.withMetaData(true)
-                    }
-                }
+        if (nextTopLevelNodes == null) {
+            val serializerBuilder =
+                JsonSerializer.newBuilder(manager, out).revisions(revisions).subtreeCache(subtreeCache)
 
-                if (maxLevel != null) {
-                    serializerBuilder.maxLevel(maxLevel.toLong())
-                }
+            nodeId?.let { serializerBuilder.startNodeKey(nodeId) }
 
-                if (maxChildren != null) {
-                    serializerBuilder.maxChildren(maxChildren.toLong())
+            if (withMetaData != null) {
+                when (withMetaData) {
+                    "nodeKeyAndChildCount" -> serializerBuilder.withNodeKeyAndChildCountMetaData(true)
+                    "nodeKey" -> serializerBuilder.withNodeKeyMetaData(true)
+                    else -> serializerBuilder.withMetaData(true)
                 }
+            }
 
-                if (prettyPrint != null) {
-                    serializerBuilder.prettyPrint()
-                }
+            if (maxLevel != null) {
+                serializerBuilder.maxLevel(maxLevel.toLong())
+            }
 
-                if (numberOfNodes != null) {
-                    serializerBuilder.numberOfNodes(numberOfNodes)
-                }
+            if (maxChildren != null) {
+                serializerBuilder.maxChildren(maxChildren.toLong())
+            }
 
-                val serializer = serializerBuilder.build()
+            if (prettyPrint != null) {
+                serializerBuilder.prettyPrint()
+            }
 
-                promise.complete(JsonSerializeHelper().serialize(serializer, out, ctx, manager, revisions, nodeId))
-            } else {
-                val serializerBuilder =
-                    JsonRecordSerializer.newBuilder(manager, nextTopLevelNodes, out).revisions(revisions)
+            if (numberOfNodes != null) {
+                serializerBuilder.numberOfNodes(numberOfNodes)
+            }
 
-                nodeId?.let { serializerBuilder.startNodeKey(nodeId) }
+            val serializer = serializerBuilder.build()
 
-                if (withMetaData != null) {
-                    when (withMetaData) {
-                        "nodeKeyAndChildCount" -> serializerBuilder.withNodeKeyAndChildCountMetaData(true)
-                        "nodeKey" -> serializerBuilder.withNodeKeyMetaData(true)
-                        else -> serializerBuilder.withMetaData(true)
-                    }
-                }
+            return JsonSerializeHelper().serialize(serializer, out, ctx, manager, revisions, nodeId)
+        } else {
+            val serializerBuilder =
+                JsonRecordSerializer.newBuilder(manager, nextTopLevelNodes, out).revisions(revisions)
 
-                if (maxLevel != null) {
-                    serializerBuilder.maxLevel(maxLevel.toLong())
-                }
+            nodeId?.let { serializerBuilder.startNodeKey(nodeId) }
 
-                if (maxChildren != null) {
-                    serializerBuilder.maxChildren(maxChildren.toLong())
+            if (withMetaData != null) {
+                when (withMetaData) {
+                    "nodeKeyAndChildCount" -> serializerBuilder.withNodeKeyAndChildCountMetaData(true)
+                    "nodeKey" -> serializerBuilder.withNodeKeyMetaData(true)
+                    else -> serializerBuilder.withMetaData(true)
                 }
+            }
 
-                if (prettyPrint != null) {
-                    serializerBuilder.prettyPrint()
-                }
+            if (maxLevel != null) {
+                serializerBuilder.maxLevel(maxLevel.toLong())
+            }
 
-                if (lastTopLevelNodeKey != null) {
-                    serializerBuilder.lastTopLevelNodeKey(lastTopLevelNodeKey)
-                }
+            if (maxChildren != null) {
+                serializerBuilder.maxChildren(maxChildren.toLong())
+            }
 
-                if (numberOfNodes != null) {
-                    serializerBuilder.numberOfNodes(numberOfNodes)
-                }
+            if (prettyPrint != null) {
+                serializerBuilder.prettyPrint()
+            }
 
-                val serializer = serializerBuilder.build()
+            if (lastTopLevelNodeKey != null) {
+                serializerBuilder.lastTopLevelNodeKey(lastTopLevelNodeKey)
+            }
 
-                promise.complete(JsonSerializeHelper().serialize(serializer, out, ctx, manager, revisions, nodeId))
+            if (numberOfNodes != null) {
+                serializerBuilder.numberOfNodes(numberOfNodes)
             }
-        }.await()
 
-        ctx.response().setStatusCode(200)
-            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+            val serializer = serializerBuilder.build()
 
-        return serializedString!!
+            return JsonSerializeHelper().serialize(serializer, out, ctx, manager, revisions, nodeId)
+        }
+    }
+
+    companion object {
+        /**
+         * Serialized subtrees shared between requests, such that exporting successive revisions of a resource only
+         * serializes the changed subtrees again.
+         */
+        private val subtreeCache = SerializedSubtreeCache(64L * 1024 * 1024)
+
+        /**
+         * Compiled query plans shared between requests.
+         */
+        private val queryPlanCache = QueryPlanCache(1_000)
+
+        private val queryTimer =
+            Metrics.timer("sirix.query.execute", "Duration of query executions including serialization.", "type", "json")
+
+        /**
+         * Compressed serializations of revisions shared between requests.
+         */
+        private val representationCache = RepresentationCache(
+            Paths.get(System.getProperty("user.home"), "sirix-cache", "responses", "json"),
+            1024L * 1024 * 1024
+        )
     }
 }
@@ -1,5 +1,6 @@
 package org.sirix.rest.crud.json
 
+import io.vertx.core.Promise
 import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
@@ -7,6 +8,7 @@ import io.vertx.kotlin.coroutines.await
 import org.sirix.access.Databases
 import org.sirix.access.trx.node.HashType
 import org.sirix.api.json.JsonResourceSession
+import org.sirix.rest.crud.ExecutionLanes
 import java.nio.file.Path
 import java.time.LocalDateTime
 import java.time.ZoneId
@@ -20,8 +22,9 @@ class JsonHead(private val location: Path) {
             throw IllegalArgumentException("Database name and resource name must be given.")
         }
 
-        ctx.vertx().executeBlocking<Unit> {
+        ExecutionLanes.read.executeBlocking { promise: Promise<Unit> ->
             head(databaseName, ctx, resource)
+            promise.complete()
         }.await()
 
         return ctx.currentRoute()
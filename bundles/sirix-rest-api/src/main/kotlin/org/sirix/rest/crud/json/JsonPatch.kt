@@ -0,0 +1,320 @@
+package org.sirix.rest.crud.json
+
+import io.vertx.core.Promise
+import io.vertx.core.http.HttpHeaders
+import io.vertx.core.json.Json
+import io.vertx.core.json.JsonArray
+import io.vertx.core.json.JsonObject
+import io.vertx.ext.web.Route
+import io.vertx.ext.web.RoutingContext
+import io.vertx.kotlin.coroutines.await
+import org.sirix.access.Databases
+import org.sirix.access.trx.node.HashType
+import org.sirix.access.trx.node.json.objectvalue.*
+import org.sirix.api.json.JsonNodeReadOnlyTrx
+import org.sirix.api.json.JsonNodeTrx
+import org.sirix.node.NodeKind
+import org.sirix.rest.crud.ExecutionLanes
+import org.sirix.rest.crud.Revisions
+import org.sirix.rest.crud.SirixDBUser
+import org.sirix.rest.crud.json.JsonInsertionMode.Companion.getInsertionModeByName
+import org.sirix.service.json.serialize.JsonSerializer
+import org.sirix.service.json.shredder.JsonShredder
+import java.io.StringWriter
+import java.nio.file.Path
+
+/**
+ * Applies a batch of insertions, replacements and removals to a JSON resource in one transaction, such that only one
+ * revision is committed, for instance
+ *
+ * ```
+ * [{"op":"insert","nodeId":3,"insert":"asFirstChild","value":{"foo":"bar"},"hash":"..."},
+ *  {"op":"replace","path":"/baz/0","value":true,"hash":"..."},
+ *  {"op":"remove","nodeId":12,"hash":"..."}]
+ * ```
+ *
+ * The target of an operation is addressed either by its node key (`nodeId`) or by a JSON pointer (`path`), which is
+ * resolved against the state of the transaction, that is including the changes of the preceding operations. If the
+ * resource stores hashes, each operation must give the hash of its target node in the revision the batch is based on.
+ * All hashes are compared against this revision before any operation is applied, as the hashes of the ancestors change
+ * with every operation. If an operation fails, the transaction is rolled back and no revision is committed.
+ *
+ * @author Johannes Lichtenberger
+ */
+class JsonPatch(private val location: Path) {
+    suspend fun handle(ctx: RoutingContext): Route {
+        val databaseName = ctx.pathParam("database")
+        val resource = ctx.pathParam("resource")
+
+        if (databaseName == null || resource == null) {
+            throw IllegalArgumentException("Database name and resource name not given.")
+        }
+
+        val operations = ctx.body().asJsonArray()
+            ?: throw IllegalArgumentException("Operations must be given as a JSON array.")
+
+        patch(databaseName, resource, operations, ctx)
+
+        return ctx.currentRoute()
+    }
+
+    private suspend fun patch(databaseName: String, resPathName: String, operations: JsonArray, ctx: RoutingContext) {
+        ExecutionLanes.write.executeBlocking { promise: Promise<Nothing> ->
+            val sirixDBUser = SirixDBUser.create(ctx)
+            val dbFile = location.resolve(databaseName)
+
+            var body: String? = null
+            val database = Databases.openJsonDatabase(dbFile, sirixDBUser)
+
+            database.use {
+                val manager = database.beginResourceSession(resPathName)
+
+                manager.use {
+                    val commitMessage = ctx.queryParam("commitMessage").getOrNull(0)
+                    val commitTimestampAsString = ctx.queryParam("commitTimestamp").getOrNull(0)
+                    val commitTimestamp = if (commitTimestampAsString == null) {
+                        null
+                    } else {
+                        Revisions.parseRevisionTimestamp(commitTimestampAsString).toInstant()
+                    }
+                    val isHashed = manager.resourceConfig.hashType != HashType.NONE
+                    val wtx = manager.beginNodeTrx()
+                    val revision = wtx.revisionNumber
+                    val (maxNodeKey, hash) = wtx.use {
+                        try {
+                            operations.forEachIndexed { index, operation ->
+                                if (operation !is JsonObject) {
+                                    throw IllegalArgumentException("Operation $index must be a JSON object.")
+                                }
+                            }
+
+                            if (isHashed) {
+                                manager.beginNodeReadOnlyTrx(manager.mostRecentRevisionNumber).use { rtx ->
+                                    operations.forEachIndexed { index, operation ->
+                                        checkHash(rtx, index, operation as JsonObject)
+                                    }
+                                }
+                            }
+
+                            operations.forEachIndexed { index, operation ->
+                                apply(wtx, index, operation as JsonObject)
+                            }
+
+                            wtx.commit(commitMessage, commitTimestamp)
+                        } catch (e: Exception) {
+                            wtx.rollback()
+                            throw e
+                        }
+
+                        wtx.moveToDocumentRoot()
+
+                        if (wtx.hasFirstChild()) {
+                            wtx.moveToFirstChild()
+                        }
+
+                        Pair(wtx.maxNodeKey, wtx.hash)
+                    }
+
+                    if (maxNodeKey > 5000) {
+                        ctx.response().statusCode = 200
+
+                        if (isHashed) {
+                            ctx.response().putHeader(HttpHeaders.ETAG, hash.toString())
+                        }
+                    } else {
+                        val out = StringWriter()
+                        val serializerBuilder = JsonSerializer.newBuilder(manager, out)
+                        val serializer = serializerBuilder.build()
+
+                        body = JsonSerializeHelper().serialize(
+                            serializer,
+                            out,
+                            ctx,
+                            manager,
+                            intArrayOf(revision),
+                            null
+                        )
+                    }
+                }
+            }
+
+            if (body != null) {
+                ctx.response().end(body)
+            } else {
+                ctx.response().end()
+            }
+
+            promise.complete(null)
+        }.await()
+    }
+
+    /**
+     * Compare the hash of an operation with the hash of its target node in the revision the batch is based on. Targets
+     * which are not found in this revision have been inserted by preceding operations of the batch and are not checked.
+     */
+    private fun checkHash(rtx: JsonNodeReadOnlyTrx, index: Int, operation: JsonObject) {
+        if (!moveToTarget(rtx, index, operation) || rtx.isDocumentRoot) {
+            return
+        }
+
+        val hashCode = operation.getValue("hash")?.toString()
+            ?: throw IllegalStateException("Hash code of operation $index is missing.")
+
+        if (rtx.hash != hashCode.toLong()) {
+            throw IllegalArgumentException("Someone might have changed the target node of operation $index in the meantime.")
+        }
+    }
+
+    private fun moveToTarget(rtx: JsonNodeReadOnlyTrx, index: Int, operation: JsonObject): Boolean {
+        val nodeId = operation.getLong("nodeId")
+        val path = operation.getString("path")
+
+        return when {
+            nodeId != null -> rtx.moveTo(nodeId)
+            path != null -> moveToPath(rtx, path)
+            else -> throw IllegalArgumentException("Operation $index must either give a nodeId or a path.")
+        }
+    }
+
+    private fun apply(wtx: JsonNodeTrx, index: Int, operation: JsonObject) {
+        if (!moveToTarget(wtx, index, operation)) {
+            throw IllegalArgumentException("Target node of operation $index not found.")
+        }
+
+        when (operation.getString("op")) {
+            "insert" -> {
+                val insertionMode = operation.getString("insert")
+                    ?: throw IllegalArgumentException("Insertion mode of operation $index must be given.")
+
+                if (wtx.isDocumentRoot && wtx.hasFirstChild()) {
+                    wtx.moveToFirstChild()
+                }
+
+                getInsertionModeByName(insertionMode).insert(wtx, reader(index, operation))
+            }
+            "replace" -> replace(wtx, index, operation)
+            "remove" -> {
+                // Values of object records are removed together with their keys.
+                if (wtx.parentKind == NodeKind.OBJECT_KEY) {
+                    wtx.moveToParent()
+                }
+
+                wtx.remove()
+            }
+            else -> throw IllegalArgumentException("Operation $index must either be an insert, a replace or a remove.")
+        }
+    }
+
+    private fun replace(wtx: JsonNodeTrx, index: Int, operation: JsonObject) {
+        if (!operation.containsKey("value")) {
+            throw IllegalArgumentException("Value of operation $index must be given.")
+        }
+
+        val value = operation.getValue("value")
+
+        if (wtx.parentKind == NodeKind.OBJECT_KEY) {
+            wtx.moveToParent()
+        }
+
+        when {
+            wtx.kind == NodeKind.OBJECT_KEY -> {
+                wtx.replaceObjectRecordValue(objectRecordValue(value))
+
+                val isNonEmpty = (value is JsonObject && !value.isEmpty) || (value is JsonArray && !value.isEmpty)
+
+                if (isNonEmpty) {
+                    wtx.insertSubtreeAsFirstChild(
+                        reader(index, operation),
+                        JsonNodeTrx.Commit.NO,
+                        JsonNodeTrx.CheckParentNode.YES,
+                        JsonNodeTrx.SkipRootToken.YES
+                    )
+                }
+            }
+            wtx.parentKind == NodeKind.ARRAY -> {
+                val oldNodeKey = wtx.nodeKey
+                JsonInsertionMode.ASRIGHTSIBLING.insert(wtx, reader(index, operation))
+                val newNodeKey = wtx.nodeKey
+                wtx.moveTo(oldNodeKey)
+                wtx.remove()
+                wtx.moveTo(newNodeKey)
+            }
+            else -> throw IllegalArgumentException(
+                "Target node of operation $index must be an array item or an object record (replace the resource instead)."
+            )
+        }
+    }
+
+    private fun reader(index: Int, operation: JsonObject) =
+        if (operation.containsKey("value")) {
+            JsonShredder.createStringReader(Json.encode(operation.getValue("value")))
+        } else {
+            throw IllegalArgumentException("Value of operation $index must be given.")
+        }
+
+    private fun objectRecordValue(value: Any?): ObjectRecordValue<*> {
+        return when (value) {
+            null -> NullValue()
+            is JsonObject -> ObjectValue()
+            is JsonArray -> ArrayValue()
+            is String -> StringValue(value)
+            is Boolean -> BooleanValue(value)
+            is Number -> NumberValue(value)
+            else -> throw IllegalArgumentException("Value $value is not a JSON value.")
+        }
+    }
+
+    /**
+     * Move to the node denoted by a JSON pointer, for instance `/foo/0/bar`, where the empty pointer denotes the
+     * root value of the resource.
+     */
+    private fun moveToPath(rtx: JsonNodeReadOnlyTrx, path: String): Boolean {
+        rtx.moveToDocumentRoot()
+
+        if (!rtx.moveToFirstChild()) {
+            return false
+        }
+
+        if (path.isEmpty()) {
+            return true
+        }
+
+        if (!path.startsWith("/")) {
+            throw IllegalArgumentException("Path $path must be a JSON pointer.")
+        }
+
+        val tokens = path.substring(1).split('/').map { it.replace("~1", "/").replace("~0", "~") }
+
+        for (token in tokens) {
+            when (rtx.kind) {
+                NodeKind.OBJECT -> {
+                    var hasNext = rtx.moveToFirstChild()
+
+                    while (hasNext && rtx.name.localName != token) {
+                        hasNext = rtx.moveToRightSibling()
+                    }
+
+                    if (!hasNext || !rtx.moveToFirstChild()) {
+                        return false
+                    }
+                }
+                NodeKind.ARRAY -> {
+                    val position = token.toIntOrNull() ?: return false
+
+                    if (position < 0 || !rtx.moveToFirstChild()) {
+                        return false
+                    }
+
+                    repeat(position) {
+                        if (!rtx.moveToRightSibling()) {
+                            return false
+                        }
+                    }
+                }
+                else -> return false
+            }
+        }
+
+        return true
+    }
+}
@@ -7,21 +7,26 @@ import io.vertx.ext.web.RoutingContext
 import io.vertx.kotlin.coroutines.dispatcher
 import org.sirix.rest.Auth
 import org.sirix.rest.AuthRole
+import org.sirix.rest.crud.PinnedRevisions
 import org.sirix.xquery.json.JsonDBCollection
 import org.sirix.xquery.json.JsonDBStore
 import java.nio.file.Path
 import java.time.Instant
+import java.util.function.Supplier
 
 class JsonSessionDBStore(
     private val ctx: RoutingContext,
     private val dbStore: JsonDBStore,
     private val user: User,
-    private val authz: AuthorizationProvider
+    private val authz: AuthorizationProvider,
+    private val pinnedRevisions: PinnedRevisions? = null
 ) : JsonDBStore by dbStore {
     override fun lookup(name: String): JsonDBCollection {
         Auth.checkIfAuthorized(user, ctx.vertx().dispatcher(), name, AuthRole.VIEW, authz)
 
-        return dbStore.lookup(name)
+        val collection = dbStore.lookup(name)
+        pinnedRevisions?.pin(name, collection)
+        return collection
     }
 
     override fun create(name: String): JsonDBCollection {
@@ -108,6 +113,12 @@ class JsonSessionDBStore(
         return dbStore.create(name, jsonReaders)
     }
 
+    override fun createFromReaders(name: String, jsonReaders: Iterator<Supplier<JsonReader>>): JsonDBCollection {
+        Auth.checkIfAuthorized(user, ctx.vertx().dispatcher(), name, AuthRole.CREATE, authz)
+
+        return dbStore.createFromReaders(name, jsonReaders)
+    }
+
     override fun drop(name: String) {
         Auth.checkIfAuthorized(user, ctx.vertx().dispatcher(), name, AuthRole.DELETE, authz)
 
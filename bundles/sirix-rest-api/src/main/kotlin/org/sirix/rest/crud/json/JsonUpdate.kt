@@ -11,6 +11,9 @@ import org.sirix.access.Databases
 import org.sirix.access.trx.node.HashType
 import org.sirix.access.trx.node.json.objectvalue.*
 import org.sirix.api.json.JsonNodeTrx
+import org.sirix.rest.crud.ExecutionLanes
+import org.sirix.rest.crud.RepresentationCache
+import org.sirix.rest.crud.RequestBodyInputStream
 import org.sirix.rest.crud.Revisions
 import org.sirix.rest.crud.SirixDBUser
 import org.sirix.rest.crud.json.JsonInsertionMode.Companion.getInsertionModeByName
@@ -18,198 +21,92 @@ import org.sirix.service.json.JsonNumber
 import org.sirix.service.json.serialize.JsonSerializer
 import org.sirix.service.json.shredder.JsonShredder
 import java.io.IOException
+import java.io.InputStream
+import java.io.InputStreamReader
 import java.io.StringWriter
 import java.math.BigInteger
+import java.nio.charset.StandardCharsets
 import java.nio.file.Path
-import java.time.Instant
 import java.util.*
 
 @Suppress("unused")
 enum class JsonInsertionMode {
     ASFIRSTCHILD {
-        override fun insertSubtree(
-            wtx: JsonNodeTrx,
-            jsonReader: JsonReader,
-            commitMessage: String?,
-            commitTimestamp: Instant?
-        ) {
+        override fun insertSubtree(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertSubtreeAsFirstChild(jsonReader, JsonNodeTrx.Commit.NO)
-            wtx.commit(commitMessage, commitTimestamp)
         }
 
-        override fun insertString(
-            wtx: JsonNodeTrx,
-            jsonReader: JsonReader,
-            commitMessage: String?,
-            commitTimestamp: Instant?
-        ) {
+        override fun insertString(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertStringValueAsFirstChild(jsonReader.nextString())
-            wtx.commit(commitMessage, commitTimestamp)
         }
 
-        override fun insertNumber(
-            wtx: JsonNodeTrx,
-            jsonReader: JsonReader,
-            commitMessage: String?,
-            commitTimestamp: Instant?
-        ) {
+        override fun insertNumber(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertNumberValueAsFirstChild(JsonNumber.stringToNumber(jsonReader.nextString()))
-            wtx.commit(commitMessage, commitTimestamp)
         }
 
-        override fun insertNull(
-            wtx: JsonNodeTrx,
-            jsonReader: JsonReader,
-            commitMessage: String?,
-            commitTimestamp: Instant?
-        ) {
+        override fun insertNull(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             jsonReader.nextNull()
             wtx.insertNullValueAsFirstChild()
-            wtx.commit(commitMessage, commitTimestamp)
         }
 
-        override fun insertBoolean(
-            wtx: JsonNodeTrx,
-            jsonReader: JsonReader,
-            commitMessage: String?,
-            commitTimestamp: Instant?
-        ) {
+        override fun insertBoolean(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertBooleanValueAsFirstChild(jsonReader.nextBoolean())
-            wtx.commit(commitMessage, commitTimestamp)
         }
 
-        override fun insertObjectRecord(
-            wtx: JsonNodeTrx,
-            jsonReader: JsonReader,
-            commitMessage: String?,
-            commitTimestamp: Instant?
-        ) {
+        override fun insertObjectRecord(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertObjectRecordAsFirstChild(jsonReader.nextName(), getObjectRecordValue(jsonReader))
-            wtx.commit(commitMessage, commitTimestamp)
         }
     },
     ASRIGHTSIBLING {
-        override fun insertSubtree(
-            wtx: JsonNodeTrx,
-            jsonReader: JsonReader,
-            commitMessage: String?,
-            commitTimestamp: Instant?
-        ) {
+        override fun insertSubtree(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertSubtreeAsRightSibling(jsonReader, JsonNodeTrx.Commit.NO)
-            wtx.commit(commitMessage, commitTimestamp)
         }
 
-        override fun insertString(
-            wtx: JsonNodeTrx,
-            jsonReader: JsonReader,
-            commitMessage: String?,
-            commitTimestamp: Instant?
-        ) {
+        override fun insertString(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertStringValueAsRightSibling(jsonReader.nextString())
-            wtx.commit(commitMessage, commitTimestamp)
         }
 
-        override fun insertNumber(
-            wtx: JsonNodeTrx,
-            jsonReader: JsonReader,
-            commitMessage: String?,
-            commitTimestamp: Instant?
-        ) {
+        override fun insertNumber(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertNumberValueAsRightSibling(JsonNumber.stringToNumber(jsonReader.nextString()))
-            wtx.commit(commitMessage, commitTimestamp)
         }
 
-        override fun insertNull(
-            wtx: JsonNodeTrx,
-            jsonReader: JsonReader,
-            commitMessage: String?,
-            commitTimestamp: Instant?
-        ) {
+        override fun insertNull(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             jsonReader.nextNull()
             wtx.insertNullValueAsRightSibling()
-            wtx.commit(commitMessage, commitTimestamp)
         }
 
-        override fun insertBoolean(
-            wtx: JsonNodeTrx,
-            jsonReader: JsonReader,
-            commitMessage: String?,
-            commitTimestamp: Instant?
-        ) {
+        override fun insertBoolean(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertBooleanValueAsRightSibling(jsonReader.nextBoolean())
-            wtx.commit(commitMessage, commitTimestamp)
         }
 
-        override fun insertObjectRecord(
-            wtx: JsonNodeTrx,
-            jsonReader: JsonReader,
-            commitMessage: String?,
-            commitTimestamp: Instant?
-        ) {
+        override fun insertObjectRecord(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertObjectRecordAsRightSibling(jsonReader.nextName(), getObjectRecordValue(jsonReader))
-            wtx.commit(commitMessage, commitTimestamp)
         }
     },
     ASLEFTSIBLING {
-        override fun insertSubtree(
-            wtx: JsonNodeTrx,
-            jsonReader: JsonReader,
-            commitMessage: String?,
-            commitTimestamp: Instant?
-        ) {
+        override fun insertSubtree(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertSubtreeAsLeftSibling(jsonReader, JsonNodeTrx.Commit.NO)
-            wtx.commit(commitMessage, commitTimestamp)
         }
 
-        override fun insertString(
-            wtx: JsonNodeTrx,
-            jsonReader: JsonReader,
-            commitMessage: String?,
-            commitTimestamp: Instant?
-        ) {
+        override fun insertString(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertStringValueAsLeftSibling(jsonReader.nextString())
-            wtx.commit(commitMessage, commitTimestamp)
         }
 
-        override fun insertNumber(
-            wtx: JsonNodeTrx,
-            jsonReader: JsonReader,
-            commitMessage: String?,
-            commitTimestamp: Instant?
-        ) {
+        override fun insertNumber(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertNumberValueAsLeftSibling(JsonNumber.stringToNumber(jsonReader.nextString()))
-            wtx.commit(commitMessage, commitTimestamp)
         }
 
-        override fun insertNull(
-            wtx: JsonNodeTrx,
-            jsonReader: JsonReader,
-            commitMessage: String?,
-            commitTimestamp: Instant?
-        ) {
+        override fun insertNull(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             jsonReader.nextNull()
             wtx.insertNullValueAsLeftSibling()
-            wtx.commit(commitMessage, commitTimestamp)
         }
 
-        override fun insertBoolean(
-            wtx: JsonNodeTrx,
-            jsonReader: JsonReader,
-            commitMessage: String?,
-            commitTimestamp: Instant?
-        ) {
+        override fun insertBoolean(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertBooleanValueAsLeftSibling(jsonReader.nextBoolean())
-            wtx.commit(commitMessage, commitTimestamp)
         }
 
-        override fun insertObjectRecord(
-            wtx: JsonNodeTrx,
-            jsonReader: JsonReader,
-            commitMessage: String?,
-            commitTimestamp: Instant?
-        ) {
+        override fun insertObjectRecord(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertObjectRecordAsLeftSibling(jsonReader.nextName(), getObjectRecordValue(jsonReader))
-            wtx.commit(commitMessage, commitTimestamp)
         }
     };
 
@@ -246,42 +143,35 @@ enum class JsonInsertionMode {
         return value
     }
 
-    abstract fun insertSubtree(
-        wtx: JsonNodeTrx,
-        jsonReader: JsonReader,
-        commitMessage: String?,
-        commitTimestamp: Instant?
-    )
-
-    abstract fun insertString(
-        wtx: JsonNodeTrx,
-        jsonReader: JsonReader,
-        commitMessage: String?,
-        commitTimestamp: Instant?
-    )
-
-    abstract fun insertNumber(
-        wtx: JsonNodeTrx,
-        jsonReader: JsonReader,
-        commitMessage: String?,
-        commitTimestamp: Instant?
-    )
-
-    abstract fun insertNull(wtx: JsonNodeTrx, jsonReader: JsonReader, commitMessage: String?, commitTimestamp: Instant?)
-
-    abstract fun insertBoolean(
-        wtx: JsonNodeTrx,
-        jsonReader: JsonReader,
-        commitMessage: String?,
-        commitTimestamp: Instant?
-    )
-
-    abstract fun insertObjectRecord(
-        wtx: JsonNodeTrx,
-        jsonReader: JsonReader,
-        commitMessage: String?,
-        commitTimestamp: Instant?
-    )
+    /**
+     * Insert the next JSON value of the reader relative to the current node of the transaction without committing.
+     *
+     * @param wtx the transaction, whose cursor is located at the node to insert relative to
+     * @param jsonReader the reader, which provides the value to insert
+     */
+    fun insert(wtx: JsonNodeTrx, jsonReader: JsonReader) {
+        when (jsonReader.peek()) {
+            JsonToken.BEGIN_ARRAY, JsonToken.BEGIN_OBJECT -> insertSubtree(wtx, jsonReader)
+            JsonToken.STRING -> insertString(wtx, jsonReader)
+            JsonToken.NULL -> insertNull(wtx, jsonReader)
+            JsonToken.NUMBER -> insertNumber(wtx, jsonReader)
+            JsonToken.BOOLEAN -> insertBoolean(wtx, jsonReader)
+            JsonToken.NAME -> insertObjectRecord(wtx, jsonReader)
+            else -> throw IllegalStateException()
+        }
+    }
+
+    abstract fun insertSubtree(wtx: JsonNodeTrx, jsonReader: JsonReader)
+
+    abstract fun insertString(wtx: JsonNodeTrx, jsonReader: JsonReader)
+
+    abstract fun insertNumber(wtx: JsonNodeTrx, jsonReader: JsonReader)
+
+    abstract fun insertNull(wtx: JsonNodeTrx, jsonReader: JsonReader)
+
+    abstract fun insertBoolean(wtx: JsonNodeTrx, jsonReader: JsonReader)
+
+    abstract fun insertObjectRecord(wtx: JsonNodeTrx, jsonReader: JsonReader)
 
     companion object {
         fun getInsertionModeByName(name: String) = valueOf(name.uppercase(Locale.getDefault()))
@@ -300,20 +190,20 @@ class JsonUpdate(private val location: Path) {
             throw IllegalArgumentException("Database name and resource name not given.")
         }
 
-        val body = ctx.body().asString()
+        val requestBody = RequestBodyInputStream(ctx.vertx().orCreateContext, ctx.request())
 
-        update(databaseName, resource, nodeId?.toLongOrNull(), insertionMode, body, ctx)
+        requestBody.use {
+            update(databaseName, resource, nodeId?.toLongOrNull(), insertionMode, requestBody, ctx)
+        }
 
         return ctx.currentRoute()
     }
 
     private suspend fun update(
         databaseName: String, resPathName: String, nodeId: Long?, insertionModeAsString: String?,
-        resFileToStore: String, ctx: RoutingContext
+        requestBody: InputStream, ctx: RoutingContext
     ) {
-        val vertxContext = ctx.vertx().orCreateContext
-
-        vertxContext.executeBlocking { promise: Promise<Nothing> ->
+        ExecutionLanes.write.executeBlocking { promise: Promise<Nothing> ->
             val sirixDBUser = SirixDBUser.create(ctx)
             val dbFile = location.resolve(databaseName)
 
@@ -346,7 +236,7 @@ class JsonUpdate(private val location: Path) {
                             val hashCode = ctx.request().getHeader(HttpHeaders.ETAG)
                                 ?: throw IllegalStateException("Hash code is missing in ETag HTTP-Header.")
 
-                            if (wtx.hash != hashCode.toLong()) {
+                            if (wtx.hash != RepresentationCache.hashOf(hashCode)) {
                                 throw IllegalArgumentException("Someone might have changed the resource in the meantime.")
                             }
                         }
@@ -355,23 +245,12 @@ class JsonUpdate(private val location: Path) {
                             throw IllegalArgumentException("Insertion mode must be given.")
                         }
 
-                        val jsonReader = JsonShredder.createStringReader(resFileToStore)
+                        val jsonReader = JsonShredder.createReader(InputStreamReader(requestBody, StandardCharsets.UTF_8))
 
                         val insertionModeByName = getInsertionModeByName(insertionModeAsString)
 
-                        @Suppress("unused")
-                        if (jsonReader.peek() != JsonToken.BEGIN_ARRAY && jsonReader.peek() != JsonToken.BEGIN_OBJECT) {
-                            when (jsonReader.peek()) {
-                                JsonToken.STRING -> insertionModeByName.insertString(wtx, jsonReader, commitMessage, commitTimestamp)
-                                JsonToken.NULL -> insertionModeByName.insertNull(wtx, jsonReader, commitMessage, commitTimestamp)
-                                JsonToken.NUMBER -> insertionModeByName.insertNumber(wtx, jsonReader, commitMessage, commitTimestamp)
-                                JsonToken.BOOLEAN -> insertionModeByName.insertBoolean(wtx, jsonReader, commitMessage, commitTimestamp)
-                                JsonToken.NAME -> insertionModeByName.insertObjectRecord(wtx, jsonReader, commitMessage, commitTimestamp)
-                                else -> throw IllegalStateException()
-                            }
-                        } else {
-                            insertionModeByName.insertSubtree(wtx, jsonReader, commitMessage, commitTimestamp)
-                        }
+                        insertionModeByName.insert(wtx, jsonReader)
+                        wtx.commit(commitMessage, commitTimestamp)
 
                         if (nodeId != null) {
                             wtx.moveTo(nodeId)
@@ -2,8 +2,6 @@ package org.sirix.rest.crud.xml
 
 import io.vertx.core.Context
 import io.vertx.core.Promise
-import io.vertx.core.file.OpenOptions
-import io.vertx.core.file.impl.FileResolverImpl
 import io.vertx.ext.web.RoutingContext
 import io.vertx.kotlin.coroutines.await
 import io.vertx.kotlin.coroutines.dispatcher
@@ -18,38 +16,25 @@ import org.sirix.api.Database
 import org.sirix.api.xml.XmlNodeTrx
 import org.sirix.api.xml.XmlResourceSession
 import org.sirix.rest.crud.AbstractCreateHandler
+import org.sirix.rest.crud.ExecutionLanes
+import org.sirix.rest.crud.RequestBodyInputStream
 import org.sirix.rest.crud.Revisions
 import org.sirix.rest.crud.SirixDBUser
 import org.sirix.service.xml.serialize.XmlSerializer
 import org.sirix.service.xml.shredder.XmlShredder
 import java.io.ByteArrayOutputStream
-import java.io.FileInputStream
-import java.nio.file.Files
+import java.io.InputStream
 import java.nio.file.Path
-import java.util.*
 
 class XmlCreate(
-    location: Path,
-    createMultipleResources: Boolean = false
-) : AbstractCreateHandler<XmlResourceSession>(location, createMultipleResources) {
+    location: Path
+) : AbstractCreateHandler<XmlResourceSession>(location) {
     override suspend fun insertResource(
         dbFile: Path?, resPathName: String,
         ctx: RoutingContext
     ) {
         val dispatcher = ctx.vertx().dispatcher()
-        ctx.request().pause()
-        val fileResolver = FileResolverImpl()
-
-        val filePath = withContext(Dispatchers.IO) {
-            fileResolver.resolveFile(Files.createTempFile(UUID.randomUUID().toString(), null).toString())
-        }
-
-        val file = ctx.vertx().fileSystem().open(
-            filePath.toString(),
-            OpenOptions()
-        ).await()
-        ctx.request().resume()
-        ctx.request().pipeTo(file).await()
+        val requestBody = RequestBodyInputStream(ctx.vertx().orCreateContext, ctx.request())
 
         withContext(Dispatchers.IO) {
             var body: String? = null
@@ -66,10 +51,9 @@ class XmlCreate(
                 val manager = database.beginResourceSession(resPathName)
 
                 manager.use {
-                    val pathToFile = filePath.toPath()
-                    val maxNodeKey = insertResourceSubtreeAsFirstChild(manager, pathToFile.toAbsolutePath(), ctx)
-
-                    ctx.vertx().fileSystem().delete(filePath.toString()).await()
+                    val maxNodeKey = requestBody.use {
+                        insertResourceSubtreeAsFirstChild(manager, requestBody, ctx)
+                    }
 
                     if (maxNodeKey < 5000) {
                         body = serializeResource(manager, ctx)
@@ -104,7 +88,7 @@ class XmlCreate(
     ): DatabaseConfiguration? {
         val dbConfig = prepareDatabasePath(dbFile, context)
 
-        return context.executeBlocking { promise: Promise<DatabaseConfiguration> ->
+        return ExecutionLanes.write.executeBlocking { promise: Promise<DatabaseConfiguration> ->
             if (!Databases.existsDatabase(dbFile)) {
                 Databases.createXmlDatabase(dbConfig)
             }
@@ -114,7 +98,7 @@ class XmlCreate(
 
     override fun insertResourceSubtreeAsFirstChild(
         manager: XmlResourceSession,
-        filePath: Path,
+        body: InputStream,
         ctx: RoutingContext
     ): Long {
         val commitMessage = ctx.queryParam("commitMessage").getOrNull(0)
@@ -127,14 +111,11 @@ class XmlCreate(
 
         val wtx = manager.beginNodeTrx()
         return wtx.use {
-            val inputStream = FileInputStream(filePath.toFile())
-            return@use inputStream.use {
-                val eventStream = XmlShredder.createFileReader(inputStream)
-                wtx.insertSubtreeAsFirstChild(eventStream, XmlNodeTrx.Commit.No)
-                eventStream.close()
-                wtx.commit(commitMessage, commitTimestamp)
-                wtx.maxNodeKey
-            }
+            val eventStream = XmlShredder.createReader(body)
+            wtx.insertSubtreeAsFirstChild(eventStream, XmlNodeTrx.Commit.No)
+            eventStream.close()
+            wtx.commit(commitMessage, commitTimestamp)
+            wtx.maxNodeKey
         }
     }
 
@@ -2,6 +2,7 @@ package org.sirix.rest.crud.xml
 
 import io.vertx.core.Context
 import io.vertx.core.Promise
+import io.vertx.core.buffer.Buffer
 import io.vertx.core.http.HttpHeaders
 import io.vertx.core.json.JsonObject
 import io.vertx.ext.auth.User
@@ -15,12 +16,18 @@ import kotlinx.coroutines.withContext
 import org.sirix.access.Databases
 import org.sirix.api.Database
 import org.sirix.api.xml.XmlResourceSession
+import org.sirix.metrics.Metrics
+import org.sirix.rest.crud.ExecutionLanes
 import org.sirix.rest.crud.PermissionCheckingXQuery
+import org.sirix.rest.crud.QueryCursor
+import org.sirix.rest.crud.QueryParameters
+import org.sirix.rest.crud.QueryPlanCache
 import org.sirix.rest.crud.QuerySerializer
+import org.sirix.rest.crud.RepresentationCache
+import org.sirix.rest.crud.ResponseOutputStream
 import org.sirix.rest.crud.Revisions
 import org.sirix.rest.crud.json.JsonSessionDBStore
 import org.sirix.service.xml.serialize.XmlSerializer
-import org.sirix.xquery.SirixCompileChain
 import org.sirix.xquery.SirixQueryContext
 import org.sirix.xquery.XmlDBSerializer
 import org.sirix.xquery.json.BasicJsonDBStore
@@ -28,8 +35,12 @@ import org.sirix.xquery.node.BasicXmlDBStore
 import org.sirix.xquery.node.XmlDBCollection
 import org.sirix.xquery.node.XmlDBNode
 import java.io.ByteArrayOutputStream
+import java.io.IOException
+import java.io.OutputStream
 import java.io.PrintStream
+import java.nio.charset.StandardCharsets
 import java.nio.file.Path
+import java.nio.file.Paths
 
 class XmlGet(private val location: Path, private val keycloak: OAuth2Auth, private val authz: AuthorizationProvider) {
     suspend fun handle(ctx: RoutingContext): Route {
@@ -61,7 +72,7 @@ class XmlGet(private val location: Path, private val keycloak: OAuth2Auth, priva
 
         val nodeId: String? = ctx.queryParam("nodeId").getOrNull(0)
 
-        var body: String?
+        var body: Buffer?
 
         val database = Databases.openXmlDatabase(location.resolve(databaseName))
 
@@ -74,6 +85,7 @@ class XmlGet(private val location: Path, private val keycloak: OAuth2Auth, priva
                         databaseName, database, revision, revisionTimestamp, manager, ctx, nodeId, query,
                         vertxContext, user, jsonBody
                     )
+                    null
                 } else {
                     val revisions: IntArray =
                         Revisions.getRevisionsToSerialize(
@@ -81,14 +93,14 @@ class XmlGet(private val location: Path, private val keycloak: OAuth2Auth, priva
                             endRevisionTimestamp, manager, revision, revisionTimestamp
                         )
 
-                    serializeResource(manager, revisions, nodeId?.toLongOrNull(), ctx)
+                    serializeResource(databaseName, manager, revisions, nodeId?.toLongOrNull(), ctx)
                 }
             }
         }
 
         if (body != null) {
             ctx.response().end(body)
-        } else {
+        } else if (!ctx.response().ended()) {
             ctx.response().end()
         }
     }
@@ -97,25 +109,40 @@ class XmlGet(private val location: Path, private val keycloak: OAuth2Auth, priva
         databaseName: String?, database: Database<XmlResourceSession>, revision: String?,
         revisionTimestamp: String?, manager: XmlResourceSession, ctx: RoutingContext,
         nodeId: String?, query: String, vertxContext: Context, user: User, jsonBody: JsonObject?
-    ): String? {
+    ) {
         val dbCollection = XmlDBCollection(databaseName, database)
 
         dbCollection.use {
-            val revisionNumber = Revisions.getRevisionNumber(revision, revisionTimestamp, manager)
+            val cursor = QueryCursor.fromRequest(ctx, jsonBody)
+            val revisionNumber = if (cursor?.revision != null) {
+                intArrayOf(cursor.revision)
+            } else {
+                Revisions.getRevisionNumber(revision, revisionTimestamp, manager)
+            }
+            val contextNodeId = cursor?.nodeKey?.toString() ?: nodeId
             val startResultSeqIndex = ctx.queryParam("startResultSeqIndex").getOrElse(0) { null }
             val endResultSeqIndex = ctx.queryParam("endResultSeqIndex").getOrElse(0) { null }
 
-            return xquery(
+            val page = QueryCursor.page(
+                ctx,
+                jsonBody,
+                cursor,
+                startResultSeqIndex?.toLong(),
+                endResultSeqIndex?.toLong(),
+                revisionNumber[0],
+                contextNodeId?.toLong()
+            )
+
+            xquery(
                 manager,
                 dbCollection,
-                nodeId,
+                contextNodeId,
                 revisionNumber,
                 query,
                 ctx,
                 vertxContext,
                 user,
-                startResultSeqIndex?.toLong(),
-                endResultSeqIndex?.toLong(),
+                page,
                 jsonBody
             )
         }
@@ -126,18 +153,24 @@ class XmlGet(private val location: Path, private val keycloak: OAuth2Auth, priva
         dbCollection: XmlDBCollection?,
         nodeId: String?,
         revisionNumber: IntArray?, query: String, routingContext: RoutingContext, vertxContext: Context,
-        user: User, startResultSeqIndex: Long?, endResultSeqIndex: Long?, jsonBody: JsonObject?
-    ): String? {
-        return vertxContext.executeBlocking { promise: Promise<String> ->
+        user: User, page: QueryCursor.Page, jsonBody: JsonObject?
+    ) {
+        ExecutionLanes.query.executeBlocking { promise: Promise<Unit> ->
             // Initialize queryResource context and store.
             val jsonDBStore = JsonSessionDBStore(
                 routingContext,
                 BasicJsonDBStore.newBuilder().storeDeweyIds(true).build(),
                 user,
-                authz
+                authz,
+                page.pinnedRevisions
+            )
+            val xmlDBStore = XmlSessionDBStore(
+                routingContext,
+                BasicXmlDBStore.newBuilder().storeDeweyIds(true).build(),
+                user,
+                authz,
+                page.pinnedRevisions
             )
-            val xmlDBStore =
-                XmlSessionDBStore(routingContext, BasicXmlDBStore.newBuilder().storeDeweyIds(true).build(), user, authz)
 
             val commitMessage = routingContext.queryParam("commitMessage").getOrElse(0) {
                 jsonBody?.getString("commitMessage")
@@ -159,7 +192,7 @@ class XmlGet(private val location: Path, private val keycloak: OAuth2Auth, priva
                 commitTimestamp
             )
 
-            var body: String?
+            QueryParameters.bind(queryCtx, jsonBody?.getJsonObject("parameters"))
 
             queryCtx.use {
                 if (manager != null && dbCollection != null && revisionNumber != null) {
@@ -176,101 +209,131 @@ class XmlGet(private val location: Path, private val keycloak: OAuth2Auth, priva
 
                         queryCtx.contextItem = dbNode
 
-                        body = query(
-                            xmlDBStore,
-                            jsonDBStore,
-                            startResultSeqIndex,
-                            query,
-                            queryCtx,
-                            endResultSeqIndex,
-                            routingContext
-                        )
+                        query(xmlDBStore, jsonDBStore, page, query, queryCtx, routingContext)
                     }
 
                 } else {
-                    body = query(
-                        xmlDBStore,
-                        jsonDBStore,
-                        startResultSeqIndex,
-                        query,
-                        queryCtx,
-                        endResultSeqIndex,
-                        routingContext
-                    )
+                    query(xmlDBStore, jsonDBStore, page, query, queryCtx, routingContext)
                 }
             }
 
-            promise.complete(body)
+            promise.complete()
         }.await()
     }
 
     private fun query(
         xmlDBStore: XmlSessionDBStore,
         jsonDBStore: JsonSessionDBStore,
-        startResultSeqIndex: Long?,
+        page: QueryCursor.Page,
         query: String,
         queryCtx: SirixQueryContext,
-        endResultSeqIndex: Long?,
         routingContext: RoutingContext
-    ): String {
-        val out = ByteArrayOutputStream()
+    ) {
+        val response = routingContext.response().setStatusCode(200)
+            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+        val startNanos = System.nanoTime()
 
-        executeQueryAndSerialize(
-            routingContext,
-            xmlDBStore,
-            jsonDBStore,
-            out,
-            startResultSeqIndex,
-            query,
-            queryCtx,
-            endResultSeqIndex
-        )
+        if (page.isPaged) {
+            // A page is bounded, thus it's serialized before the response is sent, such that the cursor of the next
+            // page is only sent, if there are more items.
+            val content = ByteArrayOutputStream()
+            val hasMore = executeQueryAndSerialize(
+                routingContext,
+                xmlDBStore,
+                jsonDBStore,
+                content,
+                page.startResultSeqIndex,
+                query,
+                queryCtx,
+                page.endResultSeqIndex
+            )
+
+            if (hasMore) {
+                response.putHeader(QueryCursor.NEXT_CURSOR_HEADER, page.nextCursor()!!.encode())
+            }
 
-        val body = out.toString()
+            response.end(Buffer.buffer(content.toByteArray()))
+            queryTimer.recordSince(startNanos)
+            return
+        }
 
-        routingContext.response().setStatusCode(200)
-            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+        // Stream the result sequence, such that the first items are sent before the last ones are computed.
+        val out = ResponseOutputStream(response)
 
-        return body
+        try {
+            executeQueryAndSerialize(
+                routingContext,
+                xmlDBStore,
+                jsonDBStore,
+                out,
+                page.startResultSeqIndex,
+                query,
+                queryCtx,
+                page.endResultSeqIndex
+            )
+
+            out.close()
+            queryTimer.recordSince(startNanos)
+        } catch (t: Throwable) {
+            out.abort()
+            throw t
+        }
     }
 
     private fun executeQueryAndSerialize(
         routingContext: RoutingContext,
         xmlDBStore: XmlSessionDBStore,
         jsonDBStore: JsonSessionDBStore,
-        out: ByteArrayOutputStream,
+        out: OutputStream,
         startResultSeqIndex: Long?,
         query: String,
         queryCtx: SirixQueryContext,
         endResultSeqIndex: Long?
-    ) {
-        PrintStream(out).use { printStream ->
-            SirixCompileChain.createWithNodeAndJsonStore(xmlDBStore, jsonDBStore).use { sirixCompileChain ->
-                if (startResultSeqIndex == null) {
-                    PermissionCheckingXQuery(
-                        sirixCompileChain,
-                        query,
-                        keycloak,
-                        routingContext.get("user"),
-                        authz
-                    ).prettyPrint().serialize(
-                        queryCtx,
-                        XmlDBSerializer(printStream, true, true)
-                    )
-                } else {
-                    QuerySerializer.serializePaginated(
-                        sirixCompileChain,
-                        query,
-                        queryCtx,
-                        startResultSeqIndex,
-                        endResultSeqIndex,
-                        keycloak,
-                        authz,
-                        routingContext.get("user"),
-                        XmlDBSerializer(printStream, true, true),
-                    ) { serializer, startItem -> serializer.serialize(startItem) }
-                }
-            }
+    ): Boolean {
+        val printStream = PrintStream(out, false, StandardCharsets.UTF_8)
+        val module = queryPlanCache.compile(location, xmlDBStore, jsonDBStore, query)
+
+        val hasMore = if (startResultSeqIndex == null) {
+            PermissionCheckingXQuery(
+                module,
+                keycloak,
+                routingContext.get("user"),
+                authz
+            ).prettyPrint().serialize(
+                queryCtx,
+                XmlDBSerializer(printStream, true, true)
+            )
+            false
+        } else {
+            QuerySerializer.serializePaginated(
+                module,
+                queryCtx,
+                startResultSeqIndex,
+                endResultSeqIndex,
+                keycloak,
+                authz,
+                routingContext.get("user"),
+                XmlDBSerializer(printStream, true, true),
+            ) { serializer, startItem -> serializer.serialize(startItem) }
+        }
+
+        // A print stream doesn't propagate I/O errors, for instance if the client has closed the connection.
+        if (printStream.checkError()) {
+            throw IOException("The query result could not be written.")
+        }
+
+        return hasMore
+    }
+
+    private fun serializeResource(
+        databaseName: String, manager: XmlResourceSession, revisions: IntArray, nodeId: Long?,
+        ctx: RoutingContext
+    ): Buffer? {
+        val representation = RepresentationCache.representationOf(ctx, databaseName, manager, revisions, nodeId)
+            ?: return Buffer.buffer(serializeResource(manager, revisions, nodeId, ctx))
+
+        return representationCache.respond(ctx, representation, "application/xml") {
+            serializeResource(manager, revisions, nodeId, ctx).toByteArray(StandardCharsets.UTF_8)
         }
     }
 
@@ -291,4 +354,22 @@ class XmlGet(private val location: Path, private val keycloak: OAuth2Auth, priva
 
         return XmlSerializeHelper().serializeXml(serializer, out, ctx, manager, nodeId)
     }
-}
\ No newline at end of file
+
+    companion object {
+        /**
+         * Compiled query plans shared between requests.
+         */
+        private val queryPlanCache = QueryPlanCache(1_000)
+
+        private val queryTimer =
+            Metrics.timer("sirix.query.execute", "Duration of query executions including serialization.", "type", "xml")
+
+        /**
+         * Compressed serializations of revisions shared between requests.
+         */
+        private val representationCache = RepresentationCache(
+            Paths.get(System.getProperty("user.home"), "sirix-cache", "responses", "xml"),
+            1024L * 1024 * 1024
+        )
+    }
+}
@@ -1,5 +1,6 @@
 package org.sirix.rest.crud.xml
 
+import io.vertx.core.Promise
 import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
@@ -8,6 +9,7 @@ import org.sirix.access.Databases
 import org.sirix.access.trx.node.HashType
 import org.sirix.api.xml.XmlNodeReadOnlyTrx
 import org.sirix.api.xml.XmlResourceSession
+import org.sirix.rest.crud.ExecutionLanes
 import java.nio.file.Path
 import java.time.LocalDateTime
 import java.time.ZoneId
@@ -21,8 +23,9 @@ class XmlHead(private val location: Path) {
             throw IllegalStateException("Database name and resource name must be given.")
         }
 
-        ctx.vertx().executeBlocking<Unit> {
+        ExecutionLanes.read.executeBlocking { promise: Promise<Unit> ->
             head(databaseName, ctx, resource)
+            promise.complete()
         }.await()
 
         return ctx.currentRoute()
@@ -8,6 +8,7 @@ import org.brackit.xquery.jdm.Stream
 import org.brackit.xquery.node.parser.NodeSubtreeParser
 import org.sirix.rest.Auth
 import org.sirix.rest.AuthRole
+import org.sirix.rest.crud.PinnedRevisions
 import org.sirix.xquery.node.XmlDBCollection
 import org.sirix.xquery.node.XmlDBStore
 import java.time.Instant
@@ -16,12 +17,15 @@ class XmlSessionDBStore(
     private val ctx: RoutingContext,
     private val dbStore: XmlDBStore,
     private val user: User,
-    private val authz: AuthorizationProvider
+    private val authz: AuthorizationProvider,
+    private val pinnedRevisions: PinnedRevisions? = null
 ) : XmlDBStore by dbStore {
     override fun lookup(name: String): XmlDBCollection {
         Auth.checkIfAuthorized(user, ctx.vertx().dispatcher(), name, AuthRole.VIEW, authz)
 
-        return dbStore.lookup(name)
+        val collection = dbStore.lookup(name)
+        pinnedRevisions?.pin(name, collection)
+        return collection
     }
 
     override fun create(name: String): XmlDBCollection {
@@ -8,11 +8,15 @@ import io.vertx.kotlin.coroutines.await
 import org.sirix.access.Databases
 import org.sirix.access.trx.node.HashType
 import org.sirix.api.xml.XmlNodeTrx
+import org.sirix.rest.crud.ExecutionLanes
+import org.sirix.rest.crud.RepresentationCache
+import org.sirix.rest.crud.RequestBodyInputStream
 import org.sirix.rest.crud.Revisions
 import org.sirix.rest.crud.SirixDBUser
 import org.sirix.service.xml.serialize.XmlSerializer
 import org.sirix.service.xml.shredder.XmlShredder
 import java.io.ByteArrayOutputStream
+import java.io.InputStream
 import java.math.BigInteger
 import java.nio.file.Path
 import java.time.Instant
@@ -75,20 +79,20 @@ class XmlUpdate(private val location: Path) {
             throw IllegalArgumentException("Database name and resource name not given.")
         }
 
-        val body = ctx.body().asString()
+        val requestBody = RequestBodyInputStream(ctx.vertx().orCreateContext, ctx.request())
 
-        update(databaseName, resource, nodeId?.toLongOrNull(), insertionMode, body, ctx)
+        requestBody.use {
+            update(databaseName, resource, nodeId?.toLongOrNull(), insertionMode, requestBody, ctx)
+        }
 
         return ctx.currentRoute()
     }
 
     private suspend fun update(
         databaseName: String, resPathName: String, nodeId: Long?, insertionMode: String?,
-        resFileToStore: String, ctx: RoutingContext
+        requestBody: InputStream, ctx: RoutingContext
     ) {
-        val vertxContext = ctx.vertx().orCreateContext
-
-        vertxContext.executeBlocking { promise: Promise<Nothing> ->
+        ExecutionLanes.write.executeBlocking { promise: Promise<Nothing> ->
             val sirixDBUser = SirixDBUser.create(ctx)
             val dbFile = location.resolve(databaseName)
 
@@ -121,12 +125,12 @@ class XmlUpdate(private val location: Path) {
                             val hashCode = ctx.request().getHeader(HttpHeaders.ETAG)
                                 ?: throw IllegalStateException("Hash code is missing in ETag HTTP-Header.")
 
-                            if (wtx.hash != hashCode.toLong()) {
+                            if (wtx.hash != RepresentationCache.hashOf(hashCode)) {
                                 throw IllegalArgumentException("Someone might have changed the resource in the meantime.")
                             }
                         }
 
-                        val xmlReader = XmlShredder.createStringReader(resFileToStore)
+                        val xmlReader = XmlShredder.createReader(requestBody)
 
                         if (insertionMode != null)
                             XmlInsertionMode.getInsertionModeByName(insertionMode)
@@ -7,6 +7,7 @@ import io.vertx.core.http.HttpHeaders
 import io.vertx.core.json.JsonObject
 import io.vertx.ext.web.client.WebClient
 import io.vertx.ext.web.client.WebClientOptions
+import io.vertx.ext.web.multipart.MultipartForm
 import io.vertx.junit5.Timeout
 import io.vertx.junit5.VertxExtension
 import io.vertx.junit5.VertxTestContext
@@ -20,8 +21,10 @@ import kotlinx.coroutines.launch
 import org.junit.jupiter.api.*
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.extension.ExtendWith
 import org.skyscreamer.jsonassert.JSONAssert
+import java.nio.file.Files
 import java.time.LocalDateTime
 import java.time.ZoneId
 import java.time.temporal.ChronoUnit
@@ -175,6 +178,180 @@ class SirixVerticleJsonTest {
     }
 
 
+    @Test
+    @Timeout(value = 1000000, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Testing a batch of updates of a resource in one revision")
+    fun testPatch(vertx: Vertx, testContext: VertxTestContext) {
+        GlobalScope.launch(vertx.dispatcher()) {
+            testContext.verifyCoroutine {
+                val json = """
+                 {
+                   "foo": ["bar", null, 2.33],
+                   "bar": { "hello": "world", "helloo": true },
+                   "baz": "hello"
+                 }
+                """.trimIndent()
+
+                val credentials = json {
+                    obj(
+                        "username" to "admin",
+                        "password" to "admin"
+                    )
+                }
+
+                val response = client.postAbs("$server/token").sendJson(credentials).await()
+
+                testContext.verify {
+                    assertEquals(200, response.statusCode())
+                }
+
+                val user = response.bodyAsJsonObject()
+                accessToken = user.getString("access_token")
+
+                var httpResponse = client.putAbs("$server$serverPath").putHeader(
+                    HttpHeaders.AUTHORIZATION
+                        .toString(), "Bearer $accessToken"
+                ).putHeader(HttpHeaders.CONTENT_TYPE.toString(), "application/json")
+                    .putHeader(HttpHeaders.ACCEPT.toString(), "application/json")
+                    .sendBuffer(Buffer.buffer(json)).await()
+
+                testContext.verify {
+                    assertEquals(200, httpResponse.statusCode())
+                }
+
+                val hashCodes = mutableMapOf<Int, String>()
+
+                for (nodeId in listOf(3, 4, 12)) {
+                    httpResponse = client.headAbs("$server$serverPath?nodeId=$nodeId").putHeader(
+                        HttpHeaders.AUTHORIZATION
+                            .toString(), "Bearer $accessToken"
+                    ).putHeader(HttpHeaders.ACCEPT.toString(), "application/json").send().await()
+
+                    hashCodes[nodeId] = httpResponse.getHeader(HttpHeaders.ETAG.toString())
+                }
+
+                val operations = """
+                    [{"op":"insert","nodeId":3,"insert":"asFirstChild","value":1,"hash":"${hashCodes[3]}"},
+                     {"op":"replace","nodeId":4,"value":"baz","hash":"${hashCodes[4]}"},
+                     {"op":"remove","path":"/bar/helloo","hash":"${hashCodes[12]}"}]
+                """.trimIndent()
+
+                httpResponse = client.patchAbs("$server$serverPath").putHeader(
+                    HttpHeaders.AUTHORIZATION
+                        .toString(), "Bearer $accessToken"
+                ).putHeader(HttpHeaders.CONTENT_TYPE.toString(), "application/json")
+                    .putHeader(HttpHeaders.ACCEPT.toString(), "application/json")
+                    .sendBuffer(Buffer.buffer(operations)).await()
+
+                val expectUpdatedString = """
+                        {"foo":[1,"baz",null,2.33],"bar":{"hello":"world"},"baz":"hello"}
+                    """.trimIndent()
+
+                testContext.verify {
+                    JSONAssert.assertEquals(
+                        expectUpdatedString.replace("\n", System.getProperty("line.separator")),
+                        httpResponse.bodyAsString().replace("\r\n", System.getProperty("line.separator")),
+                        false
+                    )
+                    assertEquals(200, httpResponse.statusCode())
+                }
+
+                httpResponse = client.getAbs("$server$serverPath/history").putHeader(
+                    HttpHeaders.AUTHORIZATION
+                        .toString(), "Bearer $accessToken"
+                ).putHeader(HttpHeaders.ACCEPT.toString(), "application/json").send().await()
+
+                testContext.verify {
+                    assertEquals(2, httpResponse.bodyAsJsonObject().getJsonArray("history").size())
+                    assertEquals(200, httpResponse.statusCode())
+                    testContext.completeNow()
+                }
+            }
+        }
+    }
+
+    @Test
+    @Timeout(value = 1000000, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Testing a batch of updates of nested nodes in one revision")
+    fun testPatchWithNestedTargets(vertx: Vertx, testContext: VertxTestContext) {
+        GlobalScope.launch(vertx.dispatcher()) {
+            testContext.verifyCoroutine {
+                val json = """
+                 {
+                   "foo": ["bar", null, 2.33],
+                   "bar": { "hello": "world", "helloo": true },
+                   "baz": "hello"
+                 }
+                """.trimIndent()
+
+                val credentials = json {
+                    obj(
+                        "username" to "admin",
+                        "password" to "admin"
+                    )
+                }
+
+                val response = client.postAbs("$server/token").sendJson(credentials).await()
+
+                testContext.verify {
+                    assertEquals(200, response.statusCode())
+                }
+
+                val user = response.bodyAsJsonObject()
+                accessToken = user.getString("access_token")
+
+                var httpResponse = client.putAbs("$server$serverPath").putHeader(
+                    HttpHeaders.AUTHORIZATION
+                        .toString(), "Bearer $accessToken"
+                ).putHeader(HttpHeaders.CONTENT_TYPE.toString(), "application/json")
+                    .putHeader(HttpHeaders.ACCEPT.toString(), "application/json")
+                    .sendBuffer(Buffer.buffer(json)).await()
+
+                testContext.verify {
+                    assertEquals(200, httpResponse.statusCode())
+                }
+
+                val hashCodes = mutableMapOf<Int, String>()
+
+                for (nodeId in listOf(3, 4)) {
+                    httpResponse = client.headAbs("$server$serverPath?nodeId=$nodeId").putHeader(
+                        HttpHeaders.AUTHORIZATION
+                            .toString(), "Bearer $accessToken"
+                    ).putHeader(HttpHeaders.ACCEPT.toString(), "application/json").send().await()
+
+                    hashCodes[nodeId] = httpResponse.getHeader(HttpHeaders.ETAG.toString())
+                }
+
+                // The array item is replaced before the array, which changes the hash of the array.
+                val operations = """
+                    [{"op":"replace","nodeId":4,"value":"baz","hash":"${hashCodes[4]}"},
+                     {"op":"insert","nodeId":3,"insert":"asFirstChild","value":1,"hash":"${hashCodes[3]}"}]
+                """.trimIndent()
+
+                httpResponse = client.patchAbs("$server$serverPath").putHeader(
+                    HttpHeaders.AUTHORIZATION
+                        .toString(), "Bearer $accessToken"
+                ).putHeader(HttpHeaders.CONTENT_TYPE.toString(), "application/json")
+                    .putHeader(HttpHeaders.ACCEPT.toString(), "application/json")
+                    .sendBuffer(Buffer.buffer(operations)).await()
+
+                val expectUpdatedString = """
+                        {"foo":[1,"baz",null,2.33],"bar":{"hello":"world","helloo":true},"baz":"hello"}
+                    """.trimIndent()
+
+                testContext.verify {
+                    JSONAssert.assertEquals(
+                        expectUpdatedString.replace("\n", System.getProperty("line.separator")),
+                        httpResponse.bodyAsString().replace("\r\n", System.getProperty("line.separator")),
+                        false
+                    )
+                    assertEquals(200, httpResponse.statusCode())
+                    testContext.completeNow()
+                }
+            }
+        }
+    }
+
     @Test
     @Timeout(value = 1000000, timeUnit = TimeUnit.SECONDS)
     @DisplayName("Testing the retrieval of the history of a resource")
@@ -1953,6 +2130,77 @@ class SirixVerticleJsonTest {
         }
     }
 
+    @Test
+    @Timeout(value = 1000000, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Testing the creation of multiple resources from a multipart request")
+    fun testCreateMultipleResources(vertx: Vertx, testContext: VertxTestContext) {
+        GlobalScope.launch(vertx.dispatcher()) {
+            testContext.verifyCoroutine {
+                val credentials = json {
+                    obj(
+                        "username" to "admin",
+                        "password" to "admin"
+                    )
+                }
+
+                val response = client.postAbs("$server/token").sendJson(credentials).await()
+
+                testContext.verify {
+                    assertEquals(200, response.statusCode())
+                }
+
+                val user = response.bodyAsJsonObject()
+                accessToken = user.getString("access_token")
+
+                val form = MultipartForm.create()
+                    .textFileUpload("file", "resource1", tempFile("""{"foo":[1,2,3]}"""), "application/json")
+                    .textFileUpload("file", "resource2", tempFile("""{"bar":"baz"}"""), "application/json")
+
+                var httpResponse = client.postAbs("$server/database").putHeader(
+                    HttpHeaders.AUTHORIZATION
+                        .toString(), "Bearer $accessToken"
+                ).sendMultipartForm(form).await()
+
+                testContext.verify {
+                    assertEquals(201, httpResponse.statusCode())
+                }
+
+                httpResponse = client.getAbs("$server/database/resource2").putHeader(
+                    HttpHeaders.AUTHORIZATION
+                        .toString(), "Bearer $accessToken"
+                ).putHeader(HttpHeaders.ACCEPT.toString(), "application/json").send().await()
+
+                testContext.verify {
+                    JSONAssert.assertEquals("""{"bar":"baz"}""", httpResponse.bodyAsString(), false)
+                    assertEquals(200, httpResponse.statusCode())
+                }
+
+                // The uploads after the XML file are discarded, such that the request is still answered.
+                val mixedForm = MultipartForm.create()
+                    .textFileUpload("file", "resource3", tempFile("""{"foo":"bar"}"""), "application/json")
+                    .textFileUpload("file", "resource4", tempFile("<foo/>"), "application/xml")
+                    .textFileUpload("file", "resource5", tempFile("""{"foo":"baz"}"""), "application/json")
+
+                httpResponse = client.postAbs("$server/database").putHeader(
+                    HttpHeaders.AUTHORIZATION
+                        .toString(), "Bearer $accessToken"
+                ).sendMultipartForm(mixedForm).await()
+
+                testContext.verify {
+                    assertTrue(httpResponse.statusCode() >= 400)
+                    testContext.completeNow()
+                }
+            }
+        }
+    }
+
+    private fun tempFile(content: String): String {
+        val file = Files.createTempFile("sirix-upload", ".tmp")
+        file.toFile().deleteOnExit()
+        Files.writeString(file, content)
+        return file.toString()
+    }
+
     private suspend fun VertxTestContext.verifyCoroutine(block: suspend () -> Unit) = coroutineScope {
         launch(coroutineContext) {
             try {
@@ -0,0 +1,84 @@
+package org.sirix.rest.crud
+
+import io.netty.handler.codec.http.HttpResponseStatus
+import io.vertx.core.Future
+import io.vertx.core.Promise
+import io.vertx.ext.web.handler.HttpException
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+
+/**
+ * Test the rejection of tasks by a saturated [ExecutionLane].
+ */
+class ExecutionLaneTest {
+
+    @Test
+    fun testTaskIsRejectedIfQueueIsFull() {
+        val lane = ExecutionLane("test-queue-full", 1, 1, Duration.ofSeconds(30))
+        val release = CountDownLatch(1)
+        val running = lane.occupy(release)
+
+        val queued = lane.executeBlocking { promise: Promise<Int> -> promise.complete(2) }
+
+        val isExecuted = AtomicBoolean()
+        val rejected = lane.executeBlocking { promise: Promise<Int> ->
+            isExecuted.set(true)
+            promise.complete(3)
+        }
+
+        assertTrue(rejected.failed())
+        assertEquals(HttpResponseStatus.TOO_MANY_REQUESTS.code(), (rejected.cause() as HttpException).statusCode)
+
+        release.countDown()
+
+        assertEquals(1, running.awaitResult())
+        assertEquals(2, queued.awaitResult())
+        assertFalse(isExecuted.get())
+    }
+
+    @Test
+    fun testTaskIsRejectedIfItWaitsTooLong() {
+        val lane = ExecutionLane("test-queue-timeout", 1, 1, Duration.ofMillis(100))
+        val release = CountDownLatch(1)
+
+        try {
+            lane.occupy(release)
+
+            val isExecuted = AtomicBoolean()
+            val timedOut = lane.executeBlocking { promise: Promise<Int> ->
+                isExecuted.set(true)
+                promise.complete(2)
+            }
+
+            val exception = assertThrows<ExecutionException> { timedOut.awaitResult() }
+            assertEquals(HttpResponseStatus.SERVICE_UNAVAILABLE.code(), (exception.cause as HttpException).statusCode)
+            assertFalse(isExecuted.get())
+        } finally {
+            release.countDown()
+        }
+    }
+
+    /**
+     * Run a task, which blocks the only worker of the lane until it is released.
+     */
+    private fun ExecutionLane.occupy(release: CountDownLatch): Future<Int> {
+        val isRunning = CountDownLatch(1)
+        val future = executeBlocking { promise: Promise<Int> ->
+            isRunning.countDown()
+            release.await()
+            promise.complete(1)
+        }
+        assertTrue(isRunning.await(10, TimeUnit.SECONDS))
+        return future
+    }
+
+    private fun <T> Future<T>.awaitResult(): T = toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS)
+}
@@ -0,0 +1,156 @@
+package org.sirix.rest.crud
+
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.sirix.access.DatabaseConfiguration
+import org.sirix.access.Databases
+import org.sirix.access.ResourceConfiguration
+import org.sirix.access.trx.node.json.objectvalue.StringValue
+import org.sirix.service.json.shredder.JsonShredder
+import org.sirix.xquery.json.BasicJsonDBStore
+import java.nio.charset.StandardCharsets
+import java.nio.file.Path
+import java.nio.file.Paths
+import java.util.*
+
+private val location: Path = Paths.get(System.getProperty("java.io.tmpdir"), "sirix", "query-cursor")
+
+/**
+ * Test the [QueryCursor].
+ */
+class QueryCursorTest {
+
+    @BeforeEach
+    fun setup() {
+        Databases.removeDatabase(location.resolve("database"))
+    }
+
+    @AfterEach
+    fun tearDown() {
+        Databases.removeDatabase(location.resolve("database"))
+    }
+
+    @Test
+    fun testEncodeAndDecode() {
+        val cursor = QueryCursor.decode(QueryCursor(3, 42, 100).encode())
+
+        assertEquals(3, cursor.revision)
+        assertEquals(42L, cursor.nodeKey)
+        assertEquals(100L, cursor.position)
+        assertTrue(cursor.revisions.isEmpty())
+    }
+
+    @Test
+    fun testEncodeAndDecodeWithoutRevisionAndNodeKey() {
+        val cursor = QueryCursor.decode(QueryCursor(null, null, 10).encode())
+
+        assertNull(cursor.revision)
+        assertNull(cursor.nodeKey)
+        assertEquals(10L, cursor.position)
+    }
+
+    @Test
+    fun testEncodeAndDecodeWithPinnedRevisions() {
+        val revisions = mapOf("database/resource" to 2, "a:b,c=d/e f" to 5)
+        val cursor = QueryCursor.decode(QueryCursor(null, null, 10, revisions).encode())
+
+        assertEquals(10L, cursor.position)
+        assertEquals(revisions, cursor.revisions)
+    }
+
+    @Test
+    fun testDecodeCursorWithoutPinnedRevisions() {
+        val token = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString("1:null:20".toByteArray(StandardCharsets.UTF_8))
+        val cursor = QueryCursor.decode(token)
+
+        assertEquals(1, cursor.revision)
+        assertNull(cursor.nodeKey)
+        assertEquals(20L, cursor.position)
+        assertTrue(cursor.revisions.isEmpty())
+    }
+
+    @Test
+    fun testDecodeInvalidCursor() {
+        assertThrows<IllegalArgumentException> { QueryCursor.decode("not a cursor!") }
+        assertThrows<IllegalArgumentException> { QueryCursor.decode(encode("1:2")) }
+        assertThrows<IllegalArgumentException> { QueryCursor.decode(encode("1:2:x")) }
+        assertThrows<IllegalArgumentException> { QueryCursor.decode(encode("1:2:3:resource")) }
+        assertThrows<IllegalArgumentException> { QueryCursor.decode(encode("1:2:3:resource=x")) }
+    }
+
+    @Test
+    fun testPageWithoutCursor() {
+        val page = QueryCursor.Page(0, 9, null)
+
+        assertFalse(page.isPaged)
+        assertNull(page.nextCursor())
+    }
+
+    @Test
+    fun testPagesReadThePinnedRevisions() {
+        createResource()
+
+        // The first page pins the most recent revision.
+        val firstPage = QueryCursor.Page(0, 9, QueryCursor(null, null, 10), PinnedRevisions(emptyMap()))
+        assertEquals(1, readRevision(firstPage.pinnedRevisions!!))
+
+        val token = firstPage.nextCursor()!!.encode()
+        assertEquals(mapOf("database/resource" to 1), QueryCursor.decode(token).revisions)
+
+        commit()
+
+        // The next page reads the same revision, even though the resource has been changed.
+        val cursor = QueryCursor.decode(token)
+        val nextPage =
+            QueryCursor.Page(cursor.position, 19, QueryCursor(null, null, 20), PinnedRevisions(cursor.revisions))
+        assertEquals(1, readRevision(nextPage.pinnedRevisions!!))
+        assertEquals(mapOf("database/resource" to 1), nextPage.nextCursor()!!.revisions)
+
+        // A new query reads the most recent revision.
+        assertEquals(2, readRevision(PinnedRevisions(emptyMap())))
+    }
+
+    private fun readRevision(pinnedRevisions: PinnedRevisions): Int {
+        BasicJsonDBStore.newBuilder().location(location).build().use { jsonDBStore ->
+            val collection = jsonDBStore.lookup("database")
+            pinnedRevisions.pin("database", collection)
+            return collection.getDocument("resource").trx.revisionNumber
+        }
+    }
+
+    private fun encode(token: String): String =
+        Base64.getUrlEncoder().withoutPadding().encodeToString(token.toByteArray(StandardCharsets.UTF_8))
+
+    private fun createResource() {
+        val databasePath = location.resolve("database")
+        Databases.createJsonDatabase(DatabaseConfiguration(databasePath))
+        Databases.openJsonDatabase(databasePath).use { database ->
+            database.createResource(ResourceConfiguration.Builder("resource").build())
+            database.beginResourceSession("resource").use { manager ->
+                manager.beginNodeTrx().use { wtx ->
+                    wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("""{"foo":[1,2,3]}"""))
+                }
+            }
+        }
+    }
+
+    private fun commit() {
+        Databases.openJsonDatabase(location.resolve("database")).use { database ->
+            database.beginResourceSession("resource").use { manager ->
+                manager.beginNodeTrx().use { wtx ->
+                    wtx.moveToDocumentRoot()
+                    wtx.moveToFirstChild()
+                    wtx.insertObjectRecordAsFirstChild("new", StringValue("value"))
+                    wtx.commit()
+                }
+            }
+        }
+    }
+}
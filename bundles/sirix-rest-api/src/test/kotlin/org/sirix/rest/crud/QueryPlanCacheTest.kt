@@ -0,0 +1,110 @@
+package org.sirix.rest.crud
+
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNotSame
+import org.junit.jupiter.api.Assertions.assertSame
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.sirix.access.DatabaseConfiguration
+import org.sirix.access.Databases
+import org.sirix.access.ResourceConfiguration
+import org.sirix.access.trx.node.json.objectvalue.StringValue
+import org.sirix.service.json.shredder.JsonShredder
+import org.sirix.xquery.json.BasicJsonDBStore
+import org.sirix.xquery.node.BasicXmlDBStore
+import java.nio.file.Path
+import java.nio.file.Paths
+
+private val location: Path = Paths.get(System.getProperty("java.io.tmpdir"), "sirix", "query-plan-cache")
+
+private const val QUERY = "jn:doc('database','resource').foo.bar"
+
+/**
+ * Test the [QueryPlanCache].
+ */
+class QueryPlanCacheTest {
+
+    @BeforeEach
+    fun setup() {
+        Databases.removeDatabase(location.resolve("database"))
+        Databases.removeDatabase(location.resolve("otherDatabase"))
+    }
+
+    @AfterEach
+    fun tearDown() {
+        Databases.removeDatabase(location.resolve("database"))
+        Databases.removeDatabase(location.resolve("otherDatabase"))
+    }
+
+    @Test
+    fun testNormalizeWhitespace() {
+        assertEquals(
+            "for \$i in (1, 2) return \$i",
+            QueryPlanCache.normalize("  for  \$i\n  in (1,  2)\treturn \$i \n")
+        )
+    }
+
+    @Test
+    fun testNormalizeKeepsStringLiterals() {
+        assertEquals(
+            "concat('a  b', \"c\t d\")",
+            QueryPlanCache.normalize("concat('a  b',   \"c\t d\")")
+        )
+    }
+
+    @Test
+    fun testNormalizeOnlyTrimsDirectElementConstructors() {
+        assertEquals("<a>  x  </a>", QueryPlanCache.normalize(" <a>  x  </a>\n"))
+    }
+
+    @Test
+    fun testPlanIsReusedUntilDatabaseIsChanged() {
+        createResource("database", """{"foo":{"bar":[1,2,3]}}""")
+        createResource("otherDatabase", """{"baz":true}""")
+
+        val cache = QueryPlanCache(10)
+
+        BasicJsonDBStore.newBuilder().location(location).build().use { jsonDBStore ->
+            BasicXmlDBStore.newBuilder().location(location).build().use { xmlDBStore ->
+                val module = cache.compile(location, xmlDBStore, jsonDBStore, QUERY)
+                assertSame(module, cache.compile(location, xmlDBStore, jsonDBStore, " $QUERY\n"))
+
+                // A commit to a database, which isn't referenced by the query.
+                commit("otherDatabase")
+                assertSame(module, cache.compile(location, xmlDBStore, jsonDBStore, QUERY))
+
+                commit("database")
+                val recompiledModule = cache.compile(location, xmlDBStore, jsonDBStore, QUERY)
+                assertNotSame(module, recompiledModule)
+                assertSame(recompiledModule, cache.compile(location, xmlDBStore, jsonDBStore, QUERY))
+            }
+        }
+    }
+
+    private fun createResource(databaseName: String, json: String) {
+        val databasePath = location.resolve(databaseName)
+        Databases.createJsonDatabase(DatabaseConfiguration(databasePath))
+        Databases.openJsonDatabase(databasePath).use { database ->
+            database.createResource(ResourceConfiguration.Builder("resource").build())
+            database.beginResourceSession("resource").use { manager ->
+                manager.beginNodeTrx().use { wtx ->
+                    wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(json))
+                }
+            }
+        }
+    }
+
+    private fun commit(databaseName: String) {
+        Databases.openJsonDatabase(location.resolve(databaseName)).use { database ->
+            database.beginResourceSession("resource").use { manager ->
+                manager.beginNodeTrx().use { wtx ->
+                    wtx.moveToDocumentRoot()
+                    wtx.moveToFirstChild()
+                    wtx.insertObjectRecordAsFirstChild("new", StringValue("value"))
+                    wtx.commit()
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.sirix.rest.crud
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertNotEquals
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.sirix.rest.crud.RepresentationCache.ContentEncoding
+
+/**
+ * Test the entity tags of the [RepresentationCache].
+ */
+class RepresentationCacheTest {
+
+    @Test
+    fun testEntityTagsDependOnTheContentEncoding() {
+        val representation = RepresentationCache.Representation("key", "-42")
+
+        assertEquals("-42", representation.etagOf(null))
+        assertEquals("-42-gzip", representation.etagOf(ContentEncoding.GZIP))
+        assertEquals("-42-deflate", representation.etagOf(ContentEncoding.DEFLATE))
+        assertNotEquals(representation.etagOf(ContentEncoding.GZIP), representation.etagOf(ContentEncoding.DEFLATE))
+    }
+
+    @Test
+    fun testHashOfEntityTag() {
+        val representation = RepresentationCache.Representation("key", "-42")
+
+        assertEquals(-42L, RepresentationCache.hashOf(representation.etagOf(null)))
+        assertEquals(-42L, RepresentationCache.hashOf(representation.etagOf(ContentEncoding.GZIP)))
+        assertEquals(-42L, RepresentationCache.hashOf(representation.etagOf(ContentEncoding.DEFLATE)))
+    }
+
+    @Test
+    fun testIsNotModified() {
+        assertTrue(RepresentationCache.isNotModified("\"1-gzip\", \"2-gzip\"", "2-gzip"))
+        assertTrue(RepresentationCache.isNotModified("W/\"2\"", "2"))
+        assertTrue(RepresentationCache.isNotModified("*", "2"))
+        assertFalse(RepresentationCache.isNotModified("\"2-gzip\"", "2-deflate"))
+        assertFalse(RepresentationCache.isNotModified(null, "2"))
+    }
+
+    @Test
+    fun testNegotiateContentEncoding() {
+        assertEquals(ContentEncoding.GZIP, ContentEncoding.negotiate("deflate, gzip"))
+        assertEquals(ContentEncoding.DEFLATE, ContentEncoding.negotiate("gzip;q=0, deflate"))
+        assertNull(ContentEncoding.negotiate("identity"))
+        assertNull(ContentEncoding.negotiate(null))
+    }
+}
@@ -0,0 +1,158 @@
+package org.sirix.rest.crud
+
+import io.vertx.core.Context
+import io.vertx.core.Handler
+import io.vertx.core.Vertx
+import io.vertx.core.buffer.Buffer
+import io.vertx.core.streams.ReadStream
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.io.IOException
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+
+/**
+ * Test the flow control of the [RequestBodyInputStream].
+ */
+class RequestBodyInputStreamTest {
+
+    private lateinit var vertx: Vertx
+
+    private lateinit var context: Context
+
+    @BeforeEach
+    fun setup() {
+        vertx = Vertx.vertx()
+        context = vertx.orCreateContext
+    }
+
+    @AfterEach
+    fun tearDown() {
+        vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS)
+    }
+
+    @Test
+    fun testStreamIsPausedAndResumed() {
+        val stream = TestReadStream()
+        val input = onContext { RequestBodyInputStream(context, stream, 8) }
+
+        onContext { stream.send("0123") }
+        assertFalse(stream.isPaused)
+
+        // More bytes than the high-water mark have been received.
+        onContext { stream.send("456789") }
+        assertTrue(stream.isPaused)
+
+        assertEquals("0123", String(input.readNBytes(4)))
+        onContext { }
+        assertTrue(stream.isPaused)
+
+        // The reader has caught up to half of the high-water mark.
+        assertEquals("456789", String(input.readNBytes(6)))
+        onContext { }
+        assertFalse(stream.isPaused)
+
+        onContext { stream.end() }
+        assertEquals(-1, input.read())
+    }
+
+    @Test
+    fun testRestOfBodyIsDiscardedOnClose() {
+        val stream = TestReadStream()
+        val input = onContext { RequestBodyInputStream(context, stream, 8) }
+
+        onContext { stream.send("0123456789") }
+        assertTrue(stream.isPaused)
+
+        input.close()
+        onContext { }
+        assertFalse(stream.isPaused)
+
+        // Data received afterwards is dropped.
+        onContext { stream.send("0123456789") }
+        assertFalse(stream.isPaused)
+        onContext { stream.end() }
+
+        assertThrows<IOException> { input.read() }
+    }
+
+    @Test
+    fun testFailureIsRethrown() {
+        val stream = TestReadStream()
+        val input = onContext { RequestBodyInputStream(context, stream) }
+
+        onContext { stream.fail(IllegalStateException("connection reset")) }
+
+        assertThrows<IOException> { input.read() }
+    }
+
+    private fun <T> onContext(block: () -> T): T {
+        val result = CompletableFuture<T>()
+        context.runOnContext {
+            try {
+                result.complete(block())
+            } catch (e: Throwable) {
+                result.completeExceptionally(e)
+            }
+        }
+        return result.get(10, TimeUnit.SECONDS)
+    }
+
+    /**
+     * A read stream, whose data is sent by the test.
+     */
+    private class TestReadStream : ReadStream<Buffer> {
+        private var handler: Handler<Buffer>? = null
+
+        private var exceptionHandler: Handler<Throwable>? = null
+
+        private var endHandler: Handler<Void>? = null
+
+        var isPaused = true
+            private set
+
+        fun send(data: String) {
+            handler?.handle(Buffer.buffer(data))
+        }
+
+        fun fail(throwable: Throwable) {
+            exceptionHandler?.handle(throwable)
+        }
+
+        fun end() {
+            endHandler?.handle(null)
+        }
+
+        override fun handler(handler: Handler<Buffer>?): ReadStream<Buffer> {
+            this.handler = handler
+            return this
+        }
+
+        override fun exceptionHandler(handler: Handler<Throwable>?): ReadStream<Buffer> {
+            exceptionHandler = handler
+            return this
+        }
+
+        override fun endHandler(endHandler: Handler<Void>?): ReadStream<Buffer> {
+            this.endHandler = endHandler
+            return this
+        }
+
+        override fun pause(): ReadStream<Buffer> {
+            isPaused = true
+            return this
+        }
+
+        override fun resume(): ReadStream<Buffer> {
+            isPaused = false
+            return this
+        }
+
+        override fun fetch(amount: Long): ReadStream<Buffer> = this
+    }
+}
@@ -1,6 +1,8 @@
 package org.sirix.xquery.compiler.expression;
 
-import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import org.brackit.xquery.QueryContext;
 import org.brackit.xquery.QueryException;
 import org.brackit.xquery.Tuple;
@@ -10,12 +12,15 @@ import org.brackit.xquery.compiler.AST;
 import org.brackit.xquery.compiler.XQ;
 import org.brackit.xquery.jdm.Expr;
 import org.brackit.xquery.jdm.Item;
+import org.brackit.xquery.jdm.Iter;
 import org.brackit.xquery.jdm.Sequence;
-import org.brackit.xquery.sequence.ItemSequence;
+import org.brackit.xquery.sequence.BaseIter;
+import org.brackit.xquery.sequence.LazySequence;
 import org.brackit.xquery.util.ExprUtil;
 import org.brackit.xquery.util.path.Path;
 import org.sirix.api.json.JsonNodeReadOnlyTrx;
 import org.sirix.api.json.JsonResourceSession;
+import org.sirix.exception.SirixException;
 import org.sirix.index.IndexDef;
 import org.sirix.index.IndexType;
 import org.sirix.index.SearchMode;
@@ -32,12 +37,36 @@ import org.sirix.xquery.json.JsonDBCollection;
 import org.sirix.xquery.json.JsonItemFactory;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toSet;
 
 public final class IndexExpr implements Expr {
 
+  /**
+   * The minimum number of index hits, for which the result items are resolved by multiple threads.
+   */
+  private static final int PARALLEL_THRESHOLD = 4_096;
+
+  /**
+   * The number of ranges of index hits per thread, such that threads, which are done early, take over work.
+   */
+  private static final int RANGES_PER_THREAD = 4;
+
+  /**
+   * Executor shared by all index expressions, such that the number of threads is bounded by the number of processors.
+   */
+  private static final ExecutorService EXECUTOR =
+      Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                                   Thread.ofPlatform().name("index-expr-", 0).daemon().factory());
+
+  private static final long[] NO_NODE_KEYS = new long[0];
+
   private final String databaseName;
 
   private final String resourceName;
@@ -72,10 +101,10 @@ public final class IndexExpr implements Expr {
 
     final JsonNodeReadOnlyTrx rtx =
         revision == -1 ? manager.beginNodeReadOnlyTrx() : manager.beginNodeReadOnlyTrx(revision);
-    var nodeKeys = new ArrayList<Long>();
+    var nodeKeys = new LongArrayList();
 
     final var indexType = (IndexType) properties.get("indexType");
-    final var indexTypeToNodeKeys = new HashMap<IndexDef, List<Long>>();
+    final var indexTypeToNodeKeys = new HashMap<IndexDef, LongArrayList>();
     @SuppressWarnings("unchecked") final var pathSegmentNamesToArrayIndexes =
         (Deque<QueryPathSegment>) properties.get("pathSegmentNamesToArrayIndexes");
 
@@ -146,7 +175,7 @@ public final class IndexExpr implements Expr {
 
           }
           indexTypeToNodeKeys.put(entrySet.getKey(), nodeKeys);
-          nodeKeys = new ArrayList<>();
+          nodeKeys = new LongArrayList();
         }
         case NAME -> {
           final Iterator<NodeReferences> nodeReferencesIterator = indexController.openNameIndex(rtx.getPageTrx(),
@@ -172,67 +201,199 @@ public final class IndexExpr implements Expr {
       }
     }
 
-    final var sequence = new ArrayList<Item>();
-    final var jsonItemFactory = new JsonItemFactory();
+    // The index hits and (for CAS indexes) the levels of the predicates in the order of the result sequence.
+    final LongArrayList indexNodeKeys;
+    final IntArrayList predicateLevels = new IntArrayList();
 
     switch (indexType) {
-      case PATH, NAME -> nodeKeys.forEach(nodeKey -> {
-        rtx.moveTo(nodeKey);
-        final Deque<Integer> arrayIndexes = pathSegmentNamesToArrayIndexes.getLast().arrayIndexes();
-        if (arrayIndexes.isEmpty()) {
-          rtx.moveToFirstChild();
-          sequence.add(jsonItemFactory.getSequence(rtx, jsonCollection));
-        } else if (arrayIndexes.getFirst() == Integer.MIN_VALUE) {
-          if (rtx.moveToFirstChild()) {
-            do {
-              sequence.add(jsonItemFactory.getSequence(rtx, jsonCollection));
-            } while (rtx.moveToRightSibling());
-          }
-        } else {
-          var index = arrayIndexes.getFirst();
-          index = index < 0 ? (int) (rtx.getChildCount() + index) : index;
-          boolean hasMoved = rtx.moveToFirstChild();
-          assert hasMoved;
-          int k = 1;
-          for (; k <= index; k++) {
-            hasMoved = rtx.moveToRightSibling();
-            assert hasMoved;
-          }
-          sequence.add(jsonItemFactory.getSequence(rtx, jsonCollection));
-        }
-      });
-      case CAS -> indexDefsToPaths.keySet().forEach(indexDef -> {
-        final var predicateLeafNode = (AST) properties.get("predicateLeafNode");
+      case PATH, NAME -> indexNodeKeys = nodeKeys;
+      case CAS -> {
         @SuppressWarnings(
             "unchecked") final var indexDefToPredicateLevel = (Map<IndexDef, Integer>) properties.get("predicateLevel");
-        final var predicateLevel = indexDefToPredicateLevel.get(indexDef);
-        final var nodeKeysOfIndex = indexTypeToNodeKeys.get(indexDef);
-        nodeKeysOfIndex.forEach(nodeKey -> {
-          // TODO: We can skip this traversal once we store a DeweyID <=> nodeKey mapping.
-          // Then we can simply clip the DeweyID with the given path level and get the corresponding nodeKey.
-          rtx.moveTo(nodeKey);
-          rtx.moveToParent();
-          for (int i = 1; i < predicateLevel; i++) {
-            rtx.moveToParent();
+        indexNodeKeys = new LongArrayList();
+        indexDefsToPaths.keySet().forEach(indexDef -> {
+          final var nodeKeysOfIndex = indexTypeToNodeKeys.get(indexDef);
+          indexNodeKeys.addAll(nodeKeysOfIndex);
+          predicateLevels.addAll(Collections.nCopies(nodeKeysOfIndex.size(), indexDefToPredicateLevel.get(indexDef)));
+        });
+      }
+      default -> throw new QueryException(JNFun.ERR_INVALID_INDEX_TYPE, "Index type not known: " + indexType);
+    }
 
-            if (rtx.isObject() && i + 1 < predicateLevel) {
-              rtx.moveToParent();
+    final var resolver = new ResultNodeResolver(indexType,
+                                                indexType == IndexType.CAS
+                                                    ? null
+                                                    : pathSegmentNamesToArrayIndexes.getLast().arrayIndexes(),
+                                                (AST) properties.get("predicateLeafNode"));
+    final long[][] resultNodeKeys = resolveResultNodeKeys(manager, rtx, indexNodeKeys, predicateLevels, resolver);
+
+    if (Arrays.stream(resultNodeKeys).allMatch(nodeKeysOfIndexNode -> nodeKeysOfIndexNode.length == 0)) {
+      return null;
+    }
+
+    final var jsonItemFactory = new JsonItemFactory();
+
+    // The items are materialized lazily in the order of the index hits.
+    return new LazySequence() {
+      @Override
+      public Iter iterate() {
+        return new BaseIter() {
+          private int index;
+
+          private int indexOfNodeKey;
+
+          @Override
+          public Item next() {
+            while (index < resultNodeKeys.length) {
+              final long[] nodeKeysOfIndexNode = resultNodeKeys[index];
+
+              if (indexOfNodeKey < nodeKeysOfIndexNode.length) {
+                rtx.moveTo(nodeKeysOfIndexNode[indexOfNodeKey++]);
+                return jsonItemFactory.getSequence(rtx, jsonCollection);
+              }
+
+              index++;
+              indexOfNodeKey = 0;
             }
+
+            return null;
           }
-          if (predicateLeafNode != null && predicateLeafNode.getParent().getType() != XQ.ArrayAccess) {
-            rtx.moveToParent();
+
+          @Override
+          public void close() {
           }
-          sequence.add(jsonItemFactory.getSequence(rtx, jsonCollection));
-        });
-      });
-      default -> throw new QueryException(JNFun.ERR_INVALID_INDEX_TYPE, "Index type not known: " + indexType);
+        };
+      }
+    };
+  }
+
+  /**
+   * Resolve the node keys of the result items of all index hits. Large numbers of index hits are sorted by their node
+   * keys, that is in the order of the record pages, and resolved in ranges by multiple threads, each of which uses its
+   * own read-only transaction. Thus, each thread reads mostly distinct record pages.
+   *
+   * @return the node keys of the result items for each index hit
+   */
+  private static long[][] resolveResultNodeKeys(final JsonResourceSession manager, final JsonNodeReadOnlyTrx rtx,
+      final LongArrayList indexNodeKeys, final IntArrayList predicateLevels, final ResultNodeResolver resolver) {
+    final int size = indexNodeKeys.size();
+    final long[][] resultNodeKeys = new long[size][];
+    final int numberOfThreads = Math.min(Runtime.getRuntime().availableProcessors(), size / PARALLEL_THRESHOLD + 1);
+
+    if (numberOfThreads == 1) {
+      for (int i = 0; i < size; i++) {
+        resultNodeKeys[i] = resolver.resolve(rtx, indexNodeKeys.getLong(i), predicateLevel(predicateLevels, i));
+      }
+      return resultNodeKeys;
     }
 
-    if (sequence.size() == 0) {
-      return null;
+    final int[] positions = new int[size];
+    Arrays.setAll(positions, i -> i);
+    IntArrays.quickSort(positions, (i, j) -> Long.compare(indexNodeKeys.getLong(i), indexNodeKeys.getLong(j)));
+
+    final int revision = rtx.getRevisionNumber();
+    final int numberOfRanges = numberOfThreads * RANGES_PER_THREAD;
+    final int rangeSize = (size + numberOfRanges - 1) / numberOfRanges;
+    final List<Future<?>> ranges = new ArrayList<>(numberOfRanges);
+    // Ranges aren't interrupted, as an interrupt during a read closes the file channel shared by all transactions.
+    final AtomicBoolean failed = new AtomicBoolean();
+
+    try {
+      for (int from = 0; from < size; from += rangeSize) {
+        final int fromIndex = from;
+        final int toIndex = Math.min(from + rangeSize, size);
+        ranges.add(EXECUTOR.submit(() -> {
+          if (failed.get()) {
+            return;
+          }
+          try (final JsonNodeReadOnlyTrx rangeRtx = manager.beginNodeReadOnlyTrx(revision)) {
+            for (int i = fromIndex; i < toIndex && !failed.get(); i++) {
+              final int position = positions[i];
+              resultNodeKeys[position] = resolver.resolve(rangeRtx,
+                                                          indexNodeKeys.getLong(position),
+                                                          predicateLevel(predicateLevels, position));
+            }
+          } catch (final RuntimeException e) {
+            failed.set(true);
+            throw e;
+          }
+        }));
+      }
+
+      for (final Future<?> range : ranges) {
+        range.get();
+      }
+    } catch (final ExecutionException e) {
+      failed.set(true);
+      ranges.forEach(range -> range.cancel(false));
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new SirixException(e.getCause());
+    } catch (final InterruptedException e) {
+      failed.set(true);
+      ranges.forEach(range -> range.cancel(false));
+      Thread.currentThread().interrupt();
+      throw new SirixException(e);
     }
 
-    return new ItemSequence(sequence.toArray(new Item[0]));
+    return resultNodeKeys;
+  }
+
+  private static int predicateLevel(final IntArrayList predicateLevels, final int index) {
+    return predicateLevels.isEmpty() ? 0 : predicateLevels.getInt(index);
+  }
+
+  /**
+   * Resolves the node keys of the result items of an index hit. Apart from the cursor, it is stateless and thus used
+   * by multiple threads concurrently.
+   */
+  private record ResultNodeResolver(IndexType indexType, Deque<Integer> arrayIndexes, AST predicateLeafNode) {
+    long[] resolve(final JsonNodeReadOnlyTrx rtx, final long nodeKey, final int predicateLevel) {
+      rtx.moveTo(nodeKey);
+
+      if (indexType == IndexType.CAS) {
+        // TODO: We can skip this traversal once we store a DeweyID <=> nodeKey mapping.
+        // Then we can simply clip the DeweyID with the given path level and get the corresponding nodeKey.
+        rtx.moveToParent();
+        for (int i = 1; i < predicateLevel; i++) {
+          rtx.moveToParent();
+
+          if (rtx.isObject() && i + 1 < predicateLevel) {
+            rtx.moveToParent();
+          }
+        }
+        if (predicateLeafNode != null && predicateLeafNode.getParent().getType() != XQ.ArrayAccess) {
+          rtx.moveToParent();
+        }
+        return new long[] { rtx.getNodeKey() };
+      }
+
+      if (arrayIndexes.isEmpty()) {
+        rtx.moveToFirstChild();
+        return new long[] { rtx.getNodeKey() };
+      } else if (arrayIndexes.getFirst() == Integer.MIN_VALUE) {
+        if (!rtx.moveToFirstChild()) {
+          return NO_NODE_KEYS;
+        }
+        final var childNodeKeys = new LongArrayList();
+        do {
+          childNodeKeys.add(rtx.getNodeKey());
+        } while (rtx.moveToRightSibling());
+        return childNodeKeys.toLongArray();
+      } else {
+        var index = arrayIndexes.getFirst();
+        index = index < 0 ? (int) (rtx.getChildCount() + index) : index;
+        boolean hasMoved = rtx.moveToFirstChild();
+        assert hasMoved;
+        int k = 1;
+        for (; k <= index; k++) {
+          hasMoved = rtx.moveToRightSibling();
+          assert hasMoved;
+        }
+        return new long[] { rtx.getNodeKey() };
+      }
+    }
   }
 
   private SearchMode getSearchMode(String comparisonType) {
@@ -248,11 +409,12 @@ public final class IndexExpr implements Expr {
 
   private void checkIfIndexNodeIsApplicable(JsonResourceSession manager, JsonNodeReadOnlyTrx rtx,
       Deque<QueryPathSegment> pathSegmentNamesToArrayIndexes, Iterator<NodeReferences> nodeReferencesIterator,
-      List<Long> nodeKeys, boolean checkPathBecauseOfFieldNameChecks) {
+      LongArrayList nodeKeys, boolean checkPathBecauseOfFieldNameChecks) {
     final long numberOfArrayIndexes = getNumberOfArrayIndexes(pathSegmentNamesToArrayIndexes);
     try (final var pathSummary = revision == -1 ? manager.openPathSummary() : manager.openPathSummary(revision)) {
       nodeReferencesIterator.forEachRemaining(currentNodeReferences -> {
-        final var currNodeKeys = new LongLinkedOpenHashSet(currentNodeReferences.getNodeKeys().toArray());
+        // Copy of the index hits, from which false positives are removed (iterated in ascending order).
+        final var currNodeKeys = currentNodeReferences.getNodeKeys().clone();
         // if array numberOfArrayIndexes are given (only some might be specified we have to drop false positive nodes
         if (numberOfArrayIndexes != 0 || checkPathBecauseOfFieldNameChecks) {
           final var nodeKeyIter =  currentNodeReferences.getNodeKeys().getLongIterator();
@@ -275,7 +437,7 @@ public final class IndexExpr implements Expr {
 
             if (checkPathBecauseOfFieldNameChecks) {
               if (Paths.isPathNodeNotAQueryResult(pathSegmentNamesToArrayIndexes, pathSummary, pathNodeKey)) {
-                currNodeKeys.remove(nodeKey);
+                currNodeKeys.removeLong(nodeKey);
                 continue;
               }
             }
@@ -331,7 +493,7 @@ public final class IndexExpr implements Expr {
                           hasMoved = rtx.moveToRightSibling();
                         }
                         if (k - 1 != index) {
-                          currNodeKeys.remove(nodeKey);
+                          currNodeKeys.removeLong(nodeKey);
                           break outer;
                         }
                       } else {
@@ -340,7 +502,7 @@ public final class IndexExpr implements Expr {
                           hasMoved = rtx.moveToLeftSibling();
                         }
                         if (!hasMoved || rtx.hasLeftSibling()) {
-                          currNodeKeys.remove(nodeKey);
+                          currNodeKeys.removeLong(nodeKey);
                           break outer;
                         }
                       }
@@ -365,7 +527,10 @@ public final class IndexExpr implements Expr {
             }
           }
         }
-        nodeKeys.addAll(currNodeKeys);
+        final var currNodeKeysIter = currNodeKeys.getLongIterator();
+        while (currNodeKeysIter.hasNext()) {
+          nodeKeys.add(currNodeKeysIter.next());
+        }
       });
     }
   }
@@ -11,12 +11,14 @@ import org.brackit.xquery.module.Functions;
 import org.sirix.xquery.function.jn.diff.Diff;
 import org.sirix.xquery.function.jn.index.create.CreateCASIndex;
 import org.sirix.xquery.function.jn.index.create.CreateNameIndex;
+import org.sirix.xquery.function.jn.index.create.CreateColumnIndex;
 import org.sirix.xquery.function.jn.index.create.CreatePathIndex;
 import org.sirix.xquery.function.jn.index.find.FindCASIndex;
 import org.sirix.xquery.function.jn.index.find.FindNameIndex;
 import org.sirix.xquery.function.jn.index.find.FindPathIndex;
 import org.sirix.xquery.function.jn.index.scan.ScanCASIndex;
 import org.sirix.xquery.function.jn.index.scan.ScanCASIndexRange;
+import org.sirix.xquery.function.jn.index.scan.ScanColumnIndex;
 import org.sirix.xquery.function.jn.index.scan.ScanNameIndex;
 import org.sirix.xquery.function.jn.index.scan.ScanPathIndex;
 import org.sirix.xquery.function.jn.io.*;
@@ -25,6 +27,7 @@ import org.sirix.xquery.function.jn.trx.SelectJsonItem;
 
 import static org.sirix.xquery.function.jn.diff.Diff.DIFF;
 import static org.sirix.xquery.function.jn.index.create.CreateCASIndex.CREATE_CAS_INDEX;
+import static org.sirix.xquery.function.jn.index.create.CreateColumnIndex.CREATE_COLUMN_INDEX;
 import static org.sirix.xquery.function.jn.index.create.CreateNameIndex.CREATE_NAME_INDEX;
 import static org.sirix.xquery.function.jn.index.create.CreatePathIndex.CREATE_PATH_INDEX;
 import static org.sirix.xquery.function.jn.index.find.FindCASIndex.FIND_CAS_INDEX;
@@ -225,11 +228,20 @@ public final class JNFun {
     Functions.predefine(new CreateCASIndex(CREATE_CAS_INDEX,
                                            new Signature(SequenceType.JSON_ITEM, SequenceType.JSON_ITEM)));
 
+    // create-column-index
+    Functions.predefine(new CreateColumnIndex(CREATE_COLUMN_INDEX,
+                                              new Signature(SequenceType.JSON_ITEM,
+                                                            SequenceType.JSON_ITEM,
+                                                            new SequenceType(AtomicType.STR, Cardinality.ZeroOrMany))));
+    Functions.predefine(new CreateColumnIndex(CREATE_COLUMN_INDEX,
+                                              new Signature(SequenceType.JSON_ITEM, SequenceType.JSON_ITEM)));
+
     // scan indexes
     Functions.predefine(new ScanPathIndex());
     Functions.predefine(new ScanCASIndex());
     Functions.predefine(new ScanCASIndexRange());
     Functions.predefine(new ScanNameIndex());
+    Functions.predefine(new ScanColumnIndex());
 
     // diff
     Functions.predefine(new Diff(DIFF,
@@ -0,0 +1,141 @@
+package org.sirix.xquery.function.jn.index.scan;
+
+import it.unimi.dsi.fastutil.longs.LongSet;
+import org.brackit.xquery.QueryContext;
+import org.brackit.xquery.QueryException;
+import org.brackit.xquery.atomic.*;
+import org.brackit.xquery.function.AbstractFunction;
+import org.brackit.xquery.function.json.JSONFun;
+import org.brackit.xquery.jdm.Item;
+import org.brackit.xquery.jdm.Iter;
+import org.brackit.xquery.jdm.Sequence;
+import org.brackit.xquery.jdm.Signature;
+import org.brackit.xquery.jdm.type.AtomicType;
+import org.brackit.xquery.jdm.type.Cardinality;
+import org.brackit.xquery.jdm.type.SequenceType;
+import org.brackit.xquery.module.StaticContext;
+import org.brackit.xquery.sequence.BaseIter;
+import org.brackit.xquery.sequence.LazySequence;
+import org.brackit.xquery.util.annotation.FunctionAnnotation;
+import org.brackit.xquery.util.path.Path;
+import org.brackit.xquery.util.path.PathParser;
+import org.sirix.access.trx.node.json.JsonIndexController;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.index.IndexDef;
+import org.sirix.index.IndexType;
+import org.sirix.index.column.ColumnChunk;
+import org.sirix.index.column.ColumnIndexReader;
+import org.sirix.index.path.summary.PathSummaryReader;
+import org.sirix.xquery.function.FunUtil;
+import org.sirix.xquery.function.sdb.SDBFun;
+import org.sirix.xquery.json.JsonDBItem;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Scan the column index. In contrast to the other index scans the values are returned directly from the column
+ * chunks as atomic values, thus the document itself isn't touched at all.
+ *
+ * @author Johannes Lichtenberger
+ */
+@FunctionAnnotation(description = "Scans the given column index and returns the values of the given paths.",
+    parameters = {"$doc", "$idx-no", "$paths"})
+public final class ScanColumnIndex extends AbstractFunction {
+
+  /** Default function name. */
+  public final static QNm DEFAULT_NAME = new QNm(JSONFun.JSON_NSURI, JSONFun.JSON_PREFIX, "scan-column-index");
+
+  /**
+   * Constructor.
+   */
+  public ScanColumnIndex() {
+    super(DEFAULT_NAME,
+          new Signature(new SequenceType(AtomicType.ANA, Cardinality.ZeroOrMany),
+                        SequenceType.JSON_ITEM,
+                        new SequenceType(AtomicType.INR, Cardinality.One),
+                        new SequenceType(AtomicType.STR, Cardinality.ZeroOrOne)),
+          true);
+  }
+
+  @Override
+  public Sequence execute(StaticContext sctx, QueryContext ctx, Sequence[] args) {
+    final JsonDBItem doc = (JsonDBItem) args[0];
+    final JsonNodeReadOnlyTrx rtx = doc.getTrx();
+    final JsonIndexController controller = rtx.getResourceSession().getRtxIndexController(rtx.getRevisionNumber());
+
+    if (controller == null) {
+      throw new QueryException(new QNm("Document not found: " + ((Str) args[1]).stringValue()));
+    }
+
+    final int idx = FunUtil.getInt(args, 1, "$idx-no", -1, null, true);
+    final IndexDef indexDef = controller.getIndexes().getIndexDef(idx, IndexType.COLUMN);
+
+    if (indexDef == null) {
+      throw new QueryException(SDBFun.ERR_INDEX_NOT_FOUND, "Index no %s for collection %s and document %s not found.",
+          idx, doc.getCollection().getName(),
+          doc.getTrx().getResourceSession().getResourceConfig().getResource().getFileName().toString());
+    }
+
+    final ColumnIndexReader reader = new ColumnIndexReader(rtx.getPageTrx(), indexDef.getID());
+    final String paths = FunUtil.getString(args, 2, "$paths", null, null, false);
+    final LongSet pathNodeKeys;
+
+    if (paths == null) {
+      pathNodeKeys = reader.getPathNodeKeys();
+    } else {
+      final Set<Path<QNm>> parsedPaths = new HashSet<>();
+      for (final String path : paths.split(";")) {
+        parsedPaths.add(Path.parse(path, PathParser.Type.JSON));
+      }
+      try (final PathSummaryReader pathSummaryReader = rtx.getResourceSession()
+                                                          .openPathSummary(rtx.getRevisionNumber())) {
+        pathNodeKeys = pathSummaryReader.getPCRsForPaths(parsedPaths);
+      }
+    }
+
+    return new LazySequence() {
+      @Override
+      public Iter iterate() {
+        return new BaseIter() {
+          private Iterator<ColumnChunk> chunks;
+
+          private ColumnChunk chunk;
+
+          private int index;
+
+          @Override
+          public Item next() {
+            if (chunks == null) {
+              chunks = reader.openChunks(pathNodeKeys);
+            }
+            while (chunk == null || index == chunk.size()) {
+              if (!chunks.hasNext()) {
+                return null;
+              }
+              chunk = chunks.next();
+              index = 0;
+            }
+            return toAtomic(chunk, index++);
+          }
+
+          @Override
+          public void close() {
+          }
+        };
+      }
+    };
+  }
+
+  private static Atomic toAtomic(final ColumnChunk chunk, final int index) {
+    return switch (chunk.getValueType(index)) {
+      case LONG -> new Int64(chunk.getLongValue(index));
+      case DOUBLE -> new Dbl(chunk.getDoubleValue(index));
+      case BOOLEAN -> chunk.getRawValue(index) == 1 ? Bool.TRUE : Bool.FALSE;
+      case STRING -> new Str(chunk.getStringValue(index));
+      case DECIMAL -> new Dec(new BigDecimal(chunk.getStringValue(index)));
+    };
+  }
+}
@@ -27,8 +27,9 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.UncheckedIOException;
 import java.time.Instant;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * <p>
@@ -160,27 +161,25 @@ public final class Load extends AbstractFunction {
         throw new QueryException(new QNm("Failed to insert subtree: " + e.getMessage()));
       }
     } else if (resources instanceof FunctionConversionSequence seq) {
-      try (final Iter iter = seq.iterate()) {
-        final Set<JsonReader> jsonReaders = new HashSet<>();
+      final List<String> uris = new ArrayList<>();
 
+      try (final Iter iter = seq.iterate()) {
         for (Item item; (item = iter.next()) != null; ) {
-          jsonReaders.add(new JsonReader(new InputStreamReader(URIHandler.getInputStream(((Str) item).stringValue()))));
+          uris.add(((Str) item).stringValue());
         }
-
-        final JsonDBCollection collection = store.create(collName, jsonReaders);
-
-        jsonReaders.forEach(this::closeReader);
-
-        return collection;
       }
+
+      // The documents are only opened once they are imported, as the resources are imported in parallel.
+      return store.createFromReaders(collName,
+                                     uris.stream().<Supplier<JsonReader>>map(uri -> () -> openReader(uri)).iterator());
     }
 
     return null;
   }
 
-  private void closeReader(JsonReader reader) {
+  private static JsonReader openReader(final String uri) {
     try {
-      reader.close();
+      return new JsonReader(new InputStreamReader(URIHandler.getInputStream(uri)));
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
@@ -20,16 +20,26 @@ import org.sirix.service.json.shredder.JsonShredder;
 import org.sirix.utils.OS;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -84,6 +94,16 @@ public final class BasicJsonDBStore implements JsonDBStore {
    */
   private final HashType hashType;
 
+  /**
+   * The number of threads to import resources in parallel.
+   */
+  private final int numberOfImportThreads;
+
+  /**
+   * The listener, which is notified about the progress of imports.
+   */
+  private final JsonImportListener importListener;
+
   /**
    * Get a new builder instance.
    */
@@ -121,6 +141,16 @@ public final class BasicJsonDBStore implements JsonDBStore {
      */
     private HashType hashType = HashType.ROLLING;
 
+    /**
+     * The number of threads to import resources in parallel.
+     */
+    private int numberOfImportThreads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * The listener, which is notified about the progress of imports.
+     */
+    private JsonImportListener importListener = JsonImportListener.NO_OP;
+
     /**
      * Set the storage type (default: file backend).
      *
@@ -176,6 +206,30 @@ public final class BasicJsonDBStore implements JsonDBStore {
       return this;
     }
 
+    /**
+     * Set the number of threads to import resources in parallel (default: number of available processors). At most
+     * twice as many resources are read at the same time, the remaining inputs are only read once a thread is free.
+     *
+     * @param numberOfImportThreads the number of threads
+     * @return this builder instance
+     */
+    public Builder numberOfImportThreads(final int numberOfImportThreads) {
+      checkArgument(numberOfImportThreads > 0, "The number of import threads must be > 0!");
+      this.numberOfImportThreads = numberOfImportThreads;
+      return this;
+    }
+
+    /**
+     * Set the listener, which is notified about the progress of imports.
+     *
+     * @param importListener the listener
+     * @return this builder instance
+     */
+    public Builder importListener(final JsonImportListener importListener) {
+      this.importListener = requireNonNull(importListener);
+      return this;
+    }
+
     /**
      * Create a new {@link BasicJsonDBStore} instance
      *
@@ -199,6 +253,8 @@ public final class BasicJsonDBStore implements JsonDBStore {
     buildPathSummary = builder.buildPathSummary;
     useDeweyIDs = builder.useDeweyIDs;
     hashType = builder.hashType;
+    numberOfImportThreads = builder.numberOfImportThreads;
+    importListener = builder.importListener;
   }
 
   /**
@@ -373,6 +429,13 @@ public final class BasicJsonDBStore implements JsonDBStore {
 
   @Override
   public JsonDBCollection create(String collName, Set<JsonReader> jsonReaders) {
+    return createFromReaders(collName,
+                             jsonReaders.stream().<Supplier<JsonReader>>map(jsonReader -> () -> jsonReader).iterator());
+  }
+
+  @Override
+  public JsonDBCollection createFromReaders(final String collName,
+      final Iterator<? extends Supplier<JsonReader>> jsonReaders) {
     final Path dbPath = location.resolve(collName);
     final DatabaseConfiguration dbConf = new DatabaseConfiguration(dbPath);
     try {
@@ -380,22 +443,65 @@ public final class BasicJsonDBStore implements JsonDBStore {
       Databases.createJsonDatabase(dbConf);
       final var database = Databases.openJsonDatabase(dbConf.getDatabaseFile());
       databases.add(database);
-      int numberOfResources = database.listResources().size();
-      final var resourceFutures = new CompletableFuture[jsonReaders.size()];
-      int i = 0;
-      for (final var jsonReader : jsonReaders) {
-        numberOfResources++;
-        final String resourceName = "resource" + numberOfResources;
-        resourceFutures[i++] =
-            (CompletableFuture.runAsync(() -> createResource(collName, database, jsonReader, resourceName)));
-      }
-      CompletableFuture.allOf(resourceFutures).join();
+      createResources(collName, database, jsonReaders);
       return new JsonDBCollection(collName, database, this);
     } catch (final SirixRuntimeException e) {
       throw new DocumentException(e.getCause());
     }
   }
 
+  /**
+   * Create one resource per JSON reader with a bounded number of threads. Each resource has its own writer, thus the
+   * resources are imported in parallel. A reader is only requested once fewer than twice the number of import threads
+   * resources are being imported or waiting to be imported, which bounds the memory needed, and it is closed once the
+   * resource has been imported.
+   *
+   * @param collName    the name of the collection
+   * @param database    the database
+   * @param jsonReaders suppliers of the JSON readers
+   */
+  private void createResources(final String collName, final Database<JsonResourceSession> database,
+      final Iterator<? extends Supplier<JsonReader>> jsonReaders) {
+    final var permits = new Semaphore(2 * numberOfImportThreads);
+    final var failure = new AtomicReference<Throwable>();
+    final var resourceFutures = new ArrayList<CompletableFuture<Void>>();
+    int i = database.listResources().size() + 1;
+
+    try (final ExecutorService executor = Executors.newFixedThreadPool(numberOfImportThreads)) {
+      while (failure.get() == null) {
+        permits.acquireUninterruptibly();
+        if (!jsonReaders.hasNext()) {
+          permits.release();
+          break;
+        }
+        final Supplier<JsonReader> jsonReader = jsonReaders.next();
+        final String resourceName = "resource" + i++;
+        resourceFutures.add(CompletableFuture.runAsync(() -> {
+          try (final JsonReader reader = jsonReader.get()) {
+            createResource(collName, database, reader, resourceName);
+          } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+          } finally {
+            permits.release();
+          }
+        }, executor).whenComplete((result, throwable) -> {
+          if (throwable != null) {
+            failure.compareAndSet(null, throwable);
+          }
+        }));
+      }
+    }
+
+    try {
+      CompletableFuture.allOf(resourceFutures.toArray(new CompletableFuture[0])).join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof SirixRuntimeException sirixRuntimeException) {
+        throw sirixRuntimeException;
+      }
+      throw new DocumentException(e.getCause());
+    }
+  }
+
   @Override
   public JsonDBStore addDatabase(JsonDBCollection jsonDBCollection, Database<JsonResourceSession> database) {
     databases.add(database);
@@ -416,37 +522,18 @@ public final class BasicJsonDBStore implements JsonDBStore {
       return null;
     }
 
-    final Path dbPath = location.resolve(collName);
-    final DatabaseConfiguration dbConf = new DatabaseConfiguration(dbPath);
-    try {
-      removeIfExisting(dbConf);
-      Databases.createJsonDatabase(dbConf);
-      final var database = Databases.openJsonDatabase(dbConf.getDatabaseFile());
-      databases.add(database);
-      final var resourceFutures = new ArrayList<CompletableFuture<Void>>();
-      int i = database.listResources().size() + 1;
-      try (jsonStrings) {
-        Str string;
-        while ((string = jsonStrings.next()) != null) {
-          final String currentString = string.stringValue();
-          final String resourceName = "resource" + i;
-          resourceFutures.add(CompletableFuture.runAsync(() -> createResource(collName,
-                                                                              database,
-                                                                              JsonShredder.createStringReader(
-                                                                                  currentString),
-                                                                              resourceName)));
-          i++;
-        }
-      }
-      CompletableFuture.allOf(resourceFutures.toArray(new CompletableFuture[0])).join();
-      return new JsonDBCollection(collName, database, this);
-    } catch (final SirixRuntimeException e) {
-      throw new DocumentException(e.getCause());
+    try (jsonStrings) {
+      return createFromReaders(collName, toReaders(jsonStrings, string -> {
+        final String json = string.stringValue();
+        return () -> JsonShredder.createStringReader(json);
+      }));
     }
   }
 
   private void createResource(String collName, final Database<JsonResourceSession> database, final JsonReader reader,
       final String resourceName) {
+    importListener.started(collName, resourceName);
+    final long start = System.nanoTime();
     database.createResource(ResourceConfiguration.newBuilder(resourceName)
                                                  .storageType(storageType)
                                                  .useTextCompression(false)
@@ -459,6 +546,10 @@ public final class BasicJsonDBStore implements JsonDBStore {
       final JsonDBCollection collection = new JsonDBCollection(collName, database, this);
       collections.put(database, collection);
       wtx.insertSubtreeAsFirstChild(reader);
+      importListener.finished(collName,
+                              resourceName,
+                              wtx.getMaxNodeKey(),
+                              Duration.ofNanos(System.nanoTime() - start));
     }
   }
 
@@ -468,43 +559,44 @@ public final class BasicJsonDBStore implements JsonDBStore {
       return null;
     }
 
-    final Path dbPath = location.resolve(collName);
-    final DatabaseConfiguration dbConf = new DatabaseConfiguration(dbPath);
-    try {
-      removeIfExisting(dbConf);
-      Databases.createJsonDatabase(dbConf);
-      final var database = Databases.openJsonDatabase(dbConf.getDatabaseFile());
-      databases.add(database);
-      final var resourceFutures = new ArrayList<CompletableFuture<Void>>();
-      int i = database.listResources().size() + 1;
-      try (paths) {
-        Path path;
-        while ((path = paths.next()) != null) {
-          final Path currentPath = path;
-          final String resourceName = "resource" + i;
-          resourceFutures.add(CompletableFuture.runAsync(() -> {
-            database.createResource(ResourceConfiguration.newBuilder(resourceName)
-                                                         .storageType(storageType)
-                                                         .useDeweyIDs(useDeweyIDs)
-                                                         .useTextCompression(false)
-                                                         .buildPathSummary(true)
-                                                         .hashKind(hashType)
-                                                         .build());
-            try (final JsonResourceSession manager = database.beginResourceSession(resourceName);
-                 final JsonNodeTrx wtx = manager.beginNodeTrx()) {
-              final JsonDBCollection collection = new JsonDBCollection(collName, database, this);
-              collections.put(database, collection);
-              wtx.insertSubtreeAsFirstChild(JsonShredder.createFileReader(currentPath));
-            }
-          }));
-          i++;
+    try (paths) {
+      return createFromReaders(collName, toReaders(paths, path -> () -> JsonShredder.createFileReader(path)));
+    }
+  }
+
+  /**
+   * Lazily map the elements of a stream to suppliers of JSON readers.
+   *
+   * @param stream   the stream
+   * @param toReader the function to map an element to a supplier of a JSON reader
+   * @param <E>      the type of the elements
+   * @return an iterator over the suppliers of JSON readers
+   */
+  private static <E> Iterator<Supplier<JsonReader>> toReaders(final Stream<? extends E> stream,
+      final Function<E, Supplier<JsonReader>> toReader) {
+    return new Iterator<>() {
+      private E next;
+
+      private boolean fetched;
+
+      @Override
+      public boolean hasNext() {
+        if (!fetched) {
+          next = stream.next();
+          fetched = true;
         }
+        return next != null;
       }
-      CompletableFuture.allOf(resourceFutures.toArray(new CompletableFuture[0])).join();
-      return new JsonDBCollection(collName, database, this);
-    } catch (final SirixRuntimeException e) {
-      throw new DocumentException(e.getCause());
-    }
+
+      @Override
+      public Supplier<JsonReader> next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        fetched = false;
+        return toReader.apply(next);
+      }
+    };
   }
 
   @Override
@@ -26,6 +26,7 @@ import java.nio.file.Path;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Objects.requireNonNull;
@@ -55,6 +56,11 @@ public final class JsonDBCollection extends AbstractJsonItemCollection<JsonDBIte
 
   private JsonDBStore jsonDbStore;
 
+  /**
+   * Revisions of resources, which are read instead of their most recent revisions.
+   */
+  private volatile Map<String, Integer> pinnedRevisions = Map.of();
+
   /**
    * Constructor.
    *
@@ -154,9 +160,24 @@ public final class JsonDBCollection extends AbstractJsonItemCollection<JsonDBIte
     return getItem(trx);
   }
 
+  /**
+   * Read the given revisions of resources instead of their most recent revisions, for instance such that all pages of
+   * a paged query are computed on the same revisions.
+   *
+   * @param revisions the revision numbers of the resources, keyed by the resource names
+   */
+  public void pinRevisions(final Map<String, Integer> revisions) {
+    pinnedRevisions = Map.copyOf(revisions);
+  }
+
+  private int getMostRecentRevisionNumber(final String resourceName, final JsonResourceSession resourceSession) {
+    final Integer revision = pinnedRevisions.get(resourceName);
+    return revision == null ? resourceSession.getMostRecentRevisionNumber() : revision;
+  }
+
   private JsonDBItem getDocumentInternal(final String resName, final int revision) {
     final JsonResourceSession resource = database.beginResourceSession(resName);
-    final int version = revision == -1 ? resource.getMostRecentRevisionNumber() : revision;
+    final int version = revision == -1 ? getMostRecentRevisionNumber(resName, resource) : revision;
 
     final JsonNodeReadOnlyTrx rtx = resource.beginNodeReadOnlyTrx(version);
 
@@ -189,8 +210,9 @@ public final class JsonDBCollection extends AbstractJsonItemCollection<JsonDBIte
       throw new DocumentException("More than one document stored in database/collection!");
     }
     try {
-      final JsonResourceSession manager = database.beginResourceSession(resources.get(0).getFileName().toString());
-      final int version = revision == -1 ? manager.getMostRecentRevisionNumber() : revision;
+      final String resourceName = resources.get(0).getFileName().toString();
+      final JsonResourceSession manager = database.beginResourceSession(resourceName);
+      final int version = revision == -1 ? getMostRecentRevisionNumber(resourceName, manager) : revision;
       final JsonNodeReadOnlyTrx rtx = manager.beginNodeReadOnlyTrx(version);
 
       return getItem(rtx);
@@ -281,7 +303,8 @@ public final class JsonDBCollection extends AbstractJsonItemCollection<JsonDBIte
       try {
         final String resourceName = resourcePath.getFileName().toString();
         final JsonResourceSession resource = database.beginResourceSession(resourceName);
-        final JsonNodeReadOnlyTrx rtx = resource.beginNodeReadOnlyTrx();
+        final JsonNodeReadOnlyTrx rtx =
+            resource.beginNodeReadOnlyTrx(getMostRecentRevisionNumber(resourceName, resource));
 
         if (rtx.moveToFirstChild()) {
           if (rtx.isObject())
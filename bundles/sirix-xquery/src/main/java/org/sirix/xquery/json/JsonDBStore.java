@@ -9,7 +9,9 @@ import org.sirix.api.json.JsonResourceSession;
 
 import java.nio.file.Path;
 import java.time.Instant;
+import java.util.Iterator;
 import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * Database store.
@@ -54,6 +56,17 @@ public interface JsonDBStore extends JsonStore, AutoCloseable {
 
   JsonDBCollection create(String collName, Set<JsonReader> json);
 
+  /**
+   * Create a collection with one resource per JSON reader. The resources are imported in parallel and the readers are
+   * only requested from the suppliers once they are about to be imported. Each reader is closed after its resource
+   * has been imported.
+   *
+   * @param collName    the name of the collection
+   * @param jsonReaders suppliers of the JSON readers
+   * @return the collection
+   */
+  JsonDBCollection createFromReaders(String collName, Iterator<? extends Supplier<JsonReader>> jsonReaders);
+
   @Override
   JsonDBCollection createFromJsonStrings(String collName, Stream<Str> jsons);
 
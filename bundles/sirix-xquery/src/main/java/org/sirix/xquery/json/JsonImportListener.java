@@ -0,0 +1,38 @@
+package org.sirix.xquery.json;
+
+import java.time.Duration;
+
+/**
+ * Listener, which is notified about the progress of importing JSON documents as resources into a collection. As
+ * resources are imported in parallel, the methods may be called concurrently from different threads.
+ *
+ * @author Johannes Lichtenberger
+ */
+public interface JsonImportListener {
+
+  /**
+   * Listener, which ignores all notifications.
+   */
+  JsonImportListener NO_OP = new JsonImportListener() {
+  };
+
+  /**
+   * Called before a resource is imported.
+   *
+   * @param collName     the name of the collection
+   * @param resourceName the name of the resource
+   */
+  default void started(String collName, String resourceName) {
+  }
+
+  /**
+   * Called after a resource has been imported and committed.
+   *
+   * @param collName      the name of the collection
+   * @param resourceName  the name of the resource
+   * @param numberOfNodes the number of nodes imported
+   * @param duration      the time it took to import the resource
+   */
+  default void finished(String collName, String resourceName, long numberOfNodes, Duration duration) {
+  }
+}
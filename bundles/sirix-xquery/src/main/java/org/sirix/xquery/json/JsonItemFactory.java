@@ -4,8 +4,6 @@ import org.brackit.xquery.atomic.*;
 import org.brackit.xquery.jdm.json.JsonItem;
 import org.sirix.api.json.JsonNodeReadOnlyTrx;
 
-import java.math.BigDecimal;
-
 public final class JsonItemFactory {
   public JsonItemFactory() {}
 
@@ -28,20 +26,7 @@ public final class JsonItemFactory {
         return new AtomicNullJsonDBItem(rtx, collection);
       case OBJECT_NUMBER_VALUE:
       case NUMBER_VALUE:
-        final Number number = rtx.getNumberValue();
-
-        if (number instanceof Integer) {
-          return new NumericJsonDBItem(rtx, collection, new Int32(number.intValue()));
-        } else if (number instanceof Long) {
-          return new NumericJsonDBItem(rtx, collection, new Int64(number.intValue()));
-        } else if (number instanceof Float) {
-          return new NumericJsonDBItem(rtx, collection, new Flt(number.floatValue()));
-        } else if (number instanceof Double) {
-          return new NumericJsonDBItem(rtx, collection, new Dbl(number.doubleValue()));
-        } else if (number instanceof BigDecimal) {
-          return new NumericJsonDBItem(rtx, collection, new Dec((BigDecimal) number));
-        }
-        // $CASES-OMITTED$
+        return new NumericJsonDBItem(rtx, collection);
       default:
         throw new AssertionError();
     }
@@ -1,195 +1,437 @@
-package org.sirix.xquery.json;
-
-import org.brackit.xquery.atomic.AbstractNumeric;
-import org.brackit.xquery.atomic.Atomic;
-import org.brackit.xquery.atomic.IntNumeric;
-import org.brackit.xquery.atomic.Numeric;
-import org.brackit.xquery.jdm.Type;
-import org.sirix.api.json.JsonNodeReadOnlyTrx;
-import org.sirix.api.json.JsonResourceSession;
-import org.sirix.xquery.StructuredDBItem;
-
-import java.math.BigDecimal;
-
-import static java.util.Objects.requireNonNull;
-
-public final class NumericJsonDBItem extends AbstractNumeric
-    implements JsonDBItem, Numeric, StructuredDBItem<JsonNodeReadOnlyTrx> {
-
-  /** Sirix {@link JsonNodeReadOnlyTrx}. */
-  private final JsonNodeReadOnlyTrx rtx;
-
-  /** Sirix node key. */
-  private final long nodeKey;
-
-  /** Collection this node is part of. */
-  private final JsonDBCollection collection;
-
-  /** The atomic value delegate. */
-  private final Numeric atomic;
-
-  /**
-   * Constructor.
-   *
-   * @param rtx {@link JsonNodeReadOnlyTrx} for providing reading access to the underlying node
-   * @param collection {@link JsonDBCollection} reference
-   * @param atomic the atomic value delegate
-   */
-  public NumericJsonDBItem(final JsonNodeReadOnlyTrx rtx, final JsonDBCollection collection, final Numeric atomic) {
-    this.collection = requireNonNull(collection);
-    this.rtx = requireNonNull(rtx);
-    nodeKey = this.rtx.getNodeKey();
-    this.atomic = atomic;
-  }
-
-  @Override
-  public JsonResourceSession getResourceSession() {
-    return rtx.getResourceSession();
-  }
-
-  private void moveRtx() {
-    rtx.moveTo(nodeKey);
-  }
-
-  @Override
-  public JsonNodeReadOnlyTrx getTrx() {
-    moveRtx();
-
-    return rtx;
-  }
-
-  @Override
-  public JsonDBCollection getCollection() {
-    return collection;
-  }
-
-  @Override
-  public boolean booleanValue() {
-    return atomic.booleanValue();
-  }
-
-  @Override
-  public Type type() {
-    return atomic.type();
-  }
-
-  @Override
-  public int cmp(Atomic atomic) {
-    return this.atomic.cmp(atomic);
-  }
-
-  @Override
-  public String stringValue() {
-    return atomic.stringValue();
-  }
-
-  @Override
-  public Atomic asType(Type type) {
-    return atomic.asType(type);
-  }
-
-  @Override
-  public long getNodeKey() {
-    return nodeKey;
-  }
-
-  @Override
-  public double doubleValue() {
-    return atomic.doubleValue();
-  }
-
-  @Override
-  public float floatValue() {
-    return atomic.floatValue();
-  }
-
-  @Override
-  public BigDecimal integerValue() {
-    return atomic.integerValue();
-  }
-
-  @Override
-  public BigDecimal decimalValue() {
-    return atomic.decimalValue();
-  }
-
-  @Override
-  public long longValue() {
-    return atomic.longValue();
-  }
-
-  @Override
-  public int intValue() {
-    return atomic.intValue();
-  }
-
-  @Override
-  public IntNumeric asIntNumeric() {
-    return atomic.asIntNumeric();
-  }
-
-  @Override
-  public Numeric add(Numeric other) {
-    return atomic.add(other);
-  }
-
-  @Override
-  public Numeric subtract(Numeric other) {
-    return atomic.subtract(other);
-  }
-
-  @Override
-  public Numeric multiply(Numeric other) {
-    return atomic.multiply(other);
-  }
-
-  @Override
-  public Numeric div(Numeric other) {
-    return atomic.div(other);
-  }
-
-  @Override
-  public Numeric idiv(Numeric other) {
-    return atomic.idiv(other);
-  }
-
-  @Override
-  public Numeric mod(Numeric other) {
-    return atomic.mod(other);
-  }
-
-  @Override
-  public Numeric negate() {
-    return atomic.negate();
-  }
-
-  @Override
-  public Numeric round() {
-    return atomic.round();
-  }
-
-  @Override
-  public Numeric abs() {
-    return atomic.abs();
-  }
-
-  @Override
-  public Numeric floor() {
-    return atomic.floor();
-  }
-
-  @Override
-  public Numeric ceiling() {
-    return atomic.ceiling();
-  }
-
-  @Override
-  public Numeric roundHalfToEven(int precision) {
-    return atomic.roundHalfToEven(precision);
-  }
-
-  @Override
-  public int atomicCmpInternal(Atomic atomic) {
-    return this.atomic.atomicCmp(atomic);
-  }
-}
+package org.sirix.xquery.json;
+
+import org.brackit.xquery.atomic.AbstractNumeric;
+import org.brackit.xquery.atomic.Atomic;
+import org.brackit.xquery.atomic.Dbl;
+import org.brackit.xquery.atomic.Dec;
+import org.brackit.xquery.atomic.Flt;
+import org.brackit.xquery.atomic.Int;
+import org.brackit.xquery.atomic.Int32;
+import org.brackit.xquery.atomic.Int64;
+import org.brackit.xquery.atomic.IntNumeric;
+import org.brackit.xquery.atomic.Numeric;
+import org.brackit.xquery.jdm.Type;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonResourceSession;
+import org.sirix.node.json.NumberType;
+import org.sirix.xquery.StructuredDBItem;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static java.util.Objects.requireNonNull;
+
+public final class NumericJsonDBItem extends AbstractNumeric
+    implements JsonDBItem, Numeric, StructuredDBItem<JsonNodeReadOnlyTrx> {
+
+  /** The types of the atomic values of primitive numbers. */
+  private static final Type INTEGER_TYPE = new Int32(0).type();
+
+  private static final Type LONG_TYPE = new Int64(0).type();
+
+  private static final Type FLOAT_TYPE = new Flt(0).type();
+
+  private static final Type DOUBLE_TYPE = new Dbl(0).type();
+
+  /** The result of {@link #compare(Atomic)}, if the numbers can't be compared directly. */
+  private static final int INCOMPARABLE = Integer.MIN_VALUE;
+
+  /** Sirix {@link JsonNodeReadOnlyTrx}. */
+  private final JsonNodeReadOnlyTrx rtx;
+
+  /** Sirix node key. */
+  private final long nodeKey;
+
+  /** Collection this node is part of. */
+  private final JsonDBCollection collection;
+
+  /** The type of the number. */
+  private final NumberType numberType;
+
+  /** The value of integral primitive numbers. */
+  private final long longValue;
+
+  /** The value of floating point primitive numbers. */
+  private final double doubleValue;
+
+  /** The atomic value delegate, which is created lazily for primitive numbers. */
+  private Numeric atomic;
+
+  /**
+   * Constructor.
+   *
+   * @param rtx {@link JsonNodeReadOnlyTrx} for providing reading access to the underlying node
+   * @param collection {@link JsonDBCollection} reference
+   * @param atomic the atomic value delegate
+   */
+  public NumericJsonDBItem(final JsonNodeReadOnlyTrx rtx, final JsonDBCollection collection, final Numeric atomic) {
+    this.collection = requireNonNull(collection);
+    this.rtx = requireNonNull(rtx);
+    nodeKey = this.rtx.getNodeKey();
+    this.atomic = requireNonNull(atomic);
+    numberType = null;
+    longValue = 0;
+    doubleValue = 0;
+  }
+
+  /**
+   * Constructor, which reads the number of the current node of the transaction. Primitive numbers are kept unboxed,
+   * such that numeric aggregations don't have to create an atomic value for each item.
+   *
+   * @param rtx {@link JsonNodeReadOnlyTrx} for providing reading access to the underlying node
+   * @param collection {@link JsonDBCollection} reference
+   */
+  public NumericJsonDBItem(final JsonNodeReadOnlyTrx rtx, final JsonDBCollection collection) {
+    this.collection = requireNonNull(collection);
+    this.rtx = requireNonNull(rtx);
+    nodeKey = this.rtx.getNodeKey();
+    numberType = rtx.getNumberType();
+
+    if (numberType.isPrimitive()) {
+      longValue = numberType.isIntegral() ? rtx.getLongValue() : 0;
+      doubleValue = numberType.isIntegral() ? 0 : rtx.getDoubleValue();
+    } else {
+      longValue = 0;
+      doubleValue = 0;
+      atomic = switch (rtx.getNumberValue()) {
+        case BigInteger bigInteger -> new Int(new BigDecimal(bigInteger));
+        case BigDecimal bigDecimal -> new Dec(bigDecimal);
+        default -> throw new AssertionError();
+      };
+    }
+  }
+
+  private boolean isPrimitive() {
+    return numberType != null && numberType.isPrimitive();
+  }
+
+  /**
+   * Get the type, to which this number and the other primitive number are promoted for arithmetic and comparisons.
+   *
+   * @param other the other operand
+   * @return {@link NumberType#LONG} for two integral numbers, {@link NumberType#DOUBLE} or {@link NumberType#FLOAT}
+   * for floating point numbers, or {@code null} if one of the numbers isn't primitive
+   */
+  private @Nullable NumberType promote(final Atomic other) {
+    if (!isPrimitive()) {
+      return null;
+    }
+
+    final NumberType otherType = switch (other) {
+      case NumericJsonDBItem item when item.isPrimitive() -> item.numberType;
+      case Int32 ignored -> NumberType.INTEGER;
+      case Int64 ignored -> NumberType.LONG;
+      case Flt ignored -> NumberType.FLOAT;
+      case Dbl ignored -> NumberType.DOUBLE;
+      default -> null;
+    };
+
+    if (otherType == null) {
+      return null;
+    }
+    if (numberType.isIntegral() && otherType.isIntegral()) {
+      return NumberType.LONG;
+    }
+    if (numberType == NumberType.DOUBLE || otherType == NumberType.DOUBLE) {
+      return NumberType.DOUBLE;
+    }
+    return NumberType.FLOAT;
+  }
+
+  private static Numeric integer(final long value) {
+    return value == (int) value ? new Int32((int) value) : new Int64(value);
+  }
+
+  private Numeric atomic() {
+    if (atomic == null) {
+      atomic = switch (numberType) {
+        case INTEGER -> new Int32((int) longValue);
+        case LONG -> new Int64(longValue);
+        case FLOAT -> new Flt((float) doubleValue);
+        case DOUBLE -> new Dbl(doubleValue);
+        case BIG_INTEGER, BIG_DECIMAL -> throw new AssertionError();
+      };
+    }
+    return atomic;
+  }
+
+  @Override
+  public JsonResourceSession getResourceSession() {
+    return rtx.getResourceSession();
+  }
+
+  private void moveRtx() {
+    rtx.moveTo(nodeKey);
+  }
+
+  @Override
+  public JsonNodeReadOnlyTrx getTrx() {
+    moveRtx();
+
+    return rtx;
+  }
+
+  @Override
+  public JsonDBCollection getCollection() {
+    return collection;
+  }
+
+  @Override
+  public boolean booleanValue() {
+    if (isPrimitive()) {
+      return numberType.isIntegral() ? longValue != 0 : doubleValue != 0 && !Double.isNaN(doubleValue);
+    }
+    return atomic().booleanValue();
+  }
+
+  @Override
+  public Type type() {
+    if (numberType == null) {
+      return atomic().type();
+    }
+    return switch (numberType) {
+      case INTEGER -> INTEGER_TYPE;
+      case LONG -> LONG_TYPE;
+      case FLOAT -> FLOAT_TYPE;
+      case DOUBLE -> DOUBLE_TYPE;
+      case BIG_INTEGER, BIG_DECIMAL -> atomic().type();
+    };
+  }
+
+  @Override
+  public int cmp(Atomic atomic) {
+    final int result = compare(atomic);
+    return result == INCOMPARABLE ? atomic().cmp(atomic) : result;
+  }
+
+  /**
+   * Compare the primitive values of this and another number.
+   *
+   * @param other the other number
+   * @return the comparison result or {@link #INCOMPARABLE}, if one of the numbers isn't primitive or is NaN
+   */
+  private int compare(final Atomic other) {
+    final NumberType type = promote(other);
+    if (type == null) {
+      return INCOMPARABLE;
+    }
+    if (type == NumberType.LONG) {
+      return Long.compare(longValue, ((Numeric) other).longValue());
+    }
+
+    final Numeric otherNumber = (Numeric) other;
+    final double value = type == NumberType.DOUBLE ? doubleValue() : floatValue();
+    final double otherValue = type == NumberType.DOUBLE ? otherNumber.doubleValue() : otherNumber.floatValue();
+    if (Double.isNaN(value) || Double.isNaN(otherValue)) {
+      return INCOMPARABLE;
+    }
+    return value < otherValue ? -1 : (value > otherValue ? 1 : 0);
+  }
+
+  @Override
+  public String stringValue() {
+    return atomic().stringValue();
+  }
+
+  @Override
+  public Atomic asType(Type type) {
+    return atomic().asType(type);
+  }
+
+  @Override
+  public long getNodeKey() {
+    return nodeKey;
+  }
+
+  @Override
+  public double doubleValue() {
+    if (isPrimitive()) {
+      return numberType.isIntegral() ? longValue : doubleValue;
+    }
+    return atomic().doubleValue();
+  }
+
+  @Override
+  public float floatValue() {
+    if (isPrimitive()) {
+      return numberType.isIntegral() ? longValue : (float) doubleValue;
+    }
+    return atomic().floatValue();
+  }
+
+  @Override
+  public BigDecimal integerValue() {
+    return atomic().integerValue();
+  }
+
+  @Override
+  public BigDecimal decimalValue() {
+    return atomic().decimalValue();
+  }
+
+  @Override
+  public long longValue() {
+    if (isPrimitive()) {
+      return numberType.isIntegral() ? longValue : (long) doubleValue;
+    }
+    return atomic().longValue();
+  }
+
+  @Override
+  public int intValue() {
+    if (isPrimitive()) {
+      return numberType.isIntegral() ? (int) longValue : (int) doubleValue;
+    }
+    return atomic().intValue();
+  }
+
+  @Override
+  public IntNumeric asIntNumeric() {
+    return atomic().asIntNumeric();
+  }
+
+  @Override
+  public Numeric add(Numeric other) {
+    final NumberType type = promote(other);
+    if (type == NumberType.LONG) {
+      final long otherValue = other.longValue();
+      final long result = longValue + otherValue;
+      if (((longValue ^ result) & (otherValue ^ result)) >= 0) {
+        return integer(result);
+      }
+    } else if (type == NumberType.DOUBLE) {
+      return new Dbl(doubleValue() + other.doubleValue());
+    } else if (type == NumberType.FLOAT) {
+      return new Flt(floatValue() + other.floatValue());
+    }
+    return atomic().add(other);
+  }
+
+  @Override
+  public Numeric subtract(Numeric other) {
+    final NumberType type = promote(other);
+    if (type == NumberType.LONG) {
+      final long otherValue = other.longValue();
+      final long result = longValue - otherValue;
+      if (((longValue ^ otherValue) & (longValue ^ result)) >= 0) {
+        return integer(result);
+      }
+    } else if (type == NumberType.DOUBLE) {
+      return new Dbl(doubleValue() - other.doubleValue());
+    } else if (type == NumberType.FLOAT) {
+      return new Flt(floatValue() - other.floatValue());
+    }
+    return atomic().subtract(other);
+  }
+
+  @Override
+  public Numeric multiply(Numeric other) {
+    final NumberType type = promote(other);
+    if (type == NumberType.LONG) {
+      final long otherValue = other.longValue();
+      final long result = longValue * otherValue;
+      if (Math.multiplyHigh(longValue, otherValue) == result >> 63) {
+        return integer(result);
+      }
+    } else if (type == NumberType.DOUBLE) {
+      return new Dbl(doubleValue() * other.doubleValue());
+    } else if (type == NumberType.FLOAT) {
+      return new Flt(floatValue() * other.floatValue());
+    }
+    return atomic().multiply(other);
+  }
+
+  @Override
+  public Numeric div(Numeric other) {
+    // The division of integers results in a decimal.
+    final NumberType type = promote(other);
+    if (type == NumberType.DOUBLE) {
+      return new Dbl(doubleValue() / other.doubleValue());
+    } else if (type == NumberType.FLOAT) {
+      return new Flt(floatValue() / other.floatValue());
+    }
+    return atomic().div(other);
+  }
+
+  @Override
+  public Numeric idiv(Numeric other) {
+    if (promote(other) == NumberType.LONG) {
+      final long otherValue = other.longValue();
+      if (otherValue != 0 && !(longValue == Long.MIN_VALUE && otherValue == -1)) {
+        return integer(longValue / otherValue);
+      }
+    }
+    return atomic().idiv(other);
+  }
+
+  @Override
+  public Numeric mod(Numeric other) {
+    final NumberType type = promote(other);
+    if (type == NumberType.LONG) {
+      final long otherValue = other.longValue();
+      if (otherValue != 0) {
+        return integer(longValue % otherValue);
+      }
+    } else if (type == NumberType.DOUBLE) {
+      return new Dbl(doubleValue() % other.doubleValue());
+    } else if (type == NumberType.FLOAT) {
+      return new Flt(floatValue() % other.floatValue());
+    }
+    return atomic().mod(other);
+  }
+
+  @Override
+  public Numeric negate() {
+    if (isPrimitive()) {
+      if (!numberType.isIntegral()) {
+        return numberType == NumberType.DOUBLE ? new Dbl(-doubleValue) : new Flt(-(float) doubleValue);
+      }
+      if (longValue != Long.MIN_VALUE) {
+        return integer(-longValue);
+      }
+    }
+    return atomic().negate();
+  }
+
+  @Override
+  public Numeric round() {
+    return atomic().round();
+  }
+
+  @Override
+  public Numeric abs() {
+    if (isPrimitive()) {
+      if (!numberType.isIntegral()) {
+        return numberType == NumberType.DOUBLE
+            ? new Dbl(Math.abs(doubleValue))
+            : new Flt(Math.abs((float) doubleValue));
+      }
+      if (longValue != Long.MIN_VALUE) {
+        return integer(Math.abs(longValue));
+      }
+    }
+    return atomic().abs();
+  }
+
+  @Override
+  public Numeric floor() {
+    return atomic().floor();
+  }
+
+  @Override
+  public Numeric ceiling() {
+    return atomic().ceiling();
+  }
+
+  @Override
+  public Numeric roundHalfToEven(int precision) {
+    return atomic().roundHalfToEven(precision);
+  }
+
+  @Override
+  public int atomicCmpInternal(Atomic atomic) {
+    final int result = compare(atomic);
+    return result == INCOMPARABLE ? atomic().atomicCmp(atomic) : result;
+  }
+}
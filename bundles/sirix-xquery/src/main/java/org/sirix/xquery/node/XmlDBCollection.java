@@ -69,6 +69,11 @@ public final class XmlDBCollection extends AbstractNodeCollection<AbstractTempor
    */
   private final Map<InstantDocumentData, XmlDBNode> instantDocumentDataToXmlDBNodes;
 
+  /**
+   * Revisions of resources, which are read instead of their most recent revisions.
+   */
+  private volatile Map<String, Integer> pinnedRevisions = Map.of();
+
   /**
    * Constructor.
    *
@@ -216,9 +221,24 @@ public final class XmlDBCollection extends AbstractNodeCollection<AbstractTempor
     }
   }
 
+  /**
+   * Read the given revisions of resources instead of their most recent revisions, for instance such that all pages of
+   * a paged query are computed on the same revisions.
+   *
+   * @param revisions the revision numbers of the resources, keyed by the resource names
+   */
+  public void pinRevisions(final Map<String, Integer> revisions) {
+    pinnedRevisions = Map.copyOf(revisions);
+  }
+
+  private int getMostRecentRevisionNumber(final String resourceName, final XmlResourceSession resourceSession) {
+    final Integer revision = pinnedRevisions.get(resourceName);
+    return revision == null ? resourceSession.getMostRecentRevisionNumber() : revision;
+  }
+
   private XmlDBNode createXmlDBNode(int revision, @NonNull String resourceName) {
     final XmlResourceSession manager = database.beginResourceSession(resourceName);
-    final int version = revision == -1 ? manager.getMostRecentRevisionNumber() : revision;
+    final int version = revision == -1 ? getMostRecentRevisionNumber(resourceName, manager) : revision;
     final XmlNodeReadOnlyTrx rtx = manager.beginNodeReadOnlyTrx(version);
     return new XmlDBNode(rtx, this);
   }
@@ -317,7 +337,8 @@ public final class XmlDBCollection extends AbstractNodeCollection<AbstractTempor
       try {
         final String resourceName = resourcePath.getFileName().toString();
         final XmlResourceSession resource = database.beginResourceSession(resourceName);
-        final XmlNodeReadOnlyTrx trx = resource.beginNodeReadOnlyTrx();
+        final XmlNodeReadOnlyTrx trx =
+            resource.beginNodeReadOnlyTrx(getMostRecentRevisionNumber(resourceName, resource));
         documents.add(new XmlDBNode(trx, this));
       } catch (final SirixException e) {
         throw new DocumentException(e.getCause());
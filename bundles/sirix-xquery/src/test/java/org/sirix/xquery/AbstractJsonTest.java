@@ -89,6 +89,18 @@ public abstract class AbstractJsonTest {
     }
   }
 
+  protected String serialize(final String query) throws IOException {
+    try (final BasicJsonDBStore store = BasicJsonDBStore.newBuilder()
+                                                        .location(JsonTestHelper.PATHS.PATH1.getFile().getParent())
+                                                        .build();
+         final SirixQueryContext ctx = SirixQueryContext.createWithJsonStore(store);
+         final SirixCompileChain chain = SirixCompileChain.createWithJsonStore(store);
+         final var out = new ByteArrayOutputStream(); final var printWriter = new PrintWriter(out)) {
+      new XQuery(chain, query).serialize(ctx, printWriter);
+      return out.toString();
+    }
+  }
+
   protected void query(final String query) {
     try (final BasicJsonDBStore store = BasicJsonDBStore.newBuilder()
                                                         .location(JsonTestHelper.PATHS.PATH1.getFile().getParent())
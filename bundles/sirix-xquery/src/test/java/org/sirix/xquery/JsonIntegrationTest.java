@@ -6,6 +6,8 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public final class JsonIntegrationTest extends AbstractJsonTest {
 
@@ -755,6 +757,28 @@ public final class JsonIntegrationTest extends AbstractJsonTest {
     test(storeQuery, indexQuery, openQuery, "{\"boolean\":5,\"nodekey\":10}");
   }
 
+  // CAS index with enough hits to resolve them by multiple threads.
+  @Test
+  public void testNestingWithManyIndexHits() throws IOException {
+    final int numberOfItems = 10_000;
+    // The values are a permutation, thus the order of the index hits differs from the order of their node keys.
+    final String items = IntStream.range(0, numberOfItems)
+                                  .mapToObj(i -> "{\"key\":{\"value\":" + ((i * 7_919) % numberOfItems + 1) + "}}")
+                                  .collect(Collectors.joining(","));
+    query("jn:store('json-path1','mydoc.jn','{\"items\":[" + items + "]}')");
+    query("jn:store('json-path2','mydoc.jn','{\"items\":[" + items + "]}')");
+
+    final String indexQuery =
+        "let $doc := jn:doc('json-path1','mydoc.jn') let $stats := jn:create-cas-index($doc, 'xs:integer', '/items/[]/key/value') return {\"revision\": sdb:commit($doc)}";
+    final String openQuery = "jn:doc('json-path1','mydoc.jn').items[].key[$$.value gt 0]";
+    // The result of resolving the index hits sequentially, that is the items in the order of their values.
+    final String expectedQuery =
+        "for $i in jn:doc('json-path2','mydoc.jn').items[].key where $i.value gt 0 order by $i.value return $i";
+
+    query(indexQuery);
+    test(openQuery, serialize(expectedQuery));
+  }
+
   @Test
   public void testNesting4() throws IOException {
     final URI docUri = JSON_RESOURCE_PATH.resolve("twitter.json").toUri();